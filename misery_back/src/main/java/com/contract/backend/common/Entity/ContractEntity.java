@@ -12,6 +12,8 @@ import java.time.LocalDateTime;
 @Table(name = "contracts",
         indexes = {
                 @Index(name = "idx_contract_created_by", columnList = "created_by"),
+                // 목록 커서 페이지네이션 (created_by 조건 + created_at, id 정렬)
+                @Index(name = "idx_contract_creator_keyset", columnList = "created_by, created_at, id"),
                 @Index(name = "idx_contract_status", columnList = "status")
         })
 @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
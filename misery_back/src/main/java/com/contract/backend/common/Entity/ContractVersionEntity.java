@@ -1,5 +1,8 @@
 package com.contract.backend.common.Entity;
 
+import com.contract.backend.common.Entity.enumm.IntegrityStatus;
+import com.contract.backend.common.Entity.enumm.PreviewStatus;
+import com.contract.backend.common.Entity.enumm.StorageTier;
 import com.contract.backend.common.Entity.enumm.VersionStatus;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
@@ -13,7 +16,10 @@ import java.time.LocalDateTime;
         uniqueConstraints = @UniqueConstraint(
                 name = "uk_contract_version_number",
                 columnNames = {"contract_id", "version_number"}),
-        indexes = @Index(name = "idx_cv_contract", columnList = "contract_id"))
+        indexes = {
+                @Index(name = "idx_cv_contract", columnList = "contract_id"),
+                @Index(name = "idx_cv_file_hash", columnList = "file_hash")
+        })
 @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class ContractVersionEntity {
@@ -35,6 +41,11 @@ public class ContractVersionEntity {
     @Column(name = "file_hash", nullable = false, length = 64)
     private String fileHash;
 
+    // 미리보기용 선형화(fast web view) 사본 키 (기본 저장소, null이면 원본으로 제공)
+    // fileHash 와 다운로드는 항상 원본 기준
+    @Column(name = "serving_file_path", length = 1024)
+    private String servingFilePath;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private VersionStatus status;
@@ -45,6 +56,38 @@ public class ContractVersionEntity {
     @Column(name = "bucket_name", length = 255)
     private String bucketName;
 
+    // 저장 계층 (null은 기존 데이터로 HOT과 같음)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "storage_tier", length = 20)
+    private StorageTier storageTier;
+
+    @Column(name = "tier_changed_at")
+    private LocalDateTime tierChangedAt;
+
+    // 저장된 객체의 압축 방식 (COLD 계층에서 gzip, 그 외 null)
+    @Column(name = "content_encoding", length = 20)
+    private String contentEncoding;
+
+    // 썸네일 / 페이지 이미지 렌더링 상태 (null은 아직 요청되지 않음)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "preview_status", length = 20)
+    private PreviewStatus previewStatus;
+
+    @Column(name = "preview_page_count")
+    private Integer previewPageCount;
+
+    // 렌더링을 마지막으로 요청한 시각 (PENDING 이 오래되면 렌더링 작업이 유실된 것으로 보고 다시 요청)
+    @Column(name = "preview_requested_at")
+    private LocalDateTime previewRequestedAt;
+
+    // 저장소 무결성 검사 결과 (null은 아직 검사하지 않음)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "integrity_status", length = 20)
+    private IntegrityStatus integrityStatus;
+
+    @Column(name = "integrity_checked_at")
+    private LocalDateTime integrityCheckedAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -106,6 +149,14 @@ public class ContractVersionEntity {
         this.fileHash = fileHash;
     }
 
+    public String getServingFilePath() {
+        return servingFilePath;
+    }
+
+    public void setServingFilePath(String servingFilePath) {
+        this.servingFilePath = servingFilePath;
+    }
+
     public String getStorageProvider() {
         return storageProvider;
     }
@@ -130,6 +181,70 @@ public class ContractVersionEntity {
         this.bucketName = bucketName;
     }
 
+    public StorageTier getStorageTier() {
+        return storageTier;
+    }
+
+    public void setStorageTier(StorageTier storageTier) {
+        this.storageTier = storageTier;
+    }
+
+    public LocalDateTime getTierChangedAt() {
+        return tierChangedAt;
+    }
+
+    public void setTierChangedAt(LocalDateTime tierChangedAt) {
+        this.tierChangedAt = tierChangedAt;
+    }
+
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+
+    public void setContentEncoding(String contentEncoding) {
+        this.contentEncoding = contentEncoding;
+    }
+
+    public PreviewStatus getPreviewStatus() {
+        return previewStatus;
+    }
+
+    public void setPreviewStatus(PreviewStatus previewStatus) {
+        this.previewStatus = previewStatus;
+    }
+
+    public Integer getPreviewPageCount() {
+        return previewPageCount;
+    }
+
+    public void setPreviewPageCount(Integer previewPageCount) {
+        this.previewPageCount = previewPageCount;
+    }
+
+    public LocalDateTime getPreviewRequestedAt() {
+        return previewRequestedAt;
+    }
+
+    public void setPreviewRequestedAt(LocalDateTime previewRequestedAt) {
+        this.previewRequestedAt = previewRequestedAt;
+    }
+
+    public IntegrityStatus getIntegrityStatus() {
+        return integrityStatus;
+    }
+
+    public void setIntegrityStatus(IntegrityStatus integrityStatus) {
+        this.integrityStatus = integrityStatus;
+    }
+
+    public LocalDateTime getIntegrityCheckedAt() {
+        return integrityCheckedAt;
+    }
+
+    public void setIntegrityCheckedAt(LocalDateTime integrityCheckedAt) {
+        this.integrityCheckedAt = integrityCheckedAt;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,94 @@
+package com.contract.backend.common.Entity;
+
+import com.contract.backend.common.Entity.enumm.ChunkState;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 청크 저장소(CHUNKED)의 청크 참조 수
+ * 행이 ACTIVE 로 존재하면 청크 객체도 저장되어 있음을 보장한다.
+ * 업로드 전에 UPLOADING(참조 0) 행을 먼저 만들고 업로드 후 ACTIVE 로 바꾸므로,
+ * 업로드가 중단되어도 객체는 항상 행이 있어 GC 가 회수할 수 있다. (객체 삭제 후 행 삭제)
+ */
+@Entity
+@Table(name = "storage_chunks",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_storage_chunk",
+                columnNames = {"bucket_name", "chunk_hash"}),
+        indexes = @Index(name = "idx_sc_unreferenced", columnList = "state, ref_count, last_referenced_at"))
+public class StorageChunkEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "bucket_name", nullable = false, length = 255)
+    private String bucketName;
+
+    @Column(name = "chunk_hash", nullable = false, length = 64)
+    private String chunkHash;
+
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ChunkState state;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_referenced_at", nullable = false)
+    private LocalDateTime lastReferencedAt;
+
+    protected StorageChunkEntity() {}
+
+    /**
+     * 업로드 예약 행 (UPLOADING, 참조 0)
+     */
+    public StorageChunkEntity(String bucketName, String chunkHash, long size) {
+        this.bucketName = bucketName;
+        this.chunkHash = chunkHash;
+        this.size = size;
+        this.refCount = 0;
+        this.state = ChunkState.UPLOADING;
+        this.createdAt = LocalDateTime.now();
+        this.lastReferencedAt = this.createdAt;
+    }
+
+    // getters & setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getBucketName() {
+        return bucketName;
+    }
+
+    public String getChunkHash() {
+        return chunkHash;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public int getRefCount() {
+        return refCount;
+    }
+
+    public ChunkState getState() {
+        return state;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getLastReferencedAt() {
+        return lastReferencedAt;
+    }
+}
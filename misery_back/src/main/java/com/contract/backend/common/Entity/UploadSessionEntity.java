@@ -0,0 +1,224 @@
+package com.contract.backend.common.Entity;
+
+import com.contract.backend.common.Entity.enumm.UploadSessionStatus;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 재개 가능한 업로드 세션
+ * 파트는 저장소 멀티파트 업로드(storageUploadId)로 바로 올라가며, 완료 시 계약서 버전이 만들어진다.
+ * direct 세션은 클라이언트가 presigned URL 로 저장소에 직접 올리고, 서버는 해시를 확인한 뒤 버전을 만든다.
+ */
+@Entity
+@Table(name = "upload_sessions",
+        indexes = @Index(name = "idx_us_status_expires", columnList = "status, expires_at"))
+public class UploadSessionEntity {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "created_by", nullable = false)
+    private UserEntity createdBy;
+
+    // 새 버전을 추가할 계약서 (null 이면 새 계약서)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "contract_id")
+    private ContractEntity contract;
+
+    @Column(name = "file_name", nullable = false, length = 255)
+    private String fileName;
+
+    @Column(name = "total_size", nullable = false)
+    private long totalSize;
+
+    @Column(name = "chunk_size", nullable = false)
+    private long chunkSize;
+
+    @Column(name = "part_count", nullable = false)
+    private int partCount;
+
+    // 클라이언트가 알려준 전체 파일 SHA-256 (완료 시 검증, 없으면 null)
+    @Column(name = "declared_sha256", length = 64)
+    private String declaredSha256;
+
+    @Column(name = "storage_provider", nullable = false, length = 20)
+    private String storageProvider;
+
+    @Column(name = "bucket_name", nullable = false, length = 255)
+    private String bucketName;
+
+    @Column(name = "file_path", nullable = false, length = 1024)
+    private String filePath;
+
+    @Column(name = "storage_upload_id", nullable = false, length = 1024)
+    private String storageUploadId;
+
+    // presigned URL 로 저장소에 직접 올리는 세션
+    @Column(name = "direct_upload", nullable = false)
+    private boolean direct;
+
+    // direct 세션의 완료 요청 (해시 확인이 끝난 뒤 계약서 생성에 사용, JSON)
+    @Lob
+    @Column(name = "finalize_request", columnDefinition = "TEXT")
+    private String finalizeRequest;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private UploadSessionStatus status;
+
+    // 마지막 상태 변경 시각 (COMPLETING 등 처리 중 상태가 오래 남으면 처리하던 인스턴스가 종료된 것으로 봄)
+    @Column(name = "status_changed_at")
+    private LocalDateTime statusChangedAt;
+
+    // 완료 후 만들어진 버전
+    @Column(name = "contract_version_id")
+    private Long contractVersionId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    protected UploadSessionEntity() {}
+
+    public UploadSessionEntity(
+            String id,
+            UserEntity createdBy,
+            ContractEntity contract,
+            String fileName,
+            long totalSize,
+            long chunkSize,
+            int partCount,
+            String declaredSha256,
+            String storageProvider,
+            String bucketName,
+            String filePath,
+            String storageUploadId,
+            LocalDateTime expiresAt
+    ) {
+        this.id = id;
+        this.createdBy = createdBy;
+        this.contract = contract;
+        this.fileName = fileName;
+        this.totalSize = totalSize;
+        this.chunkSize = chunkSize;
+        this.partCount = partCount;
+        this.declaredSha256 = declaredSha256;
+        this.storageProvider = storageProvider;
+        this.bucketName = bucketName;
+        this.filePath = filePath;
+        this.storageUploadId = storageUploadId;
+        this.status = UploadSessionStatus.ACTIVE;
+        this.createdAt = LocalDateTime.now();
+        this.statusChangedAt = this.createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 파트 번호(1부터)의 예상 크기 (마지막 파트만 chunkSize 보다 작을 수 있음)
+     */
+    public long expectedPartSize(int partNumber) {
+        if (partNumber < partCount) {
+            return chunkSize;
+        }
+        return totalSize - chunkSize * (partCount - 1);
+    }
+
+    // getters & setters
+
+    public String getId() {
+        return id;
+    }
+
+    public UserEntity getCreatedBy() {
+        return createdBy;
+    }
+
+    public ContractEntity getContract() {
+        return contract;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public long getTotalSize() {
+        return totalSize;
+    }
+
+    public long getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getPartCount() {
+        return partCount;
+    }
+
+    public String getDeclaredSha256() {
+        return declaredSha256;
+    }
+
+    public String getStorageProvider() {
+        return storageProvider;
+    }
+
+    public String getBucketName() {
+        return bucketName;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public String getStorageUploadId() {
+        return storageUploadId;
+    }
+
+    public boolean isDirect() {
+        return direct;
+    }
+
+    public void setDirect(boolean direct) {
+        this.direct = direct;
+    }
+
+    public String getFinalizeRequest() {
+        return finalizeRequest;
+    }
+
+    public void setFinalizeRequest(String finalizeRequest) {
+        this.finalizeRequest = finalizeRequest;
+    }
+
+    public UploadSessionStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(UploadSessionStatus status) {
+        this.status = status;
+        this.statusChangedAt = LocalDateTime.now();
+    }
+
+    public LocalDateTime getStatusChangedAt() {
+        return statusChangedAt;
+    }
+
+    public Long getContractVersionId() {
+        return contractVersionId;
+    }
+
+    public void setContractVersionId(Long contractVersionId) {
+        this.contractVersionId = contractVersionId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,85 @@
+package com.contract.backend.common.Entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 세션에 받은 파트 (같은 번호로 다시 올리면 값이 바뀜)
+ */
+@Entity
+@Table(name = "upload_session_parts",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_upload_session_part",
+                columnNames = {"session_id", "part_number"}))
+public class UploadSessionPartEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "session_id", nullable = false)
+    private UploadSessionEntity session;
+
+    @Column(name = "part_number", nullable = false)
+    private int partNumber;
+
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    @Column(name = "sha256", nullable = false, length = 64)
+    private String sha256;
+
+    @Column(name = "etag", nullable = false, length = 255)
+    private String eTag;
+
+    @Column(name = "uploaded_at", nullable = false)
+    private LocalDateTime uploadedAt;
+
+    protected UploadSessionPartEntity() {}
+
+    public UploadSessionPartEntity(UploadSessionEntity session, int partNumber, long size, String sha256, String eTag) {
+        this.session = session;
+        this.partNumber = partNumber;
+        this.size = size;
+        this.sha256 = sha256;
+        this.eTag = eTag;
+        this.uploadedAt = LocalDateTime.now();
+    }
+
+    public void replace(long size, String sha256, String eTag) {
+        this.size = size;
+        this.sha256 = sha256;
+        this.eTag = eTag;
+        this.uploadedAt = LocalDateTime.now();
+    }
+
+    // getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public UploadSessionEntity getSession() {
+        return session;
+    }
+
+    public int getPartNumber() {
+        return partNumber;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public LocalDateTime getUploadedAt() {
+        return uploadedAt;
+    }
+}
@@ -0,0 +1,106 @@
+package com.contract.backend.common.Entity;
+
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.Entity.enumm.MembershipRole;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * "내가 작성했거나 참여한 계약서" 비정규화 인덱스 (사용자당 계약서 1행)
+ * contracts / contract_parties 를 OR 로 조인하지 않고 (user_id, deleted, created_at, contract_id) 범위 탐색으로 목록 / 권한 확인
+ * ContractService 의 생성 / 참여자 추가 / 삭제, SignatureService 의 완료 처리와 같은 트랜잭션에서 갱신
+ */
+@Entity
+@Table(name = "user_contract_membership",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_membership_user_contract",
+                columnNames = {"user_id", "contract_id"}),
+        indexes = {
+                @Index(name = "idx_membership_user_list", columnList = "user_id, deleted, created_at, contract_id"),
+                @Index(name = "idx_membership_contract", columnList = "contract_id")
+        })
+public class UserContractMembershipEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private UserEntity user;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "contract_id", nullable = false)
+    private ContractEntity contract;
+
+    // 작성자면 CREATOR, 아니면 참여자 역할
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MembershipRole role;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ContractStatus status;
+
+    // 계약서 생성 시각 (목록 정렬 기준)
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    protected UserContractMembershipEntity() {}
+
+    public UserContractMembershipEntity(UserEntity user, ContractEntity contract, MembershipRole role) {
+        this.user = user;
+        this.contract = contract;
+        this.role = role;
+        this.status = contract.getStatus();
+        this.createdAt = contract.getCreatedAt();
+        this.deleted = contract.getDeletedAt() != null;
+    }
+
+    // getters & setters
+    public Long getId() {
+        return id;
+    }
+
+    public UserEntity getUser() {
+        return user;
+    }
+
+    public ContractEntity getContract() {
+        return contract;
+    }
+
+    public MembershipRole getRole() {
+        return role;
+    }
+
+    public void setRole(MembershipRole role) {
+        this.role = role;
+    }
+
+    public ContractStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ContractStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
+}
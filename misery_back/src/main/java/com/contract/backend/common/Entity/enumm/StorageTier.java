@@ -0,0 +1,8 @@
+package com.contract.backend.common.Entity.enumm;
+
+public enum StorageTier {
+    HOT,
+    COLD,
+    RESTORING,
+    UPLOADING
+}
@@ -0,0 +1,11 @@
+package com.contract.backend.common.Entity.enumm;
+
+public enum UploadSessionStatus {
+    ACTIVE,
+    COMPLETING,
+    VERIFYING,
+    FINALIZING, // 해시 확인을 마친 direct 세션을 한 인스턴스가 맡아 계약서(버전) 생성 중
+    COMPLETED,
+    ABORTED,
+    EXPIRED
+}
@@ -0,0 +1,110 @@
+package com.contract.backend.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 청크 단위 중복 제거 저장소(CHUNKED) 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "storage.chunked")
+public class ChunkedStorageProperties {
+
+    private boolean enabled = false;
+
+    // 청크와 manifest 를 실제로 저장할 provider
+    private String backingProvider = "B2";
+
+    // 비어 있으면 backing provider 의 기본 버킷
+    private String bucketName;
+
+    // 내용 기반 청크 크기 (avg 는 2의 거듭제곱)
+    private int minChunkSize = 16 * 1024;
+
+    private int avgChunkSize = 64 * 1024;
+
+    private int maxChunkSize = 256 * 1024;
+
+    // 참조가 0이 된 뒤 청크를 삭제하기까지 대기 시간
+    private Duration gcGrace = Duration.ofHours(1);
+
+    private Duration gcInterval = Duration.ofHours(1);
+
+    private int gcBatchSize = 500;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getBackingProvider() {
+        return backingProvider;
+    }
+
+    public void setBackingProvider(String backingProvider) {
+        this.backingProvider = backingProvider;
+    }
+
+    public String getBucketName() {
+        return bucketName;
+    }
+
+    public void setBucketName(String bucketName) {
+        this.bucketName = bucketName;
+    }
+
+    public int getMinChunkSize() {
+        return minChunkSize;
+    }
+
+    public void setMinChunkSize(int minChunkSize) {
+        this.minChunkSize = minChunkSize;
+    }
+
+    public int getAvgChunkSize() {
+        return avgChunkSize;
+    }
+
+    public void setAvgChunkSize(int avgChunkSize) {
+        this.avgChunkSize = avgChunkSize;
+    }
+
+    public int getMaxChunkSize() {
+        return maxChunkSize;
+    }
+
+    public void setMaxChunkSize(int maxChunkSize) {
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    public Duration getGcGrace() {
+        return gcGrace;
+    }
+
+    public void setGcGrace(Duration gcGrace) {
+        this.gcGrace = gcGrace;
+    }
+
+    public Duration getGcInterval() {
+        return gcInterval;
+    }
+
+    public void setGcInterval(Duration gcInterval) {
+        this.gcInterval = gcInterval;
+    }
+
+    public int getGcBatchSize() {
+        return gcBatchSize;
+    }
+
+    public void setGcBatchSize(int gcBatchSize) {
+        this.gcBatchSize = gcBatchSize;
+    }
+}
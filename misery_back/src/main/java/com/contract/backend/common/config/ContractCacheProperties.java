@@ -0,0 +1,93 @@
+package com.contract.backend.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 계약서 상세 / 목록 조회 캐시 설정 (Redis + 인스턴스 로컬 near cache)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "contract-cache")
+public class ContractCacheProperties {
+
+    // false 면 항상 DB 에서 조회
+    private boolean enabled = true;
+
+    // Redis 키 접두사
+    private String keyPrefix = "contract-cache";
+
+    // Redis 에 저장한 조회 결과 유지 시간 (버전 키 갱신에 실패했을 때 오래된 값이 보일 수 있는 최대 시간)
+    private Duration ttl = Duration.ofMinutes(10);
+
+    // 버전 키 유지 시간 (ttl 보다 길어야 함, 만료되면 0부터 다시 시작)
+    private Duration versionTtl = Duration.ofDays(7);
+
+    // near cache 유지 시간 (다른 인스턴스의 변경이 이 인스턴스에 늦게 보일 수 있는 최대 시간, 0 이면 사용 안 함)
+    private Duration nearTtl = Duration.ofSeconds(3);
+
+    // near cache 최대 항목 수
+    private int nearMaxEntries = 10000;
+
+    // Redis 오류 후 다시 시도하기까지 DB 에서만 조회하는 시간
+    private Duration redisRetryAfter = Duration.ofSeconds(30);
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public void setKeyPrefix(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Duration getVersionTtl() {
+        return versionTtl;
+    }
+
+    public void setVersionTtl(Duration versionTtl) {
+        this.versionTtl = versionTtl;
+    }
+
+    public Duration getNearTtl() {
+        return nearTtl;
+    }
+
+    public void setNearTtl(Duration nearTtl) {
+        this.nearTtl = nearTtl;
+    }
+
+    public int getNearMaxEntries() {
+        return nearMaxEntries;
+    }
+
+    public void setNearMaxEntries(int nearMaxEntries) {
+        this.nearMaxEntries = nearMaxEntries;
+    }
+
+    public Duration getRedisRetryAfter() {
+        return redisRetryAfter;
+    }
+
+    public void setRedisRetryAfter(Duration redisRetryAfter) {
+        this.redisRetryAfter = redisRetryAfter;
+    }
+}
@@ -0,0 +1,90 @@
+package com.contract.backend.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 파일 응답 대역폭 제한 (사용자별 / 전체 토큰 버킷, 사용자 간 공정 분배)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file-streaming.shaping")
+public class DownloadShapingProperties {
+
+    private boolean enabled = false;
+
+    // 서버 전체 파일 응답 송신 속도 (초당)
+    private DataSize globalRate = DataSize.ofMegabytes(200);
+
+    // 사용자 한 명의 송신 속도 (초당, 동시 요청 합산)
+    private DataSize perUserRate = DataSize.ofMegabytes(20);
+
+    // 쉬고 있던 사용자 / 서버가 한 번에 보낼 수 있는 양
+    private DataSize userBurst = DataSize.ofMegabytes(4);
+
+    private DataSize globalBurst = DataSize.ofMegabytes(16);
+
+    // 토큰을 요청하는 단위 (사용자 간 전환 단위)
+    private DataSize chunkSize = DataSize.ofKilobytes(64);
+
+    // 전체 대역폭이 부족할 때 미리보기(inline) 청크를 다운로드(attachment) 청크 1개당 몇 개까지 먼저 보낼지
+    private int interactiveWeight = 4;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public DataSize getGlobalRate() {
+        return globalRate;
+    }
+
+    public void setGlobalRate(DataSize globalRate) {
+        this.globalRate = globalRate;
+    }
+
+    public DataSize getPerUserRate() {
+        return perUserRate;
+    }
+
+    public void setPerUserRate(DataSize perUserRate) {
+        this.perUserRate = perUserRate;
+    }
+
+    public DataSize getUserBurst() {
+        return userBurst;
+    }
+
+    public void setUserBurst(DataSize userBurst) {
+        this.userBurst = userBurst;
+    }
+
+    public DataSize getGlobalBurst() {
+        return globalBurst;
+    }
+
+    public void setGlobalBurst(DataSize globalBurst) {
+        this.globalBurst = globalBurst;
+    }
+
+    public DataSize getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(DataSize chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getInteractiveWeight() {
+        return interactiveWeight;
+    }
+
+    public void setInteractiveWeight(int interactiveWeight) {
+        this.interactiveWeight = interactiveWeight;
+    }
+}
@@ -0,0 +1,49 @@
+package com.contract.backend.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 계약서 ZIP 내보내기 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "export")
+public class ExportProperties {
+
+    // 동시에 미리 받아 둘 파일 수
+    private int prefetchWindow = 4;
+
+    // 이 크기 이하 파일은 메모리에 미리 받아 둠 (초과 파일은 스트림만 미리 열어 둠)
+    // 최대 메모리 사용량 ≈ prefetch-window × max-buffered-object-size
+    private DataSize maxBufferedObjectSize = DataSize.ofMegabytes(16);
+
+    // 한 번에 내보낼 수 있는 최대 계약서 수
+    private int maxContracts = 10000;
+
+    // Getters and Setters
+
+    public int getPrefetchWindow() {
+        return prefetchWindow;
+    }
+
+    public void setPrefetchWindow(int prefetchWindow) {
+        this.prefetchWindow = prefetchWindow;
+    }
+
+    public DataSize getMaxBufferedObjectSize() {
+        return maxBufferedObjectSize;
+    }
+
+    public void setMaxBufferedObjectSize(DataSize maxBufferedObjectSize) {
+        this.maxBufferedObjectSize = maxBufferedObjectSize;
+    }
+
+    public int getMaxContracts() {
+        return maxContracts;
+    }
+
+    public void setMaxContracts(int maxContracts) {
+        this.maxContracts = maxContracts;
+    }
+}
@@ -0,0 +1,38 @@
+package com.contract.backend.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 파일 접근 토큰 설정 (미리보기 / 다운로드 Range 요청마다 DB 권한 조회를 생략)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file-access-token")
+public class FileAccessTokenProperties {
+
+    // HMAC-SHA256 서명 키 (여러 인스턴스가 같은 값을 써야 함, 비어 있으면 기동 시 임의 생성)
+    private String secret;
+
+    // 토큰 유효 기간 (철회 목록도 이 기간만 보관)
+    private Duration ttl = Duration.ofMinutes(10);
+
+    // Getters and Setters
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+}
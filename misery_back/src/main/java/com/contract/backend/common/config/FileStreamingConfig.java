@@ -0,0 +1,43 @@
+package com.contract.backend.common.config;
+
+import com.contract.backend.common.util.stream.StreamingBufferPool;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.Executors;
+
+/**
+ * 파일 응답 스트리밍 설정
+ * StreamingResponseBody는 Tomcat 워커 스레드가 아닌 가상 스레드에서 실행되므로
+ * 느린 클라이언트가 많아도 요청 처리 스레드 풀이 고갈되지 않는다.
+ * 본문은 NonBlockingResponseBody 로 감싸 소켓 쓰기 대기가 가상 스레드 캐리어를 고정하지 않게 한다.
+ */
+@Configuration
+public class FileStreamingConfig implements WebMvcConfigurer {
+
+    // Executor 빈으로 등록하면 Spring Boot 기본 applicationTaskExecutor가 비활성화되므로 내부에서만 사용
+    private final AsyncTaskExecutor fileStreamingExecutor = new TaskExecutorAdapter(
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("file-stream-", 0).factory()));
+
+    @Value("${file-streaming.async-timeout-ms:1800000}")
+    private long asyncTimeoutMs;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(fileStreamingExecutor);
+        configurer.setDefaultTimeout(asyncTimeoutMs);
+    }
+
+    @Bean
+    public StreamingBufferPool streamingBufferPool(
+            @Value("${file-streaming.buffer-size:65536}") int bufferSize,
+            @Value("${file-streaming.max-pooled-buffers:512}") int maxPooledBuffers
+    ) {
+        return new StreamingBufferPool(bufferSize, maxPooledBuffers);
+    }
+}
@@ -0,0 +1,56 @@
+package com.contract.backend.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * PDF 선형화(fast web view) 설정 - qpdf 실행 파일 필요
+ */
+@Configuration
+@ConfigurationProperties(prefix = "linearization")
+public class LinearizationProperties {
+
+    private boolean enabled = false;
+
+    private String qpdfPath = "qpdf";
+
+    private Duration timeout = Duration.ofSeconds(60);
+
+    private int concurrency = 1;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getQpdfPath() {
+        return qpdfPath;
+    }
+
+    public void setQpdfPath(String qpdfPath) {
+        this.qpdfPath = qpdfPath;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+}
@@ -0,0 +1,60 @@
+package com.contract.backend.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 계약서 멤버십 인덱스 백필 / 정합성 검사 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "membership")
+public class MembershipProperties {
+
+    // 기동 시 contracts / contract_parties 기준으로 멤버십을 채움 (끝나기 전까지 권한 확인은 기존 방식 병행)
+    private boolean backfillOnStartup = true;
+
+    // 정합성 검사 주기
+    private Duration checkInterval = Duration.ofHours(6);
+
+    // 검사 시 한 트랜잭션에서 처리할 계약서 수
+    private int batchSize = 500;
+
+    // 검사에서 찾은 누락 / 불일치 / 불필요 행을 바로 고침 (false 면 로그와 지표만)
+    private boolean repair = true;
+
+    // Getters and Setters
+
+    public boolean isBackfillOnStartup() {
+        return backfillOnStartup;
+    }
+
+    public void setBackfillOnStartup(boolean backfillOnStartup) {
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    public Duration getCheckInterval() {
+        return checkInterval;
+    }
+
+    public void setCheckInterval(Duration checkInterval) {
+        this.checkInterval = checkInterval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public boolean isRepair() {
+        return repair;
+    }
+
+    public void setRepair(boolean repair) {
+        this.repair = repair;
+    }
+}
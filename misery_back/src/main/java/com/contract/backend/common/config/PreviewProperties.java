@@ -0,0 +1,121 @@
+package com.contract.backend.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 썸네일 / 페이지 이미지 렌더링 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "preview")
+public class PreviewProperties {
+
+    private boolean enabled = true;
+
+    // 첫 페이지 썸네일 가로 크기 (px)
+    private int thumbnailWidth = 320;
+
+    // 저해상도 페이지 이미지 DPI
+    private float pageDpi = 60;
+
+    // 페이지 이미지를 만들 최대 페이지 수 (이후 페이지는 PDF 미리보기로)
+    private int maxPages = 20;
+
+    private float jpegQuality = 0.75f;
+
+    private int renderConcurrency = 2;
+
+    // 렌더링 중 응답의 Retry-After (초)
+    private long retryAfterSeconds = 5;
+
+    // 요청 후 이 시간이 지나도 PENDING 이면 렌더링 작업이 유실된 것으로 보고 다시 렌더링 (재기동 등)
+    private Duration renderTimeout = Duration.ofMinutes(10);
+
+    // 유실된 렌더링 작업을 찾는 주기 / 한 번에 다시 요청할 최대 수
+    private Duration recoveryInterval = Duration.ofMinutes(5);
+    private int recoveryBatchSize = 100;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getThumbnailWidth() {
+        return thumbnailWidth;
+    }
+
+    public void setThumbnailWidth(int thumbnailWidth) {
+        this.thumbnailWidth = thumbnailWidth;
+    }
+
+    public float getPageDpi() {
+        return pageDpi;
+    }
+
+    public void setPageDpi(float pageDpi) {
+        this.pageDpi = pageDpi;
+    }
+
+    public int getMaxPages() {
+        return maxPages;
+    }
+
+    public void setMaxPages(int maxPages) {
+        this.maxPages = maxPages;
+    }
+
+    public float getJpegQuality() {
+        return jpegQuality;
+    }
+
+    public void setJpegQuality(float jpegQuality) {
+        this.jpegQuality = jpegQuality;
+    }
+
+    public int getRenderConcurrency() {
+        return renderConcurrency;
+    }
+
+    public void setRenderConcurrency(int renderConcurrency) {
+        this.renderConcurrency = renderConcurrency;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public void setRetryAfterSeconds(long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public Duration getRenderTimeout() {
+        return renderTimeout;
+    }
+
+    public void setRenderTimeout(Duration renderTimeout) {
+        this.renderTimeout = renderTimeout;
+    }
+
+    public Duration getRecoveryInterval() {
+        return recoveryInterval;
+    }
+
+    public void setRecoveryInterval(Duration recoveryInterval) {
+        this.recoveryInterval = recoveryInterval;
+    }
+
+    public int getRecoveryBatchSize() {
+        return recoveryBatchSize;
+    }
+
+    public void setRecoveryBatchSize(int recoveryBatchSize) {
+        this.recoveryBatchSize = recoveryBatchSize;
+    }
+}
@@ -0,0 +1,146 @@
+package com.contract.backend.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 재개 가능한(파트 단위) 업로드 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "upload.resumable")
+public class ResumableUploadProperties {
+
+    private DataSize maxFileSize = DataSize.ofMegabytes(500);
+
+    private DataSize defaultChunkSize = DataSize.ofMegabytes(8);
+
+    // S3 호환 저장소는 마지막 파트를 제외하고 5MB 이상이어야 함
+    private DataSize minChunkSize = DataSize.ofMegabytes(5);
+
+    private DataSize maxChunkSize = DataSize.ofMegabytes(64);
+
+    // S3 멀티파트 업로드 파트 수 한도
+    private int maxParts = 10000;
+
+    // 완료되지 않은 세션을 정리하기까지의 시간 (생성 시각 기준)
+    private Duration sessionTtl = Duration.ofHours(24);
+
+    // 순서가 뒤바뀐 파트를 전체 파일 해시 계산 전까지 잠시 두는 디렉터리
+    private String stagingDirectory = "./upload-staging";
+
+    private Duration cleanupInterval = Duration.ofMinutes(30);
+
+    // direct 업로드의 presigned 파트 URL 유효 기간
+    private Duration directUrlExpiry = Duration.ofHours(1);
+
+    // direct 업로드 해시 확인(저장된 객체를 다시 읽음) 동시 실행 수
+    private int verifyConcurrency = 2;
+
+    // 순서보다 먼저 도착한 파트를 임시 파일로 둘 수 있는 최대 크기 (인스턴스 전체)
+    // 넘으면 해당 세션은 점진적 해시를 포기하고 완료 시 저장된 객체를 다시 읽어 계산
+    private DataSize maxStagedSize = DataSize.ofGigabytes(1);
+
+    // 완료 처리 중(COMPLETING / FINALIZING) 상태가 이 시간보다 오래 남으면 처리하던 인스턴스가 종료된 것으로 보고 정리 / 재시작
+    private Duration completionTimeout = Duration.ofHours(1);
+
+    // Getters and Setters
+
+    public DataSize getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    public void setMaxFileSize(DataSize maxFileSize) {
+        this.maxFileSize = maxFileSize;
+    }
+
+    public DataSize getDefaultChunkSize() {
+        return defaultChunkSize;
+    }
+
+    public void setDefaultChunkSize(DataSize defaultChunkSize) {
+        this.defaultChunkSize = defaultChunkSize;
+    }
+
+    public DataSize getMinChunkSize() {
+        return minChunkSize;
+    }
+
+    public void setMinChunkSize(DataSize minChunkSize) {
+        this.minChunkSize = minChunkSize;
+    }
+
+    public DataSize getMaxChunkSize() {
+        return maxChunkSize;
+    }
+
+    public void setMaxChunkSize(DataSize maxChunkSize) {
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    public int getMaxParts() {
+        return maxParts;
+    }
+
+    public void setMaxParts(int maxParts) {
+        this.maxParts = maxParts;
+    }
+
+    public Duration getSessionTtl() {
+        return sessionTtl;
+    }
+
+    public void setSessionTtl(Duration sessionTtl) {
+        this.sessionTtl = sessionTtl;
+    }
+
+    public String getStagingDirectory() {
+        return stagingDirectory;
+    }
+
+    public void setStagingDirectory(String stagingDirectory) {
+        this.stagingDirectory = stagingDirectory;
+    }
+
+    public Duration getCleanupInterval() {
+        return cleanupInterval;
+    }
+
+    public void setCleanupInterval(Duration cleanupInterval) {
+        this.cleanupInterval = cleanupInterval;
+    }
+
+    public Duration getDirectUrlExpiry() {
+        return directUrlExpiry;
+    }
+
+    public void setDirectUrlExpiry(Duration directUrlExpiry) {
+        this.directUrlExpiry = directUrlExpiry;
+    }
+
+    public int getVerifyConcurrency() {
+        return verifyConcurrency;
+    }
+
+    public void setVerifyConcurrency(int verifyConcurrency) {
+        this.verifyConcurrency = verifyConcurrency;
+    }
+
+    public DataSize getMaxStagedSize() {
+        return maxStagedSize;
+    }
+
+    public void setMaxStagedSize(DataSize maxStagedSize) {
+        this.maxStagedSize = maxStagedSize;
+    }
+
+    public Duration getCompletionTimeout() {
+        return completionTimeout;
+    }
+
+    public void setCompletionTimeout(Duration completionTimeout) {
+        this.completionTimeout = completionTimeout;
+    }
+}
@@ -1,18 +1,36 @@
 package com.contract.backend.common.config;
 
+import com.contract.backend.common.metrics.S3ClientMetricPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 import java.net.URI;
 
+/**
+ * 애플리케이션 전체에서 공유하는 단일 S3 클라이언트 (B2)
+ * 커넥션 풀 / 타임아웃 / 재시도는 b2.client.* 로 조정
+ */
 @Configuration
+@ConditionalOnProperty(name = "b2.enabled", havingValue = "true", matchIfMissing = true)
 public class S3ClientConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(S3ClientConfig.class);
+
     @Value("${b2.endpoint}")
     private String endpoint;
 
@@ -23,13 +41,60 @@ public class S3ClientConfig {
     private String secretKey;
 
     @Bean
-    public S3Client s3Client() {
+    public S3Client s3Client(S3ClientProperties properties, MeterRegistry meterRegistry) {
+        ClientOverrideConfiguration.Builder overrideConfig = ClientOverrideConfiguration.builder()
+                .retryPolicy(RetryPolicy.builder().numRetries(properties.getMaxRetries()).build())
+                .addMetricPublisher(new S3ClientMetricPublisher(meterRegistry));
+        if (properties.getApiCallTimeout() != null) {
+            overrideConfig.apiCallTimeout(properties.getApiCallTimeout());
+        }
+        if (properties.getApiCallAttemptTimeout() != null) {
+            overrideConfig.apiCallAttemptTimeout(properties.getApiCallAttemptTimeout());
+        }
+
+        logger.info("S3 클라이언트 생성 - httpClient: {}, maxConnections: {}, maxRetries: {}",
+                properties.getHttpClient(), properties.getMaxConnections(), properties.getMaxRetries());
+
         return S3Client.builder()
                 .endpointOverride(URI.create(endpoint))
                 .credentialsProvider(StaticCredentialsProvider.create(
                         AwsBasicCredentials.create(accessKey, secretKey)
                 ))
                 .region(Region.US_EAST_1) 
+                .httpClient(buildHttpClient(properties))
+                .overrideConfiguration(overrideConfig.build())
+                .build();
+    }
+
+    /**
+     * 단기 만료 presigned URL 생성용 (파일 리다이렉트 모드)
+     */
+    @Bean
+    public S3Presigner s3Presigner() {
+        return S3Presigner.builder()
+                .endpointOverride(URI.create(endpoint))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(accessKey, secretKey)
+                ))
+                .region(Region.US_EAST_1)
+                .build();
+    }
+
+    private SdkHttpClient buildHttpClient(S3ClientProperties properties) {
+        if ("url-connection".equalsIgnoreCase(properties.getHttpClient())) {
+            // 커넥션 풀 설정은 JDK HttpURLConnection keep-alive에 위임됨
+            return UrlConnectionHttpClient.builder()
+                    .connectionTimeout(properties.getConnectionTimeout())
+                    .socketTimeout(properties.getSocketTimeout())
+                    .build();
+        }
+        return ApacheHttpClient.builder()
+                .maxConnections(properties.getMaxConnections())
+                .connectionTimeToLive(properties.getConnectionTimeToLive())
+                .connectionMaxIdleTime(properties.getConnectionMaxIdleTime())
+                .connectionTimeout(properties.getConnectionTimeout())
+                .connectionAcquisitionTimeout(properties.getConnectionAcquisitionTimeout())
+                .socketTimeout(properties.getSocketTimeout())
                 .build();
     }
-}
\ No newline at end of file
+}
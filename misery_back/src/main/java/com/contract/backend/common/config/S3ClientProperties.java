@@ -0,0 +1,118 @@
+package com.contract.backend.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 공용 S3 클라이언트(B2) HTTP 커넥션 풀 / 타임아웃 / 재시도 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "b2.client")
+public class S3ClientProperties {
+
+    // HTTP 구현체: apache (커넥션 풀 지원) | url-connection (경량)
+    private String httpClient = "apache";
+
+    private int maxConnections = 100;
+
+    private Duration connectionTimeToLive = Duration.ofMinutes(5);
+
+    private Duration connectionMaxIdleTime = Duration.ofSeconds(60);
+
+    private Duration connectionTimeout = Duration.ofSeconds(5);
+
+    private Duration connectionAcquisitionTimeout = Duration.ofSeconds(10);
+
+    private Duration socketTimeout = Duration.ofSeconds(30);
+
+    // null이면 SDK 기본값 사용 (스트리밍 다운로드는 전송 시간과 무관하게 응답 헤더 수신까지만 측정됨)
+    private Duration apiCallTimeout;
+
+    private Duration apiCallAttemptTimeout;
+
+    private int maxRetries = 3;
+
+    // Getters and Setters
+
+    public String getHttpClient() {
+        return httpClient;
+    }
+
+    public void setHttpClient(String httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public Duration getConnectionTimeToLive() {
+        return connectionTimeToLive;
+    }
+
+    public void setConnectionTimeToLive(Duration connectionTimeToLive) {
+        this.connectionTimeToLive = connectionTimeToLive;
+    }
+
+    public Duration getConnectionMaxIdleTime() {
+        return connectionMaxIdleTime;
+    }
+
+    public void setConnectionMaxIdleTime(Duration connectionMaxIdleTime) {
+        this.connectionMaxIdleTime = connectionMaxIdleTime;
+    }
+
+    public Duration getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    public void setConnectionTimeout(Duration connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    public Duration getConnectionAcquisitionTimeout() {
+        return connectionAcquisitionTimeout;
+    }
+
+    public void setConnectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+        this.connectionAcquisitionTimeout = connectionAcquisitionTimeout;
+    }
+
+    public Duration getSocketTimeout() {
+        return socketTimeout;
+    }
+
+    public void setSocketTimeout(Duration socketTimeout) {
+        this.socketTimeout = socketTimeout;
+    }
+
+    public Duration getApiCallTimeout() {
+        return apiCallTimeout;
+    }
+
+    public void setApiCallTimeout(Duration apiCallTimeout) {
+        this.apiCallTimeout = apiCallTimeout;
+    }
+
+    public Duration getApiCallAttemptTimeout() {
+        return apiCallAttemptTimeout;
+    }
+
+    public void setApiCallAttemptTimeout(Duration apiCallAttemptTimeout) {
+        this.apiCallAttemptTimeout = apiCallAttemptTimeout;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+}
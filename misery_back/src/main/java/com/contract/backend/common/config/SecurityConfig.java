@@ -43,9 +43,10 @@ public class SecurityConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(List.of("https://localhost:5173")); // React 개발 서버
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(List.of("Content-Type","X-XSRF-TOKEN","Authorization", "Range")); // Range 헤더 추가
+        configuration.setAllowedHeaders(List.of("Content-Type","X-XSRF-TOKEN","Authorization", "Range", "If-None-Match")); // Range, 조건부 요청 헤더 추가
         configuration.setAllowCredentials(true);
-        configuration.setExposedHeaders(List.of("Content-Range", "Accept-Ranges", "Content-Length")); // Range 관련 헤더 노출
+        configuration.setExposedHeaders(List.of("Content-Range", "Accept-Ranges", "Content-Length", "ETag",
+                "Retry-After", "X-Storage-State")); // Range, 캐시 검증, 보관 계층 복원 상태 헤더 노출
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -0,0 +1,81 @@
+package com.contract.backend.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 고아 저장소 객체 정리 설정 (버전이 참조하지 않는 객체 삭제)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "storage.gc")
+public class StorageGcProperties {
+
+    private boolean enabled = false;
+
+    // 실행 주기
+    private Duration interval = Duration.ofHours(6);
+
+    // 이 기간보다 최근에 수정된 객체는 삭제하지 않음 (진행 중인 업로드 트랜잭션 / 스풀 전송 보호)
+    private Duration grace = Duration.ofHours(24);
+
+    // 목록 조회 / DB 키 조회 페이지 크기
+    private int pageSize = 1000;
+
+    // 한 번 실행에서 삭제할 최대 객체 수 (설정 오류로 대량 삭제되는 것을 방지)
+    private int maxDeletesPerRun = 10000;
+
+    // true 면 삭제하지 않고 대상만 기록
+    private boolean dryRun = true;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public Duration getGrace() {
+        return grace;
+    }
+
+    public void setGrace(Duration grace) {
+        this.grace = grace;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public int getMaxDeletesPerRun() {
+        return maxDeletesPerRun;
+    }
+
+    public void setMaxDeletesPerRun(int maxDeletesPerRun) {
+        this.maxDeletesPerRun = maxDeletesPerRun;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public void setDryRun(boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+}
@@ -0,0 +1,132 @@
+package com.contract.backend.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 보관 계층(HOT → COLD) 이동 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "storage.lifecycle")
+public class StorageLifecycleProperties {
+
+    private boolean enabled = false;
+
+    // COLD 계층 위치 (StorageServiceRegistry 의 provider 이름 / 버킷)
+    private String coldProvider;
+
+    private String coldBucket;
+
+    // COLD 계층 저장 시 gzip 압축 여부
+    private boolean compress = true;
+
+    // CLOSED 계약의 버전을 COLD 로 옮기기까지의 기간 (계약 updatedAt 기준)
+    private Duration closedRetention = Duration.ofDays(365);
+
+    // 복원된 버전을 다시 COLD 로 옮기기 전 HOT 에 유지하는 기간
+    private Duration restoredHotPeriod = Duration.ofDays(7);
+
+    // RESTORING 상태가 이 시간 이상 지속되면 (재기동 등) COLD 로 되돌려 다음 접근 시 다시 복원
+    private Duration restoreTimeout = Duration.ofMinutes(30);
+
+    // 복원 중 응답의 Retry-After (초)
+    private long retryAfterSeconds = 30;
+
+    private int restoreConcurrency = 4;
+
+    private Duration interval = Duration.ofHours(1);
+
+    private int batchSize = 100;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getColdProvider() {
+        return coldProvider;
+    }
+
+    public void setColdProvider(String coldProvider) {
+        this.coldProvider = coldProvider;
+    }
+
+    public String getColdBucket() {
+        return coldBucket;
+    }
+
+    public void setColdBucket(String coldBucket) {
+        this.coldBucket = coldBucket;
+    }
+
+    public boolean isCompress() {
+        return compress;
+    }
+
+    public void setCompress(boolean compress) {
+        this.compress = compress;
+    }
+
+    public Duration getClosedRetention() {
+        return closedRetention;
+    }
+
+    public void setClosedRetention(Duration closedRetention) {
+        this.closedRetention = closedRetention;
+    }
+
+    public Duration getRestoredHotPeriod() {
+        return restoredHotPeriod;
+    }
+
+    public void setRestoredHotPeriod(Duration restoredHotPeriod) {
+        this.restoredHotPeriod = restoredHotPeriod;
+    }
+
+    public Duration getRestoreTimeout() {
+        return restoreTimeout;
+    }
+
+    public void setRestoreTimeout(Duration restoreTimeout) {
+        this.restoreTimeout = restoreTimeout;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public void setRetryAfterSeconds(long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRestoreConcurrency() {
+        return restoreConcurrency;
+    }
+
+    public void setRestoreConcurrency(int restoreConcurrency) {
+        this.restoreConcurrency = restoreConcurrency;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
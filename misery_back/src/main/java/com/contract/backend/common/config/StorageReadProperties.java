@@ -0,0 +1,80 @@
+package com.contract.backend.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * B2 객체 읽기 설정 (요청별 첫 바이트 기한 / hedged read)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "storage.read")
+public class StorageReadProperties {
+
+    // GET 응답(첫 바이트)을 기다리는 최대 시간, 넘기면 요청 실패
+    private Duration firstByteDeadline = Duration.ofSeconds(10);
+
+    // 응답이 늦으면 같은 요청을 한 번 더 보내고 먼저 온 응답 사용
+    private boolean hedgeEnabled = true;
+
+    // 최근 첫 바이트 지연의 이 백분위수만큼 기다린 뒤 중복 요청 (min / max 로 제한)
+    private double hedgePercentile = 0.95;
+
+    private Duration minHedgeDelay = Duration.ofMillis(50);
+
+    private Duration maxHedgeDelay = Duration.ofSeconds(2);
+
+    // 백분위수 계산에 사용할 최근 지연 표본 수
+    private int latencyWindow = 256;
+
+    // Getters and Setters
+
+    public Duration getFirstByteDeadline() {
+        return firstByteDeadline;
+    }
+
+    public void setFirstByteDeadline(Duration firstByteDeadline) {
+        this.firstByteDeadline = firstByteDeadline;
+    }
+
+    public boolean isHedgeEnabled() {
+        return hedgeEnabled;
+    }
+
+    public void setHedgeEnabled(boolean hedgeEnabled) {
+        this.hedgeEnabled = hedgeEnabled;
+    }
+
+    public double getHedgePercentile() {
+        return hedgePercentile;
+    }
+
+    public void setHedgePercentile(double hedgePercentile) {
+        this.hedgePercentile = hedgePercentile;
+    }
+
+    public Duration getMinHedgeDelay() {
+        return minHedgeDelay;
+    }
+
+    public void setMinHedgeDelay(Duration minHedgeDelay) {
+        this.minHedgeDelay = minHedgeDelay;
+    }
+
+    public Duration getMaxHedgeDelay() {
+        return maxHedgeDelay;
+    }
+
+    public void setMaxHedgeDelay(Duration maxHedgeDelay) {
+        this.maxHedgeDelay = maxHedgeDelay;
+    }
+
+    public int getLatencyWindow() {
+        return latencyWindow;
+    }
+
+    public void setLatencyWindow(int latencyWindow) {
+        this.latencyWindow = latencyWindow;
+    }
+}
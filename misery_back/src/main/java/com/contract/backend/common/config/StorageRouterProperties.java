@@ -0,0 +1,152 @@
+package com.contract.backend.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 다중 버킷 / 다중 저장소 라우팅 설정 (consistent hashing)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "storage.router")
+public class StorageRouterProperties {
+
+    // 비활성화 시 모든 새 파일은 storage.default-provider 의 기본 버킷에 저장
+    private boolean enabled = false;
+
+    // 가중치 1당 해시 링에 배치할 가상 노드 수
+    private int virtualNodesPerWeight = 100;
+
+    // 기본 위치 외에 추가로 저장할 복제본 수 (읽기 장애 시 대체 위치)
+    private int replicas = 0;
+
+    private List<Node> nodes = new ArrayList<>();
+
+    private Rebalance rebalance = new Rebalance();
+
+    public static class Node {
+
+        // StorageServiceRegistry 에 등록된 provider 이름 (B2, LOCAL ...)
+        private String provider;
+
+        private String bucket;
+
+        // 상대 용량 (가중치 2인 버킷은 1인 버킷보다 약 2배의 객체를 받음)
+        private int weight = 1;
+
+        public String getProvider() {
+            return provider;
+        }
+
+        public void setProvider(String provider) {
+            this.provider = provider;
+        }
+
+        public String getBucket() {
+            return bucket;
+        }
+
+        public void setBucket(String bucket) {
+            this.bucket = bucket;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+
+        public void setWeight(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    public static class Rebalance {
+
+        // 버킷 추가 후 기존 객체를 새 링 위치로 옮기는 백그라운드 작업
+        private boolean enabled = false;
+
+        private Duration interval = Duration.ofMinutes(10);
+
+        // 한 번 실행에서 검사할 최대 버전 수
+        private int batchSize = 200;
+
+        // 옮긴 뒤 이전 위치의 객체 삭제 여부 (기본은 보존, 진행 중인 읽기 보호)
+        private boolean deleteSource = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public boolean isDeleteSource() {
+            return deleteSource;
+        }
+
+        public void setDeleteSource(boolean deleteSource) {
+            this.deleteSource = deleteSource;
+        }
+    }
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getVirtualNodesPerWeight() {
+        return virtualNodesPerWeight;
+    }
+
+    public void setVirtualNodesPerWeight(int virtualNodesPerWeight) {
+        this.virtualNodesPerWeight = virtualNodesPerWeight;
+    }
+
+    public int getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(int replicas) {
+        this.replicas = replicas;
+    }
+
+    public List<Node> getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(List<Node> nodes) {
+        this.nodes = nodes;
+    }
+
+    public Rebalance getRebalance() {
+        return rebalance;
+    }
+
+    public void setRebalance(Rebalance rebalance) {
+        this.rebalance = rebalance;
+    }
+}
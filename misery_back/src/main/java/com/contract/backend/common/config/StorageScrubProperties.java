@@ -0,0 +1,92 @@
+package com.contract.backend.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 저장소 무결성 검사(scrub) 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "storage.scrub")
+public class StorageScrubProperties {
+
+    private boolean enabled = false;
+
+    private Duration interval = Duration.ofMinutes(1);
+
+    // 실행 1회당 검사할 버전 수
+    private int batchSize = 50;
+
+    // 이 기간 안에 검사한 버전은 건너뜀 (검사 범위 메트릭의 기준 기간이기도 함)
+    private Duration recheckInterval = Duration.ofDays(30);
+
+    // 저장소 메타데이터 해시가 있어도 객체를 다시 읽어 확인 (실제 내용 손상까지 확인할 때)
+    private boolean alwaysRehash = false;
+
+    // 다시 읽어 해시를 계산할 때 동시에 읽는 객체 수
+    private int rehashConcurrency = 2;
+
+    // 다시 읽기 전체 속도 제한 (초당)
+    private DataSize maxRehashBytesPerSecond = DataSize.ofMegabytes(20);
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getRecheckInterval() {
+        return recheckInterval;
+    }
+
+    public void setRecheckInterval(Duration recheckInterval) {
+        this.recheckInterval = recheckInterval;
+    }
+
+    public boolean isAlwaysRehash() {
+        return alwaysRehash;
+    }
+
+    public void setAlwaysRehash(boolean alwaysRehash) {
+        this.alwaysRehash = alwaysRehash;
+    }
+
+    public int getRehashConcurrency() {
+        return rehashConcurrency;
+    }
+
+    public void setRehashConcurrency(int rehashConcurrency) {
+        this.rehashConcurrency = rehashConcurrency;
+    }
+
+    public DataSize getMaxRehashBytesPerSecond() {
+        return maxRehashBytesPerSecond;
+    }
+
+    public void setMaxRehashBytesPerSecond(DataSize maxRehashBytesPerSecond) {
+        this.maxRehashBytesPerSecond = maxRehashBytesPerSecond;
+    }
+}
@@ -0,0 +1,112 @@
+package com.contract.backend.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 업로드 스풀 설정 (로컬 디스크에 기록 후 응답, 저장소 전송은 백그라운드)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "upload.spool")
+public class UploadSpoolProperties {
+
+    private boolean enabled = false;
+
+    // 스풀 디렉터리 (재기동 후에도 남아 있어야 하므로 tmpfs 가 아닌 영구 디스크)
+    private String directory = "./upload-spool";
+
+    // 전송 대기 파일 전체 크기 한도
+    private DataSize maxDiskUsage = DataSize.ofGigabytes(2);
+
+    // 한도 초과 시 공간이 날 때까지 업로드 요청이 기다리는 최대 시간 (이후 503)
+    private Duration reserveTimeout = Duration.ofSeconds(10);
+
+    // 연속 전송 실패 시 재시도 횟수 (이후에는 redrive-interval 마다 다시 시도)
+    private int maxAttempts = 6;
+
+    private Duration initialBackoff = Duration.ofSeconds(2);
+
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    private int transferConcurrency = 2;
+
+    // 남은 스풀 파일 재전송 주기 (기동 시 1회 + 주기적으로)
+    private Duration redriveInterval = Duration.ofMinutes(10);
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public DataSize getMaxDiskUsage() {
+        return maxDiskUsage;
+    }
+
+    public void setMaxDiskUsage(DataSize maxDiskUsage) {
+        this.maxDiskUsage = maxDiskUsage;
+    }
+
+    public Duration getReserveTimeout() {
+        return reserveTimeout;
+    }
+
+    public void setReserveTimeout(Duration reserveTimeout) {
+        this.reserveTimeout = reserveTimeout;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    public int getTransferConcurrency() {
+        return transferConcurrency;
+    }
+
+    public void setTransferConcurrency(int transferConcurrency) {
+        this.transferConcurrency = transferConcurrency;
+    }
+
+    public Duration getRedriveInterval() {
+        return redriveInterval;
+    }
+
+    public void setRedriveInterval(Duration redriveInterval) {
+        this.redriveInterval = redriveInterval;
+    }
+}
@@ -0,0 +1,32 @@
+package com.contract.backend.common.dto;
+
+import java.util.List;
+
+public class ContractCursorPageDTO {
+    private List<ContractListDTO> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;      // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+    private Long totalElements;     // withTotal=true 일 때만 계산
+
+    public ContractCursorPageDTO() {}
+
+    public ContractCursorPageDTO(List<ContractListDTO> content, int size, boolean hasNext, String nextCursor, Long totalElements) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+        this.totalElements = totalElements;
+    }
+
+    public List<ContractListDTO> getContent() { return content; }
+    public void setContent(List<ContractListDTO> content) { this.content = content; }
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+    public Long getTotalElements() { return totalElements; }
+    public void setTotalElements(Long totalElements) { this.totalElements = totalElements; }
+}
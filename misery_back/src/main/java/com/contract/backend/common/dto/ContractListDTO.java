@@ -1,6 +1,7 @@
 package com.contract.backend.common.dto;
 
 import com.contract.backend.common.Entity.enumm.ContractStatus; // ContractStatus enum import
+import com.contract.backend.common.Entity.enumm.PreviewStatus;
 import java.time.LocalDateTime;
 
 public class ContractListDTO {
@@ -9,6 +10,9 @@ public class ContractListDTO {
     private ContractStatus status;
     private LocalDateTime createdAt;
     private Integer currentVersionNumber;
+    // 목록 썸네일용 (GET /api/contracts/files/thumbnail?path=...)
+    private String currentVersionFilePath;
+    private PreviewStatus previewStatus;
     // 필요에 따라 계약 생성자 이름 등을 추가할 수 있습니다.
     // private String createdByUsername;
 
@@ -66,6 +70,22 @@ public class ContractListDTO {
         this.currentVersionNumber = currentVersionNumber;
     }
 
+    public String getCurrentVersionFilePath() {
+        return currentVersionFilePath;
+    }
+
+    public void setCurrentVersionFilePath(String currentVersionFilePath) {
+        this.currentVersionFilePath = currentVersionFilePath;
+    }
+
+    public PreviewStatus getPreviewStatus() {
+        return previewStatus;
+    }
+
+    public void setPreviewStatus(PreviewStatus previewStatus) {
+        this.previewStatus = previewStatus;
+    }
+
     // public String getCreatedByUsername() {
     //     return createdByUsername;
     // }
@@ -1,5 +1,6 @@
 package com.contract.backend.common.dto;
 
+import com.contract.backend.common.Entity.enumm.PreviewStatus;
 import com.contract.backend.common.Entity.enumm.VersionStatus; // VersionStatus enum import
 import java.time.LocalDateTime;
 import java.util.List;
@@ -13,6 +14,8 @@ public class ContractVersionDetailDTO {
     private LocalDateTime createdAt;
     private String storageProvider;
     private String bucketName;
+    private PreviewStatus previewStatus;
+    private Integer previewPageCount;
     private List<SignatureDetailDTO> signatures; // 해당 버전에 대한 서명 목록
 
     public ContractVersionDetailDTO() {
@@ -83,6 +86,22 @@ public class ContractVersionDetailDTO {
         this.bucketName = bucketName;
     }
 
+    public PreviewStatus getPreviewStatus() {
+        return previewStatus;
+    }
+
+    public void setPreviewStatus(PreviewStatus previewStatus) {
+        this.previewStatus = previewStatus;
+    }
+
+    public Integer getPreviewPageCount() {
+        return previewPageCount;
+    }
+
+    public void setPreviewPageCount(Integer previewPageCount) {
+        this.previewPageCount = previewPageCount;
+    }
+
     public List<SignatureDetailDTO> getSignatures() {
         return signatures;
     }
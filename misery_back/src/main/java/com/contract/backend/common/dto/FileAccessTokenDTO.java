@@ -0,0 +1,24 @@
+package com.contract.backend.common.dto;
+
+import java.time.Instant;
+
+public class FileAccessTokenDTO {
+    private String token;
+    private Long contractVersionId;
+    private Instant expiresAt;
+
+    public FileAccessTokenDTO() {}
+
+    public FileAccessTokenDTO(String token, Long contractVersionId, Instant expiresAt) {
+        this.token = token;
+        this.contractVersionId = contractVersionId;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getToken() { return token; }
+    public void setToken(String token) { this.token = token; }
+    public Long getContractVersionId() { return contractVersionId; }
+    public void setContractVersionId(Long contractVersionId) { this.contractVersionId = contractVersionId; }
+    public Instant getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(Instant expiresAt) { this.expiresAt = expiresAt; }
+}
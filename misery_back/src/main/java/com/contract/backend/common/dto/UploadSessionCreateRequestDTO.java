@@ -0,0 +1,22 @@
+package com.contract.backend.common.dto;
+
+public class UploadSessionCreateRequestDTO {
+    private String fileName;
+    private long totalSize;
+    private Long chunkSize;  // null이면 서버 기본값
+    private String sha256;   // 전체 파일 SHA-256 (선택, 완료 시 검증)
+    private Long contractId; // null이면 새 계약서, 값이 있으면 해당 계약서의 새 버전
+
+    public UploadSessionCreateRequestDTO() {}
+
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+    public long getTotalSize() { return totalSize; }
+    public void setTotalSize(long totalSize) { this.totalSize = totalSize; }
+    public Long getChunkSize() { return chunkSize; }
+    public void setChunkSize(Long chunkSize) { this.chunkSize = chunkSize; }
+    public String getSha256() { return sha256; }
+    public void setSha256(String sha256) { this.sha256 = sha256; }
+    public Long getContractId() { return contractId; }
+    public void setContractId(Long contractId) { this.contractId = contractId; }
+}
@@ -0,0 +1,53 @@
+package com.contract.backend.common.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public class UploadSessionDTO {
+    private String sessionId;
+    private String status;
+    private Long contractId;
+    private String fileName;
+    private long totalSize;
+    private long chunkSize;
+    private int partCount;
+    private List<Integer> receivedParts;
+    private long receivedBytes;
+    private long committedOffset; // 1번 파트부터 빠짐없이 받은 바이트 수 (순차 업로드 재개 위치)
+    private Long contractVersionId;
+    private LocalDateTime expiresAt;
+    private List<String> uploadUrls;           // direct 세션: 파트 번호 순서의 presigned PUT URL
+    private Map<String, String> uploadHeaders; // direct 세션: 파트 업로드 시 함께 보내야 하는 헤더
+
+    public UploadSessionDTO() {}
+
+    public String getSessionId() { return sessionId; }
+    public void setSessionId(String sessionId) { this.sessionId = sessionId; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public Long getContractId() { return contractId; }
+    public void setContractId(Long contractId) { this.contractId = contractId; }
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+    public long getTotalSize() { return totalSize; }
+    public void setTotalSize(long totalSize) { this.totalSize = totalSize; }
+    public long getChunkSize() { return chunkSize; }
+    public void setChunkSize(long chunkSize) { this.chunkSize = chunkSize; }
+    public int getPartCount() { return partCount; }
+    public void setPartCount(int partCount) { this.partCount = partCount; }
+    public List<Integer> getReceivedParts() { return receivedParts; }
+    public void setReceivedParts(List<Integer> receivedParts) { this.receivedParts = receivedParts; }
+    public long getReceivedBytes() { return receivedBytes; }
+    public void setReceivedBytes(long receivedBytes) { this.receivedBytes = receivedBytes; }
+    public long getCommittedOffset() { return committedOffset; }
+    public void setCommittedOffset(long committedOffset) { this.committedOffset = committedOffset; }
+    public Long getContractVersionId() { return contractVersionId; }
+    public void setContractVersionId(Long contractVersionId) { this.contractVersionId = contractVersionId; }
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+    public List<String> getUploadUrls() { return uploadUrls; }
+    public void setUploadUrls(List<String> uploadUrls) { this.uploadUrls = uploadUrls; }
+    public Map<String, String> getUploadHeaders() { return uploadHeaders; }
+    public void setUploadHeaders(Map<String, String> uploadHeaders) { this.uploadHeaders = uploadHeaders; }
+}
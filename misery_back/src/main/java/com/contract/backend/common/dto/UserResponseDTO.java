@@ -5,6 +5,8 @@ public class UserResponseDTO {
     private String username;
     private String email;
 
+    public UserResponseDTO() {}
+
     public UserResponseDTO(Long id, String username, String email) {
         this.id = id;
         this.username = username;
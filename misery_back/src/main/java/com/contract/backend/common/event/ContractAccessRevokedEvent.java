@@ -0,0 +1,24 @@
+package com.contract.backend.common.event;
+
+/**
+ * 계약서 파일 접근 권한이 사라진 이벤트 (커밋 이후 발급된 파일 접근 토큰 철회용)
+ * userUuid 가 null 이면 계약서 전체(삭제), 값이 있으면 해당 참여자만 철회한다.
+ */
+public class ContractAccessRevokedEvent {
+
+    private final Long contractId;
+    private final String userUuid;
+
+    public ContractAccessRevokedEvent(Long contractId, String userUuid) {
+        this.contractId = contractId;
+        this.userUuid = userUuid;
+    }
+
+    public Long getContractId() {
+        return contractId;
+    }
+
+    public String getUserUuid() {
+        return userUuid;
+    }
+}
@@ -0,0 +1,18 @@
+package com.contract.backend.common.event;
+
+/**
+ * 계약서 상세 / 목록에 보이는 내용이 바뀐 이벤트 (커밋 이후 조회 캐시 무효화용)
+ * 트랜잭션 밖(백그라운드 작업)에서 발행하면 바로 처리된다.
+ */
+public class ContractChangedEvent {
+
+    private final Long contractId;
+
+    public ContractChangedEvent(Long contractId) {
+        this.contractId = contractId;
+    }
+
+    public Long getContractId() {
+        return contractId;
+    }
+}
@@ -0,0 +1,17 @@
+package com.contract.backend.common.event;
+
+/**
+ * 계약서 버전 생성 이벤트 (커밋 이후 후처리 파이프라인용)
+ */
+public class ContractVersionCreatedEvent {
+
+    private final Long contractVersionId;
+
+    public ContractVersionCreatedEvent(Long contractVersionId) {
+        this.contractVersionId = contractVersionId;
+    }
+
+    public Long getContractVersionId() {
+        return contractVersionId;
+    }
+}
@@ -0,0 +1,18 @@
+package com.contract.backend.common.event;
+
+/**
+ * 계약서 버전 파일이 업로드 스풀에 기록된 이벤트 (커밋 이후 저장소 전송 시작용)
+ * 전송이 끝나면 ContractVersionCreatedEvent 가 발행된다.
+ */
+public class ContractVersionSpooledEvent {
+
+    private final Long contractVersionId;
+
+    public ContractVersionSpooledEvent(Long contractVersionId) {
+        this.contractVersionId = contractVersionId;
+    }
+
+    public Long getContractVersionId() {
+        return contractVersionId;
+    }
+}
@@ -20,7 +20,18 @@ public enum CustomExceptionEnum {
     ALREADY_SIGNED("이미 해당 버전에 서명했습니다.", HttpStatus.CONFLICT),// 추가; // 추가
     PARTICIPANT_ALREADY_EXISTS("이미 계약에 참여하고 있는 사용자입니다.", HttpStatus.CONFLICT), // 필요시 추가
     CANNOT_ADD_PARTICIPANT("계약에 참여자를 추가할 수 없는 상태입니다.", HttpStatus.BAD_REQUEST),
-    CANNOT_ADD_CREATOR_AS_DIFFERENT_ROLE("자기 자신을 추가할 수 없습니다.", HttpStatus.BAD_REQUEST);
+    CANNOT_ADD_CREATOR_AS_DIFFERENT_ROLE("자기 자신을 추가할 수 없습니다.", HttpStatus.BAD_REQUEST),
+    PREVIEW_NOT_FOUND("미리보기 이미지를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    EXPORT_TOO_LARGE("한 번에 내보낼 수 있는 계약서 수를 초과했습니다.", HttpStatus.BAD_REQUEST),
+    UPLOAD_SPOOL_FULL("업로드 대기 공간이 부족합니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    UPLOAD_SESSION_NOT_FOUND("업로드 세션을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    UPLOAD_SESSION_INVALID("잘못된 업로드 요청입니다.", HttpStatus.BAD_REQUEST),
+    UPLOAD_SESSION_NOT_ACTIVE("이미 완료되었거나 취소된 업로드 세션입니다.", HttpStatus.CONFLICT),
+    UPLOAD_INCOMPLETE("아직 받지 못한 파트가 있습니다.", HttpStatus.CONFLICT),
+    RESUMABLE_UPLOAD_UNSUPPORTED("현재 저장소는 파트 단위 업로드를 지원하지 않습니다.", HttpStatus.BAD_REQUEST),
+    FILE_HASH_MISMATCH("업로드한 파일의 해시가 일치하지 않습니다.", HttpStatus.BAD_REQUEST),
+    FILE_ACCESS_TOKEN_INVALID("파일 접근 토큰이 유효하지 않거나 만료되었습니다.", HttpStatus.UNAUTHORIZED),
+    INVALID_PAGE_CURSOR("잘못된 페이지 커서입니다.", HttpStatus.BAD_REQUEST);
 
 
     private final String message;
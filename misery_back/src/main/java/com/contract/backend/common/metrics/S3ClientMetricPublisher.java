@@ -0,0 +1,100 @@
+package com.contract.backend.common.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AWS SDK 메트릭을 Micrometer로 전달
+ * - storage.s3.api.call: 작업(PutObject/GetObject/HeadObject ...)별 지연 시간 히스토그램
+ * - storage.s3.retries: 작업별 재시도 횟수
+ * - storage.s3.pool.*: 커넥션 풀 포화도 (가장 최근 요청 시점 값)
+ */
+public class S3ClientMetricPublisher implements MetricPublisher {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    private final AtomicInteger leasedConnections = new AtomicInteger();
+    private final AtomicInteger pendingAcquires = new AtomicInteger();
+    private final AtomicInteger maxConnections = new AtomicInteger();
+
+    public S3ClientMetricPublisher(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("storage.s3.pool.leased", leasedConnections, AtomicInteger::get)
+                .description("사용 중인 S3 HTTP 커넥션 수")
+                .register(meterRegistry);
+        Gauge.builder("storage.s3.pool.pending", pendingAcquires, AtomicInteger::get)
+                .description("커넥션 획득 대기 중인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("storage.s3.pool.max", maxConnections, AtomicInteger::get)
+                .description("S3 HTTP 커넥션 풀 최대 크기")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(MetricCollection metrics) {
+        String operation = first(metrics.metricValues(CoreMetric.OPERATION_NAME), "Unknown");
+        boolean successful = first(metrics.metricValues(CoreMetric.API_CALL_SUCCESSFUL), Boolean.FALSE);
+
+        for (Duration duration : metrics.metricValues(CoreMetric.API_CALL_DURATION)) {
+            timer(operation, successful).record(duration);
+        }
+
+        Integer retries = first(metrics.metricValues(CoreMetric.RETRY_COUNT), 0);
+        if (retries > 0) {
+            meterRegistry.counter("storage.s3.retries", "operation", operation).increment(retries);
+        }
+
+        publishHttpClientMetrics(metrics);
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * 커넥션 풀 메트릭은 ApiCallAttempt > HttpClient 하위 컬렉션에 기록됨
+     */
+    private void publishHttpClientMetrics(MetricCollection metrics) {
+        List<Integer> leased = metrics.metricValues(HttpMetric.LEASED_CONCURRENCY);
+        if (!leased.isEmpty()) {
+            leasedConnections.set(leased.get(leased.size() - 1));
+        }
+        List<Integer> pending = metrics.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES);
+        if (!pending.isEmpty()) {
+            pendingAcquires.set(pending.get(pending.size() - 1));
+        }
+        List<Integer> max = metrics.metricValues(HttpMetric.MAX_CONCURRENCY);
+        if (!max.isEmpty()) {
+            maxConnections.set(max.get(max.size() - 1));
+        }
+
+        for (MetricCollection child : metrics.children()) {
+            publishHttpClientMetrics(child);
+        }
+    }
+
+    private Timer timer(String operation, boolean successful) {
+        return timers.computeIfAbsent(operation + ":" + successful, key -> Timer.builder("storage.s3.api.call")
+                .description("S3 API 호출 지연 시간")
+                .tag("operation", operation)
+                .tag("success", String.valueOf(successful))
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private static <T> T first(List<T> values, T defaultValue) {
+        return values.isEmpty() ? defaultValue : values.get(0);
+    }
+}
@@ -0,0 +1,176 @@
+package com.contract.backend.common.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스토리지 전송량 메트릭 (SDK 메트릭에 포함되지 않는 애플리케이션 레벨 값)
+ */
+@Component
+public class StorageMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public StorageMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param operation put / get
+     */
+    public void recordBytes(String operation, long bytes) {
+        if (bytes > 0) {
+            meterRegistry.counter("storage.bytes.transferred", "operation", operation).increment(bytes);
+        }
+    }
+
+    /**
+     * 기록된 위치에서 읽지 못해 복제본 위치로 대체한 횟수
+     */
+    public void recordReadFailover(String fromLocation) {
+        meterRegistry.counter("storage.router.read.failover", "from", fromLocation).increment();
+    }
+
+    /**
+     * 재배치 작업으로 옮긴 객체 수
+     */
+    public void recordRebalanced(String toLocation) {
+        meterRegistry.counter("storage.router.rebalanced", "to", toLocation).increment();
+    }
+
+    /**
+     * 보관 계층 이동 횟수 (tier: 이동 후 계층)
+     */
+    public void recordTierTransition(String tier) {
+        meterRegistry.counter("storage.lifecycle.transitions", "tier", tier).increment();
+    }
+
+    /**
+     * 청크 저장소 업로드 (logical: 원본 크기, uploaded: 새로 올린 청크 크기)
+     */
+    public void recordChunkedPut(long logicalBytes, long uploadedBytes) {
+        meterRegistry.counter("storage.chunked.logical.bytes").increment(logicalBytes);
+        meterRegistry.counter("storage.chunked.uploaded.bytes").increment(uploadedBytes);
+    }
+
+    /**
+     * 미리보기 Range 요청 수 (선형화 여부별, 미리보기 1회당 요청 수 비교용)
+     */
+    public void recordPreviewRequest(boolean linearized, boolean rangeRequest) {
+        meterRegistry.counter("storage.preview.requests",
+                "linearized", String.valueOf(linearized),
+                "range", String.valueOf(rangeRequest)).increment();
+    }
+
+    /**
+     * 업로드 스풀 → 저장소 전송 (result: stored / retry / gave_up)
+     */
+    public void recordSpoolTransfer(String result) {
+        meterRegistry.counter("storage.spool.transfers", "result", result).increment();
+    }
+
+    /**
+     * 무결성 검사 결과 (method: checksum / rehash, result: VERIFIED / MISMATCH / MISSING / error)
+     */
+    public void recordScrub(String method, String result) {
+        meterRegistry.counter("storage.scrub.objects", "method", method, "result", result).increment();
+    }
+
+    /**
+     * 무결성 검사에서 다시 읽은 바이트 수 (rate 로 처리량 확인)
+     */
+    public void recordScrubbedBytes(long bytes) {
+        meterRegistry.counter("storage.scrub.rehash.bytes").increment(bytes);
+    }
+
+    /**
+     * recheck-interval 안에 검사를 마친 HOT 버전 비율 (0 ~ 1)
+     */
+    public void registerScrubCoverage(Supplier<Number> coverage) {
+        Gauge.builder("storage.scrub.coverage", coverage).register(meterRegistry);
+    }
+
+    /**
+     * hedged read 결과 (outcome: not_needed / primary_won / hedge_won / deadline_exceeded)
+     */
+    public void recordHedgedRead(String outcome) {
+        meterRegistry.counter("storage.read.hedge", "outcome", outcome).increment();
+    }
+
+    /**
+     * GET 첫 바이트 지연
+     * request=primary 는 첫 요청 단독 지연(hedge 가 없었을 때의 분포), request=served 는 실제 응답에 사용된 지연
+     * 두 분포의 p99 차이가 hedge 로 줄어든 꼬리 지연
+     */
+    public void recordFirstByteLatency(String request, long elapsedNanos) {
+        Timer.builder("storage.read.first_byte")
+                .tag("request", request)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void registerHedgeDelay(Supplier<Number> delayMillis) {
+        Gauge.builder("storage.read.hedge.delay", delayMillis).baseUnit("milliseconds").register(meterRegistry);
+    }
+
+    /**
+     * 전체 파일 전송 중 계산한 해시 비교 결과 (result: verified / mismatch)
+     */
+    public void recordStreamVerification(String result) {
+        meterRegistry.counter("storage.integrity.stream", "result", result).increment();
+    }
+
+    /**
+     * 해시 불일치 객체 격리 결과 (result: quarantined / transient / failed)
+     */
+    public void recordQuarantine(String result) {
+        meterRegistry.counter("storage.integrity.quarantine", "result", result).increment();
+    }
+
+    /**
+     * @param result linearized / skipped / failed
+     */
+    public void recordLinearization(String result, long elapsedNanos) {
+        meterRegistry.timer("storage.linearize.duration", "result", result).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 고아 객체 정리 결과 (result: deleted / dry_run / failed), deleted / dry_run 은 회수(예정) 바이트도 기록
+     */
+    public void recordOrphan(String location, String result, long bytes) {
+        meterRegistry.counter("storage.gc.orphans", "location", location, "result", result).increment();
+        if (!"failed".equals(result)) {
+            meterRegistry.counter("storage.gc.reclaimed.bytes", "location", location, "result", result).increment(bytes);
+        }
+    }
+
+    /**
+     * 대역폭 제한을 거쳐 보낸 파일 응답 바이트 (trafficClass: INTERACTIVE / BULK)
+     */
+    public void recordShapedBytes(String trafficClass, long bytes) {
+        meterRegistry.counter("storage.shaping.bytes", "class", trafficClass).increment(bytes);
+    }
+
+    /**
+     * 청크 전송 허가 대기 (limit: user = 사용자별 속도 초과, global = 전체 속도 / 공정 큐 대기)
+     */
+    public void recordShapingDelay(String trafficClass, String limit, long waitNanos) {
+        Timer.builder("storage.shaping.delay")
+                .tag("class", trafficClass)
+                .tag("limit", limit)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void registerShapingGauges(Supplier<Number> queuedChunks, Supplier<Number> activeUsers) {
+        Gauge.builder("storage.shaping.queued", queuedChunks).register(meterRegistry);
+        Gauge.builder("storage.shaping.active_users", activeUsers).register(meterRegistry);
+    }
+}
@@ -4,6 +4,8 @@ import com.contract.backend.common.Entity.BlockchainRecordEntity;
 import com.contract.backend.common.Entity.ContractVersionEntity; // ContractVersionEntity import 추가
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BlockchainRecordRepository extends JpaRepository<BlockchainRecordEntity, Long> {
@@ -11,6 +13,9 @@ public interface BlockchainRecordRepository extends JpaRepository<BlockchainReco
     // ContractVersionEntity 객체로 BlockchainRecordEntity 조회
     Optional<BlockchainRecordEntity> findByContractVersion(ContractVersionEntity contractVersion);
 
+    // 여러 버전의 기록을 한 번에 조회 (내보내기 manifest 용)
+    List<BlockchainRecordEntity> findByContractVersionIn(Collection<ContractVersionEntity> contractVersions);
+
     // 필요한 경우 ContractVersionEntity의 ID로 조회하는 메소드도 추가할 수 있습니다.
     // Optional<BlockchainRecordEntity> findByContractVersion_Id(Long contractVersionId);
 }
\ No newline at end of file
@@ -4,12 +4,24 @@ import com.contract.backend.common.Entity.ContractEntity;
 import com.contract.backend.common.Entity.ContractPartyEntity;
 import com.contract.backend.common.Entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ContractPartyRepository extends JpaRepository<ContractPartyEntity, Long> {
     List<ContractPartyEntity> findByContract(ContractEntity contract);
+
+    // 참여자 사용자 정보까지 한 번에 조회
+    @Query("SELECT cp FROM ContractPartyEntity cp JOIN FETCH cp.party WHERE cp.contract = :contract")
+    List<ContractPartyEntity> findByContractWithParty(@Param("contract") ContractEntity contract);
     List<ContractPartyEntity> findByParty(UserEntity party);
+    List<ContractPartyEntity> findByContractIn(Collection<ContractEntity> contracts);
     Optional<ContractPartyEntity> findByContractAndParty(ContractEntity contract, UserEntity party);
+
+    // 조회 캐시 무효화 대상 (참여자 uuid)
+    @Query("SELECT cp.party.uuid FROM ContractPartyEntity cp WHERE cp.contract.id = :contractId")
+    List<String> findPartyUuidsByContractId(@Param("contractId") Long contractId);
 }
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,23 +31,74 @@ public interface ContractRepository extends JpaRepository<ContractEntity, Long>
             Pageable pageable
     );
     
+    // 커서 페이지네이션: 작성한 계약서 / 참여한 계약서를 각각 (createdAt, id) 내림차순으로 조회 후 병합
+    // OR 조건 대신 두 쿼리로 나눠 각각 인덱스 범위 탐색이 되도록 함
+    @Query("SELECT c FROM ContractEntity c LEFT JOIN FETCH c.currentVersion " +
+           "WHERE c.createdBy = :user AND c.deletedAt IS NULL " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ContractEntity> findCreatedFirstPage(@Param("user") UserEntity user, Pageable pageable);
+
+    @Query("SELECT c FROM ContractEntity c LEFT JOIN FETCH c.currentVersion " +
+           "WHERE c.createdBy = :user AND c.deletedAt IS NULL " +
+           "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ContractEntity> findCreatedAfter(@Param("user") UserEntity user,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    @Query("SELECT c FROM ContractPartyEntity cp JOIN cp.contract c LEFT JOIN FETCH c.currentVersion " +
+           "WHERE cp.party = :user AND c.deletedAt IS NULL " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ContractEntity> findParticipatingFirstPage(@Param("user") UserEntity user, Pageable pageable);
+
+    @Query("SELECT c FROM ContractPartyEntity cp JOIN cp.contract c LEFT JOIN FETCH c.currentVersion " +
+           "WHERE cp.party = :user AND c.deletedAt IS NULL " +
+           "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ContractEntity> findParticipatingAfter(@Param("user") UserEntity user,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    @Query("SELECT COUNT(c) FROM ContractEntity c " +
+           "WHERE (c.createdBy = :user OR EXISTS (" +
+           "    SELECT 1 FROM ContractPartyEntity cp WHERE cp.contract = c AND cp.party = :user)) " +
+           "AND c.deletedAt IS NULL")
+    long countByCreatorOrParticipant(@Param("user") UserEntity user);
+
     // ID로 조회할 때도 삭제되지 않은 것만
     @Query("SELECT c FROM ContractEntity c WHERE c.id = :id AND c.deletedAt IS NULL")
     Optional<ContractEntity> findByIdAndNotDeleted(@Param("id") Long id);
 
-    //검색 메소드
+    // 상세 조회용: 생성자 / 수정자 / 현재 버전을 한 번에 조회
+    @Query("SELECT c FROM ContractEntity c " +
+           "JOIN FETCH c.createdBy " +
+           "LEFT JOIN FETCH c.updatedBy " +
+           "LEFT JOIN FETCH c.currentVersion " +
+           "WHERE c.id = :id AND c.deletedAt IS NULL")
+    Optional<ContractEntity> findDetailById(@Param("id") Long id);
+
+    // 조회 캐시 무효화 대상 (작성자 uuid, 삭제된 계약서 포함)
+    @Query("SELECT c.createdBy.uuid FROM ContractEntity c WHERE c.id = :id")
+    Optional<String> findCreatorUuidById(@Param("id") Long id);
+
+    // 내보내기용 검색 (멤버십 백필 전): 참여자 조인으로 인한 중복 없이 현재 버전까지 한 번에 조회
     @Query("SELECT c FROM ContractEntity c " +
-           "LEFT JOIN ContractPartyEntity cp ON c.id = cp.contract.id " +
-           "WHERE (c.createdBy = :user OR cp.party = :user) " +
+           "LEFT JOIN FETCH c.currentVersion " +
+           "WHERE (c.createdBy = :user OR EXISTS (" +
+           "    SELECT 1 FROM ContractPartyEntity cp WHERE cp.contract = c AND cp.party = :user)) " +
            "AND LOWER(c.title) LIKE LOWER(CONCAT('%', :query, '%')) " +
            "AND c.deletedAt IS NULL " +
            "ORDER BY c.createdAt DESC")
-    List<ContractEntity> searchUserContractsByTitle(
+    List<ContractEntity> searchExportableContracts(
            @Param("user") UserEntity user,
            @Param("query") String query
     );
-    
-    
+
+    // 멤버십 백필 / 정합성 검사용 (삭제된 계약서 포함)
+    List<ContractEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
     List<ContractEntity> findByCreatedBy(UserEntity user);
     List<ContractEntity> findByStatus(ContractStatus status);
 }
\ No newline at end of file
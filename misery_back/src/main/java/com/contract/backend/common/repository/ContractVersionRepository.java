@@ -2,17 +2,27 @@ package com.contract.backend.common.repository;
 
 import com.contract.backend.common.Entity.ContractEntity;
 import com.contract.backend.common.Entity.ContractVersionEntity;
+import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.Entity.enumm.IntegrityStatus;
+import com.contract.backend.common.Entity.enumm.PreviewStatus;
+import com.contract.backend.common.Entity.enumm.StorageTier;
 import com.contract.backend.common.Entity.enumm.VersionStatus;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface ContractVersionRepository extends JpaRepository<ContractVersionEntity, Long> {
     List<ContractVersionEntity> findByContract(ContractEntity contract);
+    List<ContractVersionEntity> findByContractOrderByVersionNumberAsc(ContractEntity contract);
     Optional<ContractVersionEntity> findByContractAndVersionNumber(ContractEntity contract, int versionNumber);
     List<ContractVersionEntity> findByStatus(VersionStatus status);
     
@@ -29,4 +39,226 @@ public interface ContractVersionRepository extends JpaRepository<ContractVersion
            "WHERE cv.filePath = :filePath " +
            "AND cv.contract.deletedAt IS NULL")
     Optional<ContractVersionEntity> findByFilePathAndContractNotDeleted(@Param("filePath") String filePath);
+
+    /**
+     * ID로 계약서 버전 찾기 (삭제되지 않은 계약서만, 파일 접근 토큰용)
+     */
+    @Query("SELECT cv FROM ContractVersionEntity cv " +
+           "WHERE cv.id = :id " +
+           "AND cv.contract.deletedAt IS NULL")
+    Optional<ContractVersionEntity> findByIdAndContractNotDeleted(@Param("id") Long id);
+
+    /**
+     * 파일 해시로 사용자가 접근할 수 있는 버전 찾기 (삭제되지 않은 계약서의 생성자 / 참여자)
+     * 같은 내용을 여러 버전이 공유할 수 있으므로 목록으로 반환
+     */
+    @Query("SELECT cv FROM ContractVersionEntity cv JOIN FETCH cv.contract c " +
+           "WHERE cv.fileHash = :fileHash " +
+           "AND c.deletedAt IS NULL " +
+           "AND (c.createdBy = :user OR EXISTS (SELECT p FROM ContractPartyEntity p WHERE p.contract = c AND p.party = :user)) " +
+           "ORDER BY cv.id")
+    List<ContractVersionEntity> findAccessibleByFileHash(@Param("fileHash") String fileHash, @Param("user") UserEntity user);
+
+    /**
+     * 버전이 참조하는 저장소 키 (id, filePath, servingFilePath) - 고아 객체 정리용
+     */
+    @Query("SELECT cv.id, cv.filePath, cv.servingFilePath FROM ContractVersionEntity cv " +
+           "WHERE cv.id > :afterId ORDER BY cv.id")
+    List<Object[]> findStorageKeysAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    boolean existsByFilePathOrServingFilePath(String filePath, String servingFilePath);
+
+    /**
+     * id 순서로 버전 순회 (백그라운드 저장소 작업용)
+     */
+    List<ContractVersionEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * COLD 계층으로 옮길 버전 (HOT 계층의 ARCHIVED 버전, 보존 기간이 지난 CLOSED 계약의 버전)
+     * 최근 복원된 버전(tierChangedAt >= hotSince)은 제외
+     */
+    @Query("SELECT cv FROM ContractVersionEntity cv JOIN cv.contract c " +
+           "WHERE cv.id > :afterId " +
+           "AND (cv.storageTier IS NULL OR cv.storageTier = :hot) " +
+           "AND (cv.tierChangedAt IS NULL OR cv.tierChangedAt < :hotSince) " +
+           "AND (cv.status = :archived OR (c.status = :closed AND c.updatedAt < :closedBefore)) " +
+           "ORDER BY cv.id")
+    List<ContractVersionEntity> findColdTierCandidates(@Param("afterId") Long afterId,
+                                                       @Param("hot") StorageTier hot,
+                                                       @Param("archived") VersionStatus archived,
+                                                       @Param("closed") ContractStatus closed,
+                                                       @Param("hotSince") LocalDateTime hotSince,
+                                                       @Param("closedBefore") LocalDateTime closedBefore,
+                                                       Pageable pageable);
+
+    List<ContractVersionEntity> findByStorageTierAndTierChangedAtBefore(StorageTier storageTier, LocalDateTime before);
+
+    /**
+     * 현재 계층이 expected 인 경우에만 계층 변경 (동시 복원 요청 중 하나만 성공)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ContractVersionEntity cv SET cv.storageTier = :next, cv.tierChangedAt = :now " +
+           "WHERE cv.id = :id AND cv.storageTier = :expected")
+    int compareAndSetStorageTier(@Param("id") Long id,
+                                 @Param("expected") StorageTier expected,
+                                 @Param("next") StorageTier next,
+                                 @Param("now") LocalDateTime now);
+
+    /**
+     * 재배치: 기록된 위치가 expected 이고 HOT 인 경우에만 provider / bucket 변경
+     * 복사하는 동안 바뀐 다른 열(미리보기 / 선형화 / 무결성)은 건드리지 않고, 그 사이 COLD 로 옮겨졌으면 0
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ContractVersionEntity cv SET cv.storageProvider = :provider, cv.bucketName = :bucketName " +
+           "WHERE cv.id = :id " +
+           "AND (cv.storageProvider = :expectedProvider OR (cv.storageProvider IS NULL AND :expectedProvider IS NULL)) " +
+           "AND (cv.bucketName = :expectedBucketName OR (cv.bucketName IS NULL AND :expectedBucketName IS NULL)) " +
+           "AND (cv.storageTier IS NULL OR cv.storageTier = :hot)")
+    int compareAndSetLocation(@Param("id") Long id,
+                              @Param("expectedProvider") String expectedProvider,
+                              @Param("expectedBucketName") String expectedBucketName,
+                              @Param("provider") String provider,
+                              @Param("bucketName") String bucketName,
+                              @Param("hot") StorageTier hot);
+
+    /**
+     * COLD 이동: 기록된 위치가 expected 이고 HOT 인 경우에만 COLD 위치로 변경하고 선형화 사본 참조 제거
+     * 복사하는 동안 재배치 / 다른 작업이 위치나 계층을 바꿨으면 0
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ContractVersionEntity cv SET cv.storageTier = :cold, cv.tierChangedAt = :now, " +
+           "cv.storageProvider = :provider, cv.bucketName = :bucketName, " +
+           "cv.contentEncoding = :contentEncoding, cv.servingFilePath = NULL " +
+           "WHERE cv.id = :id " +
+           "AND (cv.storageProvider = :expectedProvider OR (cv.storageProvider IS NULL AND :expectedProvider IS NULL)) " +
+           "AND (cv.bucketName = :expectedBucketName OR (cv.bucketName IS NULL AND :expectedBucketName IS NULL)) " +
+           "AND (cv.storageTier IS NULL OR cv.storageTier = :hot)")
+    int moveToCold(@Param("id") Long id,
+                   @Param("expectedProvider") String expectedProvider,
+                   @Param("expectedBucketName") String expectedBucketName,
+                   @Param("provider") String provider,
+                   @Param("bucketName") String bucketName,
+                   @Param("contentEncoding") String contentEncoding,
+                   @Param("hot") StorageTier hot,
+                   @Param("cold") StorageTier cold,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 복원 완료: 복원 중(RESTORING)이고 기록된 위치가 읽어 온 COLD 위치인 경우에만 HOT 위치로 변경
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ContractVersionEntity cv SET cv.storageTier = :hot, cv.tierChangedAt = :now, " +
+           "cv.storageProvider = :provider, cv.bucketName = :bucketName, cv.contentEncoding = NULL " +
+           "WHERE cv.id = :id " +
+           "AND (cv.storageProvider = :expectedProvider OR (cv.storageProvider IS NULL AND :expectedProvider IS NULL)) " +
+           "AND (cv.bucketName = :expectedBucketName OR (cv.bucketName IS NULL AND :expectedBucketName IS NULL)) " +
+           "AND cv.storageTier = :restoring")
+    int completeRestore(@Param("id") Long id,
+                        @Param("expectedProvider") String expectedProvider,
+                        @Param("expectedBucketName") String expectedBucketName,
+                        @Param("provider") String provider,
+                        @Param("bucketName") String bucketName,
+                        @Param("restoring") StorageTier restoring,
+                        @Param("hot") StorageTier hot,
+                        @Param("now") LocalDateTime now);
+
+    /**
+     * 같은 저장소 키를 쓰는 버전의 무결성 상태 기록 (격리된 객체)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ContractVersionEntity cv SET cv.integrityStatus = :status, cv.integrityCheckedAt = :checkedAt " +
+           "WHERE cv.filePath = :filePath")
+    int updateIntegrityByFilePath(@Param("filePath") String filePath,
+                                  @Param("status") IntegrityStatus status,
+                                  @Param("checkedAt") LocalDateTime checkedAt);
+
+    /**
+     * 스풀 전송 완료: UPLOADING 인 경우에만 HOT 으로 바꾸고 실제 저장된 위치 기록
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ContractVersionEntity cv SET cv.storageTier = :hot, cv.tierChangedAt = :now, " +
+           "cv.storageProvider = :provider, cv.bucketName = :bucketName " +
+           "WHERE cv.id = :id AND cv.storageTier = :uploading")
+    int completeUpload(@Param("id") Long id,
+                       @Param("provider") String provider,
+                       @Param("bucketName") String bucketName,
+                       @Param("uploading") StorageTier uploading,
+                       @Param("hot") StorageTier hot,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 무결성 검사 결과 기록
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ContractVersionEntity cv SET cv.integrityStatus = :status, cv.integrityCheckedAt = :checkedAt " +
+           "WHERE cv.id = :id")
+    int updateIntegrity(@Param("id") Long id,
+                        @Param("status") IntegrityStatus status,
+                        @Param("checkedAt") LocalDateTime checkedAt);
+
+    /**
+     * 무결성 검사 대상 (HOT 계층) 수
+     */
+    @Query("SELECT COUNT(cv) FROM ContractVersionEntity cv WHERE cv.storageTier IS NULL OR cv.storageTier = :hot")
+    long countByHotTier(@Param("hot") StorageTier hot);
+
+    /**
+     * since 이후 검사를 마친 HOT 계층 버전 수 (검사 범위 메트릭용)
+     */
+    @Query("SELECT COUNT(cv) FROM ContractVersionEntity cv " +
+           "WHERE (cv.storageTier IS NULL OR cv.storageTier = :hot) AND cv.integrityCheckedAt >= :since")
+    long countHotTierCheckedSince(@Param("hot") StorageTier hot, @Param("since") LocalDateTime since);
+
+    /**
+     * 렌더링 요청이 아직 없는 버전만 PENDING 으로 표시 (중복 렌더링 방지)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ContractVersionEntity cv SET cv.previewStatus = :pending, cv.previewRequestedAt = :now " +
+           "WHERE cv.id = :id AND cv.previewStatus IS NULL")
+    int markPreviewPending(@Param("id") Long id,
+                           @Param("pending") PreviewStatus pending,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * 요청 후 staleBefore 까지 끝나지 않은 PENDING 을 다시 요청한 것으로 표시 (여러 인스턴스 중 하나만 성공)
+     * 요청 시각이 없는 PENDING 은 이 컬럼 도입 전에 요청된 것
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ContractVersionEntity cv SET cv.previewRequestedAt = :now " +
+           "WHERE cv.id = :id AND cv.previewStatus = :pending " +
+           "AND (cv.previewRequestedAt IS NULL OR cv.previewRequestedAt < :staleBefore)")
+    int remarkStalePreviewPending(@Param("id") Long id,
+                                  @Param("pending") PreviewStatus pending,
+                                  @Param("staleBefore") LocalDateTime staleBefore,
+                                  @Param("now") LocalDateTime now);
+
+    @Query("SELECT cv.id FROM ContractVersionEntity cv " +
+           "WHERE cv.previewStatus = :pending " +
+           "AND (cv.previewRequestedAt IS NULL OR cv.previewRequestedAt < :staleBefore) " +
+           "ORDER BY cv.id")
+    List<Long> findStalePreviewPendingIds(@Param("pending") PreviewStatus pending,
+                                          @Param("staleBefore") LocalDateTime staleBefore,
+                                          Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ContractVersionEntity cv SET cv.previewStatus = :status, cv.previewPageCount = :pageCount " +
+           "WHERE cv.id = :id")
+    int updatePreviewStatus(@Param("id") Long id,
+                            @Param("status") PreviewStatus status,
+                            @Param("pageCount") Integer pageCount);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ContractVersionEntity cv SET cv.servingFilePath = :servingFilePath WHERE cv.id = :id")
+    int updateServingFilePath(@Param("id") Long id, @Param("servingFilePath") String servingFilePath);
 }
@@ -4,6 +4,7 @@ package com.contract.backend.common.repository;
 import com.contract.backend.common.Entity.ContractEntity;
 import com.contract.backend.common.Entity.FolderContractEntity;
 import com.contract.backend.common.Entity.FolderEntity;
+import com.contract.backend.common.Entity.UserEntity;
 import com.contract.backend.common.Entity.idClass.FolderContractId;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -28,4 +29,24 @@ public interface FolderContractRepository extends JpaRepository<FolderContractEn
     
     // 특정 계약서의 폴더 연결 삭제용
     void deleteByContract(ContractEntity contract);
+
+    // 내보내기용 (멤버십 백필 전): 사용자가 접근 가능한 계약서와 현재 버전을 한 번에 조회
+    @Query("SELECT c FROM FolderContractEntity fc JOIN fc.contract c " +
+           "LEFT JOIN FETCH c.currentVersion " +
+           "WHERE fc.folder = :folder AND c.deletedAt IS NULL " +
+           "AND (c.createdBy = :user OR EXISTS (" +
+           "    SELECT 1 FROM ContractPartyEntity cp WHERE cp.contract = c AND cp.party = :user)) " +
+           "ORDER BY c.id")
+    List<ContractEntity> findExportableContractsByFolder(@Param("folder") FolderEntity folder,
+                                                         @Param("user") UserEntity user);
+
+    // 내보내기용: 폴더의 계약서마다 멤버십 (user_id, contract_id) 유니크 인덱스로 접근 권한 확인
+    @Query("SELECT c FROM FolderContractEntity fc JOIN fc.contract c " +
+           "LEFT JOIN FETCH c.currentVersion " +
+           "WHERE fc.folder = :folder " +
+           "AND EXISTS (SELECT 1 FROM UserContractMembershipEntity m " +
+           "    WHERE m.user = :user AND m.contract = c AND m.deleted = false) " +
+           "ORDER BY c.id")
+    List<ContractEntity> findMemberContractsByFolder(@Param("folder") FolderEntity folder,
+                                                     @Param("user") UserEntity user);
 }
\ No newline at end of file
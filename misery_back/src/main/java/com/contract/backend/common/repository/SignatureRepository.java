@@ -1,9 +1,12 @@
 package com.contract.backend.common.repository;
 
+import com.contract.backend.common.Entity.ContractEntity;
 import com.contract.backend.common.Entity.ContractVersionEntity;
 import com.contract.backend.common.Entity.SignatureEntity;
 import com.contract.backend.common.Entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,4 +17,8 @@ public interface SignatureRepository extends JpaRepository<SignatureEntity, Long
 
     // 특정 계약 버전에 대한 모든 서명 목록 조회
     List<SignatureEntity> findAllByContractVersion(ContractVersionEntity contractVersion);
+
+    // 계약서의 모든 버전에 대한 서명을 서명자 정보까지 한 번에 조회
+    @Query("SELECT s FROM SignatureEntity s JOIN FETCH s.signer WHERE s.contractVersion.contract = :contract")
+    List<SignatureEntity> findAllByContractWithSigner(@Param("contract") ContractEntity contract);
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.contract.backend.common.repository;
+
+import com.contract.backend.common.Entity.StorageChunkEntity;
+import com.contract.backend.common.Entity.enumm.ChunkState;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StorageChunkRepository extends JpaRepository<StorageChunkEntity, Long> {
+
+    /**
+     * ACTIVE 청크의 참조 수 증가 (0이면 청크 행이 없거나 삭제 중)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE StorageChunkEntity c SET c.refCount = c.refCount + 1, c.lastReferencedAt = :now " +
+           "WHERE c.bucketName = :bucketName AND c.chunkHash = :chunkHash AND c.state = :active")
+    int incrementRefCount(@Param("bucketName") String bucketName,
+                          @Param("chunkHash") String chunkHash,
+                          @Param("active") ChunkState active,
+                          @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE StorageChunkEntity c SET c.refCount = c.refCount - 1, c.lastReferencedAt = :now " +
+           "WHERE c.bucketName = :bucketName AND c.chunkHash = :chunkHash AND c.refCount > 0")
+    int decrementRefCount(@Param("bucketName") String bucketName,
+                          @Param("chunkHash") String chunkHash,
+                          @Param("now") LocalDateTime now);
+
+    /**
+     * 업로드를 마친 예약 행을 ACTIVE 로 바꾸고 첫 참조를 잡음 (그 사이 GC 가 회수를 시작했으면 0)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE StorageChunkEntity c SET c.state = :active, c.refCount = c.refCount + 1, c.lastReferencedAt = :now " +
+           "WHERE c.id = :id AND c.state = :uploading")
+    int activate(@Param("id") Long id,
+                 @Param("uploading") ChunkState uploading,
+                 @Param("active") ChunkState active,
+                 @Param("now") LocalDateTime now);
+
+    /**
+     * 참조가 없어진 지 grace 기간이 지난 청크 (UPLOADING 이면 업로드가 중단된 예약)
+     */
+    List<StorageChunkEntity> findByStateAndRefCountAndLastReferencedAtBefore(
+            ChunkState state, int refCount, LocalDateTime before, Pageable pageable);
+
+    /**
+     * 여전히 참조가 없고 상태가 expected 인 경우에만 삭제 중으로 표시 (이후 참조 증가는 실패하고 업로더는 새로 업로드)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE StorageChunkEntity c SET c.state = :deleting " +
+           "WHERE c.id = :id AND c.refCount = 0 AND c.state = :expected")
+    int markDeleting(@Param("id") Long id,
+                     @Param("expected") ChunkState expected,
+                     @Param("deleting") ChunkState deleting);
+}
@@ -0,0 +1,23 @@
+package com.contract.backend.common.repository;
+
+import com.contract.backend.common.Entity.UploadSessionEntity;
+import com.contract.backend.common.Entity.UploadSessionPartEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UploadSessionPartRepository extends JpaRepository<UploadSessionPartEntity, Long> {
+
+    List<UploadSessionPartEntity> findBySessionOrderByPartNumberAsc(UploadSessionEntity session);
+
+    boolean existsBySession(UploadSessionEntity session);
+
+    Optional<UploadSessionPartEntity> findBySessionAndPartNumber(UploadSessionEntity session, int partNumber);
+
+    @Modifying
+    @Transactional
+    void deleteBySession(UploadSessionEntity session);
+}
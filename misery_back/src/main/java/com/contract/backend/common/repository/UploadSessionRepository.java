@@ -0,0 +1,54 @@
+package com.contract.backend.common.repository;
+
+import com.contract.backend.common.Entity.UploadSessionEntity;
+import com.contract.backend.common.Entity.enumm.UploadSessionStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSessionEntity, String> {
+
+    /**
+     * 현재 상태가 expected 인 경우에만 상태 변경 (완료 / 취소 / 만료 처리 중 하나만 진행)
+     */
+    default int compareAndSetStatus(String id, UploadSessionStatus expected, UploadSessionStatus next) {
+        return compareAndSetStatus(id, expected, next, LocalDateTime.now());
+    }
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE UploadSessionEntity s SET s.status = :next, s.statusChangedAt = :now " +
+           "WHERE s.id = :id AND s.status = :expected")
+    int compareAndSetStatus(@Param("id") String id,
+                            @Param("expected") UploadSessionStatus expected,
+                            @Param("next") UploadSessionStatus next,
+                            @Param("now") LocalDateTime now);
+
+    List<UploadSessionEntity> findByStatus(UploadSessionStatus status, Pageable pageable);
+
+    /**
+     * before 이전부터 status 에 머물러 있는 세션 (상태 변경 시각 컬럼 도입 전 세션은 생성 시각 기준)
+     */
+    @Query("SELECT s FROM UploadSessionEntity s " +
+           "WHERE s.status = :status AND COALESCE(s.statusChangedAt, s.createdAt) < :before")
+    List<UploadSessionEntity> findStaleByStatus(@Param("status") UploadSessionStatus status,
+                                                @Param("before") LocalDateTime before,
+                                                Pageable pageable);
+
+    List<UploadSessionEntity> findByStatusAndExpiresAtBefore(UploadSessionStatus status, LocalDateTime before, Pageable pageable);
+
+    /**
+     * 진행 중인 업로드 세션이 쓰고 있는 저장소 키 (고아 객체 정리에서 제외)
+     */
+    @Query("SELECT s.filePath FROM UploadSessionEntity s WHERE s.status IN :statuses")
+    List<String> findFilePathsByStatusIn(@Param("statuses") Collection<UploadSessionStatus> statuses);
+
+    boolean existsByFilePathAndStatusIn(String filePath, Collection<UploadSessionStatus> statuses);
+}
@@ -0,0 +1,68 @@
+package com.contract.backend.common.repository;
+
+import com.contract.backend.common.Entity.ContractEntity;
+import com.contract.backend.common.Entity.UserContractMembershipEntity;
+import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface UserContractMembershipRepository extends JpaRepository<UserContractMembershipEntity, Long> {
+
+    Optional<UserContractMembershipEntity> findByUserAndContract(UserEntity user, ContractEntity contract);
+
+    List<UserContractMembershipEntity> findByContractIn(Collection<ContractEntity> contracts);
+
+    // 권한 확인: (user_id, contract_id) 유니크 인덱스 조회
+    @Query("SELECT COUNT(m) > 0 FROM UserContractMembershipEntity m " +
+           "WHERE m.user = :user AND m.contract = :contract AND m.deleted = false")
+    boolean isActiveMember(@Param("user") UserEntity user, @Param("contract") ContractEntity contract);
+
+    // 목록 (오프셋): 정렬 기준 createdAt 은 멤버십의 계약서 생성 시각
+    @Query(value = "SELECT c FROM UserContractMembershipEntity m JOIN m.contract c " +
+                   "WHERE m.user = :user AND m.deleted = false",
+           countQuery = "SELECT COUNT(m) FROM UserContractMembershipEntity m " +
+                        "WHERE m.user = :user AND m.deleted = false")
+    Page<ContractEntity> findContractsByMember(@Param("user") UserEntity user, Pageable pageable);
+
+    // 목록 (커서): (createdAt, contractId) 내림차순
+    @Query("SELECT c FROM UserContractMembershipEntity m JOIN m.contract c LEFT JOIN FETCH c.currentVersion " +
+           "WHERE m.user = :user AND m.deleted = false " +
+           "ORDER BY m.createdAt DESC, c.id DESC")
+    List<ContractEntity> findFirstPage(@Param("user") UserEntity user, Pageable pageable);
+
+    @Query("SELECT c FROM UserContractMembershipEntity m JOIN m.contract c LEFT JOIN FETCH c.currentVersion " +
+           "WHERE m.user = :user AND m.deleted = false " +
+           "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY m.createdAt DESC, c.id DESC")
+    List<ContractEntity> findPageAfter(@Param("user") UserEntity user,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+
+    long countByUserAndDeletedFalse(UserEntity user);
+
+    // 내보내기용 검색: (user_id, deleted, created_at) 범위 탐색 후 제목 필터
+    @Query("SELECT c FROM UserContractMembershipEntity m JOIN m.contract c LEFT JOIN FETCH c.currentVersion " +
+           "WHERE m.user = :user AND m.deleted = false " +
+           "AND LOWER(c.title) LIKE LOWER(CONCAT('%', :query, '%')) " +
+           "ORDER BY m.createdAt DESC, c.id DESC")
+    List<ContractEntity> searchExportableContracts(@Param("user") UserEntity user, @Param("query") String query);
+
+    @Modifying
+    @Query("UPDATE UserContractMembershipEntity m SET m.deleted = true WHERE m.contract = :contract")
+    int markDeleted(@Param("contract") ContractEntity contract);
+
+    @Modifying
+    @Query("UPDATE UserContractMembershipEntity m SET m.status = :status WHERE m.contract = :contract")
+    int updateStatus(@Param("contract") ContractEntity contract, @Param("status") ContractStatus status);
+}
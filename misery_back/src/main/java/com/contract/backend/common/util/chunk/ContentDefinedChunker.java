@@ -0,0 +1,112 @@
+package com.contract.backend.common.util.chunk;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.SplittableRandom;
+
+/**
+ * 내용 기반 청크 분할 (FastCDC, gear rolling hash + normalized chunking)
+ *
+ * 경계가 내용으로 결정되므로 파일 중간에 몇 페이지가 바뀌어도 변경 위치 주변 청크만 달라지고
+ * 나머지 청크의 해시는 이전 버전과 같게 유지된다.
+ */
+public final class ContentDefinedChunker {
+
+    private static final long[] GEAR = new long[256];
+
+    static {
+        // 고정 시드: 청크 경계가 재기동 / 인스턴스와 무관하게 같아야 중복 제거가 됨
+        SplittableRandom random = new SplittableRandom(0x5EED_C0DE_CAFEL);
+        for (int i = 0; i < GEAR.length; i++) {
+            GEAR[i] = random.nextLong();
+        }
+    }
+
+    private final int minSize;
+    private final int avgSize;
+    private final int maxSize;
+    // 평균 크기 전에는 조건을 엄격하게, 이후에는 느슨하게 하여 크기 분포를 평균 근처로 모음
+    private final long maskS;
+    private final long maskL;
+
+    public ContentDefinedChunker(int minSize, int avgSize, int maxSize) {
+        if (minSize <= 0 || minSize > avgSize || avgSize > maxSize || Integer.bitCount(avgSize) != 1) {
+            throw new IllegalArgumentException("청크 크기 설정이 잘못되었습니다 (min <= avg <= max, avg는 2의 거듭제곱): "
+                    + minSize + "/" + avgSize + "/" + maxSize);
+        }
+        this.minSize = minSize;
+        this.avgSize = avgSize;
+        this.maxSize = maxSize;
+        int bits = Integer.numberOfTrailingZeros(avgSize);
+        this.maskS = topBits(bits + 1);
+        this.maskL = topBits(bits - 1);
+    }
+
+    @FunctionalInterface
+    public interface ChunkHandler {
+        void onChunk(byte[] data, int offset, int length) throws IOException;
+    }
+
+    /**
+     * 스트림을 청크로 나누어 순서대로 전달 (data 배열은 호출 후 재사용되므로 필요하면 복사)
+     */
+    public void split(InputStream in, ChunkHandler handler) throws IOException {
+        byte[] buffer = new byte[maxSize * 2];
+        int start = 0;
+        int end = 0;
+        boolean eof = false;
+
+        while (true) {
+            if (!eof && end - start < maxSize) {
+                System.arraycopy(buffer, start, buffer, 0, end - start);
+                end -= start;
+                start = 0;
+                while (end < buffer.length) {
+                    int read = in.read(buffer, end, buffer.length - end);
+                    if (read < 0) {
+                        eof = true;
+                        break;
+                    }
+                    end += read;
+                }
+            }
+
+            int available = end - start;
+            if (available == 0) {
+                return;
+            }
+            int length = cutPoint(buffer, start, available);
+            handler.onChunk(buffer, start, length);
+            start += length;
+        }
+    }
+
+    private int cutPoint(byte[] data, int offset, int available) {
+        if (available <= minSize) {
+            return available;
+        }
+        int limit = Math.min(available, maxSize);
+        int normal = Math.min(avgSize, limit);
+
+        long fingerprint = 0;
+        int i = minSize;
+        for (; i < normal; i++) {
+            fingerprint = (fingerprint << 1) + GEAR[data[offset + i] & 0xff];
+            if ((fingerprint & maskS) == 0) {
+                return i + 1;
+            }
+        }
+        for (; i < limit; i++) {
+            fingerprint = (fingerprint << 1) + GEAR[data[offset + i] & 0xff];
+            if ((fingerprint & maskL) == 0) {
+                return i + 1;
+            }
+        }
+        return limit;
+    }
+
+    // 시프트 누적으로 상위 비트가 더 많은 바이트의 영향을 받으므로 상위 비트를 검사
+    private static long topBits(int count) {
+        return count <= 0 ? 0 : -1L << (64 - count);
+    }
+}
@@ -0,0 +1,39 @@
+package com.contract.backend.common.util.range;
+
+/**
+ * 바이트 범위 (start, end 모두 포함)
+ */
+public class ByteRange {
+
+    private final long start;
+    private final long end;
+
+    public ByteRange(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getEnd() {
+        return end;
+    }
+
+    public long length() {
+        return end - start + 1;
+    }
+
+    /**
+     * Content-Range 헤더 값 (예: bytes 0-499/1234)
+     */
+    public String toContentRange(long fileSize) {
+        return "bytes " + start + "-" + end + "/" + fileSize;
+    }
+
+    @Override
+    public String toString() {
+        return start + "-" + end;
+    }
+}
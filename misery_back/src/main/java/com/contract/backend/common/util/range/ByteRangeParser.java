@@ -0,0 +1,106 @@
+package com.contract.backend.common.util.range;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * RFC 7233 Range 헤더 파서
+ * - bytes=start-end, bytes=start-, bytes=-suffix 형식 지원
+ * - 여러 범위(bytes=0-99,200-299) 지원, 겹치거나 인접한 범위는 하나로 병합
+ */
+public final class ByteRangeParser {
+
+    private static final String BYTES_UNIT = "bytes=";
+    private static final Pattern RANGE_SPEC_PATTERN = Pattern.compile("(\\d*)-(\\d*)");
+
+    // 과도한 범위 요청(리소스 고갈 공격) 방지
+    private static final int MAX_RANGES = 100;
+
+    private ByteRangeParser() {
+    }
+
+    /**
+     * Range 헤더 파싱
+     *
+     * @return null: 헤더를 무시하고 전체 응답 (문법 오류 또는 범위 개수 초과)
+     *         빈 리스트: 만족 가능한 범위 없음 (416)
+     *         그 외: 시작 위치 순으로 정렬·병합된 범위 목록
+     */
+    public static List<ByteRange> parse(String rangeHeader, long fileSize) {
+        if (rangeHeader == null || !rangeHeader.startsWith(BYTES_UNIT)) {
+            return null;
+        }
+
+        String[] specs = rangeHeader.substring(BYTES_UNIT.length()).split(",");
+        if (specs.length > MAX_RANGES) {
+            return null;
+        }
+
+        List<ByteRange> ranges = new ArrayList<>();
+        for (String spec : specs) {
+            Matcher matcher = RANGE_SPEC_PATTERN.matcher(spec.trim());
+            if (!matcher.matches()) {
+                return null;
+            }
+
+            String first = matcher.group(1);
+            String last = matcher.group(2);
+            if (first.isEmpty() && last.isEmpty()) {
+                return null;
+            }
+
+            try {
+                if (first.isEmpty()) {
+                    // suffix range: 마지막 N 바이트
+                    long suffixLength = Long.parseLong(last);
+                    if (suffixLength > 0 && fileSize > 0) {
+                        ranges.add(new ByteRange(Math.max(0, fileSize - suffixLength), fileSize - 1));
+                    }
+                    continue;
+                }
+
+                long start = Long.parseLong(first);
+                if (!last.isEmpty() && start > Long.parseLong(last)) {
+                    return null; // 문법적으로 잘못된 범위
+                }
+                if (start < fileSize) {
+                    long end = last.isEmpty() ? fileSize - 1 : Long.parseLong(last);
+                    ranges.add(new ByteRange(start, Math.min(end, fileSize - 1)));
+                }
+            } catch (NumberFormatException e) {
+                return null; // long 범위를 넘는 값
+            }
+        }
+
+        return merge(ranges);
+    }
+
+    /**
+     * 겹치거나 인접한 범위를 병합하여 최소한의 원본 읽기로 줄임
+     */
+    static List<ByteRange> merge(List<ByteRange> ranges) {
+        if (ranges.size() <= 1) {
+            return ranges;
+        }
+
+        List<ByteRange> sorted = new ArrayList<>(ranges);
+        sorted.sort(Comparator.comparingLong(ByteRange::getStart));
+
+        List<ByteRange> merged = new ArrayList<>();
+        ByteRange current = sorted.get(0);
+        for (int i = 1; i < sorted.size(); i++) {
+            ByteRange next = sorted.get(i);
+            if (next.getStart() <= current.getEnd() + 1) {
+                current = new ByteRange(current.getStart(), Math.max(current.getEnd(), next.getEnd()));
+            } else {
+                merged.add(current);
+                current = next;
+            }
+        }
+        merged.add(current);
+        return merged;
+    }
+}
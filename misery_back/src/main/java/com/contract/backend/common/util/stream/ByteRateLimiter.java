@@ -0,0 +1,59 @@
+package com.contract.backend.common.util.stream;
+
+/**
+ * 초당 바이트 수 제한 (여러 스레드가 공유, 요청한 만큼 다음 허용 시각을 뒤로 미루는 방식)
+ * 쉬고 있던 동안 쌓인 여유는 burst 바이트까지만 인정 (토큰 버킷)
+ */
+public class ByteRateLimiter {
+
+    private final long bytesPerSecond;
+    private final long burstNanos;
+    private long nextFreeNanos = System.nanoTime();
+
+    public ByteRateLimiter(long bytesPerSecond) {
+        this(bytesPerSecond, bytesPerSecond);
+    }
+
+    public ByteRateLimiter(long bytesPerSecond, long burstBytes) {
+        if (bytesPerSecond <= 0) {
+            throw new IllegalArgumentException("bytesPerSecond 는 0보다 커야 합니다: " + bytesPerSecond);
+        }
+        this.bytesPerSecond = bytesPerSecond;
+        this.burstNanos = Math.max(0, burstBytes) * 1_000_000_000L / bytesPerSecond;
+    }
+
+    /**
+     * bytes 만큼 사용할 수 있을 때까지 대기
+     */
+    public void acquire(long bytes) throws InterruptedException {
+        sleepNanos(reserve(bytes));
+    }
+
+    /**
+     * bytes 만큼 예약하고 사용 가능 시각까지 남은 시간(ns) 반환 (대기는 호출자가 처리)
+     */
+    public synchronized long reserve(long bytes) {
+        long now = System.nanoTime();
+        long start = Math.max(nextFreeNanos, now - burstNanos);
+        nextFreeNanos = start + bytes * 1_000_000_000L / bytesPerSecond;
+        return start - now;
+    }
+
+    /**
+     * 기다리지 않고 보낼 수 있을 때만 bytes 만큼 예약
+     */
+    public synchronized boolean tryReserve(long bytes) {
+        long now = System.nanoTime();
+        if (nextFreeNanos > now) {
+            return false;
+        }
+        reserve(bytes);
+        return true;
+    }
+
+    public static void sleepNanos(long nanos) throws InterruptedException {
+        if (nanos > 0) {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.contract.backend.common.util.stream;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 쓰는 바이트를 그대로 전달하면서 SHA-256 을 계산하는 출력 스트림
+ * 호출자의 버퍼를 그대로 digest 에 넘기므로 추가 복사가 없다.
+ * 응답 스트림처럼 수명을 다른 곳에서 관리하는 경우를 위해 close 시 감싼 스트림은 닫지 않는다.
+ */
+public class DigestingOutputStream extends FilterOutputStream {
+
+    private final MessageDigest digest;
+    private long count;
+
+    public DigestingOutputStream(OutputStream out) {
+        super(out);
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        digest.update((byte) b);
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        digest.update(b, off, len);
+        count += len;
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * 지금까지 쓴 바이트의 SHA-256 (hex, 한 번만 호출)
+     */
+    public String hexDigest() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
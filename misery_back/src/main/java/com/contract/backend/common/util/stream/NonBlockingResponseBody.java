@@ -0,0 +1,128 @@
+package com.contract.backend.common.util.stream;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 응답 본문을 Servlet 논블로킹 출력(WriteListener)으로 쓰는 StreamingResponseBody
+ *
+ * Tomcat 의 블로킹 쓰기는 소켓 버퍼가 찰 때 Object.wait 로 대기하는데, JDK 21 에서는 이 대기가
+ * 가상 스레드의 캐리어를 고정(pinning)한다. 느린 클라이언트가 캐리어 보정 한도
+ * (jdk.virtualThreadScheduler.maxPoolSize, 기본 256)를 넘으면 모든 전송이 사실상 멈춘다.
+ * 여기서는 쓰기 전에 isReady() 를 확인하고, 쓸 수 없으면 onWritePossible 까지 ReentrantLock 조건으로 대기해
+ * 캐리어를 놓아준다. 감싼 본문 입장에서는 일반 블로킹 스트림과 같다.
+ * 논블로킹 출력을 지원하지 않는 응답(래퍼 등)이면 원래 스트림에 그대로 쓴다.
+ */
+public final class NonBlockingResponseBody {
+
+    private NonBlockingResponseBody() {
+    }
+
+    public static StreamingResponseBody of(StreamingResponseBody body) {
+        return outputStream -> {
+            if (!(outputStream instanceof ServletOutputStream servletOutput)) {
+                body.writeTo(outputStream);
+                return;
+            }
+            AwaitingOutputStream awaiting = new AwaitingOutputStream(servletOutput);
+            try {
+                servletOutput.setWriteListener(awaiting);
+            } catch (IllegalStateException | UnsupportedOperationException e) {
+                body.writeTo(outputStream);
+                return;
+            }
+            body.writeTo(awaiting);
+            // 호출자(Spring)가 이어서 flush 하므로 남은 데이터를 모두 보낸 상태로 반환
+            awaiting.drain();
+        };
+    }
+
+    /**
+     * 쓰기 가능할 때까지 대기한 뒤 위임하는 스트림 (close 는 응답 스트림을 닫지 않음)
+     */
+    private static final class AwaitingOutputStream extends OutputStream implements WriteListener {
+
+        private final ServletOutputStream delegate;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition writable = lock.newCondition();
+        private volatile Throwable error;
+
+        AwaitingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            awaitReady();
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            awaitReady();
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            awaitReady();
+            delegate.flush();
+        }
+
+        void drain() throws IOException {
+            flush();
+            awaitReady();
+        }
+
+        /**
+         * isReady() 가 false 를 반환하면 컨테이너가 쓰기 가능해질 때 onWritePossible 을 한 번 호출함
+         * 확인과 대기를 같은 락 안에서 하므로 그 사이의 알림을 놓치지 않음
+         */
+        private void awaitReady() throws IOException {
+            lock.lock();
+            try {
+                while (true) {
+                    if (error != null) {
+                        throw new IOException("응답 쓰기 실패: " + error.getMessage(), error);
+                    }
+                    if (delegate.isReady()) {
+                        return;
+                    }
+                    writable.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("응답 쓰기 대기 중 중단되었습니다");
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void onWritePossible() {
+            signal();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+            signal();
+        }
+
+        private void signal() {
+            lock.lock();
+            try {
+                writable.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
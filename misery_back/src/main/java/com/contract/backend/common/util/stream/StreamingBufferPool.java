@@ -0,0 +1,56 @@
+package com.contract.backend.common.util.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 파일 스트리밍용 재사용 버퍼 풀
+ * 동시 다운로드가 많아도 요청마다 큰 버퍼를 새로 할당하지 않도록 고정 크기 버퍼를 재사용한다.
+ */
+public class StreamingBufferPool {
+
+    private final int bufferSize;
+    private final BlockingQueue<byte[]> buffers;
+
+    public StreamingBufferPool(int bufferSize, int maxPooledBuffers) {
+        this.bufferSize = bufferSize;
+        this.buffers = new ArrayBlockingQueue<>(maxPooledBuffers);
+    }
+
+    public byte[] acquire() {
+        byte[] buffer = buffers.poll();
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    public void release(byte[] buffer) {
+        if (buffer != null && buffer.length == bufferSize) {
+            buffers.offer(buffer); // 풀이 가득 차면 GC에 맡김
+        }
+    }
+
+    /**
+     * 입력 스트림을 출력 스트림으로 복사
+     * 출력 쓰기가 블로킹되는 동안 읽기도 멈추므로 느린 클라이언트에 대해 자연스럽게 backpressure가 걸린다.
+     */
+    public long copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = acquire();
+        try {
+            long total = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                total += read;
+            }
+            return total;
+        } finally {
+            release(buffer);
+        }
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+}
@@ -4,8 +4,10 @@ import com.contract.backend.common.Entity.ContractEntity;
 import com.contract.backend.common.Entity.ContractPartyEntity;
 import com.contract.backend.common.Entity.UserEntity;
 import com.contract.backend.common.dto.*;
+import com.contract.backend.common.exception.CustomException;
 import com.contract.backend.common.response.ApiResponse; 
 import com.contract.backend.service.AuthService;
+import com.contract.backend.service.ContractExportService;
 import com.contract.backend.service.ContractService;
 
 import org.springframework.data.domain.Page;
@@ -16,6 +18,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/contracts")
@@ -23,13 +26,16 @@ public class ContractController {
 
     private final ContractService contractService;
     private final AuthService authService;
+    private final ContractExportService contractExportService;
 
     public ContractController(
             ContractService contractService,
-            AuthService authService
+            AuthService authService,
+            ContractExportService contractExportService
     ) {
         this.contractService = contractService;
         this.authService = authService;
+        this.contractExportService = contractExportService;
     }
 
     @PostMapping("/upload")
@@ -96,21 +102,46 @@ public class ContractController {
         }
     }
 
+    // cursor 파라미터가 있으면 커서 기반 조회 (첫 페이지는 cursor= 빈 값), 응답의 nextCursor 로 다음 페이지 요청
     @GetMapping 
-    public ResponseEntity<ApiResponse<Page<ContractListDTO>>> getMyContracts(
+    public ResponseEntity<ApiResponse<?>> getMyContracts(
             @AuthenticationPrincipal String uuid, 
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable // 기본 페이지 크기 10, 생성일 내림차순 정렬
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable, // 기본 페이지 크기 10, 생성일 내림차순 정렬
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal
     ) {
         try {
-            
+            if (cursor != null) {
+                ContractCursorPageDTO page = contractService.getContractsForUserByCursor(
+                        uuid, cursor, pageable.getPageSize(), withTotal);
+                return ResponseEntity.ok(ApiResponse.success(page));
+            }
             Page<ContractListDTO> contracts = contractService.getContractsForUser(uuid, pageable);
             return ResponseEntity.ok(ApiResponse.success(contracts));
+        } catch (CustomException e) {
+            throw e; // 잘못된 커서 등은 400 으로 응답
         } catch (Exception e) {
             
             throw new RuntimeException("Failed to retrieve contracts: " + e.getMessage(), e);
         }
     }
 
+    // 제목 검색 결과 ZIP 내보내기
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportContracts(
+            @RequestParam(defaultValue = "") String query,
+            @RequestParam(defaultValue = "true") boolean manifest,
+            @AuthenticationPrincipal String uuid
+    ) {
+        try {
+            ContractExportService.ExportPlan plan = contractExportService.planSearchExport(query, uuid);
+            return contractExportService.stream(plan, manifest);
+        } catch (Exception e) {
+
+            throw new RuntimeException("Export failed: " + e.getMessage(), e);
+        }
+    }
+
     @GetMapping("/{contractId}")
     public ResponseEntity<ApiResponse<ContractDetailDTO>> getContractDetails(
             @PathVariable Long contractId,
@@ -3,70 +3,132 @@ package com.contract.backend.controller;
 import com.contract.backend.common.Entity.ContractEntity;
 import com.contract.backend.common.Entity.ContractVersionEntity;
 import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.Entity.enumm.VersionStatus;
+import com.contract.backend.common.dto.FileAccessTokenDTO;
 import com.contract.backend.common.exception.CustomException;
 import com.contract.backend.common.exception.CustomExceptionEnum;
-import com.contract.backend.common.repository.ContractPartyRepository;
+import com.contract.backend.common.metrics.StorageMetrics;
 import com.contract.backend.common.repository.ContractVersionRepository;
+import com.contract.backend.common.response.ApiResponse;
 import com.contract.backend.service.AuthService;
-import com.contract.backend.service.S3StorageService;
+import com.contract.backend.service.ContractFileStreamingService;
+import com.contract.backend.service.ContractMembershipService;
+import com.contract.backend.service.ContractPreviewService;
+import com.contract.backend.service.FileAccessTokenService;
+import com.contract.backend.service.PdfLinearizationService;
+import com.contract.backend.service.StorageLifecycleService;
+import com.contract.backend.service.StoredFileRef;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-import software.amazon.awssdk.core.ResponseInputStream;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectResponse;
-import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
-import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.servlet.http.HttpServletRequest;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/contracts/files")
 public class ContractFileController {
 
     private static final Logger logger = LoggerFactory.getLogger(ContractFileController.class);
-    private static final Pattern RANGE_PATTERN = Pattern.compile("bytes=(\\d+)-(\\d*)");
 
-    private final S3StorageService s3StorageService;
+    // 미리보기 응답 캐시 정책
+    private static final String PREVIEW_CACHE_CONTROL = "public, max-age=3600"; // 1시간 캐시
+    // 내용 해시 주소 응답: 서명 / 보관된 버전은 내용이 바뀌지 않으므로 1년 캐시, 그 외에는 매번 재검증
+    private static final String IMMUTABLE_CACHE_CONTROL = "private, max-age=31536000, immutable";
+    private static final String REVALIDATE_CACHE_CONTROL = "private, no-cache";
+
     private final AuthService authService;
     private final ContractVersionRepository contractVersionRepository;
-    private final ContractPartyRepository contractPartyRepository;
-    private final S3Client s3Client;
+    private final ContractMembershipService contractMembershipService;
+    private final ContractFileStreamingService contractFileStreamingService;
+    private final StorageLifecycleService storageLifecycleService;
+    private final ContractPreviewService contractPreviewService;
+    private final PdfLinearizationService pdfLinearizationService;
+    private final FileAccessTokenService fileAccessTokenService;
+    private final StorageMetrics storageMetrics;
 
     public ContractFileController(
-            S3StorageService s3StorageService,
             AuthService authService,
             ContractVersionRepository contractVersionRepository,
-            ContractPartyRepository contractPartyRepository,
-            S3Client s3Client
+            ContractMembershipService contractMembershipService,
+            ContractFileStreamingService contractFileStreamingService,
+            StorageLifecycleService storageLifecycleService,
+            ContractPreviewService contractPreviewService,
+            PdfLinearizationService pdfLinearizationService,
+            FileAccessTokenService fileAccessTokenService,
+            StorageMetrics storageMetrics
     ) {
-        this.s3StorageService = s3StorageService;
         this.authService = authService;
         this.contractVersionRepository = contractVersionRepository;
-        this.contractPartyRepository = contractPartyRepository;
-        this.s3Client = s3Client;
+        this.contractMembershipService = contractMembershipService;
+        this.contractFileStreamingService = contractFileStreamingService;
+        this.storageLifecycleService = storageLifecycleService;
+        this.contractPreviewService = contractPreviewService;
+        this.pdfLinearizationService = pdfLinearizationService;
+        this.fileAccessTokenService = fileAccessTokenService;
+        this.storageMetrics = storageMetrics;
+    }
+
+    /**
+     * 파일 접근 토큰 발급
+     * 권한을 한 번 확인하고, 이후 미리보기 / 다운로드 요청에 token 파라미터로 전달하면 DB 조회 없이 제공
+     * COLD 계층이면 토큰 대신 복원 시작 후 202 (Retry-After)
+     */
+    @PostMapping("/token")
+    public ResponseEntity<?> issueFileAccessToken(
+            @RequestParam("path") String filePath,
+            @AuthenticationPrincipal String userUuid
+    ) {
+        try {
+            UserEntity user = authService.findByUuid(userUuid);
+            ContractVersionEntity contractVersion = findContractVersionByFilePath(filePath);
+            validateUserAccess(user, contractVersion.getContract());
+
+            Optional<ResponseEntity<StreamingResponseBody>> restoring =
+                    storageLifecycleService.restoringResponse(contractVersion);
+            if (restoring.isPresent()) {
+                return restoring.get();
+            }
+
+            FileAccessTokenDTO token = fileAccessTokenService.issue(userUuid, contractVersion,
+                    pdfLinearizationService.previewRef(contractVersion), generateFileName(contractVersion));
+            return ResponseEntity.ok(ApiResponse.success(token));
+
+        } catch (CustomException e) {
+            logger.error("파일 접근 토큰 발급 권한 오류 - filePath: {}, userUuid: {}, error: {}", filePath, userUuid, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            logger.error("파일 접근 토큰 발급 중 오류 발생 - filePath: {}, error: {}", filePath, e.getMessage(), e);
+            throw new RuntimeException("파일 접근 토큰 발급에 실패했습니다: " + e.getMessage(), e);
+        }
     }
 
     /**
      * 계약서 파일 미리보기 (스트리밍 지원)
      * 경로 변수 대신 쿼리 파라미터 사용
+     * 권한 검증과 저장소 요청 시작까지만 요청 스레드에서 처리하고, 본문 전송은 가상 스레드에서 스트리밍
+     * token 이 있으면 권한 / 위치 조회 없이 토큰 정보로 제공
      */
     @GetMapping("/preview")
-    public ResponseEntity<Resource> previewContractFile(
-            @RequestParam("path") String filePath,  // 쿼리 파라미터로 변경
+    public ResponseEntity<StreamingResponseBody> previewContractFile(
+            @RequestParam(value = "path", required = false) String filePath,  // 쿼리 파라미터로 변경
+            @RequestParam(value = "token", required = false) String token,
             @AuthenticationPrincipal String userUuid,
             @RequestHeader(value = "Range", required = false) String rangeHeader,
             HttpServletRequest request
     ) {
+        if (token != null) {
+            return previewWithToken(token, userUuid, rangeHeader, request);
+        }
         try {
             logger.info("파일 미리보기 요청 - filePath: {}, userUuid: {}, range: {}", filePath, userUuid, rangeHeader);
 
@@ -77,18 +139,7 @@ public class ContractFileController {
             ContractVersionEntity contractVersion = findContractVersionByFilePath(filePath);
             validateUserAccess(user, contractVersion.getContract());
 
-            // 3. S3에서 파일 정보 조회
-            String bucketName = s3StorageService.getBucketName();
-            HeadObjectResponse headResponse = getFileMetadata(bucketName, filePath);
-            long fileSize = headResponse.contentLength();
-            String contentType = determineContentType(headResponse.contentType());
-
-            // 4. Range 헤더 처리
-            if (rangeHeader != null && rangeHeader.startsWith("bytes=")) {
-                return handleRangeRequest(bucketName, filePath, rangeHeader, fileSize, contentType);
-            } else {
-                return handleFullRequest(bucketName, filePath, fileSize, contentType);
-            }
+            return servePreview(contractVersion, rangeHeader, request);
 
         } catch (CustomException e) {
             logger.error("권한 오류 - filePath: {}, userUuid: {}, error: {}", filePath, userUuid, e.getMessage());
@@ -102,12 +153,19 @@ public class ContractFileController {
     /**
      * 계약서 파일 다운로드
      * 쿼리 파라미터 방식으로 변경
+     * token 이 있으면 권한 / 위치 조회 없이 토큰 정보로 제공
      */
     @GetMapping("/download")
-    public ResponseEntity<Resource> downloadContractFile(
-            @RequestParam("path") String filePath,  // 쿼리 파라미터로 변경
-            @AuthenticationPrincipal String userUuid
+    public ResponseEntity<StreamingResponseBody> downloadContractFile(
+            @RequestParam(value = "path", required = false) String filePath,  // 쿼리 파라미터로 변경
+            @RequestParam(value = "token", required = false) String token,
+            @AuthenticationPrincipal String userUuid,
+            @RequestHeader(value = "Range", required = false) String rangeHeader,
+            HttpServletRequest request
     ) {
+        if (token != null) {
+            return downloadWithToken(token, userUuid, rangeHeader, request);
+        }
         try {
             logger.info("파일 다운로드 요청 - filePath: {}, userUuid: {}", filePath, userUuid);
 
@@ -116,17 +174,7 @@ public class ContractFileController {
             ContractVersionEntity contractVersion = findContractVersionByFilePath(filePath);
             validateUserAccess(user, contractVersion.getContract());
 
-            // 2. S3에서 파일 다운로드
-            String bucketName = s3StorageService.getBucketName();
-            ResponseInputStream<GetObjectResponse> s3Object = downloadFromS3(bucketName, filePath);
-            
-            // 3. 파일명 생성
-            String fileName = generateFileName(contractVersion);
-
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
-                    .header(HttpHeaders.CONTENT_TYPE, "application/pdf")
-                    .body(new InputStreamResource(s3Object));
+            return serveDownload(contractVersion, rangeHeader, request);
 
         } catch (CustomException e) {
             logger.error("다운로드 권한 오류 - filePath: {}, userUuid: {}, error: {}", filePath, userUuid, e.getMessage());
@@ -138,155 +186,264 @@ public class ContractFileController {
     }
 
     /**
-     * S3에서 파일 메타데이터 조회
+     * 내용 해시(fileHash) 주소로 파일 제공
+     * 같은 주소의 내용은 바뀌지 않으므로 서명 / 보관된 버전은 immutable 캐시, ETag 는 fileHash
+     * 권한은 매번 확인 (해시가 같은 버전 중 접근 가능한 것이 하나라도 있어야 함)
+     * 캐시가 목적이므로 presigned URL 리다이렉트는 사용하지 않음
      */
-    private HeadObjectResponse getFileMetadata(String bucketName, String filePath) {
+    @GetMapping("/content/{fileHash}")
+    public ResponseEntity<StreamingResponseBody> getContentByHash(
+            @PathVariable("fileHash") String fileHash,
+            @RequestParam(value = "download", defaultValue = "false") boolean download,
+            @AuthenticationPrincipal String userUuid,
+            @RequestHeader(value = "Range", required = false) String rangeHeader,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+            HttpServletRequest request
+    ) {
         try {
-            HeadObjectRequest headRequest = HeadObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(filePath)
-                    .build();
-            return s3Client.headObject(headRequest);
+            if (!fileHash.matches("[0-9a-f]{64}")) {
+                throw new CustomException(CustomExceptionEnum.CONTRACT_NOT_FOUND);
+            }
+
+            // 1. 사용자 인증 및 접근 가능한 버전 조회
+            UserEntity user = authService.findByUuid(userUuid);
+            List<ContractVersionEntity> versions = contractVersionRepository.findAccessibleByFileHash(fileHash, user);
+            if (versions.isEmpty()) {
+                logger.warn("파일 해시 접근 불가 - fileHash: {}, userUuid: {}", fileHash, userUuid);
+                throw new CustomException(CustomExceptionEnum.CONTRACT_NOT_FOUND);
+            }
+
+            // 2. 캐시 정책 (같은 내용의 버전 중 하나라도 서명 / 보관되었으면 내용 고정)
+            boolean immutable = versions.stream().anyMatch(v ->
+                    v.getStatus() == VersionStatus.SIGNED || v.getStatus() == VersionStatus.ARCHIVED);
+            String cacheControl = immutable ? IMMUTABLE_CACHE_CONTROL : REVALIDATE_CACHE_CONTROL;
+            String eTag = "\"" + fileHash + "\"";
+            if (ifNoneMatch != null && (ifNoneMatch.contains(eTag) || ifNoneMatch.trim().equals("*"))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .header(HttpHeaders.ETAG, eTag)
+                        .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                        .build();
+            }
+
+            // 3. HOT 계층 버전 우선, 없으면 복원 시작 후 202 (Retry-After)
+            ContractVersionEntity contractVersion = versions.stream()
+                    .filter(StorageLifecycleService::isHot)
+                    .findFirst()
+                    .orElse(versions.get(0));
+            Optional<ResponseEntity<StreamingResponseBody>> restoring =
+                    storageLifecycleService.restoringResponse(contractVersion);
+            if (restoring.isPresent()) {
+                return restoring.get();
+            }
+
+            ContentDisposition disposition = download
+                    ? ContentDisposition.attachment().filename(generateFileName(contractVersion), StandardCharsets.UTF_8).build()
+                    : ContentDisposition.inline().build();
+            return contractFileStreamingService.serve(StoredFileRef.of(contractVersion), rangeHeader, disposition,
+                    cacheControl, eTag, request);
+
+        } catch (CustomException e) {
+            logger.error("파일 해시 조회 오류 - fileHash: {}, userUuid: {}, error: {}", fileHash, userUuid, e.getMessage());
+            throw e;
         } catch (Exception e) {
-            logger.error("S3 파일 메타데이터 조회 실패 - bucket: {}, key: {}", bucketName, filePath, e);
-            throw new RuntimeException("파일 정보를 가져올 수 없습니다", e);
+            logger.error("파일 해시 조회 중 오류 발생 - fileHash: {}, error: {}", fileHash, e.getMessage(), e);
+            throw new RuntimeException("파일을 불러올 수 없습니다: " + e.getMessage(), e);
         }
     }
 
     /**
-     * S3에서 파일 다운로드
+     * 버전에 기록된 위치로 미리보기 (권한 확인 후)
      */
-    private ResponseInputStream<GetObjectResponse> downloadFromS3(String bucketName, String filePath) {
-        try {
-            GetObjectRequest getRequest = GetObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(filePath)
-                    .build();
-            return s3Client.getObject(getRequest);
-        } catch (Exception e) {
-            logger.error("S3 파일 다운로드 실패 - bucket: {}, key: {}", bucketName, filePath, e);
-            throw new RuntimeException("파일을 다운로드할 수 없습니다", e);
+    private ResponseEntity<StreamingResponseBody> servePreview(
+            ContractVersionEntity contractVersion, String rangeHeader, HttpServletRequest request) throws IOException {
+        // COLD 계층이면 복원 시작 후 202 (Retry-After)
+        Optional<ResponseEntity<StreamingResponseBody>> restoring =
+                storageLifecycleService.restoringResponse(contractVersion);
+        if (restoring.isPresent()) {
+            return restoring.get();
+        }
+
+        // 선형화 사본이 있으면 사본, 없으면 버전에 기록된 원본 제공 (리다이렉트 모드면 presigned URL로 302)
+        StoredFileRef file = pdfLinearizationService.previewRef(contractVersion);
+        storageMetrics.recordPreviewRequest(contractVersion.getServingFilePath() != null, rangeHeader != null);
+        ContentDisposition disposition = ContentDisposition.inline().build();
+
+        Optional<ResponseEntity<StreamingResponseBody>> redirect =
+                contractFileStreamingService.redirectIfEnabled(file, disposition);
+        if (redirect.isPresent()) {
+            return redirect.get();
         }
+        return contractFileStreamingService.serve(file, rangeHeader, disposition, PREVIEW_CACHE_CONTROL, request);
     }
 
     /**
-     * Content-Type 결정
+     * 버전에 기록된 위치로 다운로드 (권한 확인 후, 이어받기용 Range 지원)
      */
-    private String determineContentType(String s3ContentType) {
-        if (s3ContentType == null || !s3ContentType.equals("application/pdf")) {
-            return "application/pdf"; // 기본값으로 PDF 설정
+    private ResponseEntity<StreamingResponseBody> serveDownload(
+            ContractVersionEntity contractVersion, String rangeHeader, HttpServletRequest request) throws IOException {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(generateFileName(contractVersion), StandardCharsets.UTF_8)
+                .build();
+
+        // COLD 계층이면 복원 시작 후 202 (Retry-After)
+        Optional<ResponseEntity<StreamingResponseBody>> restoring =
+                storageLifecycleService.restoringResponse(contractVersion);
+        if (restoring.isPresent()) {
+            return restoring.get();
+        }
+
+        StoredFileRef file = StoredFileRef.of(contractVersion);
+        Optional<ResponseEntity<StreamingResponseBody>> redirect =
+                contractFileStreamingService.redirectIfEnabled(file, disposition);
+        if (redirect.isPresent()) {
+            return redirect.get();
         }
-        return s3ContentType;
+        return contractFileStreamingService.serve(file, rangeHeader, disposition, null, request);
     }
 
     /**
-     * Range 요청 처리 (부분 콘텐츠 스트리밍)
+     * 토큰 발급 이후 파일이 옮겨진 경우(COLD 이동 / 격리 / 재배치) DB 에 기록된 현재 위치로 다시 처리
+     * 토큰의 버전 ID(PK)로 버전을 찾고 권한도 다시 확인
      */
-    private ResponseEntity<Resource> handleRangeRequest(
-            String bucketName, 
-            String filePath, 
-            String rangeHeader, 
-            long fileSize, 
-            String contentType
-    ) {
-        try {
-            // Range 헤더 파싱
-            RangeInfo rangeInfo = parseRangeHeader(rangeHeader, fileSize);
-            if (rangeInfo == null) {
-                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
-                        .header("Content-Range", "bytes */" + fileSize)
-                        .build();
-            }
-
-            long contentLength = rangeInfo.end - rangeInfo.start + 1;
-
-            // S3에서 Range 요청
-            ResponseInputStream<GetObjectResponse> s3Object = downloadRangeFromS3(
-                    bucketName, filePath, rangeInfo.start, rangeInfo.end);
+    private ContractVersionEntity findTokenVersion(FileAccessTokenService.Claims claims, String userUuid) {
+        UserEntity user = authService.findByUuid(userUuid);
+        ContractVersionEntity contractVersion = contractVersionRepository.findByIdAndContractNotDeleted(claims.getVersionId())
+                .orElseThrow(() -> {
+                    logger.error("토큰의 계약서 버전을 찾을 수 없음: {}", claims.getVersionId());
+                    return new CustomException(CustomExceptionEnum.CONTRACT_NOT_FOUND);
+                });
+        validateUserAccess(user, contractVersion.getContract());
+        return contractVersion;
+    }
 
-            logger.debug("Range 요청 처리 - start: {}, end: {}, contentLength: {}", 
-                    rangeInfo.start, rangeInfo.end, contentLength);
+    /**
+     * 토큰으로 미리보기 (서명 / 만료 / 철회 여부만 확인, DB 조회 없음)
+     * 토큰의 위치에서 파일을 찾지 못하면 DB 경로로 대체
+     * presigned 리다이렉트는 위치를 확인하지 않으므로 처음부터 DB 위치 사용 (버전 PK 조회)
+     */
+    private ResponseEntity<StreamingResponseBody> previewWithToken(
+            String token, String userUuid, String rangeHeader, HttpServletRequest request) {
+        FileAccessTokenService.Claims claims = fileAccessTokenService.verify(token, userUuid);
+        if (contractFileStreamingService.isPresignedRedirectEnabled()) {
+            return previewFromDatabase(claims, userUuid, rangeHeader, request, null);
+        }
+        try {
+            StoredFileRef file = claims.previewFile();
+            storageMetrics.recordPreviewRequest(claims.hasServingCopy(), rangeHeader != null);
+            ContentDisposition disposition = ContentDisposition.inline().build();
+            return contractFileStreamingService.serve(file, rangeHeader, disposition, PREVIEW_CACHE_CONTROL, request);
 
-            return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
-                    .header(HttpHeaders.CONTENT_TYPE, contentType)
-                    .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(contentLength))
-                    .header(HttpHeaders.CONTENT_RANGE, 
-                            "bytes " + rangeInfo.start + "-" + rangeInfo.end + "/" + fileSize)
-                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline")
-                    .header(HttpHeaders.CACHE_CONTROL, "public, max-age=3600") // 1시간 캐시
-                    .body(new InputStreamResource(s3Object));
+        } catch (Exception e) {
+            return previewFromDatabase(claims, userUuid, rangeHeader, request, e);
+        }
+    }
 
+    private ResponseEntity<StreamingResponseBody> previewFromDatabase(FileAccessTokenService.Claims claims, String userUuid,
+                                                                      String rangeHeader, HttpServletRequest request,
+                                                                      Exception tokenLocationError) {
+        if (tokenLocationError != null) {
+            logger.info("토큰 위치에서 파일을 찾지 못해 DB 위치로 미리보기 - versionId: {}, error: {}",
+                    claims.getVersionId(), tokenLocationError.getMessage());
+        }
+        try {
+            return servePreview(findTokenVersion(claims, userUuid), rangeHeader, request);
+        } catch (CustomException e) {
+            throw e;
         } catch (Exception e) {
-            logger.error("Range 요청 처리 중 오류: {}", e.getMessage(), e);
-            throw new RuntimeException("부분 콘텐츠 요청 처리 실패", e);
+            logger.error("파일 미리보기 중 오류 발생 - versionId: {}, error: {}", claims.getVersionId(), e.getMessage(), e);
+            throw new RuntimeException("파일을 불러올 수 없습니다: " + e.getMessage(), e);
         }
     }
 
     /**
-     * 전체 파일 요청 처리
+     * 토큰으로 다운로드 (서명 / 만료 / 철회 여부만 확인, DB 조회 없음)
+     * 토큰의 위치에서 파일을 찾지 못하면 DB 경로로 대체
+     * presigned 리다이렉트는 위치를 확인하지 않으므로 처음부터 DB 위치 사용 (버전 PK 조회)
      */
-    private ResponseEntity<Resource> handleFullRequest(
-            String bucketName, 
-            String filePath, 
-            long fileSize, 
-            String contentType
-    ) {
+    private ResponseEntity<StreamingResponseBody> downloadWithToken(
+            String token, String userUuid, String rangeHeader, HttpServletRequest request) {
+        FileAccessTokenService.Claims claims = fileAccessTokenService.verify(token, userUuid);
+        if (contractFileStreamingService.isPresignedRedirectEnabled()) {
+            return downloadFromDatabase(claims, userUuid, rangeHeader, request, null);
+        }
         try {
-            ResponseInputStream<GetObjectResponse> s3Object = downloadFromS3(bucketName, filePath);
-
-            logger.debug("전체 파일 요청 처리 - fileSize: {}", fileSize);
+            StoredFileRef file = claims.originalFile();
+            ContentDisposition disposition = ContentDisposition.attachment()
+                    .filename(claims.getFileName(), StandardCharsets.UTF_8)
+                    .build();
+            return contractFileStreamingService.serve(file, rangeHeader, disposition, null, request);
 
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_TYPE, contentType)
-                    .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(fileSize))
-                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline")
-                    .header(HttpHeaders.CACHE_CONTROL, "public, max-age=3600") // 1시간 캐시
-                    .body(new InputStreamResource(s3Object));
+        } catch (Exception e) {
+            return downloadFromDatabase(claims, userUuid, rangeHeader, request, e);
+        }
+    }
 
+    private ResponseEntity<StreamingResponseBody> downloadFromDatabase(FileAccessTokenService.Claims claims, String userUuid,
+                                                                       String rangeHeader, HttpServletRequest request,
+                                                                       Exception tokenLocationError) {
+        if (tokenLocationError != null) {
+            logger.info("토큰 위치에서 파일을 찾지 못해 DB 위치로 다운로드 - versionId: {}, error: {}",
+                    claims.getVersionId(), tokenLocationError.getMessage());
+        }
+        try {
+            return serveDownload(findTokenVersion(claims, userUuid), rangeHeader, request);
+        } catch (CustomException e) {
+            throw e;
         } catch (Exception e) {
-            logger.error("전체 파일 요청 처리 중 오류: {}", e.getMessage(), e);
-            throw new RuntimeException("파일 요청 처리 실패", e);
+            logger.error("파일 다운로드 중 오류 발생 - versionId: {}, error: {}", claims.getVersionId(), e.getMessage(), e);
+            throw new RuntimeException("파일 다운로드에 실패했습니다: " + e.getMessage(), e);
         }
     }
 
     /**
-     * Range 헤더 파싱
+     * 계약서 첫 페이지 썸네일 (목록 / 대시보드용)
+     * 렌더링 전이면 202 + Retry-After, 이후에는 immutable 캐시
      */
-    private RangeInfo parseRangeHeader(String rangeHeader, long fileSize) {
-        Matcher matcher = RANGE_PATTERN.matcher(rangeHeader);
-        if (!matcher.matches()) {
-            return null;
-        }
+    @GetMapping("/thumbnail")
+    public ResponseEntity<StreamingResponseBody> getThumbnail(
+            @RequestParam("path") String filePath,
+            @AuthenticationPrincipal String userUuid,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
+    ) {
+        try {
+            UserEntity user = authService.findByUuid(userUuid);
+            ContractVersionEntity contractVersion = findContractVersionByFilePath(filePath);
+            validateUserAccess(user, contractVersion.getContract());
 
-        long start = Long.parseLong(matcher.group(1));
-        long end = matcher.group(2).isEmpty() ? fileSize - 1 : Long.parseLong(matcher.group(2));
+            return contractPreviewService.serveThumbnail(contractVersion, ifNoneMatch);
 
-        // 범위 검증
-        if (start >= fileSize || end >= fileSize || start > end) {
-            return null;
+        } catch (CustomException e) {
+            logger.error("썸네일 조회 오류 - filePath: {}, userUuid: {}, error: {}", filePath, userUuid, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            logger.error("썸네일 조회 중 오류 발생 - filePath: {}, error: {}", filePath, e.getMessage(), e);
+            throw new RuntimeException("썸네일을 불러올 수 없습니다: " + e.getMessage(), e);
         }
-
-        return new RangeInfo(start, end);
     }
 
     /**
-     * S3에서 Range 요청으로 파일 다운로드
+     * 저해상도 페이지 이미지 (page는 1부터)
      */
-    private ResponseInputStream<GetObjectResponse> downloadRangeFromS3(
-            String bucketName, String filePath, long start, long end) {
+    @GetMapping("/page-image")
+    public ResponseEntity<StreamingResponseBody> getPageImage(
+            @RequestParam("path") String filePath,
+            @RequestParam("page") int page,
+            @AuthenticationPrincipal String userUuid,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
+    ) {
         try {
-            GetObjectRequest rangeRequest = GetObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(filePath)
-                    .range("bytes=" + start + "-" + end)
-                    .build();
-            return s3Client.getObject(rangeRequest);
+            UserEntity user = authService.findByUuid(userUuid);
+            ContractVersionEntity contractVersion = findContractVersionByFilePath(filePath);
+            validateUserAccess(user, contractVersion.getContract());
+
+            return contractPreviewService.servePage(contractVersion, page, ifNoneMatch);
+
+        } catch (CustomException e) {
+            logger.error("페이지 이미지 조회 오류 - filePath: {}, page: {}, userUuid: {}, error: {}", filePath, page, userUuid, e.getMessage());
+            throw e;
         } catch (Exception e) {
-            logger.error("S3 Range 요청 실패 - bucket: {}, key: {}, range: {}-{}", 
-                    bucketName, filePath, start, end, e);
-            throw new RuntimeException("부분 파일을 다운로드할 수 없습니다", e);
+            logger.error("페이지 이미지 조회 중 오류 발생 - filePath: {}, page: {}, error: {}", filePath, page, e.getMessage(), e);
+            throw new RuntimeException("페이지 이미지를 불러올 수 없습니다: " + e.getMessage(), e);
         }
     }
 
@@ -305,10 +462,7 @@ public class ContractFileController {
      * 사용자 접근 권한 검증
      */
     private void validateUserAccess(UserEntity user, ContractEntity contract) {
-        boolean isCreator = contract.getCreatedBy().getId().equals(user.getId());
-        boolean isParticipant = contractPartyRepository.findByContractAndParty(contract, user).isPresent();
-
-        if (!isCreator && !isParticipant) {
+        if (!contractMembershipService.isMember(contract, user)) {
             logger.warn("파일 접근 권한 없음 - contractId: {}, userUuid: {}", contract.getId(), user.getUuid());
             throw new CustomException(CustomExceptionEnum.UNAUTHORIZED);
         }
@@ -326,17 +480,4 @@ public class ContractFileController {
         
         return String.format("%s_v%d.pdf", sanitizedTitle, versionNumber);
     }
-
-    /**
-     * Range 정보를 담는 내부 클래스
-     */
-    private static class RangeInfo {
-        final long start;
-        final long end;
-
-        RangeInfo(long start, long end) {
-            this.start = start;
-            this.end = end;
-        }
-    }
-}
\ No newline at end of file
+}
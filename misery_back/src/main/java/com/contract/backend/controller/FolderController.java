@@ -3,12 +3,14 @@ package com.contract.backend.controller;
 
 import com.contract.backend.common.dto.*;
 import com.contract.backend.common.response.ApiResponse;
+import com.contract.backend.service.ContractExportService;
 import com.contract.backend.service.FolderService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -18,9 +20,11 @@ public class FolderController {
 
     private static final Logger logger = LoggerFactory.getLogger(FolderController.class);
     private final FolderService folderService;
+    private final ContractExportService contractExportService;
 
-    public FolderController(FolderService folderService) {
+    public FolderController(FolderService folderService, ContractExportService contractExportService) {
         this.folderService = folderService;
+        this.contractExportService = contractExportService;
     }
 
     /**
@@ -186,4 +190,25 @@ public class FolderController {
             throw new RuntimeException("폴더 내 계약서 목록 조회에 실패했습니다: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * 폴더 내 계약서 ZIP 내보내기
+     * @param manifest manifest.json(파일 해시, 블록체인 트랜잭션 ID) 포함 여부
+     */
+    @GetMapping("/{folderId}/export")
+    public ResponseEntity<StreamingResponseBody> exportFolder(
+            @PathVariable Long folderId,
+            @RequestParam(defaultValue = "true") boolean manifest,
+            @AuthenticationPrincipal String userUuid
+    ) {
+        try {
+            logger.info("폴더 내보내기 API 호출 - folderId: {}, manifest: {}, userUuid: {}", folderId, manifest, userUuid);
+
+            ContractExportService.ExportPlan plan = contractExportService.planFolderExport(folderId, userUuid);
+            return contractExportService.stream(plan, manifest);
+        } catch (Exception e) {
+            logger.error("폴더 내보내기 실패 - folderId: {}, userUuid: {}, error: {}", folderId, userUuid, e.getMessage(), e);
+            throw new RuntimeException("폴더 내보내기에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package com.contract.backend.controller;
+
+import com.contract.backend.common.Entity.ContractEntity;
+import com.contract.backend.common.dto.ContractUploadRequestDTO;
+import com.contract.backend.common.dto.UploadSessionCreateRequestDTO;
+import com.contract.backend.common.dto.UploadSessionDTO;
+import com.contract.backend.common.response.ApiResponse;
+import com.contract.backend.service.ResumableUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 재개 가능한 업로드
+ *
+ * 1. POST   /api/uploads                          세션 생성 (fileName, totalSize, chunkSize, sha256, contractId)
+ * 2. PUT    /api/uploads/{sessionId}/parts/{n}    n번 파트 본문 업로드 (Content-Length 필수, 병렬 가능)
+ * 3. GET    /api/uploads/{sessionId}              받은 파트 / 이어서 올릴 위치 조회
+ * 4. POST   /api/uploads/{sessionId}/complete     완료 (계약서 제목 / 설명 / 참여자)
+ *    DELETE /api/uploads/{sessionId}              취소
+ *
+ * direct 업로드 (본문이 서버를 거치지 않음)
+ * 1. POST   /api/uploads/direct                   세션 생성 (sha256 필수) - 파트별 presigned PUT URL 반환
+ * 2. PUT    {uploadUrls[n-1]}                     n번 파트를 저장소에 직접 업로드 (uploadHeaders 포함)
+ * 3. POST   /api/uploads/{sessionId}/finalize     완료 요청 - 202 VERIFYING, 해시 확인 후 GET 으로 COMPLETED 확인
+ */
+@RestController
+@RequestMapping("/api/uploads")
+public class UploadSessionController {
+
+    private static final Logger logger = LoggerFactory.getLogger(UploadSessionController.class);
+    private final ResumableUploadService resumableUploadService;
+
+    public UploadSessionController(ResumableUploadService resumableUploadService) {
+        this.resumableUploadService = resumableUploadService;
+    }
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<UploadSessionDTO>> createSession(
+            @RequestBody UploadSessionCreateRequestDTO request,
+            @AuthenticationPrincipal String userUuid
+    ) {
+        try {
+            UploadSessionDTO session = resumableUploadService.createSession(request, userUuid);
+            return ResponseEntity.ok(ApiResponse.success(session));
+        } catch (Exception e) {
+            logger.error("업로드 세션 생성 실패 - userUuid: {}, error: {}", userUuid, e.getMessage(), e);
+            throw new RuntimeException("업로드 세션 생성에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @PostMapping("/direct")
+    public ResponseEntity<ApiResponse<UploadSessionDTO>> createDirectSession(
+            @RequestBody UploadSessionCreateRequestDTO request,
+            @AuthenticationPrincipal String userUuid
+    ) {
+        try {
+            UploadSessionDTO session = resumableUploadService.createDirectSession(request, userUuid);
+            return ResponseEntity.ok(ApiResponse.success(session));
+        } catch (Exception e) {
+            logger.error("direct 업로드 세션 생성 실패 - userUuid: {}, error: {}", userUuid, e.getMessage(), e);
+            throw new RuntimeException("업로드 세션 생성에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @PutMapping("/{sessionId}/parts/{partNumber}")
+    public ResponseEntity<ApiResponse<UploadSessionDTO>> uploadPart(
+            @PathVariable String sessionId,
+            @PathVariable int partNumber,
+            HttpServletRequest request,
+            @AuthenticationPrincipal String userUuid
+    ) {
+        try {
+            UploadSessionDTO session = resumableUploadService.uploadPart(
+                    sessionId, partNumber, request.getContentLengthLong(), request.getInputStream(), userUuid);
+            return ResponseEntity.ok(ApiResponse.success(session));
+        } catch (Exception e) {
+            logger.warn("업로드 파트 수신 실패 - sessionId: {}, part: {}, error: {}", sessionId, partNumber, e.getMessage());
+            throw new RuntimeException("파트 업로드에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @GetMapping("/{sessionId}")
+    public ResponseEntity<ApiResponse<UploadSessionDTO>> getSession(
+            @PathVariable String sessionId,
+            @AuthenticationPrincipal String userUuid
+    ) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(resumableUploadService.getSession(sessionId, userUuid)));
+        } catch (Exception e) {
+            throw new RuntimeException("업로드 세션 조회에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @PostMapping("/{sessionId}/complete")
+    public ResponseEntity<ApiResponse<ContractEntity>> complete(
+            @PathVariable String sessionId,
+            @RequestBody ContractUploadRequestDTO request,
+            @AuthenticationPrincipal String userUuid
+    ) {
+        try {
+            ContractEntity contract = resumableUploadService.complete(sessionId, request, userUuid);
+            return ResponseEntity.ok(ApiResponse.success(contract));
+        } catch (Exception e) {
+            logger.error("업로드 완료 실패 - sessionId: {}, userUuid: {}, error: {}", sessionId, userUuid, e.getMessage(), e);
+            throw new RuntimeException("업로드 완료에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @PostMapping("/{sessionId}/finalize")
+    public ResponseEntity<ApiResponse<UploadSessionDTO>> finalizeDirect(
+            @PathVariable String sessionId,
+            @RequestBody ContractUploadRequestDTO request,
+            @AuthenticationPrincipal String userUuid
+    ) {
+        try {
+            UploadSessionDTO session = resumableUploadService.finalizeDirect(sessionId, request, userUuid);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(session));
+        } catch (Exception e) {
+            logger.error("direct 업로드 완료 실패 - sessionId: {}, userUuid: {}, error: {}", sessionId, userUuid, e.getMessage(), e);
+            throw new RuntimeException("업로드 완료에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @DeleteMapping("/{sessionId}")
+    public ResponseEntity<ApiResponse<Void>> abort(
+            @PathVariable String sessionId,
+            @AuthenticationPrincipal String userUuid
+    ) {
+        try {
+            resumableUploadService.abort(sessionId, userUuid);
+            return ResponseEntity.ok(ApiResponse.success(null));
+        } catch (Exception e) {
+            throw new RuntimeException("업로드 취소에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+}
@@ -1,56 +1,182 @@
 package com.contract.backend.service;
 
+import com.contract.backend.common.config.StorageReadProperties;
+import com.contract.backend.common.metrics.StorageMetrics;
+import com.contract.backend.common.util.range.ByteRange;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.ListPartsResponse;
+import software.amazon.awssdk.services.s3.model.Part;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedUploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.model.UploadPartPresignRequest;
 
 import java.io.IOException;
-import java.net.URI;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.UUID;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 @Service
+@ConditionalOnProperty(name = "b2.enabled", havingValue = "true", matchIfMissing = true)
 public class B2StorageServiceImpl implements S3StorageService {
 
+    public static final String PROVIDER_NAME = "B2";
+
+    // x-amz-meta-sha256 (SHA-256 checksum 헤더는 S3 호환 저장소마다 지원 여부가 달라 사용자 메타데이터로 기록)
+    private static final String SHA256_METADATA_KEY = "sha256";
+
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final StorageMetrics storageMetrics;
+    private final HedgedObjectReader hedgedReader;
 
     @Value("${b2.bucket-name}")
     private String bucketName;
 
+    // S3Client는 S3ClientConfig의 공용 빈 사용 (커넥션 풀 / 메트릭 공유)
     public B2StorageServiceImpl(
-            @Value("${b2.endpoint}") String endpoint,
-            @Value("${b2.access-key}") String accessKey,
-            @Value("${b2.secret-key}") String secretKey
+            S3Client s3Client,
+            S3Presigner s3Presigner,
+            StorageMetrics storageMetrics,
+            StorageReadProperties readProperties
     ) {
-        this.s3Client = S3Client.builder()
-                .endpointOverride(URI.create(endpoint))
-                .credentialsProvider(StaticCredentialsProvider.create(
-                        AwsBasicCredentials.create(accessKey, secretKey)
-                ))
-                .region(Region.US_EAST_1) // B2는 region 설정 무시됨
-                .build();
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.storageMetrics = storageMetrics;
+        this.hedgedReader = new HedgedObjectReader(readProperties, storageMetrics, "b2-read-");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hedgedReader.shutdown();
     }
 
     @Override
-    public String upload(MultipartFile file) throws IOException {
-        String key = generateFileKey(file.getOriginalFilename());
+    public String getProviderName() {
+        return PROVIDER_NAME;
+    }
 
-        PutObjectRequest putRequest = PutObjectRequest.builder()
+    @Override
+    public void put(String bucketName, String key, InputStream content, long contentLength, String contentType) {
+        put(bucketName, key, content, contentLength, contentType, null);
+    }
+
+    @Override
+    public void put(String bucketName, String key, InputStream content, long contentLength, String contentType,
+                    String sha256) {
+        PutObjectRequest.Builder putRequest = PutObjectRequest.builder()
                 .bucket(bucketName)
                 .key(key)
-                .contentType(file.getContentType())
-                .build();
+                .contentType(contentType);
+        if (sha256 != null) {
+            putRequest.metadata(Map.of(SHA256_METADATA_KEY, sha256));
+        }
 
-        s3Client.putObject(putRequest, RequestBody.fromBytes(file.getBytes()));
+        s3Client.putObject(putRequest.build(), RequestBody.fromInputStream(content, contentLength));
+        storageMetrics.recordBytes("put", contentLength);
+    }
 
-        return key;
+    @Override
+    public boolean supportsMultipartUpload() {
+        return true;
+    }
+
+    @Override
+    public String createMultipartUpload(String bucketName, String key, String contentType) {
+        return s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+    }
+
+    @Override
+    public String uploadPart(String bucketName, String key, String uploadId, int partNumber,
+                             InputStream content, long contentLength) {
+        String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength(contentLength)
+                .build(), RequestBody.fromInputStream(content, contentLength)).eTag();
+        storageMetrics.recordBytes("put", contentLength);
+        return eTag;
+    }
+
+    @Override
+    public void completeMultipartUpload(String bucketName, String key, String uploadId, List<String> partETags) {
+        List<CompletedPart> parts = new ArrayList<>(partETags.size());
+        for (int i = 0; i < partETags.size(); i++) {
+            parts.add(CompletedPart.builder().partNumber(i + 1).eTag(partETags.get(i)).build());
+        }
+        s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .build());
+    }
+
+    @Override
+    public SortedMap<Integer, String> listUploadedParts(String bucketName, String key, String uploadId) {
+        SortedMap<Integer, String> parts = new TreeMap<>();
+        Integer marker = null;
+        ListPartsResponse response;
+        do {
+            response = s3Client.listParts(ListPartsRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .partNumberMarker(marker)
+                    .build());
+            for (Part part : response.parts()) {
+                parts.put(part.partNumber(), part.eTag());
+            }
+            marker = response.nextPartNumberMarker();
+        } while (Boolean.TRUE.equals(response.isTruncated()));
+        return parts;
+    }
+
+    @Override
+    public void abortMultipartUpload(String bucketName, String key, String uploadId) {
+        s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .build());
+    }
+
+    @Override
+    public void delete(String bucketName, String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
     }
 
     @Override
@@ -58,8 +184,99 @@ public class B2StorageServiceImpl implements S3StorageService {
         return bucketName;
     }
 
-    private String generateFileKey(String originalFileName) {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        return "contracts/" + timestamp + "_" + UUID.randomUUID() + "_" + originalFileName;
+    @Override
+    public StoredObjectInfo getObjectInfo(String bucketName, String filePath) {
+        HeadObjectResponse headResponse = s3Client.headObject(HeadObjectRequest.builder()
+                .bucket(bucketName)
+                .key(filePath)
+                .build());
+        return new StoredObjectInfo(headResponse.contentLength(), headResponse.contentType(),
+                headResponse.metadata().get(SHA256_METADATA_KEY));
+    }
+
+    /**
+     * 응답(첫 바이트)이 늦으면 같은 GET 을 한 번 더 보내 먼저 온 응답 사용 (HedgedObjectReader)
+     */
+    @Override
+    public InputStream openStream(String bucketName, String filePath, ByteRange range) throws IOException {
+        GetObjectRequest.Builder getRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(filePath);
+        if (range != null) {
+            getRequest.range("bytes=" + range.getStart() + "-" + range.getEnd());
+        }
+        GetObjectRequest request = getRequest.build();
+        return hedgedReader.read(() -> s3Client.getObject(request));
+    }
+
+    @Override
+    public boolean supportsListing() {
+        return true;
+    }
+
+    @Override
+    public StoredObjectPage listObjects(String bucketName, String continuationToken, int maxKeys) {
+        ListObjectsV2Response response = s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .continuationToken(continuationToken)
+                .maxKeys(maxKeys)
+                .build());
+        List<StoredObjectSummary> objects = response.contents().stream()
+                .map(o -> new StoredObjectSummary(o.key(), o.size(), o.lastModified()))
+                .toList();
+        return new StoredObjectPage(objects, Boolean.TRUE.equals(response.isTruncated())
+                ? response.nextContinuationToken() : null);
+    }
+
+    @Override
+    public boolean supportsPresignedUrls() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsPresignedUpload() {
+        return true;
+    }
+
+    @Override
+    public PresignedRequest generatePresignedUploadPartUrl(String bucketName, String key, String uploadId,
+                                                          int partNumber, long contentLength, Duration expiry) {
+        UploadPartPresignRequest presignRequest = UploadPartPresignRequest.builder()
+                .signatureDuration(expiry)
+                .uploadPartRequest(UploadPartRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength(contentLength)
+                        .build())
+                .build();
+
+        PresignedUploadPartRequest presigned = s3Presigner.presignUploadPart(presignRequest);
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return new PresignedRequest(presigned.url().toString(), headers);
+    }
+
+    @Override
+    public String generatePresignedDownloadUrl(String bucketName, String filePath, String contentType,
+                                               String contentDisposition, Duration expiry) {
+        GetObjectRequest getRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(filePath)
+                .responseContentType(contentType)
+                .responseContentDisposition(contentDisposition)
+                .build();
+
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(expiry)
+                .getObjectRequest(getRequest)
+                .build();
+
+        return s3Presigner.presignGetObject(presignRequest).url().toString();
     }
 }
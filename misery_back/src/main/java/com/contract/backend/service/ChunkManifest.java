@@ -0,0 +1,76 @@
+package com.contract.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 청크 저장소에서 한 객체를 구성하는 청크 목록 (객체 키 위치에 JSON으로 저장)
+ */
+public class ChunkManifest {
+
+    private int version = 1;
+    private long size;
+    private String contentType;
+    private List<Chunk> chunks = new ArrayList<>();
+
+    public static class Chunk {
+
+        private String hash;
+        private long size;
+
+        public Chunk() {}
+
+        public Chunk(String hash, long size) {
+            this.hash = hash;
+            this.size = size;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        public void setHash(String hash) {
+            this.hash = hash;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public void setSize(long size) {
+            this.size = size;
+        }
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public List<Chunk> getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(List<Chunk> chunks) {
+        this.chunks = chunks;
+    }
+}
@@ -0,0 +1,359 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.StorageChunkEntity;
+import com.contract.backend.common.Entity.enumm.ChunkState;
+import com.contract.backend.common.config.ChunkedStorageProperties;
+import com.contract.backend.common.metrics.StorageMetrics;
+import com.contract.backend.common.repository.StorageChunkRepository;
+import com.contract.backend.common.util.chunk.ContentDefinedChunker;
+import com.contract.backend.common.util.range.ByteRange;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 청크 단위 중복 제거 저장소
+ *
+ * - 객체를 내용 기반 청크(ContentDefinedChunker)로 나누어 backing provider 의 chunks/{sha256} 에 저장
+ * - 객체 키 위치에는 청크 목록(ChunkManifest, JSON)만 저장
+ * - 같은 버킷에 이미 있는 청크는 참조 수만 올리고 업로드하지 않음 (이전 버전과 겹치는 부분)
+ * - 읽기는 범위에 걸친 청크만 순서대로 열어 하나의 스트림으로 이어 붙임
+ * - 참조가 0이 된 청크는 gc-grace 이후 주기적으로 삭제
+ * - 청크 행 변경은 호출자(업로드) 트랜잭션과 분리된 짧은 트랜잭션에서 처리
+ *   (참조 수 행 잠금을 업로드 커밋까지 잡지 않고, 업로드가 롤백되어도 올린 청크의 행은 남아 GC 대상이 됨)
+ */
+@Service
+@ConditionalOnProperty(name = "storage.chunked.enabled", havingValue = "true")
+public class ChunkedStorageServiceImpl implements S3StorageService {
+
+    public static final String PROVIDER_NAME = "CHUNKED";
+    public static final String CHUNK_KEY_PREFIX = "chunks/";
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedStorageServiceImpl.class);
+    private static final String MANIFEST_CONTENT_TYPE = "application/json";
+    private static final String CHUNK_CONTENT_TYPE = "application/octet-stream";
+    private static final int MANIFEST_CACHE_SIZE = 1024;
+    // 다른 요청이 올리는 중(UPLOADING)이거나 삭제 중(DELETING)인 청크를 기다리는 횟수 / 간격
+    private static final int BUSY_WAIT_ATTEMPTS = 20;
+    private static final long BUSY_WAIT_MILLIS = 250;
+
+    // StorageServiceRegistry 가 이 빈도 주입받으므로 지연 조회
+    private final ObjectProvider<StorageServiceRegistry> storageServiceRegistry;
+    private final StorageChunkRepository storageChunkRepository;
+    private final ChunkedStorageProperties properties;
+    private final StorageMetrics storageMetrics;
+    private final ObjectMapper objectMapper;
+    private final ContentDefinedChunker chunker;
+    private final TransactionTemplate chunkTransaction;
+
+    // manifest 는 키마다 불변이므로 최근 조회분을 캐시 (미리보기의 Range 요청마다 다시 읽지 않도록)
+    private final Map<String, ChunkManifest> manifestCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ChunkManifest> eldest) {
+                    return size() > MANIFEST_CACHE_SIZE;
+                }
+            });
+
+    public ChunkedStorageServiceImpl(
+            ObjectProvider<StorageServiceRegistry> storageServiceRegistry,
+            StorageChunkRepository storageChunkRepository,
+            ChunkedStorageProperties properties,
+            StorageMetrics storageMetrics,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.storageServiceRegistry = storageServiceRegistry;
+        this.storageChunkRepository = storageChunkRepository;
+        this.properties = properties;
+        this.storageMetrics = storageMetrics;
+        this.objectMapper = objectMapper.copy().disable(SerializationFeature.INDENT_OUTPUT);
+        this.chunker = new ContentDefinedChunker(
+                properties.getMinChunkSize(), properties.getAvgChunkSize(), properties.getMaxChunkSize());
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public String getProviderName() {
+        return PROVIDER_NAME;
+    }
+
+    @Override
+    public String getBucketName() {
+        String bucketName = properties.getBucketName();
+        return bucketName == null || bucketName.isBlank() ? backing().getBucketName() : bucketName;
+    }
+
+    @Override
+    public void put(String bucketName, String key, InputStream content, long contentLength, String contentType) throws IOException {
+        ChunkManifest manifest = new ChunkManifest();
+        manifest.setContentType(contentType);
+
+        List<String> acquired = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        long[] totals = new long[2]; // [0] 원본 크기, [1] 새로 올린 크기
+
+        try {
+            chunker.split(content, (data, offset, length) -> {
+                String hash = sha256Hex(data, offset, length);
+                manifest.getChunks().add(new ChunkManifest.Chunk(hash, length));
+                totals[0] += length;
+                // 한 객체 안에서 반복되는 청크는 참조를 한 번만 잡음
+                if (seen.add(hash)) {
+                    if (acquireChunk(bucketName, hash, data, offset, length)) {
+                        totals[1] += length;
+                    }
+                    acquired.add(hash);
+                }
+            });
+            manifest.setSize(totals[0]);
+
+            byte[] json = objectMapper.writeValueAsBytes(manifest);
+            backing().put(bucketName, key, new ByteArrayInputStream(json), json.length, MANIFEST_CONTENT_TYPE);
+        } catch (IOException | RuntimeException e) {
+            releaseChunks(bucketName, acquired);
+            throw e;
+        }
+
+        manifestCache.put(cacheKey(bucketName, key), manifest);
+        storageMetrics.recordChunkedPut(totals[0], totals[1]);
+        logger.debug("청크 저장 - key: {}, size: {}, chunks: {}, uploaded: {}",
+                key, totals[0], manifest.getChunks().size(), totals[1]);
+    }
+
+    @Override
+    public void delete(String bucketName, String key) throws IOException {
+        ChunkManifest manifest = readManifest(bucketName, key);
+        backing().delete(bucketName, key);
+        manifestCache.remove(cacheKey(bucketName, key));
+
+        List<String> hashes = manifest.getChunks().stream().map(ChunkManifest.Chunk::getHash).distinct().toList();
+        releaseChunks(bucketName, hashes);
+    }
+
+    @Override
+    public StoredObjectInfo getObjectInfo(String bucketName, String filePath) throws IOException {
+        ChunkManifest manifest = readManifest(bucketName, filePath);
+        return new StoredObjectInfo(manifest.getSize(), manifest.getContentType());
+    }
+
+    @Override
+    public InputStream openStream(String bucketName, String filePath, ByteRange range) throws IOException {
+        ChunkManifest manifest = readManifest(bucketName, filePath);
+        long start = range != null ? range.getStart() : 0;
+        long endExclusive = range != null ? range.getEnd() + 1 : manifest.getSize();
+
+        // 요청 범위에 걸친 청크와 청크 내부 범위
+        List<ChunkManifest.Chunk> chunks = new ArrayList<>();
+        List<ByteRange> innerRanges = new ArrayList<>();
+        long chunkStart = 0;
+        for (ChunkManifest.Chunk chunk : manifest.getChunks()) {
+            long chunkEnd = chunkStart + chunk.getSize();
+            if (chunkStart >= endExclusive) {
+                break;
+            }
+            if (chunkEnd > start) {
+                long innerStart = Math.max(start, chunkStart) - chunkStart;
+                long innerEnd = Math.min(endExclusive, chunkEnd) - chunkStart - 1;
+                boolean whole = innerStart == 0 && innerEnd == chunk.getSize() - 1;
+                chunks.add(chunk);
+                innerRanges.add(whole ? null : new ByteRange(innerStart, innerEnd));
+            }
+            chunkStart = chunkEnd;
+        }
+
+        S3StorageService backing = backing();
+        Iterator<ChunkManifest.Chunk> chunkIterator = chunks.iterator();
+        Iterator<ByteRange> rangeIterator = innerRanges.iterator();
+
+        // 청크 스트림은 앞 청크를 다 읽은 뒤에 연다
+        return new SequenceInputStream(new Enumeration<>() {
+            @Override
+            public boolean hasMoreElements() {
+                return chunkIterator.hasNext();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                ChunkManifest.Chunk chunk = chunkIterator.next();
+                try {
+                    return backing.openStream(bucketName, chunkKey(chunk.getHash()), rangeIterator.next());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 참조가 없어진 청크 삭제
+     * DELETING 으로 먼저 표시하여 그 사이 참조 증가를 막고, 객체 삭제 후 행을 지운다.
+     */
+    @Scheduled(fixedDelayString = "#{@chunkedStorageProperties.gcInterval.toMillis()}")
+    public void collectUnreferencedChunks() {
+        LocalDateTime before = LocalDateTime.now().minus(properties.getGcGrace());
+        PageRequest page = PageRequest.of(0, properties.getGcBatchSize());
+
+        List<StorageChunkEntity> candidates = new ArrayList<>(
+                storageChunkRepository.findByStateAndRefCountAndLastReferencedAtBefore(ChunkState.ACTIVE, 0, before, page));
+        // 업로드가 중단(실패 / 재기동)된 예약 행: 객체가 올라갔을 수 있으므로 함께 삭제
+        candidates.addAll(
+                storageChunkRepository.findByStateAndRefCountAndLastReferencedAtBefore(ChunkState.UPLOADING, 0, before, page));
+        // 이전 실행에서 객체 삭제에 실패하고 남은 행
+        candidates.addAll(
+                storageChunkRepository.findByStateAndRefCountAndLastReferencedAtBefore(ChunkState.DELETING, 0, before, page));
+
+        int deleted = 0;
+        for (StorageChunkEntity chunk : candidates) {
+            if (chunk.getState() != ChunkState.DELETING
+                    && storageChunkRepository.markDeleting(chunk.getId(), chunk.getState(), ChunkState.DELETING) == 0) {
+                continue; // 그 사이 다시 참조되었거나 업로드가 끝남
+            }
+            try {
+                backing().delete(chunk.getBucketName(), chunkKey(chunk.getChunkHash()));
+                storageChunkRepository.deleteById(chunk.getId());
+                deleted++;
+            } catch (IOException | RuntimeException e) {
+                logger.warn("청크 삭제 실패 - bucket: {}, hash: {}, error: {}",
+                        chunk.getBucketName(), chunk.getChunkHash(), e.getMessage());
+            }
+        }
+        if (deleted > 0) {
+            logger.info("참조 없는 청크 삭제 - deleted: {}", deleted);
+        }
+    }
+
+    /**
+     * 청크 참조 획득 (없으면 예약 행을 만든 뒤 업로드)
+     *
+     * @return 새로 업로드했으면 true
+     */
+    private boolean acquireChunk(String bucketName, String hash, byte[] data, int offset, int length) throws IOException {
+        for (int attempt = 0; ; attempt++) {
+            Integer incremented = chunkTransaction.execute(status ->
+                    storageChunkRepository.incrementRefCount(bucketName, hash, ChunkState.ACTIVE, LocalDateTime.now()));
+            if (incremented != null && incremented == 1) {
+                return false;
+            }
+
+            Long reservedId = reserveChunk(bucketName, hash, length);
+            if (reservedId == null) {
+                // 다른 요청이 올리는 중이거나 삭제 중: 끝난 뒤 참조하거나 새로 올려야 객체가 지워지지 않음
+                if (attempt >= BUSY_WAIT_ATTEMPTS) {
+                    throw new IOException("업로드 / 삭제 중인 청크를 저장할 수 없습니다: " + hash);
+                }
+                sleep(BUSY_WAIT_MILLIS);
+                continue;
+            }
+
+            // 업로드 중 실패 / 재기동해도 예약 행이 남아 GC 가 객체를 회수
+            backing().put(bucketName, chunkKey(hash), new ByteArrayInputStream(data, offset, length), length, CHUNK_CONTENT_TYPE);
+            Integer activated = chunkTransaction.execute(status ->
+                    storageChunkRepository.activate(reservedId, ChunkState.UPLOADING, ChunkState.ACTIVE, LocalDateTime.now()));
+            if (activated != null && activated == 1) {
+                return true;
+            }
+            // 업로드가 gc-grace 보다 오래 걸려 GC 가 예약을 회수하기 시작한 경우: 처음부터 다시
+        }
+    }
+
+    /**
+     * 업로드 예약 행 생성 (이미 행이 있으면 null)
+     * 별도 트랜잭션이므로 unique 제약 위반이 업로드 트랜잭션을 rollback-only 로 만들지 않음
+     */
+    private Long reserveChunk(String bucketName, String hash, int length) {
+        try {
+            return chunkTransaction.execute(status ->
+                    storageChunkRepository.save(new StorageChunkEntity(bucketName, hash, length)).getId());
+        } catch (DataIntegrityViolationException e) {
+            return null;
+        }
+    }
+
+    private void releaseChunks(String bucketName, List<String> hashes) {
+        LocalDateTime now = LocalDateTime.now();
+        for (String hash : hashes) {
+            try {
+                chunkTransaction.executeWithoutResult(status ->
+                        storageChunkRepository.decrementRefCount(bucketName, hash, now));
+            } catch (RuntimeException e) {
+                logger.error("청크 참조 해제 실패 - bucket: {}, hash: {}", bucketName, hash, e);
+            }
+        }
+    }
+
+    private ChunkManifest readManifest(String bucketName, String key) throws IOException {
+        String cacheKey = cacheKey(bucketName, key);
+        ChunkManifest cached = manifestCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        try (InputStream in = backing().openStream(bucketName, key, null)) {
+            ChunkManifest manifest = objectMapper.readValue(in, ChunkManifest.class);
+            manifestCache.put(cacheKey, manifest);
+            return manifest;
+        }
+    }
+
+    private S3StorageService backing() {
+        return storageServiceRegistry.getObject().resolve(properties.getBackingProvider());
+    }
+
+    public static String chunkKey(String hash) {
+        return CHUNK_KEY_PREFIX + hash.substring(0, 2) + "/" + hash;
+    }
+
+    private static String cacheKey(String bucketName, String key) {
+        return bucketName + "/" + key;
+    }
+
+    private static String sha256Hex(byte[] data, int offset, int length) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(data, offset, length);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("청크 대기 중 인터럽트");
+        }
+    }
+}
@@ -0,0 +1,431 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.BlockchainRecordEntity;
+import com.contract.backend.common.Entity.ContractEntity;
+import com.contract.backend.common.Entity.ContractVersionEntity;
+import com.contract.backend.common.Entity.FolderEntity;
+import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.config.ExportProperties;
+import com.contract.backend.common.exception.CustomException;
+import com.contract.backend.common.exception.CustomExceptionEnum;
+import com.contract.backend.common.metrics.StorageMetrics;
+import com.contract.backend.common.repository.BlockchainRecordRepository;
+import com.contract.backend.common.repository.ContractRepository;
+import com.contract.backend.common.repository.FolderContractRepository;
+import com.contract.backend.common.repository.FolderRepository;
+import com.contract.backend.common.repository.UserContractMembershipRepository;
+import com.contract.backend.common.repository.UserRepository;
+import com.contract.backend.common.util.stream.NonBlockingResponseBody;
+import com.contract.backend.common.util.stream.StreamingBufferPool;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 폴더 / 검색 결과 계약서 ZIP 내보내기
+ *
+ * - 임시 파일 없이 응답 스트림에 바로 ZIP 작성
+ * - 다음 prefetch-window 개 파일을 가상 스레드로 미리 받아 두어 ZIP 작성이 저장소 응답을 기다리지 않음
+ * - 메모리 사용량은 prefetch-window × max-buffered-object-size 로 제한 (큰 파일은 스트림으로 바로 복사)
+ * - manifest.json 에 파일 해시 / 블록체인 트랜잭션 ID / 처리 결과 기록 (마지막 항목)
+ */
+@Service
+public class ContractExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContractExportService.class);
+
+    private static final String MANIFEST_ENTRY_NAME = "manifest.json";
+    // IN 절 크기 제한
+    private static final int RECORD_LOOKUP_BATCH = 500;
+
+    private final UserRepository userRepository;
+    private final FolderRepository folderRepository;
+    private final FolderContractRepository folderContractRepository;
+    private final ContractRepository contractRepository;
+    private final BlockchainRecordRepository blockchainRecordRepository;
+    private final UserContractMembershipRepository contractMembershipRepository;
+    private final ContractMembershipService contractMembershipService;
+    private final StorageRouter storageRouter;
+    private final StreamingBufferPool streamingBufferPool;
+    private final StorageMetrics storageMetrics;
+    private final ExportProperties properties;
+    private final ObjectMapper objectMapper;
+    private final DownloadBandwidthShaper downloadBandwidthShaper;
+
+    public ContractExportService(
+            UserRepository userRepository,
+            FolderRepository folderRepository,
+            FolderContractRepository folderContractRepository,
+            ContractRepository contractRepository,
+            BlockchainRecordRepository blockchainRecordRepository,
+            UserContractMembershipRepository contractMembershipRepository,
+            ContractMembershipService contractMembershipService,
+            StorageRouter storageRouter,
+            StreamingBufferPool streamingBufferPool,
+            StorageMetrics storageMetrics,
+            ExportProperties properties,
+            ObjectMapper objectMapper,
+            DownloadBandwidthShaper downloadBandwidthShaper
+    ) {
+        this.userRepository = userRepository;
+        this.folderRepository = folderRepository;
+        this.folderContractRepository = folderContractRepository;
+        this.contractRepository = contractRepository;
+        this.blockchainRecordRepository = blockchainRecordRepository;
+        this.contractMembershipRepository = contractMembershipRepository;
+        this.contractMembershipService = contractMembershipService;
+        this.storageRouter = storageRouter;
+        this.streamingBufferPool = streamingBufferPool;
+        this.storageMetrics = storageMetrics;
+        this.properties = properties;
+        this.objectMapper = objectMapper.copy();
+        this.downloadBandwidthShaper = downloadBandwidthShaper;
+    }
+
+    /**
+     * 폴더 내보내기 대상 조회 (폴더 소유자만, 접근 권한이 있는 계약서만)
+     */
+    @Transactional(readOnly = true)
+    public ExportPlan planFolderExport(Long folderId, String userUuid) {
+        UserEntity user = userRepository.findByUuid(userUuid)
+                .orElseThrow(() -> new CustomException(CustomExceptionEnum.USER_NOT_FOUND));
+
+        FolderEntity folder = folderRepository.findByIdAndNotDeleted(folderId)
+                .orElseThrow(() -> new CustomException(CustomExceptionEnum.CONTRACT_NOT_FOUND));
+        if (!folder.getCreatedBy().getId().equals(user.getId())) {
+            throw new CustomException(CustomExceptionEnum.UNAUTHORIZED);
+        }
+
+        // 멤버십 백필 전에는 작성자 / 참여자 조건으로 조회
+        List<ContractEntity> contracts = contractMembershipService.isBackfilled()
+                ? folderContractRepository.findMemberContractsByFolder(folder, user)
+                : folderContractRepository.findExportableContractsByFolder(folder, user);
+        return buildPlan(folder.getName(), userUuid, contracts);
+    }
+
+    /**
+     * 제목 검색 결과 내보내기 대상 조회
+     */
+    @Transactional(readOnly = true)
+    public ExportPlan planSearchExport(String query, String userUuid) {
+        UserEntity user = userRepository.findByUuid(userUuid)
+                .orElseThrow(() -> new CustomException(CustomExceptionEnum.USER_NOT_FOUND));
+
+        List<ContractEntity> contracts = contractMembershipService.isBackfilled()
+                ? contractMembershipRepository.searchExportableContracts(user, query)
+                : contractRepository.searchExportableContracts(user, query);
+        return buildPlan("search", userUuid, contracts);
+    }
+
+    public ResponseEntity<StreamingResponseBody> stream(ExportPlan plan, boolean includeManifest) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(sanitize(plan.name) + "_" + timestamp + ".zip", StandardCharsets.UTF_8)
+                .build();
+
+        logger.info("ZIP 내보내기 시작 - name: {}, contracts: {}", plan.name, plan.entries.size());
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, "application/zip")
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .body(NonBlockingResponseBody.of(outputStream -> {
+                    // 일괄 다운로드이므로 BULK 등급으로 대역폭 제한 (미리보기보다 뒤로)
+                    DownloadBandwidthShaper.Client client = new DownloadBandwidthShaper.Client(
+                            plan.userUuid, DownloadBandwidthShaper.TrafficClass.BULK);
+                    try (OutputStream shaped = downloadBandwidthShaper.shape(outputStream, client)) {
+                        writeZip(plan, includeManifest, shaped);
+                    }
+                }));
+    }
+
+    private ExportPlan buildPlan(String name, String userUuid, List<ContractEntity> contracts) {
+        if (contracts.size() > properties.getMaxContracts()) {
+            throw new CustomException(CustomExceptionEnum.EXPORT_TOO_LARGE);
+        }
+
+        List<ContractVersionEntity> versions = new ArrayList<>();
+        for (ContractEntity contract : contracts) {
+            if (contract.getCurrentVersion() != null) {
+                versions.add(contract.getCurrentVersion());
+            }
+        }
+
+        Map<Long, String> txHashes = new HashMap<>();
+        for (int from = 0; from < versions.size(); from += RECORD_LOOKUP_BATCH) {
+            List<ContractVersionEntity> batch = versions.subList(from, Math.min(from + RECORD_LOOKUP_BATCH, versions.size()));
+            for (BlockchainRecordEntity record : blockchainRecordRepository.findByContractVersionIn(batch)) {
+                txHashes.put(record.getContractVersion().getId(), record.getTxHash());
+            }
+        }
+
+        List<ExportEntry> entries = new ArrayList<>(versions.size());
+        for (ContractVersionEntity version : versions) {
+            ContractEntity contract = version.getContract();
+            entries.add(new ExportEntry(
+                    contract.getId(),
+                    contract.getTitle(),
+                    version.getVersionNumber(),
+                    version.getFileHash(),
+                    version.getStatus().name(),
+                    txHashes.get(version.getId()),
+                    String.format("%d_%s_v%d.pdf", contract.getId(), sanitize(contract.getTitle()), version.getVersionNumber()),
+                    StoredFileRef.of(version),
+                    StorageLifecycleService.isHot(version)));
+        }
+        return new ExportPlan(name, userUuid, entries);
+    }
+
+    private void writeZip(ExportPlan plan, boolean includeManifest, OutputStream outputStream) throws IOException {
+        List<Map<String, Object>> manifest = new ArrayList<>(plan.entries.size());
+        Deque<Future<Prefetched>> window = new ArrayDeque<>();
+
+        try (ExecutorService prefetchExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            ZipOutputStream zip = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+            zip.setLevel(Deflater.BEST_SPEED);
+
+            Iterator<ExportEntry> pending = plan.entries.iterator();
+            try {
+                while (window.size() < properties.getPrefetchWindow() && pending.hasNext()) {
+                    ExportEntry entry = pending.next();
+                    window.add(prefetchExecutor.submit(() -> prefetch(entry)));
+                }
+                while (!window.isEmpty()) {
+                    Future<Prefetched> head = window.poll();
+                    // 기다리기 전에 창을 다시 채워 두어 다음 파일이 계속 내려받아지도록 함
+                    if (pending.hasNext()) {
+                        ExportEntry entry = pending.next();
+                        window.add(prefetchExecutor.submit(() -> prefetch(entry)));
+                    }
+                    manifest.add(writeEntry(zip, await(head)));
+                }
+
+                if (includeManifest) {
+                    Map<String, Object> document = new LinkedHashMap<>();
+                    document.put("name", plan.name);
+                    document.put("exportedAt", LocalDateTime.now().toString());
+                    document.put("entries", manifest);
+                    byte[] json = objectMapper.writeValueAsBytes(document);
+
+                    zip.putNextEntry(new ZipEntry(MANIFEST_ENTRY_NAME));
+                    zip.write(json);
+                    zip.closeEntry();
+                }
+                zip.finish();
+            } finally {
+                // 클라이언트 연결 종료 등으로 중단된 경우 미리 열어 둔 스트림 정리
+                for (Future<Prefetched> future : window) {
+                    future.cancel(true);
+                    if (future.isDone() && !future.isCancelled()) {
+                        closeQuietly(await(future).stream);
+                    }
+                }
+            }
+        }
+
+        logger.info("ZIP 내보내기 완료 - name: {}, entries: {}", plan.name, manifest.size());
+    }
+
+    private Prefetched prefetch(ExportEntry entry) {
+        if (!entry.hot) {
+            return Prefetched.skipped(entry, "NOT_IN_HOT_STORAGE");
+        }
+        InputStream in = null;
+        try {
+            StorageRouter.ReadTarget target = storageRouter.resolveForRead(entry.file);
+            long size = target.getObjectInfo().getContentLength();
+            in = target.getStorage().openStream(target.getLocation().getBucketName(), entry.file.getFilePath(), null);
+            if (size <= properties.getMaxBufferedObjectSize().toBytes()) {
+                try (InputStream buffered = in) {
+                    return Prefetched.buffered(entry, buffered.readAllBytes());
+                }
+            }
+            return Prefetched.streaming(entry, in, size);
+        } catch (Exception e) {
+            closeQuietly(in);
+            logger.warn("내보내기 파일 조회 실패 - contractId: {}, key: {}, error: {}",
+                    entry.contractId, entry.file.getFilePath(), e.getMessage());
+            return Prefetched.failed(entry, e.getMessage());
+        }
+    }
+
+    private Map<String, Object> writeEntry(ZipOutputStream zip, Prefetched prefetched) throws IOException {
+        ExportEntry entry = prefetched.entry;
+        Map<String, Object> manifestEntry = new LinkedHashMap<>();
+        manifestEntry.put("contractId", entry.contractId);
+        manifestEntry.put("title", entry.title);
+        manifestEntry.put("versionNumber", entry.versionNumber);
+        manifestEntry.put("versionStatus", entry.versionStatus);
+        manifestEntry.put("fileName", entry.entryName);
+        manifestEntry.put("sha256", entry.fileHash);
+        manifestEntry.put("txId", entry.txHash);
+
+        if (prefetched.status != null) {
+            manifestEntry.put("status", prefetched.status);
+            return manifestEntry;
+        }
+
+        ZipEntry zipEntry = new ZipEntry(entry.entryName);
+        long size;
+        if (prefetched.data != null) {
+            // PDF는 이미 압축되어 있으므로 메모리에 있는 파일은 무압축(STORED)으로 기록
+            CRC32 crc = new CRC32();
+            crc.update(prefetched.data);
+            zipEntry.setMethod(ZipEntry.STORED);
+            zipEntry.setSize(prefetched.data.length);
+            zipEntry.setCompressedSize(prefetched.data.length);
+            zipEntry.setCrc(crc.getValue());
+            zip.putNextEntry(zipEntry);
+            zip.write(prefetched.data);
+            size = prefetched.data.length;
+        } else {
+            zip.putNextEntry(zipEntry);
+            try (InputStream in = prefetched.stream) {
+                size = streamingBufferPool.copy(in, zip);
+            }
+        }
+        zip.closeEntry();
+        storageMetrics.recordBytes("get", size);
+
+        manifestEntry.put("size", size);
+        manifestEntry.put("status", "OK");
+        return manifestEntry;
+    }
+
+    private static Prefetched await(Future<Prefetched> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("내보내기 중단", e);
+        } catch (ExecutionException e) {
+            throw new IOException("내보내기 파일 조회 실패", e.getCause());
+        }
+    }
+
+    private static void closeQuietly(InputStream in) {
+        if (in == null) {
+            return;
+        }
+        try {
+            in.close();
+        } catch (IOException ignored) {
+            // 이미 중단된 스트림
+        }
+    }
+
+    private static String sanitize(String name) {
+        return name.replaceAll("[^a-zA-Z0-9가-힣\\s]", "").trim();
+    }
+
+    /**
+     * 내보내기 대상 (트랜잭션 안에서 필요한 값만 뽑아 둔 것)
+     */
+    public static class ExportPlan {
+
+        private final String name;
+        private final String userUuid; // 대역폭 제한 시 사용자 구분 (파일 응답과 같은 버킷)
+        private final List<ExportEntry> entries;
+
+        ExportPlan(String name, String userUuid, List<ExportEntry> entries) {
+            this.name = name;
+            this.userUuid = userUuid;
+            this.entries = entries;
+        }
+
+        public int size() {
+            return entries.size();
+        }
+    }
+
+    private static class ExportEntry {
+
+        final Long contractId;
+        final String title;
+        final int versionNumber;
+        final String fileHash;
+        final String versionStatus;
+        final String txHash;
+        final String entryName;
+        final StoredFileRef file;
+        final boolean hot;
+
+        ExportEntry(Long contractId, String title, int versionNumber, String fileHash, String versionStatus,
+                    String txHash, String entryName, StoredFileRef file, boolean hot) {
+            this.contractId = contractId;
+            this.title = title;
+            this.versionNumber = versionNumber;
+            this.fileHash = fileHash;
+            this.versionStatus = versionStatus;
+            this.txHash = txHash;
+            this.entryName = entryName;
+            this.file = file;
+            this.hot = hot;
+        }
+    }
+
+    /**
+     * 미리 받아 둔 파일 (data: 메모리, stream: 큰 파일, status: 건너뜀 / 실패 사유)
+     */
+    private static class Prefetched {
+
+        final ExportEntry entry;
+        final byte[] data;
+        final InputStream stream;
+        final long size;
+        final String status;
+
+        private Prefetched(ExportEntry entry, byte[] data, InputStream stream, long size, String status) {
+            this.entry = entry;
+            this.data = data;
+            this.stream = stream;
+            this.size = size;
+            this.status = status;
+        }
+
+        static Prefetched buffered(ExportEntry entry, byte[] data) {
+            return new Prefetched(entry, data, null, data.length, null);
+        }
+
+        static Prefetched streaming(ExportEntry entry, InputStream stream, long size) {
+            return new Prefetched(entry, null, stream, size, null);
+        }
+
+        static Prefetched skipped(ExportEntry entry, String reason) {
+            return new Prefetched(entry, null, null, 0, "SKIPPED_" + reason);
+        }
+
+        static Prefetched failed(ExportEntry entry, String error) {
+            return new Prefetched(entry, null, null, 0, "FAILED: " + error);
+        }
+    }
+}
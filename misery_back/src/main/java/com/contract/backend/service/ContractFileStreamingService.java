@@ -0,0 +1,393 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.metrics.StorageMetrics;
+import com.contract.backend.common.util.range.ByteRange;
+import com.contract.backend.common.util.range.ByteRangeParser;
+import com.contract.backend.common.util.stream.DigestingOutputStream;
+import com.contract.backend.common.util.stream.NonBlockingResponseBody;
+import com.contract.backend.common.util.stream.StreamingBufferPool;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 계약서 파일 응답 생성 (권한 검증 이후 단계)
+ * - 버전에 기록된 storageProvider 로 저장소를 선택
+ * - Range / 다중 Range(multipart/byteranges) 처리
+ * - 로컬 파일은 Tomcat sendfile(커널 zero-copy) 또는 FileChannel 전송, 원격 객체는 재사용 버퍼로 스트리밍
+ * - 전체 파일 전송은 보내는 바이트의 해시를 함께 계산해 fileHash 와 비교 (불일치 시 StorageQuarantineService)
+ * - 본문은 DownloadBandwidthShaper 를 거쳐 전송 (사용자별 / 전체 속도 제한, 미리보기 우선)
+ *   대역폭 제한이 켜져 있으면 sendfile 은 사용하지 않음 (커널이 보내는 바이트는 제한할 수 없음)
+ */
+@Service
+public class ContractFileStreamingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContractFileStreamingService.class);
+
+    // Tomcat sendfile 요청 속성 (NIO 커넥터, 비 SSL 환경에서 지원)
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private final StorageServiceRegistry storageServiceRegistry;
+    private final StorageRouter storageRouter;
+    private final StreamingBufferPool streamingBufferPool;
+    private final StorageQuarantineService storageQuarantineService;
+    private final StorageMetrics storageMetrics;
+    private final DownloadBandwidthShaper downloadBandwidthShaper;
+
+    // presigned URL 리다이렉트 모드 (기본 비활성화)
+    @Value("${b2.presigned-url.enabled:false}")
+    private boolean presignedRedirectEnabled;
+
+    @Value("${b2.presigned-url.expiry-seconds:300}")
+    private long presignedUrlExpirySeconds;
+
+    public ContractFileStreamingService(
+            StorageServiceRegistry storageServiceRegistry,
+            StorageRouter storageRouter,
+            StreamingBufferPool streamingBufferPool,
+            StorageQuarantineService storageQuarantineService,
+            StorageMetrics storageMetrics,
+            DownloadBandwidthShaper downloadBandwidthShaper
+    ) {
+        this.storageServiceRegistry = storageServiceRegistry;
+        this.storageRouter = storageRouter;
+        this.streamingBufferPool = streamingBufferPool;
+        this.storageQuarantineService = storageQuarantineService;
+        this.storageMetrics = storageMetrics;
+        this.downloadBandwidthShaper = downloadBandwidthShaper;
+    }
+
+    public boolean isPresignedRedirectEnabled() {
+        return presignedRedirectEnabled;
+    }
+
+    /**
+     * 리다이렉트 모드이고 저장소가 presigned URL을 지원하면 단기 만료 URL로 302 응답
+     */
+    public Optional<ResponseEntity<StreamingResponseBody>> redirectIfEnabled(StoredFileRef file, ContentDisposition contentDisposition) {
+        if (!presignedRedirectEnabled) {
+            return Optional.empty();
+        }
+        S3StorageService storage = storageServiceRegistry.resolve(file.getStorageProvider());
+        if (!storage.supportsPresignedUrls()) {
+            return Optional.empty();
+        }
+
+        String presignedUrl = storage.generatePresignedDownloadUrl(
+                bucketOf(storage, file),
+                file.getFilePath(),
+                "application/pdf",
+                contentDisposition.toString(),
+                Duration.ofSeconds(presignedUrlExpirySeconds));
+
+        logger.debug("presigned URL 리다이렉트 - filePath: {}, expirySeconds: {}", file.getFilePath(), presignedUrlExpirySeconds);
+
+        return Optional.of(ResponseEntity.status(HttpStatus.FOUND)
+                .location(URI.create(presignedUrl))
+                .header(HttpHeaders.CACHE_CONTROL, "no-store") // 만료되는 URL이므로 리다이렉트 자체는 캐시하지 않음
+                .build());
+    }
+
+    /**
+     * 파일 응답 생성 (Range 헤더가 없거나 해석할 수 없으면 전체 파일)
+     */
+    public ResponseEntity<StreamingResponseBody> serve(
+            StoredFileRef file,
+            String rangeHeader,
+            ContentDisposition contentDisposition,
+            String cacheControl,
+            HttpServletRequest request
+    ) throws IOException {
+        return serve(file, rangeHeader, contentDisposition, cacheControl, null, request);
+    }
+
+    /**
+     * 파일 응답 생성 (eTag 가 있으면 ETag 헤더 포함)
+     */
+    public ResponseEntity<StreamingResponseBody> serve(
+            StoredFileRef file,
+            String rangeHeader,
+            ContentDisposition contentDisposition,
+            String cacheControl,
+            String eTag,
+            HttpServletRequest request
+    ) throws IOException {
+        // 기록된 위치를 읽을 수 없으면 복제본 위치로 대체 (StorageRouter)
+        StorageRouter.ReadTarget target = storageRouter.resolveForRead(file);
+        S3StorageService storage = target.getStorage();
+        String bucketName = target.getLocation().getBucketName();
+
+        StoredObjectInfo objectInfo = target.getObjectInfo();
+        long fileSize = objectInfo.getContentLength();
+        String contentType = determineContentType(objectInfo.getContentType());
+
+        ResponseHeaders headers = new ResponseHeaders(contentType, contentDisposition, cacheControl, eTag);
+        DownloadBandwidthShaper.Client client = downloadBandwidthShaper.clientOf(request, contentDisposition);
+
+        // Range 헤더 파싱 (suffix / 다중 범위 포함, 겹치는 범위는 병합됨)
+        List<ByteRange> ranges = rangeHeader != null ? ByteRangeParser.parse(rangeHeader, fileSize) : null;
+        if (ranges == null) {
+            // Range 헤더가 없거나 해석할 수 없으면 전체 파일 응답 (RFC 7233 3.1)
+            logger.debug("전체 파일 요청 처리 - fileSize: {}", fileSize);
+            FullFileVerification verification = file.getFileHash() != null
+                    ? new FullFileVerification(target.getLocation(), file.getFilePath(), file.getFileHash(), fileSize)
+                    : null;
+            return singlePart(storage, bucketName, file, null, fileSize, headers, verification, client, request);
+        }
+        if (ranges.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + fileSize)
+                    .build();
+        }
+        if (ranges.size() > 1) {
+            return multiPart(storage, bucketName, file, ranges, fileSize, headers, client);
+        }
+
+        ByteRange range = ranges.get(0);
+        logger.debug("Range 요청 처리 - start: {}, end: {}, contentLength: {}",
+                range.getStart(), range.getEnd(), range.length());
+        return singlePart(storage, bucketName, file, range, fileSize, headers, null, client, request);
+    }
+
+    /**
+     * 전체 파일(range == null) 또는 단일 범위 응답
+     * verification 이 있으면 전송하면서 해시 검증 (sendfile 은 바이트가 애플리케이션을 거치지 않으므로 제외)
+     */
+    private ResponseEntity<StreamingResponseBody> singlePart(
+            S3StorageService storage,
+            String bucketName,
+            StoredFileRef file,
+            ByteRange range,
+            long fileSize,
+            ResponseHeaders headers,
+            FullFileVerification verification,
+            DownloadBandwidthShaper.Client client,
+            HttpServletRequest request
+    ) throws IOException {
+        long start = range != null ? range.getStart() : 0;
+        long length = range != null ? range.length() : fileSize;
+
+        ResponseEntity.BodyBuilder builder = (range != null
+                ? ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).header(HttpHeaders.CONTENT_RANGE, range.toContentRange(fileSize))
+                : ResponseEntity.ok())
+                .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(length));
+        headers.applyTo(builder);
+
+        Optional<Path> localPath = storage.resolveLocalPath(bucketName, file.getFilePath());
+        if (localPath.isPresent()) {
+            if (!downloadBandwidthShaper.isEnabled() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+                // 커널 sendfile로 전송 (애플리케이션은 헤더만 작성)
+                request.setAttribute(SENDFILE_FILENAME_ATTR, localPath.get().toString());
+                request.setAttribute(SENDFILE_START_ATTR, start);
+                request.setAttribute(SENDFILE_END_ATTR, start + length); // end는 exclusive
+                storageMetrics.recordBytes("get", length);
+                return builder.build();
+            }
+            return builder.body(fileChannelBody(localPath.get(), start, length, verification, client));
+        }
+
+        // 스트림은 요청 스레드에서 열어 스토리지 오류가 일반 오류 응답으로 처리되도록 함
+        InputStream source = storage.openStream(bucketName, file.getFilePath(), range);
+        return builder.body(streamBody(source, verification, client));
+    }
+
+    /**
+     * 다중 Range 요청 처리 (multipart/byteranges)
+     * 병합된 범위마다 저장소 Range 읽기를 한 번씩 순차적으로 수행하여 스트리밍
+     */
+    private ResponseEntity<StreamingResponseBody> multiPart(
+            S3StorageService storage,
+            String bucketName,
+            StoredFileRef file,
+            List<ByteRange> ranges,
+            long fileSize,
+            ResponseHeaders headers,
+            DownloadBandwidthShaper.Client client
+    ) {
+        String boundary = UUID.randomUUID().toString().replace("-", "");
+
+        List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+        long contentLength = 0;
+        for (ByteRange range : ranges) {
+            byte[] partHeader = ("\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + headers.contentType + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": " + range.toContentRange(fileSize) + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(partHeader);
+            contentLength += partHeader.length + range.length();
+        }
+        byte[] closingBoundary = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        contentLength += closingBoundary.length;
+
+        logger.debug("다중 Range 요청 처리 - ranges: {}, contentLength: {}", ranges, contentLength);
+
+        StreamingResponseBody body = NonBlockingResponseBody.of(outputStream -> {
+            try (OutputStream out = downloadBandwidthShaper.shape(outputStream, client)) {
+                for (int i = 0; i < ranges.size(); i++) {
+                    out.write(partHeaders.get(i));
+                    try (InputStream in = storage.openStream(bucketName, file.getFilePath(), ranges.get(i))) {
+                        storageMetrics.recordBytes("get", streamingBufferPool.copy(in, out));
+                    }
+                }
+                out.write(closingBoundary);
+            }
+        });
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(contentLength));
+        headers.applyTo(builder, "multipart/byteranges; boundary=" + boundary);
+        return builder.body(body);
+    }
+
+    /**
+     * 이미 열린 스트림을 응답 본문으로 전송 (재사용 버퍼 사용, 완료/중단 시 스트림 닫음)
+     */
+    private StreamingResponseBody streamBody(InputStream source, FullFileVerification verification,
+                                             DownloadBandwidthShaper.Client client) {
+        return NonBlockingResponseBody.of(outputStream -> {
+            try (InputStream in = source; OutputStream out = downloadBandwidthShaper.shape(outputStream, client)) {
+                if (verification == null) {
+                    storageMetrics.recordBytes("get", streamingBufferPool.copy(in, out));
+                    return;
+                }
+                DigestingOutputStream digesting = new DigestingOutputStream(out);
+                storageMetrics.recordBytes("get", streamingBufferPool.copy(in, digesting));
+                verify(verification, digesting);
+            }
+        });
+    }
+
+    /**
+     * sendfile을 쓸 수 없는 환경(SSL, 대역폭 제한 등)에서의 로컬 파일 전송
+     */
+    private StreamingResponseBody fileChannelBody(Path path, long start, long length, FullFileVerification verification,
+                                                  DownloadBandwidthShaper.Client client) {
+        return NonBlockingResponseBody.of(outputStream -> {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+                 OutputStream out = downloadBandwidthShaper.shape(outputStream, client)) {
+                DigestingOutputStream digesting = verification != null ? new DigestingOutputStream(out) : null;
+                WritableByteChannel target = Channels.newChannel(digesting != null ? digesting : out);
+                long position = start;
+                long remaining = length;
+                while (remaining > 0) {
+                    long transferred = channel.transferTo(position, remaining, target);
+                    if (transferred <= 0) {
+                        break; // 파일이 예상보다 짧아진 경우
+                    }
+                    position += transferred;
+                    remaining -= transferred;
+                }
+                storageMetrics.recordBytes("get", length - remaining);
+                if (digesting != null) {
+                    verify(verification, digesting);
+                }
+            }
+        });
+    }
+
+    /**
+     * 끝까지 전송된 경우에만 판정 (클라이언트가 중간에 끊으면 쓰기에서 예외가 나므로 여기까지 오지 않음)
+     */
+    private void verify(FullFileVerification verification, DigestingOutputStream digesting) {
+        if (digesting.getCount() != verification.expectedLength) {
+            return;
+        }
+        String actualHash = digesting.hexDigest();
+        if (verification.expectedHash.equals(actualHash)) {
+            storageMetrics.recordStreamVerification("verified");
+        } else {
+            storageQuarantineService.reportMismatch(verification.location, verification.key,
+                    verification.expectedHash, actualHash);
+        }
+    }
+
+    private static String bucketOf(S3StorageService storage, StoredFileRef file) {
+        return file.getBucketName() != null ? file.getBucketName() : storage.getBucketName();
+    }
+
+    /**
+     * Content-Type 결정
+     */
+    private static String determineContentType(String storedContentType) {
+        if (storedContentType == null || !storedContentType.equals("application/pdf")) {
+            return "application/pdf"; // 기본값으로 PDF 설정
+        }
+        return storedContentType;
+    }
+
+    /**
+     * 전체 파일 전송 시 비교할 기대값
+     */
+    private static class FullFileVerification {
+        final StorageLocation location;
+        final String key;
+        final String expectedHash;
+        final long expectedLength;
+
+        FullFileVerification(StorageLocation location, String key, String expectedHash, long expectedLength) {
+            this.location = location;
+            this.key = key;
+            this.expectedHash = expectedHash;
+            this.expectedLength = expectedLength;
+        }
+    }
+
+    /**
+     * 모든 파일 응답에 공통으로 붙는 헤더
+     */
+    private static class ResponseHeaders {
+        final String contentType;
+        final ContentDisposition contentDisposition;
+        final String cacheControl;
+        final String eTag;
+
+        ResponseHeaders(String contentType, ContentDisposition contentDisposition, String cacheControl, String eTag) {
+            this.contentType = contentType;
+            this.contentDisposition = contentDisposition;
+            this.cacheControl = cacheControl;
+            this.eTag = eTag;
+        }
+
+        void applyTo(ResponseEntity.BodyBuilder builder) {
+            applyTo(builder, contentType);
+        }
+
+        void applyTo(ResponseEntity.BodyBuilder builder, String responseContentType) {
+            builder.header(HttpHeaders.CONTENT_TYPE, responseContentType)
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString());
+            if (cacheControl != null) {
+                builder.header(HttpHeaders.CACHE_CONTROL, cacheControl);
+            }
+            if (eTag != null) {
+                builder.header(HttpHeaders.ETAG, eTag);
+            }
+        }
+    }
+}
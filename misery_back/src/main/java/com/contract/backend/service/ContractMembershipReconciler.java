@@ -0,0 +1,207 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractEntity;
+import com.contract.backend.common.Entity.ContractPartyEntity;
+import com.contract.backend.common.Entity.UserContractMembershipEntity;
+import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.Entity.enumm.MembershipRole;
+import com.contract.backend.common.config.MembershipProperties;
+import com.contract.backend.common.repository.ContractPartyRepository;
+import com.contract.backend.common.repository.ContractRepository;
+import com.contract.backend.common.repository.UserContractMembershipRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 멤버십 백필 / 정합성 검사
+ * contracts(작성자) + contract_parties(참여자)를 기준으로 계약서 id 순서대로 배치 단위 비교
+ * - missing: 있어야 하는데 없는 행 (백필 대상)
+ * - stale: 역할 / 상태 / 생성 시각 / 삭제 여부가 다른 행
+ * - orphan: 작성자도 참여자도 아닌 사용자의 행
+ */
+@Component
+public class ContractMembershipReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContractMembershipReconciler.class);
+
+    private final ContractRepository contractRepository;
+    private final ContractPartyRepository contractPartyRepository;
+    private final UserContractMembershipRepository membershipRepository;
+    private final ContractMembershipService membershipService;
+    private final MembershipProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    public ContractMembershipReconciler(
+            ContractRepository contractRepository,
+            ContractPartyRepository contractPartyRepository,
+            UserContractMembershipRepository membershipRepository,
+            ContractMembershipService membershipService,
+            MembershipProperties properties,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.contractRepository = contractRepository;
+        this.contractPartyRepository = contractPartyRepository;
+        this.membershipRepository = membershipRepository;
+        this.membershipService = membershipService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!properties.isBackfillOnStartup()) {
+            membershipService.markBackfilled();
+            return;
+        }
+        Drift drift = reconcile(true);
+        if (drift.failedBatches == 0) {
+            membershipService.markBackfilled();
+        }
+        logger.info("멤버십 백필 완료 - contracts: {}, missing: {}, stale: {}, orphan: {}, failedBatches: {}",
+                drift.contracts, drift.missing, drift.stale, drift.orphan, drift.failedBatches);
+    }
+
+    @Scheduled(initialDelayString = "#{@membershipProperties.checkInterval.toMillis()}",
+            fixedDelayString = "#{@membershipProperties.checkInterval.toMillis()}")
+    public void check() {
+        Drift drift = reconcile(properties.isRepair());
+        if (drift.failedBatches == 0 && (properties.isRepair() || drift.missing == 0)) {
+            membershipService.markBackfilled();
+        }
+        if (drift.missing + drift.stale + drift.orphan > 0) {
+            logger.warn("멤버십 불일치 발견 - contracts: {}, missing: {}, stale: {}, orphan: {}, repaired: {}",
+                    drift.contracts, drift.missing, drift.stale, drift.orphan, properties.isRepair());
+        } else {
+            logger.info("멤버십 정합성 확인 - contracts: {}", drift.contracts);
+        }
+    }
+
+    private Drift reconcile(boolean repair) {
+        Drift drift = new Drift();
+        long lastId = 0;
+        while (true) {
+            long afterId = lastId;
+            Long batchLastId;
+            try {
+                batchLastId = transactionTemplate.execute(status -> reconcileBatch(afterId, repair, drift));
+            } catch (Exception e) {
+                // 다른 인스턴스와 동시에 같은 행을 넣는 경우 등, 다음 검사에서 다시 맞춤
+                logger.warn("멤버십 배치 처리 실패 - afterId: {}, error: {}", afterId, e.getMessage());
+                drift.failedBatches++;
+                batchLastId = skipBatch(afterId);
+            }
+            if (batchLastId == null) {
+                break;
+            }
+            lastId = batchLastId;
+        }
+        meterRegistry.counter("contract.membership.drift", "kind", "missing").increment(drift.missing);
+        meterRegistry.counter("contract.membership.drift", "kind", "stale").increment(drift.stale);
+        meterRegistry.counter("contract.membership.drift", "kind", "orphan").increment(drift.orphan);
+        return drift;
+    }
+
+    /**
+     * @return 배치의 마지막 계약서 id (더 없으면 null)
+     */
+    private Long reconcileBatch(long afterId, boolean repair, Drift drift) {
+        List<ContractEntity> contracts = contractRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId, PageRequest.of(0, properties.getBatchSize()));
+        if (contracts.isEmpty()) {
+            return null;
+        }
+
+        // 계약서별 기대 멤버 (userId -> 역할)
+        Map<Long, Map<Long, Expected>> expected = new HashMap<>();
+        for (ContractEntity contract : contracts) {
+            Map<Long, Expected> members = new HashMap<>();
+            members.put(contract.getCreatedBy().getId(), new Expected(contract.getCreatedBy(), MembershipRole.CREATOR));
+            expected.put(contract.getId(), members);
+        }
+        for (ContractPartyEntity party : contractPartyRepository.findByContractIn(contracts)) {
+            expected.get(party.getContract().getId()).putIfAbsent(party.getParty().getId(),
+                    new Expected(party.getParty(), ContractMembershipService.roleOf(party.getRole())));
+        }
+
+        Map<Long, ContractEntity> contractsById = new HashMap<>();
+        contracts.forEach(contract -> contractsById.put(contract.getId(), contract));
+
+        for (UserContractMembershipEntity membership : membershipRepository.findByContractIn(contracts)) {
+            ContractEntity contract = contractsById.get(membership.getContract().getId());
+            Expected member = expected.get(contract.getId()).remove(membership.getUser().getId());
+            if (member == null) {
+                drift.orphan++;
+                if (repair) {
+                    membershipRepository.delete(membership);
+                }
+                continue;
+            }
+            boolean deleted = contract.getDeletedAt() != null;
+            if (membership.getRole() != member.role
+                    || membership.getStatus() != contract.getStatus()
+                    || !Objects.equals(membership.getCreatedAt(), contract.getCreatedAt())
+                    || membership.isDeleted() != deleted) {
+                drift.stale++;
+                if (repair) {
+                    membership.setRole(member.role);
+                    membership.setStatus(contract.getStatus());
+                    membership.setCreatedAt(contract.getCreatedAt());
+                    membership.setDeleted(deleted);
+                }
+            }
+        }
+
+        // 남은 기대 멤버는 행이 없는 것
+        for (ContractEntity contract : contracts) {
+            for (Expected member : expected.get(contract.getId()).values()) {
+                drift.missing++;
+                if (repair) {
+                    membershipRepository.save(new UserContractMembershipEntity(member.user, contract, member.role));
+                }
+            }
+        }
+
+        drift.contracts += contracts.size();
+        return contracts.get(contracts.size() - 1).getId();
+    }
+
+    private Long skipBatch(long afterId) {
+        List<ContractEntity> contracts = contractRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId, PageRequest.of(0, properties.getBatchSize()));
+        return contracts.isEmpty() ? null : contracts.get(contracts.size() - 1).getId();
+    }
+
+    private static class Expected {
+        final UserEntity user;
+        final MembershipRole role;
+
+        Expected(UserEntity user, MembershipRole role) {
+            this.user = user;
+            this.role = role;
+        }
+    }
+
+    private static class Drift {
+        long contracts;
+        long missing;
+        long stale;
+        long orphan;
+        int failedBatches;
+    }
+}
@@ -0,0 +1,87 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractEntity;
+import com.contract.backend.common.Entity.UserContractMembershipEntity;
+import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.Entity.enumm.MembershipRole;
+import com.contract.backend.common.Entity.enumm.PartyRole;
+import com.contract.backend.common.repository.ContractPartyRepository;
+import com.contract.backend.common.repository.UserContractMembershipRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자별 계약서 멤버십(user_contract_membership) 갱신 / 조회
+ * - 갱신은 계약서 / 참여자를 바꾸는 트랜잭션 안에서만 호출 (MANDATORY)
+ * - 기동 후 백필(ContractMembershipReconciler)이 끝나기 전에는 멤버십이 비어 있을 수 있으므로
+ *   권한 확인은 기존 방식(작성자 또는 참여자)으로, 목록은 기존 쿼리로 처리
+ */
+@Service
+public class ContractMembershipService {
+
+    private final UserContractMembershipRepository membershipRepository;
+    private final ContractPartyRepository contractPartyRepository;
+
+    private volatile boolean backfilled;
+
+    public ContractMembershipService(
+            UserContractMembershipRepository membershipRepository,
+            ContractPartyRepository contractPartyRepository
+    ) {
+        this.membershipRepository = membershipRepository;
+        this.contractPartyRepository = contractPartyRepository;
+    }
+
+    /**
+     * 멤버 추가 (이미 있으면 역할 / 상태만 맞춤, 작성자 역할은 유지)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addMember(ContractEntity contract, UserEntity user, MembershipRole role) {
+        membershipRepository.findByUserAndContract(user, contract).ifPresentOrElse(
+                membership -> {
+                    if (membership.getRole() != MembershipRole.CREATOR) {
+                        membership.setRole(role);
+                    }
+                    membership.setStatus(contract.getStatus());
+                    membership.setDeleted(contract.getDeletedAt() != null);
+                },
+                () -> membershipRepository.save(new UserContractMembershipEntity(user, contract, role)));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markDeleted(ContractEntity contract) {
+        membershipRepository.markDeleted(contract);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void updateStatus(ContractEntity contract) {
+        membershipRepository.updateStatus(contract, contract.getStatus());
+    }
+
+    /**
+     * 작성자이거나 참여자인지 확인
+     */
+    public boolean isMember(ContractEntity contract, UserEntity user) {
+        if (backfilled) {
+            return membershipRepository.isActiveMember(user, contract);
+        }
+        return contract.getCreatedBy().getId().equals(user.getId())
+                || contractPartyRepository.findByContractAndParty(contract, user).isPresent();
+    }
+
+    /**
+     * 목록 / 권한 확인을 멤버십으로 처리해도 되는지 (이 인스턴스에서 백필이 끝났는지)
+     */
+    public boolean isBackfilled() {
+        return backfilled;
+    }
+
+    void markBackfilled() {
+        this.backfilled = true;
+    }
+
+    public static MembershipRole roleOf(PartyRole partyRole) {
+        return partyRole == PartyRole.INITIATOR ? MembershipRole.INITIATOR : MembershipRole.COUNTERPARTY;
+    }
+}
@@ -0,0 +1,288 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractVersionEntity;
+import com.contract.backend.common.Entity.enumm.PreviewStatus;
+import com.contract.backend.common.config.PreviewProperties;
+import com.contract.backend.common.event.ContractChangedEvent;
+import com.contract.backend.common.event.ContractVersionCreatedEvent;
+import com.contract.backend.common.exception.CustomException;
+import com.contract.backend.common.exception.CustomExceptionEnum;
+import com.contract.backend.common.metrics.StorageMetrics;
+import com.contract.backend.common.repository.ContractVersionRepository;
+import com.contract.backend.common.util.stream.NonBlockingResponseBody;
+import com.contract.backend.common.util.stream.StreamingBufferPool;
+import jakarta.annotation.PreDestroy;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 계약서 썸네일 / 저해상도 페이지 이미지
+ *
+ * - 버전 생성 커밋 후 백그라운드에서 PDF를 렌더링하여 원본 키 옆({key}.preview/...)에 JPEG로 저장
+ * - 이미지는 기본 저장소에 저장하므로 원본이 COLD 계층으로 옮겨져도 목록 썸네일은 그대로 제공됨
+ * - 버전 키는 내용이 바뀌지 않으므로 immutable 캐시 헤더로 응답
+ * - 렌더링 작업은 메모리 큐에만 있으므로, 재기동 등으로 유실되어 render-timeout 이 지난 PENDING 은 다시 렌더링
+ */
+@Service
+public class ContractPreviewService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContractPreviewService.class);
+
+    private static final String THUMBNAIL_NAME = "thumb.jpg";
+    private static final String IMAGE_CONTENT_TYPE = "image/jpeg";
+    private static final String IMMUTABLE_CACHE_CONTROL = "private, max-age=31536000, immutable";
+
+    private final StorageServiceRegistry storageServiceRegistry;
+    private final StorageRouter storageRouter;
+    private final ContractVersionRepository contractVersionRepository;
+    private final PreviewProperties properties;
+    private final StreamingBufferPool streamingBufferPool;
+    private final StorageMetrics storageMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService renderExecutor;
+
+    public ContractPreviewService(
+            StorageServiceRegistry storageServiceRegistry,
+            StorageRouter storageRouter,
+            ContractVersionRepository contractVersionRepository,
+            PreviewProperties properties,
+            StreamingBufferPool streamingBufferPool,
+            StorageMetrics storageMetrics,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.storageServiceRegistry = storageServiceRegistry;
+        this.storageRouter = storageRouter;
+        this.contractVersionRepository = contractVersionRepository;
+        this.properties = properties;
+        this.streamingBufferPool = streamingBufferPool;
+        this.storageMetrics = storageMetrics;
+        this.eventPublisher = eventPublisher;
+        this.renderExecutor = Executors.newFixedThreadPool(properties.getRenderConcurrency(),
+                Thread.ofPlatform().name("preview-render-", 0).daemon(true).factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderExecutor.shutdownNow();
+    }
+
+    /**
+     * 버전 생성 트랜잭션이 커밋된 뒤에 렌더링 시작 (롤백된 버전은 렌더링하지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onVersionCreated(ContractVersionCreatedEvent event) {
+        if (properties.isEnabled()) {
+            requestRender(event.getContractVersionId());
+        }
+    }
+
+    public ResponseEntity<StreamingResponseBody> serveThumbnail(ContractVersionEntity version, String ifNoneMatch) throws IOException {
+        return serveImage(version, THUMBNAIL_NAME, ifNoneMatch);
+    }
+
+    /**
+     * @param page 1부터 시작
+     */
+    public ResponseEntity<StreamingResponseBody> servePage(ContractVersionEntity version, int page, String ifNoneMatch) throws IOException {
+        if (version.getPreviewStatus() == PreviewStatus.READY
+                && (page < 1 || version.getPreviewPageCount() == null || page > version.getPreviewPageCount())) {
+            throw new CustomException(CustomExceptionEnum.PREVIEW_NOT_FOUND);
+        }
+        return serveImage(version, pageName(page), ifNoneMatch);
+    }
+
+    private ResponseEntity<StreamingResponseBody> serveImage(ContractVersionEntity version, String name, String ifNoneMatch) throws IOException {
+        PreviewStatus status = version.getPreviewStatus();
+        if (status == null) {
+            // 기능 도입 전에 올라온 버전: 첫 요청 시 렌더링 (COLD 계층 원본은 복원하지 않음)
+            if (!properties.isEnabled() || !StorageLifecycleService.isHot(version)) {
+                throw new CustomException(CustomExceptionEnum.PREVIEW_NOT_FOUND);
+            }
+            requestRender(version.getId());
+            status = PreviewStatus.PENDING;
+        }
+        if (status == PreviewStatus.PENDING) {
+            if (version.getPreviewRequestedAt() == null || version.getPreviewRequestedAt().isBefore(staleBefore())) {
+                requestStaleRender(version.getId());
+            }
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(properties.getRetryAfterSeconds()))
+                    .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                    .build();
+        }
+        if (status == PreviewStatus.FAILED) {
+            throw new CustomException(CustomExceptionEnum.PREVIEW_NOT_FOUND);
+        }
+
+        String etag = "\"" + version.getFileHash() + "-" + name + "\"";
+        if (ifNoneMatch != null && ifNoneMatch.contains(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL)
+                    .build();
+        }
+
+        S3StorageService storage = storageServiceRegistry.getDefault();
+        String key = StorageKeys.previewKey(version.getFilePath(), name);
+        StoredObjectInfo objectInfo = storage.getObjectInfo(storage.getBucketName(), key);
+        InputStream source = storage.openStream(storage.getBucketName(), key, null);
+
+        StreamingResponseBody body = NonBlockingResponseBody.of(outputStream -> {
+            try (InputStream in = source) {
+                storageMetrics.recordBytes("get", streamingBufferPool.copy(in, outputStream));
+            }
+        });
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, IMAGE_CONTENT_TYPE)
+                .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(objectInfo.getContentLength()))
+                .header(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL)
+                .eTag(etag)
+                .body(body);
+    }
+
+    /**
+     * 유실된 렌더링 작업 복구 (요청이 없는 버전의 목록 썸네일도 PENDING 으로 남지 않도록)
+     */
+    @Scheduled(fixedDelayString = "#{@previewProperties.recoveryInterval.toMillis()}")
+    public void recoverStaleRenders() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        List<Long> staleIds = contractVersionRepository.findStalePreviewPendingIds(
+                PreviewStatus.PENDING, staleBefore(), PageRequest.of(0, properties.getRecoveryBatchSize()));
+        for (Long versionId : staleIds) {
+            requestStaleRender(versionId);
+        }
+    }
+
+    private void requestRender(Long versionId) {
+        if (contractVersionRepository.markPreviewPending(versionId, PreviewStatus.PENDING, LocalDateTime.now()) == 1) {
+            renderExecutor.execute(() -> render(versionId));
+        }
+    }
+
+    private void requestStaleRender(Long versionId) {
+        if (properties.isEnabled() && contractVersionRepository.remarkStalePreviewPending(
+                versionId, PreviewStatus.PENDING, staleBefore(), LocalDateTime.now()) == 1) {
+            logger.warn("유실된 미리보기 렌더링 재요청 - versionId: {}", versionId);
+            renderExecutor.execute(() -> render(versionId));
+        }
+    }
+
+    private LocalDateTime staleBefore() {
+        return LocalDateTime.now().minus(properties.getRenderTimeout());
+    }
+
+    void render(Long versionId) {
+        ContractVersionEntity version = contractVersionRepository.findById(versionId).orElse(null);
+        if (version == null) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        Path tempFile = null;
+        try {
+            StorageRouter.ReadTarget source = storageRouter.resolveForRead(StoredFileRef.of(version));
+            tempFile = Files.createTempFile("preview-", ".pdf");
+            try (InputStream in = source.getStorage().openStream(
+                    source.getLocation().getBucketName(), version.getFilePath(), null)) {
+                Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            S3StorageService target = storageServiceRegistry.getDefault();
+            int renderedPages;
+            try (PDDocument document = Loader.loadPDF(tempFile.toFile())) {
+                int totalPages = document.getNumberOfPages();
+                if (totalPages == 0) {
+                    throw new IOException("페이지가 없는 PDF입니다.");
+                }
+                PDFRenderer renderer = new PDFRenderer(document);
+
+                float scale = properties.getThumbnailWidth() / document.getPage(0).getCropBox().getWidth();
+                putImage(target, version.getFilePath(), THUMBNAIL_NAME, renderer.renderImage(0, scale, ImageType.RGB));
+
+                renderedPages = Math.min(totalPages, properties.getMaxPages());
+                for (int i = 0; i < renderedPages; i++) {
+                    putImage(target, version.getFilePath(), pageName(i + 1),
+                            renderer.renderImageWithDPI(i, properties.getPageDpi(), ImageType.RGB));
+                }
+            }
+
+            contractVersionRepository.updatePreviewStatus(versionId, PreviewStatus.READY, renderedPages);
+            logger.info("미리보기 렌더링 완료 - versionId: {}, pages: {}, elapsedMs: {}",
+                    versionId, renderedPages, (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (Exception e) {
+            logger.error("미리보기 렌더링 실패 - versionId: {}, error: {}", versionId, e.getMessage(), e);
+            contractVersionRepository.updatePreviewStatus(versionId, PreviewStatus.FAILED, null);
+        } finally {
+            // 목록 / 상세의 미리보기 상태 갱신
+            eventPublisher.publishEvent(new ContractChangedEvent(version.getContract().getId()));
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    logger.warn("임시 파일 삭제 실패: {}", tempFile);
+                }
+            }
+        }
+    }
+
+    private void putImage(S3StorageService target, String filePath, String name, BufferedImage image) throws IOException {
+        byte[] jpeg = encodeJpeg(image);
+        target.put(target.getBucketName(), StorageKeys.previewKey(filePath, name),
+                new ByteArrayInputStream(jpeg), jpeg.length, IMAGE_CONTENT_TYPE);
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(properties.getJpegQuality());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static String pageName(int page) {
+        return "page-" + page + ".jpg";
+    }
+}
@@ -0,0 +1,421 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.config.ContractCacheProperties;
+import com.contract.backend.common.dto.ContractCursorPageDTO;
+import com.contract.backend.common.dto.ContractDetailDTO;
+import com.contract.backend.common.dto.ContractListDTO;
+import com.contract.backend.common.event.ContractChangedEvent;
+import com.contract.backend.common.repository.ContractPartyRepository;
+import com.contract.backend.common.repository.ContractRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 계약서 상세 / 목록 조회 캐시 (near cache -> Redis -> DB 순서로 읽고 DB 결과를 채움)
+ * - 권한 확인(authorize)은 캐시 값을 돌려주기 전에 항상 실행 (상세 값은 요청자와 무관, 목록 키는 사용자별)
+ * - 버전 키: 계약서별(상세) / 사용자별(목록) 카운터를 값 키에 포함, 변경 커밋 후 카운터를 올려 이전 값을 버림
+ *   (이전 값은 지우지 않고 ttl 로 만료)
+ * - Redis 오류 시 redisRetryAfter 동안 DB 에서만 조회, 그 사이 놓친 무효화는 복구 후 전체 epoch 를 올려 처리
+ * - near cache 는 이 인스턴스의 변경은 바로, 다른 인스턴스의 변경은 nearTtl 안에 반영
+ */
+@Component
+public class ContractReadCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContractReadCache.class);
+
+    private static final String DETAIL = "detail";
+    private static final String LIST = "list";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ContractRepository contractRepository;
+    private final ContractPartyRepository contractPartyRepository;
+    private final ContractCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate memberLookup;
+
+    private final JavaType detailType;
+    private final JavaType pageType;
+    private final JavaType cursorPageType;
+
+    private final Map<String, NearEntry> nearCache = new ConcurrentHashMap<>();
+    // 무효화 횟수: DB 조회 중 무효화가 있었으면 그 결과는 near cache 에 넣지 않음
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Map<String, CacheStats> stats = new ConcurrentHashMap<>();
+
+    private volatile long redisRetryAt = System.nanoTime();
+    private volatile boolean missedInvalidations;
+
+    public ContractReadCache(
+            StringRedisTemplate redisTemplate,
+            ContractRepository contractRepository,
+            ContractPartyRepository contractPartyRepository,
+            ContractCacheProperties properties,
+            MeterRegistry meterRegistry,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.contractRepository = contractRepository;
+        this.contractPartyRepository = contractPartyRepository;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper.copy().disable(SerializationFeature.INDENT_OUTPUT);
+        this.detailType = this.objectMapper.constructType(ContractDetailDTO.class);
+        this.pageType = this.objectMapper.constructType(PageSnapshot.class);
+        this.cursorPageType = this.objectMapper.constructType(ContractCursorPageDTO.class);
+
+        // 커밋 후 리스너에서 호출되므로 원래 트랜잭션과 분리된 새 트랜잭션에서 조회
+        this.memberLookup = new TransactionTemplate(transactionManager);
+        this.memberLookup.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.memberLookup.setReadOnly(true);
+
+        statsOf(DETAIL);
+        statsOf(LIST);
+    }
+
+    /**
+     * 계약서 상세
+     * authorize 는 캐시 값을 돌려주기 전에 항상 실행 (요청자 / 계약서 조회와 권한 확인, 실패 시 예외)
+     * loader 는 캐시에 없을 때 authorize 결과로 상세를 구성
+     */
+    public <A> ContractDetailDTO getDetail(Long contractId, Supplier<A> authorize,
+                                           Function<A, ContractDetailDTO> loader) {
+        return read(DETAIL, contractVersionKey(contractId), "detail:" + contractId, detailType, authorize, loader);
+    }
+
+    /**
+     * 페이지 번호 기반 목록 (authorize: 요청자 조회)
+     */
+    public <A> Page<ContractListDTO> getPage(String userUuid, Pageable pageable, Supplier<A> authorize,
+                                             Function<A, Page<ContractListDTO>> loader) {
+        String key = "list:" + userUuid + ":page:" + pageable.getPageNumber() + ":" + pageable.getPageSize()
+                + ":" + pageable.getSort();
+        PageSnapshot snapshot = read(LIST, userVersionKey(userUuid), key, pageType, authorize,
+                user -> PageSnapshot.of(loader.apply(user)));
+        return new PageImpl<>(snapshot.content, pageable, snapshot.total);
+    }
+
+    /**
+     * 커서 기반 목록 (authorize: 요청자 조회)
+     */
+    public <A> ContractCursorPageDTO getCursorPage(String userUuid, String cursor, int size, boolean withTotal,
+                                                   Supplier<A> authorize, Function<A, ContractCursorPageDTO> loader) {
+        String key = "list:" + userUuid + ":cursor:" + (cursor != null ? cursor : "") + ":" + size + ":" + withTotal;
+        return read(LIST, userVersionKey(userUuid), key, cursorPageType, authorize, loader);
+    }
+
+    /**
+     * 버전 키는 DB 를 조회하기 전에 읽는다.
+     * InnoDB(REPEATABLE READ)의 읽기 스냅샷은 트랜잭션의 첫 SELECT 시점에 만들어지므로,
+     * 버전을 먼저 읽으면 그 뒤 조회한 값은 항상 그 버전 이후의 내용이다.
+     * (DB 를 먼저 읽으면 그 사이 커밋된 변경의 새 버전 키에 이전 내용을 채울 수 있음)
+     */
+    private <A, T> T read(String cache, String versionKey, String key, JavaType type,
+                          Supplier<A> authorize, Function<A, T> loader) {
+        if (!properties.isEnabled()) {
+            return loader.apply(authorize.get());
+        }
+        CacheStats cacheStats = statsOf(cache);
+        long generation = invalidations.get();
+
+        String cachedJson = null;
+        boolean fromNear = false;
+        NearEntry near = nearCache.get(key);
+        if (near != null) {
+            if (near.expiresAt - System.nanoTime() > 0) {
+                cachedJson = near.json;
+                fromNear = true;
+            } else {
+                nearCache.remove(key, near);
+            }
+        }
+
+        String valueKey = null;
+        if (cachedJson == null && redisAvailable()) {
+            try {
+                restoreAfterMissedInvalidations();
+                List<String> versions = redisTemplate.opsForValue().multiGet(List.of(epochKey(), versionKey));
+                valueKey = properties.getKeyPrefix() + ":" + key
+                        + ":e" + versionOf(versions, 0) + ":v" + versionOf(versions, 1);
+                cachedJson = redisTemplate.opsForValue().get(valueKey);
+            } catch (RuntimeException e) {
+                redisFailed("read", e);
+                valueKey = null;
+            }
+        }
+
+        // 캐시 값이 있어도 권한 확인은 항상 먼저
+        A authorized = authorize.get();
+
+        if (cachedJson != null) {
+            T value = decode(cachedJson, type);
+            if (value != null) {
+                if (fromNear) {
+                    cacheStats.near.increment();
+                } else {
+                    cacheStats.redis.increment();
+                    putNear(key, cachedJson, generation);
+                }
+                return value;
+            }
+            if (fromNear) {
+                nearCache.remove(key, near);
+            }
+        }
+
+        cacheStats.miss.increment();
+        T value = loader.apply(authorized);
+        String json = encode(value);
+        if (json == null) {
+            return value;
+        }
+        if (valueKey != null) {
+            try {
+                redisTemplate.opsForValue().set(valueKey, json, properties.getTtl());
+            } catch (RuntimeException e) {
+                redisFailed("write", e);
+            }
+        }
+        putNear(key, json, generation);
+        return value;
+    }
+
+    /**
+     * 변경 커밋 후 계약서 상세와 작성자 / 참여자 전원의 목록을 무효화
+     * (트랜잭션 밖에서 발행된 이벤트는 바로 처리)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onContractChanged(ContractChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Long contractId = event.getContractId();
+        Set<String> userUuids;
+        try {
+            userUuids = memberLookup.execute(status -> {
+                Set<String> uuids = new HashSet<>(contractPartyRepository.findPartyUuidsByContractId(contractId));
+                contractRepository.findCreatorUuidById(contractId).ifPresent(uuids::add);
+                return uuids;
+            });
+        } catch (RuntimeException e) {
+            // 대상 사용자를 알 수 없으면 전체 epoch 를 올려 모든 값을 버림
+            logger.warn("캐시 무효화 대상 조회 실패 - contractId: {}, error: {}", contractId, e.getMessage());
+            missedInvalidations = true;
+            userUuids = Set.of();
+        }
+
+        invalidations.incrementAndGet();
+        evictNear(contractId, userUuids);
+
+        List<String> versionKeys = new ArrayList<>(userUuids.size() + 1);
+        versionKeys.add(contractVersionKey(contractId));
+        userUuids.forEach(uuid -> versionKeys.add(userVersionKey(uuid)));
+        bumpVersions(versionKeys);
+        meterRegistry.counter("contract.cache.invalidations", "scope", "contract").increment();
+        meterRegistry.counter("contract.cache.invalidations", "scope", "user").increment(userUuids.size());
+    }
+
+    private void bumpVersions(List<String> versionKeys) {
+        if (!redisAvailable()) {
+            missedInvalidations = true;
+            return;
+        }
+        long versionTtlSeconds = properties.getVersionTtl().toSeconds();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (String versionKey : versionKeys) {
+                    stringConnection.incr(versionKey);
+                    stringConnection.expire(versionKey, versionTtlSeconds);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            missedInvalidations = true;
+            redisFailed("invalidate", e);
+        }
+    }
+
+    /**
+     * Redis 에 반영하지 못한 무효화가 있으면 epoch 를 올려 그 이전 값을 모두 버림
+     */
+    private void restoreAfterMissedInvalidations() {
+        if (!missedInvalidations) {
+            return;
+        }
+        redisTemplate.opsForValue().increment(epochKey());
+        redisTemplate.expire(epochKey(), properties.getVersionTtl());
+        missedInvalidations = false;
+        logger.info("조회 캐시 epoch 갱신 (Redis 장애 중 누락된 무효화 처리)");
+    }
+
+    private void evictNear(Long contractId, Set<String> userUuids) {
+        nearCache.remove("detail:" + contractId);
+        if (userUuids.isEmpty()) {
+            if (missedInvalidations) {
+                nearCache.clear();
+            }
+            return;
+        }
+        nearCache.keySet().removeIf(key -> {
+            if (!key.startsWith("list:")) {
+                return false;
+            }
+            int end = key.indexOf(':', 5);
+            return end > 0 && userUuids.contains(key.substring(5, end));
+        });
+    }
+
+    private void putNear(String key, String json, long generation) {
+        long nearTtlNanos = properties.getNearTtl().toNanos();
+        if (nearTtlNanos <= 0 || invalidations.get() != generation) {
+            return;
+        }
+        if (nearCache.size() >= properties.getNearMaxEntries()) {
+            long now = System.nanoTime();
+            nearCache.values().removeIf(entry -> entry.expiresAt - now <= 0);
+            if (nearCache.size() >= properties.getNearMaxEntries()) {
+                return;
+            }
+        }
+        nearCache.put(key, new NearEntry(json, System.nanoTime() + nearTtlNanos));
+    }
+
+    private boolean redisAvailable() {
+        return System.nanoTime() - redisRetryAt >= 0;
+    }
+
+    private void redisFailed(String operation, RuntimeException e) {
+        boolean wasAvailable = redisAvailable();
+        redisRetryAt = System.nanoTime() + properties.getRedisRetryAfter().toNanos();
+        meterRegistry.counter("contract.cache.errors", "operation", operation).increment();
+        if (wasAvailable) {
+            logger.warn("조회 캐시 Redis 오류, {}초 동안 DB 에서만 조회 - operation: {}, error: {}",
+                    properties.getRedisRetryAfter().toSeconds(), operation, e.getMessage());
+        }
+    }
+
+    private <T> T decode(String json, JavaType type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            // 배포 사이에 DTO 형식이 바뀐 경우 등, DB 에서 다시 채움
+            logger.debug("조회 캐시 값 역직렬화 실패 - type: {}, error: {}", type, e.getMessage());
+            return null;
+        }
+    }
+
+    private String encode(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            logger.warn("조회 캐시 값 직렬화 실패 - type: {}, error: {}", value.getClass().getSimpleName(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static String versionOf(List<String> versions, int index) {
+        String version = versions != null ? versions.get(index) : null;
+        return version != null ? version : "0";
+    }
+
+    private String epochKey() {
+        return properties.getKeyPrefix() + ":ver:epoch";
+    }
+
+    private String contractVersionKey(Long contractId) {
+        return properties.getKeyPrefix() + ":ver:contract:" + contractId;
+    }
+
+    private String userVersionKey(String userUuid) {
+        return properties.getKeyPrefix() + ":ver:user:" + userUuid;
+    }
+
+    private CacheStats statsOf(String cache) {
+        return stats.computeIfAbsent(cache, name -> {
+            CacheStats cacheStats = new CacheStats(
+                    meterRegistry.counter("contract.cache.requests", "cache", name, "result", "near"),
+                    meterRegistry.counter("contract.cache.requests", "cache", name, "result", "redis"),
+                    meterRegistry.counter("contract.cache.requests", "cache", name, "result", "miss"));
+            Gauge.builder("contract.cache.hit.ratio", cacheStats, CacheStats::hitRatio)
+                    .tag("cache", name)
+                    .register(meterRegistry);
+            return cacheStats;
+        });
+    }
+
+    private static final class CacheStats {
+        final Counter near;
+        final Counter redis;
+        final Counter miss;
+
+        CacheStats(Counter near, Counter redis, Counter miss) {
+            this.near = near;
+            this.redis = redis;
+            this.miss = miss;
+        }
+
+        double hitRatio() {
+            double hits = near.count() + redis.count();
+            double total = hits + miss.count();
+            return total == 0 ? 0 : hits / total;
+        }
+    }
+
+    private static final class NearEntry {
+        final String json;
+        final long expiresAt;
+
+        NearEntry(String json, long expiresAt) {
+            this.json = json;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * 페이지 번호 기반 목록의 캐시 값 (Page 는 그대로 직렬화하지 않음)
+     */
+    public static class PageSnapshot {
+        public List<ContractListDTO> content;
+        public long total;
+
+        public PageSnapshot() {}
+
+        static PageSnapshot of(Page<ContractListDTO> page) {
+            PageSnapshot snapshot = new PageSnapshot();
+            snapshot.content = page.getContent();
+            snapshot.total = page.getTotalElements();
+            return snapshot;
+        }
+    }
+}
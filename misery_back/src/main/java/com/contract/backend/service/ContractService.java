@@ -2,20 +2,29 @@ package com.contract.backend.service;
 
 import com.contract.backend.common.Entity.*;
 import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.Entity.enumm.MembershipRole;
 import com.contract.backend.common.Entity.enumm.PartyRole;
+import com.contract.backend.common.Entity.enumm.StorageTier;
 import com.contract.backend.common.Entity.enumm.VersionStatus;
 import com.contract.backend.common.dto.*;
+import com.contract.backend.common.event.ContractAccessRevokedEvent;
+import com.contract.backend.common.event.ContractChangedEvent;
+import com.contract.backend.common.event.ContractVersionCreatedEvent;
 import com.contract.backend.common.exception.CustomException;
 import com.contract.backend.common.exception.CustomExceptionEnum;
 import com.contract.backend.common.repository.*;
+import com.contract.backend.common.util.cursor.KeysetCursor;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -26,42 +35,58 @@ import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class ContractService {
 
     private static final Logger logger = LoggerFactory.getLogger(ContractService.class);
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     private final ContractRepository contractRepository;
     private final ContractVersionRepository contractVersionRepository;
     private final ContractPartyRepository contractPartyRepository;
-    private final S3StorageService s3StorageService;
+    private final StorageRouter storageRouter;
+    private final UploadSpoolService uploadSpoolService;
     private final UserRepository userRepository;
     private final SignatureRepository signatureRepository;
     private final BlockchainRecordRepository blockchainRecordRepository;
+    private final UserContractMembershipRepository contractMembershipRepository;
     private final BlockchainService blockchainService;
     private final ObjectMapper objectMapper;
-
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContractMembershipService contractMembershipService;
+    private final ContractReadCache contractReadCache;
 
     public ContractService(
             ContractRepository contractRepository,
             ContractVersionRepository contractVersionRepository,
             ContractPartyRepository contractPartyRepository,
-            S3StorageService s3StorageService,
+            StorageRouter storageRouter,
+            UploadSpoolService uploadSpoolService,
             UserRepository userRepository,
             SignatureRepository signatureRepository,
             BlockchainRecordRepository blockchainRecordRepository,
             @Qualifier("blockchainService") BlockchainService blockchainService,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            ContractMembershipService contractMembershipService,
+            UserContractMembershipRepository contractMembershipRepository,
+            ContractReadCache contractReadCache) {
         this.contractRepository = contractRepository;
         this.contractVersionRepository = contractVersionRepository;
         this.contractPartyRepository = contractPartyRepository;
-        this.s3StorageService = s3StorageService;
+        this.storageRouter = storageRouter;
+        this.uploadSpoolService = uploadSpoolService;
         this.userRepository = userRepository;
         this.signatureRepository = signatureRepository;
         this.blockchainRecordRepository = blockchainRecordRepository;
         this.blockchainService = blockchainService;
         this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.contractMembershipService = contractMembershipService;
+        this.contractMembershipRepository = contractMembershipRepository;
+        this.contractReadCache = contractReadCache;
     }
 
     @Transactional
@@ -69,6 +94,26 @@ public class ContractService {
             ContractUploadRequestDTO request,
             UserEntity uploader,
             MultipartFile file
+    ) throws Exception {
+        return createContract(request, uploader, (contract, versionNumber) -> saveNewVersion(contract, versionNumber, file));
+    }
+
+    /**
+     * 이미 저장소에 올라간 파일로 계약서 생성 (재개 가능한 업로드 완료 시)
+     */
+    @Transactional
+    public ContractEntity uploadContract(
+            ContractUploadRequestDTO request,
+            UserEntity uploader,
+            StoredFileRef stored
+    ) throws Exception {
+        return createContract(request, uploader, (contract, versionNumber) -> saveStoredVersion(contract, versionNumber, stored));
+    }
+
+    private ContractEntity createContract(
+            ContractUploadRequestDTO request,
+            UserEntity uploader,
+            VersionWriter versionWriter
     ) throws Exception {
         ContractEntity contract = new ContractEntity(
                 request.getTitle(),
@@ -78,25 +123,13 @@ public class ContractService {
         );
         contract = contractRepository.save(contract);
 
-        String fileHash = generateSHA256FromFile(file.getBytes());
-        String filePath = s3StorageService.upload(file);
-        String bucket = s3StorageService.getBucketName();
-
-        ContractVersionEntity version = new ContractVersionEntity(
-                contract,
-                1,
-                filePath,
-                fileHash,
-                VersionStatus.PENDING_SIGNATURE
-        );
-        version.setBucketName(bucket);
-        version.setStorageProvider("B2");
-        contractVersionRepository.save(version);
+        ContractVersionEntity version = versionWriter.write(contract, 1);
 
         contract.setCurrentVersion(version);
         contractRepository.save(contract);
 
         contractPartyRepository.save(new ContractPartyEntity(contract, uploader, PartyRole.INITIATOR));
+        contractMembershipService.addMember(contract, uploader, MembershipRole.CREATOR);
 
         if (request.getParticipantIds() != null) {
             for (UUID uuid : request.getParticipantIds()) {
@@ -104,9 +137,11 @@ public class ContractService {
                         .orElseThrow(() -> new CustomException(CustomExceptionEnum.USER_NOT_FOUND));
                 if (!participant.getId().equals(uploader.getId())) {
                     contractPartyRepository.save(new ContractPartyEntity(contract, participant, PartyRole.COUNTERPARTY));
+                    contractMembershipService.addMember(contract, participant, MembershipRole.COUNTERPARTY);
                 }
             }
         }
+        eventPublisher.publishEvent(new ContractChangedEvent(contract.getId()));
         return contract;
     }
 
@@ -117,6 +152,29 @@ public class ContractService {
             UserEntity updater,
             MultipartFile file
     ) throws Exception {
+        return addContractVersion(contractId, request, updater,
+                (contract, versionNumber) -> saveNewVersion(contract, versionNumber, file));
+    }
+
+    /**
+     * 이미 저장소에 올라간 파일로 새 버전 추가 (재개 가능한 업로드 완료 시)
+     */
+    @Transactional
+    public ContractEntity updateContract(
+            Long contractId,
+            ContractUpdateRequestDTO request,
+            UserEntity updater,
+            StoredFileRef stored
+    ) throws Exception {
+        return addContractVersion(contractId, request, updater,
+                (contract, versionNumber) -> saveStoredVersion(contract, versionNumber, stored));
+    }
+
+    /**
+     * 새 버전을 추가할 수 있는 계약서 조회 (삭제되지 않았고 OPEN 상태이며 작성자 또는 참여자)
+     */
+    @Transactional(readOnly = true)
+    public ContractEntity findModifiableContract(Long contractId, UserEntity updater) {
         // 삭제되지 않은 계약서만 조회
         ContractEntity contract = contractRepository.findByIdAndNotDeleted(contractId)
             .orElseThrow(() -> new CustomException(CustomExceptionEnum.CONTRACT_NOT_FOUND));
@@ -125,10 +183,19 @@ public class ContractService {
             throw new CustomException(CustomExceptionEnum.CONTRACT_NOT_MODIFIABLE);
         }
 
-        boolean isParty = contractPartyRepository.findByContractAndParty(contract, updater).isPresent();
-        if (!contract.getCreatedBy().getId().equals(updater.getId()) && !isParty) {
+        if (!contractMembershipService.isMember(contract, updater)) {
             throw new CustomException(CustomExceptionEnum.UNAUTHORIZED);
         }
+        return contract;
+    }
+
+    private ContractEntity addContractVersion(
+            Long contractId,
+            ContractUpdateRequestDTO request,
+            UserEntity updater,
+            VersionWriter versionWriter
+    ) throws Exception {
+        ContractEntity contract = findModifiableContract(contractId, updater);
 
         ContractVersionEntity previousVersion = contract.getCurrentVersion();
         if (previousVersion != null) {
@@ -136,21 +203,8 @@ public class ContractService {
             contractVersionRepository.save(previousVersion);
         }
 
-        String newFileHash = generateSHA256FromFile(file.getBytes());
-        String newFilePath = s3StorageService.upload(file);
-        String bucket = s3StorageService.getBucketName();
-
         int newVersionNumber = (previousVersion != null) ? previousVersion.getVersionNumber() + 1 : 1;
-        ContractVersionEntity newVersion = new ContractVersionEntity(
-                contract,
-                newVersionNumber,
-                newFilePath,
-                newFileHash,
-                VersionStatus.PENDING_SIGNATURE
-        );
-        newVersion.setBucketName(bucket);
-        newVersion.setStorageProvider("B2");
-        contractVersionRepository.save(newVersion);
+        ContractVersionEntity newVersion = versionWriter.write(contract, newVersionNumber);
 
         contract.setCurrentVersion(newVersion);
         if (request.getTitle() != null && !request.getTitle().isEmpty()) {
@@ -162,11 +216,72 @@ public class ContractService {
         contract.setUpdatedAt(LocalDateTime.now());
         contract.setUpdatedBy(updater);
         contractRepository.save(contract);
+        eventPublisher.publishEvent(new ContractChangedEvent(contract.getId()));
 
         return contract;
     }
 
 
+    /**
+     * 파일 저장 후 새 버전 저장
+     * 업로드 스풀을 쓰면 로컬 디스크에만 기록하고 UPLOADING 상태로 저장 (저장소 전송은 커밋 후 백그라운드)
+     */
+    private ContractVersionEntity saveNewVersion(ContractEntity contract, int versionNumber, MultipartFile file) throws Exception {
+        if (!uploadSpoolService.isEnabled()) {
+            String fileHash = generateSHA256FromFile(file.getBytes());
+            return saveStoredVersion(contract, versionNumber, storageRouter.store(fileHash, file));
+        }
+
+        UploadSpoolService.SpooledUpload spooled = uploadSpoolService.spool(file);
+        try {
+            StoredFileRef target = spooled.getTarget();
+            ContractVersionEntity version = new ContractVersionEntity(
+                    contract,
+                    versionNumber,
+                    target.getFilePath(),
+                    spooled.getFileHash(),
+                    VersionStatus.PENDING_SIGNATURE
+            );
+            version.setBucketName(target.getBucketName());
+            version.setStorageProvider(target.getStorageProvider());
+            version.setStorageTier(StorageTier.UPLOADING);
+            version.setTierChangedAt(LocalDateTime.now());
+            contractVersionRepository.save(version);
+            // ContractVersionCreatedEvent 는 전송이 끝난 뒤 UploadSpoolService 가 발행
+            uploadSpoolService.register(spooled, version.getId());
+            return version;
+        } catch (RuntimeException e) {
+            uploadSpoolService.discard(spooled);
+            throw e;
+        }
+    }
+
+    /**
+     * 저장소에 이미 있는 파일로 새 버전 저장
+     */
+    private ContractVersionEntity saveStoredVersion(ContractEntity contract, int versionNumber, StoredFileRef stored) {
+        ContractVersionEntity version = new ContractVersionEntity(
+                contract,
+                versionNumber,
+                stored.getFilePath(),
+                stored.getFileHash(),
+                VersionStatus.PENDING_SIGNATURE
+        );
+        version.setBucketName(stored.getBucketName());
+        version.setStorageProvider(stored.getStorageProvider());
+        contractVersionRepository.save(version);
+        eventPublisher.publishEvent(new ContractVersionCreatedEvent(version.getId()));
+        return version;
+    }
+
+    /**
+     * 새 버전 파일 기록 방식 (요청 본문 / 업로드 스풀 / 재개 가능한 업로드)
+     */
+    @FunctionalInterface
+    private interface VersionWriter {
+        ContractVersionEntity write(ContractEntity contract, int versionNumber) throws Exception;
+    }
+
     private String generateSHA256FromFile(byte[] data) throws NoSuchAlgorithmException {
         MessageDigest digest = MessageDigest.getInstance("SHA-256");
         byte[] hash = digest.digest(data);
@@ -213,7 +328,10 @@ public class ContractService {
         contract.setUpdatedBy(actionRequester);
         contractRepository.save(contract);
 
-        return contractPartyRepository.save(newContractParty);
+        ContractPartyEntity saved = contractPartyRepository.save(newContractParty);
+        contractMembershipService.addMember(contract, participantToAdd, ContractMembershipService.roleOf(request.getRole()));
+        eventPublisher.publishEvent(new ContractChangedEvent(contractId));
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -221,9 +339,7 @@ public class ContractService {
         ContractEntity contract = contractRepository.findByIdAndNotDeleted(contractId)
             .orElseThrow(() -> new CustomException(CustomExceptionEnum.CONTRACT_NOT_FOUND));
 
-        boolean isCreator = contract.getCreatedBy().getId().equals(requester.getId());
-        boolean isParty = contractPartyRepository.findByContractAndParty(contract, requester).isPresent();
-        if (!isCreator && !isParty) {
+        if (!contractMembershipService.isMember(contract, requester)) {
             throw new CustomException(CustomExceptionEnum.UNAUTHORIZED);
         }
 
@@ -441,41 +557,171 @@ public class ContractService {
     }
     @Transactional(readOnly = true) // 읽기 전용 트랜잭션
     public Page<ContractListDTO> getContractsForUser(String userUuid, Pageable pageable) {
-        UserEntity user = userRepository.findByUuid(userUuid)
+        // 목록 캐시 키는 요청자 uuid 별 (본인이 작성 / 참여한 계약서만 담김), 요청자 조회는 캐시 값을 돌려주기 전에 항상 수행
+        return contractReadCache.getPage(userUuid, pageable, () -> findUser(userUuid), user -> {
+            Page<ContractEntity> contractPage = contractMembershipService.isBackfilled()
+                    ? contractMembershipRepository.findContractsByMember(user, toMembershipSort(pageable))
+                    : contractRepository.findContractsByCreatorOrParticipant(user, pageable);
+            return contractPage.map(this::toContractListDTO);
+        });
+    }
+
+    /**
+     * 커서 기반 목록 조회 ((createdAt, id) 내림차순, 페이지 깊이와 무관하게 같은 비용)
+     * 멤버십 인덱스에서 size + 1 개 조회 (백필 전에는 작성 / 참여 계약서를 각각 조회해 병합)
+     * withTotal 이 false 면 전체 개수 쿼리를 생략
+     */
+    @Transactional(readOnly = true)
+    public ContractCursorPageDTO getContractsForUserByCursor(String userUuid, String cursor, int size, boolean withTotal) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        KeysetCursor after = decodeCursor(cursor);
+
+        // 목록 캐시 키는 요청자 uuid 별 (본인이 작성 / 참여한 계약서만 담김)
+        return contractReadCache.getCursorPage(userUuid, after != null ? cursor : null, pageSize, withTotal,
+                () -> findUser(userUuid), user -> loadCursorPage(user, after, pageSize, withTotal));
+    }
+
+    private UserEntity findUser(String userUuid) {
+        return userRepository.findByUuid(userUuid)
                 .orElseThrow(() -> new CustomException(CustomExceptionEnum.USER_NOT_FOUND));
+    }
 
-        Page<ContractEntity> contractPage = contractRepository.findContractsByCreatorOrParticipant(user, pageable);
+    private static KeysetCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        KeysetCursor decoded = KeysetCursor.decode(cursor);
+        if (decoded == null) {
+            throw new CustomException(CustomExceptionEnum.INVALID_PAGE_CURSOR);
+        }
+        return decoded;
+    }
 
-        return contractPage.map(contract -> {
-            Integer currentVersionNumber = null;
-            if (contract.getCurrentVersion() != null) {
-                currentVersionNumber = contract.getCurrentVersion().getVersionNumber();
+    private ContractCursorPageDTO loadCursorPage(UserEntity user, KeysetCursor after, int pageSize, boolean withTotal) {
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<ContractEntity> page;
+        Long total = null;
+        if (contractMembershipService.isBackfilled()) {
+            // 멤버십 인덱스 (user_id, deleted, created_at, contract_id) 범위 탐색 한 번
+            page = after == null
+                    ? contractMembershipRepository.findFirstPage(user, limit)
+                    : contractMembershipRepository.findPageAfter(user, after.getCreatedAt(), after.getId(), limit);
+            if (withTotal) {
+                total = contractMembershipRepository.countByUserAndDeletedFalse(user);
             }
-            // ContractListDTO 생성자를 사용하여 변환
-            return new ContractListDTO(
-                    contract.getId(),
-                    contract.getTitle(),
-                    contract.getStatus(),
-                    contract.getCreatedAt(),
-                    currentVersionNumber
-                    // 만약 DTO에 createdByUsername 등이 있다면 여기서 설정
-                    // contract.getCreatedBy() != null ? contract.getCreatedBy().getUserName() : null
-            );
-        });
+        } else {
+            page = mergeCreatedAndParticipating(user, after, limit);
+            if (withTotal) {
+                total = contractRepository.countByCreatorOrParticipant(user);
+            }
+        }
+
+        boolean hasNext = page.size() > pageSize;
+        if (hasNext) {
+            page = page.subList(0, pageSize);
+        }
+        ContractEntity last = page.isEmpty() ? null : page.get(page.size() - 1);
+        String nextCursor = hasNext ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode() : null;
+
+        return new ContractCursorPageDTO(
+                page.stream().map(this::toContractListDTO).collect(Collectors.toList()),
+                pageSize, hasNext, nextCursor, total);
+    }
+
+    /**
+     * 멤버십 백필 전: 작성한 계약서 / 참여한 계약서를 각각 limit 개까지 조회해 병합 (중복 제거)
+     */
+    private List<ContractEntity> mergeCreatedAndParticipating(UserEntity user, KeysetCursor after, Pageable limit) {
+        List<ContractEntity> created;
+        List<ContractEntity> participating;
+        if (after == null) {
+            created = contractRepository.findCreatedFirstPage(user, limit);
+            participating = contractRepository.findParticipatingFirstPage(user, limit);
+        } else {
+            created = contractRepository.findCreatedAfter(user, after.getCreatedAt(), after.getId(), limit);
+            participating = contractRepository.findParticipatingAfter(user, after.getCreatedAt(), after.getId(), limit);
+        }
+
+        Map<Long, ContractEntity> merged = new LinkedHashMap<>();
+        Stream.concat(created.stream(), participating.stream())
+                .sorted(Comparator.comparing(ContractEntity::getCreatedAt)
+                        .thenComparing(ContractEntity::getId)
+                        .reversed())
+                .forEach(contract -> merged.putIfAbsent(contract.getId(), contract));
+        return merged.values().stream().limit(limit.getPageSize()).collect(Collectors.toList());
+    }
+
+    /**
+     * 멤버십 목록 쿼리의 정렬: createdAt 은 멤버십 컬럼(인덱스), 그 외 속성은 계약서 속성
+     */
+    private static Pageable toMembershipSort(Pageable pageable) {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Sort.Order order : pageable.getSort()) {
+            orders.add("createdAt".equals(order.getProperty()) ? order : order.withProperty("contract." + order.getProperty()));
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(orders));
+    }
+
+    private ContractListDTO toContractListDTO(ContractEntity contract) {
+        Integer currentVersionNumber = null;
+        if (contract.getCurrentVersion() != null) {
+            currentVersionNumber = contract.getCurrentVersion().getVersionNumber();
+        }
+        // ContractListDTO 생성자를 사용하여 변환
+        ContractListDTO dto = new ContractListDTO(
+                contract.getId(),
+                contract.getTitle(),
+                contract.getStatus(),
+                contract.getCreatedAt(),
+                currentVersionNumber
+                // 만약 DTO에 createdByUsername 등이 있다면 여기서 설정
+                // contract.getCreatedBy() != null ? contract.getCreatedBy().getUserName() : null
+        );
+        // 목록에서는 PDF 대신 썸네일을 받도록 경로와 렌더링 상태 전달
+        if (contract.getCurrentVersion() != null) {
+            dto.setCurrentVersionFilePath(contract.getCurrentVersion().getFilePath());
+            dto.setPreviewStatus(contract.getCurrentVersion().getPreviewStatus());
+        }
+        return dto;
     }
 
     @Transactional(readOnly = true)
 public ContractDetailDTO getContractDetails(Long contractId, String requesterUuid) {
     try {
         logger.info("계약서 상세 조회 시작 - contractId: {}, requesterUuid: {}", contractId, requesterUuid);
+
+        // 상세 내용은 요청자와 무관하므로 계약서 단위로 캐시 (권한 확인은 캐시 값을 돌려주기 전에 항상 수행)
+        // 캐시 버전 키를 먼저 읽어야 하므로 이 메소드에서는 캐시 호출 전에 DB 를 조회하지 않음
+        ContractDetailDTO detailDTO = contractReadCache.getDetail(contractId,
+                () -> findReadableContract(contractId, requesterUuid),
+                this::buildContractDetail);
+
+        logger.info("계약서 상세 조회 완료 - contractId: {}", contractId);
+        return detailDTO;
         
+    } catch (CustomException e) {
+        logger.error("CustomException 발생 - contractId: {}, error: {}", contractId, e.getMessage());
+        throw e;
+    } catch (Exception e) {
+        logger.error("계약서 상세 조회 중 예상치 못한 오류 - contractId: {}, error: {}", contractId, e.getMessage(), e);
+        throw new RuntimeException("계약서 상세 조회 중 오류 발생: " + e.getMessage(), e);
+    }
+}
+
+    /**
+     * 상세 조회 권한 확인: 요청자가 해당 계약의 생성자이거나 참여자인지 확인
+     */
+    private ContractEntity findReadableContract(Long contractId, String requesterUuid) {
         UserEntity requester = userRepository.findByUuid(requesterUuid)
                 .orElseThrow(() -> {
                     logger.error("사용자를 찾을 수 없음: {}", requesterUuid);
                     return new CustomException(CustomExceptionEnum.USER_NOT_FOUND);
                 });
 
-        ContractEntity contract = contractRepository.findByIdAndNotDeleted(contractId)
+        // 생성자 / 수정자 / 현재 버전까지 한 번에 조회
+        ContractEntity contract = contractRepository.findDetailById(contractId)
                 .orElseThrow(() -> {
                     logger.error("계약서를 찾을 수 없음 또는 삭제된 계약서: {}", contractId);
                     return new CustomException(CustomExceptionEnum.CONTRACT_NOT_FOUND);
@@ -483,16 +729,20 @@ public ContractDetailDTO getContractDetails(Long contractId, String requesterUui
 
         logger.info("계약서 조회 성공 - 제목: {}, 상태: {}", contract.getTitle(), contract.getStatus());
 
-        // 권한 검사: 요청자가 해당 계약의 생성자이거나 참여자인지 확인
-        boolean isCreator = contract.getCreatedBy().getUuid().equals(requesterUuid);
-        boolean isParticipant = contractPartyRepository.findByContractAndParty(contract, requester).isPresent();
-
-        if (!isCreator && !isParticipant) {
+        if (!contractMembershipService.isMember(contract, requester)) {
             logger.error("권한 없음 - contractId: {}, requesterUuid: {}", contractId, requesterUuid);
             throw new CustomException(CustomExceptionEnum.UNAUTHORIZED);
         }
 
-        logger.info("권한 확인 완료 - isCreator: {}, isParticipant: {}", isCreator, isParticipant);
+        logger.info("권한 확인 완료 - contractId: {}", contractId);
+        return contract;
+    }
+
+    /**
+     * 계약서 상세 DTO 구성 (조회 캐시에 없을 때)
+     */
+    private ContractDetailDTO buildContractDetail(ContractEntity contract) {
+        List<ContractPartyEntity> parties = contractPartyRepository.findByContractWithParty(contract);
 
         ContractDetailDTO detailDTO = new ContractDetailDTO();
         detailDTO.setId(contract.getId());
@@ -534,7 +784,6 @@ public ContractDetailDTO getContractDetails(Long contractId, String requesterUui
 
         // 참여자 정보 매핑
         try {
-            List<ContractPartyEntity> parties = contractPartyRepository.findByContract(contract);
             logger.debug("참여자 수: {}", parties.size());
             
             List<ParticipantDetailDTO> participantDTOs = parties.stream()
@@ -560,18 +809,23 @@ public ContractDetailDTO getContractDetails(Long contractId, String requesterUui
             throw new RuntimeException("참여자 정보 처리 중 오류 발생", e);
         }
 
-        // 모든 버전 이력 정보 매핑
+        // 모든 버전 이력 정보 매핑 (버전 목록 1회 + 전체 버전의 서명(서명자 포함) 1회 조회)
+        Map<Long, ContractVersionDetailDTO> versionDTOsById = new HashMap<>();
         try {
-            List<ContractVersionEntity> allVersions = contractVersionRepository.findByContract(contract);
+            List<ContractVersionEntity> allVersions = contractVersionRepository.findByContractOrderByVersionNumberAsc(contract);
             logger.debug("버전 수: {}", allVersions.size());
-            
-            // versionNumber를 기준으로 정렬
-            allVersions.sort(Comparator.comparingInt(ContractVersionEntity::getVersionNumber));
+
+            Map<Long, List<SignatureEntity>> signaturesByVersionId = signatureRepository.findAllByContractWithSigner(contract)
+                    .stream()
+                    .collect(Collectors.groupingBy(sig -> sig.getContractVersion().getId()));
 
             List<ContractVersionDetailDTO> versionHistoryDTOs = allVersions.stream()
                     .map(version -> {
                         try {
-                            return mapContractVersionToDetailDTO(version);
+                            ContractVersionDetailDTO versionDTO = mapContractVersionToDetailDTO(version,
+                                    signaturesByVersionId.getOrDefault(version.getId(), Collections.emptyList()));
+                            versionDTOsById.put(version.getId(), versionDTO);
+                            return versionDTO;
                         } catch (Exception e) {
                             logger.error("버전 정보 매핑 중 오류 - versionId: {}, error: {}", 
                                 version.getId(), e.getMessage());
@@ -588,8 +842,10 @@ public ContractDetailDTO getContractDetails(Long contractId, String requesterUui
 
         // 현재 버전 정보 매핑
         try {
-            if (contract.getCurrentVersion() != null) {
-                detailDTO.setCurrentVersion(mapContractVersionToDetailDTO(contract.getCurrentVersion()));
+            if (contract.getCurrentVersion() != null
+                    && versionDTOsById.containsKey(contract.getCurrentVersion().getId())) {
+                // 현재 버전은 버전 이력에 이미 매핑되어 있으므로 다시 조회하지 않음
+                detailDTO.setCurrentVersion(versionDTOsById.get(contract.getCurrentVersion().getId()));
                 logger.debug("현재 버전 정보 설정 완료");
             } else if (!detailDTO.getVersionHistory().isEmpty()) {
                 detailDTO.setCurrentVersion(detailDTO.getVersionHistory().get(detailDTO.getVersionHistory().size() - 1));
@@ -600,20 +856,12 @@ public ContractDetailDTO getContractDetails(Long contractId, String requesterUui
             throw new RuntimeException("현재 버전 정보 처리 중 오류 발생", e);
         }
 
-        logger.info("계약서 상세 조회 완료 - contractId: {}", contractId);
         return detailDTO;
-        
-    } catch (CustomException e) {
-        logger.error("CustomException 발생 - contractId: {}, error: {}", contractId, e.getMessage());
-        throw e;
-    } catch (Exception e) {
-        logger.error("계약서 상세 조회 중 예상치 못한 오류 - contractId: {}, error: {}", contractId, e.getMessage(), e);
-        throw new RuntimeException("계약서 상세 조회 중 오류 발생: " + e.getMessage(), e);
     }
-}
 
-    // ContractVersionEntity를 ContractVersionDetailDTO로 변환하는 헬퍼 메소드
-    private ContractVersionDetailDTO mapContractVersionToDetailDTO(ContractVersionEntity versionEntity) {
+    // ContractVersionEntity를 ContractVersionDetailDTO로 변환하는 헬퍼 메소드 (서명은 서명자까지 조회된 목록을 전달받음)
+    private ContractVersionDetailDTO mapContractVersionToDetailDTO(ContractVersionEntity versionEntity,
+                                                                  List<SignatureEntity> signatures) {
         ContractVersionDetailDTO versionDTO = new ContractVersionDetailDTO();
         versionDTO.setId(versionEntity.getId());
         versionDTO.setVersionNumber(versionEntity.getVersionNumber());
@@ -623,9 +871,10 @@ public ContractDetailDTO getContractDetails(Long contractId, String requesterUui
         versionDTO.setCreatedAt(versionEntity.getCreatedAt());
         versionDTO.setStorageProvider(versionEntity.getStorageProvider());
         versionDTO.setBucketName(versionEntity.getBucketName());
+        versionDTO.setPreviewStatus(versionEntity.getPreviewStatus());
+        versionDTO.setPreviewPageCount(versionEntity.getPreviewPageCount());
 
         // 해당 버전에 대한 서명 정보 매핑
-        List<SignatureEntity> signatures = signatureRepository.findAllByContractVersion(versionEntity);
         List<SignatureDetailDTO> signatureDTOs = signatures.stream()
                 .map(sig -> new SignatureDetailDTO(
                         sig.getSigner().getUuid(),
@@ -665,6 +914,9 @@ public void deleteContract(Long contractId, UserEntity requester) {
         contract.setUpdatedAt(LocalDateTime.now());
         contract.setUpdatedBy(requester);
         contractRepository.save(contract);
+        contractMembershipService.markDeleted(contract);
+        eventPublisher.publishEvent(new ContractAccessRevokedEvent(contractId, null));
+        eventPublisher.publishEvent(new ContractChangedEvent(contractId));
         
         logger.info("계약서 삭제 완료 - contractId: {}, requesterUuid: {}", contractId, requester.getUuid());
     } catch (Exception e) {
@@ -0,0 +1,283 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.config.DownloadShapingProperties;
+import com.contract.backend.common.metrics.StorageMetrics;
+import com.contract.backend.common.util.stream.ByteRateLimiter;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.security.Principal;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * 파일 응답 송신 대역폭 제한
+ * - 사용자별 토큰 버킷: 한 사용자의 동시 요청을 합산해 perUserRate 로 제한 (쓰는 스레드가 직접 대기)
+ * - 전체 토큰 버킷: 전용 스레드가 대기 중인 청크를 사용자 간 라운드 로빈으로 하나씩 허용
+ *   미리보기(INTERACTIVE) 청크를 다운로드(BULK) 청크보다 interactiveWeight 배 먼저 허용하되 BULK 도 굶기지 않음
+ * - 응답 본문은 가상 스레드에서 쓰므로 대기가 요청 처리 스레드를 점유하지 않음
+ */
+@Component
+public class DownloadBandwidthShaper {
+
+    private static final Logger logger = LoggerFactory.getLogger(DownloadBandwidthShaper.class);
+
+    public enum TrafficClass { INTERACTIVE, BULK }
+
+    private final DownloadShapingProperties properties;
+    private final StorageMetrics storageMetrics;
+    private final int chunkSize;
+    private final ByteRateLimiter globalLimiter;
+
+    // 응답을 보내고 있는 사용자별 버킷 (마지막 응답이 끝나면 제거)
+    private final Map<String, UserBucket> userBuckets = new ConcurrentHashMap<>();
+
+    // 전체 버킷을 기다리는 청크: 등급별로 사용자 순서(라운드 로빈)를 유지
+    private final Map<TrafficClass, LinkedHashMap<String, ArrayDeque<Waiter>>> queues = new EnumMap<>(TrafficClass.class);
+    private int queued;
+    private int interactiveStreak;
+
+    private final Thread dispatcher;
+
+    public DownloadBandwidthShaper(DownloadShapingProperties properties, StorageMetrics storageMetrics) {
+        this.properties = properties;
+        this.storageMetrics = storageMetrics;
+        this.chunkSize = (int) properties.getChunkSize().toBytes();
+        this.globalLimiter = new ByteRateLimiter(properties.getGlobalRate().toBytes(), properties.getGlobalBurst().toBytes());
+        for (TrafficClass trafficClass : TrafficClass.values()) {
+            queues.put(trafficClass, new LinkedHashMap<>());
+        }
+
+        if (properties.isEnabled()) {
+            this.dispatcher = Thread.ofPlatform().name("download-shaper").daemon(true).start(this::dispatchLoop);
+            storageMetrics.registerShapingGauges(this::queuedChunks, userBuckets::size);
+        } else {
+            this.dispatcher = null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 요청자 구분 (인증 사용자 uuid, 없으면 클라이언트 주소)과 등급 (inline 미리보기 / attachment 다운로드)
+     */
+    public Client clientOf(HttpServletRequest request, ContentDisposition contentDisposition) {
+        Principal principal = request.getUserPrincipal();
+        String userKey = principal != null ? principal.getName() : "anonymous:" + request.getRemoteAddr();
+        return new Client(userKey, contentDisposition.isInline() ? TrafficClass.INTERACTIVE : TrafficClass.BULK);
+    }
+
+    /**
+     * 응답 출력 스트림을 대역폭 제한 스트림으로 감쌈
+     * 반환된 스트림의 close 는 원래 스트림을 닫지 않고 사용자 버킷만 반납
+     */
+    public OutputStream shape(OutputStream out, Client client) {
+        if (!properties.isEnabled()) {
+            return new ShapedOutputStream(out, client, null);
+        }
+        UserBucket bucket = userBuckets.compute(client.userKey, (key, existing) -> {
+            UserBucket b = existing != null ? existing
+                    : new UserBucket(properties.getPerUserRate().toBytes(), properties.getUserBurst().toBytes());
+            b.streams++;
+            return b;
+        });
+        return new ShapedOutputStream(out, client, bucket);
+    }
+
+    private void release(String userKey) {
+        userBuckets.computeIfPresent(userKey, (key, bucket) -> --bucket.streams > 0 ? bucket : null);
+    }
+
+    /**
+     * 청크 전송 허가: 사용자 버킷 -> 전체 버킷(공정 큐) 순서로 대기
+     */
+    private void acquire(Client client, UserBucket bucket, int bytes) throws IOException {
+        try {
+            long userWait = bucket.limiter.reserve(bytes);
+            if (userWait > 0) {
+                storageMetrics.recordShapingDelay(client.trafficClass.name(), "user", userWait);
+                ByteRateLimiter.sleepNanos(userWait);
+            }
+
+            Waiter waiter = new Waiter(bytes);
+            synchronized (this) {
+                // 기다리는 청크가 없고 전체 버킷에 여유가 있으면 바로 전송, 아니면 공정 큐에서 차례 대기
+                if (queued == 0 && globalLimiter.tryReserve(bytes)) {
+                    waiter = null;
+                } else {
+                    queues.get(client.trafficClass)
+                            .computeIfAbsent(client.userKey, key -> new ArrayDeque<>())
+                            .addLast(waiter);
+                    queued++;
+                    notifyAll();
+                }
+            }
+            if (waiter != null) {
+                long queuedAt = System.nanoTime();
+                waiter.granted.await();
+                storageMetrics.recordShapingDelay(client.trafficClass.name(), "global", System.nanoTime() - queuedAt);
+            }
+            storageMetrics.recordShapedBytes(client.trafficClass.name(), bytes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("대역폭 대기 중 중단되었습니다");
+        }
+    }
+
+    /**
+     * 대기 중인 청크를 공정 순서대로 꺼내 전체 버킷 속도에 맞춰 허용
+     */
+    private void dispatchLoop() {
+        try {
+            while (true) {
+                Waiter next;
+                synchronized (this) {
+                    while (queued == 0) {
+                        wait();
+                    }
+                    next = pollNext();
+                    queued--;
+                }
+                ByteRateLimiter.sleepNanos(globalLimiter.reserve(next.bytes));
+                next.granted.countDown();
+            }
+        } catch (InterruptedException e) {
+            logger.debug("대역폭 분배 스레드 종료");
+        }
+    }
+
+    /**
+     * 등급 선택 (INTERACTIVE 우선, 연속 interactiveWeight 개마다 BULK 1개) 후 그 등급의 다음 사용자 청크
+     */
+    private Waiter pollNext() {
+        LinkedHashMap<String, ArrayDeque<Waiter>> interactive = queues.get(TrafficClass.INTERACTIVE);
+        LinkedHashMap<String, ArrayDeque<Waiter>> bulk = queues.get(TrafficClass.BULK);
+
+        boolean takeInteractive = !interactive.isEmpty()
+                && (bulk.isEmpty() || interactiveStreak < properties.getInteractiveWeight());
+        interactiveStreak = takeInteractive ? interactiveStreak + 1 : 0;
+        return pollRoundRobin(takeInteractive ? interactive : bulk);
+    }
+
+    private static Waiter pollRoundRobin(LinkedHashMap<String, ArrayDeque<Waiter>> byUser) {
+        Iterator<Map.Entry<String, ArrayDeque<Waiter>>> it = byUser.entrySet().iterator();
+        Map.Entry<String, ArrayDeque<Waiter>> first = it.next();
+        it.remove();
+        Waiter waiter = first.getValue().pollFirst();
+        if (!first.getValue().isEmpty()) {
+            byUser.put(first.getKey(), first.getValue()); // 남은 청크가 있으면 맨 뒤로
+        }
+        return waiter;
+    }
+
+    private synchronized int queuedChunks() {
+        return queued;
+    }
+
+    /**
+     * 대역폭 제한 대상 (사용자 + 등급)
+     */
+    public static final class Client {
+        private final String userKey;
+        private final TrafficClass trafficClass;
+
+        public Client(String userKey, TrafficClass trafficClass) {
+            this.userKey = userKey;
+            this.trafficClass = trafficClass;
+        }
+
+        public String getUserKey() {
+            return userKey;
+        }
+
+        public TrafficClass getTrafficClass() {
+            return trafficClass;
+        }
+    }
+
+    private static final class UserBucket {
+        final ByteRateLimiter limiter;
+        int streams; // userBuckets.compute 안에서만 변경
+
+        UserBucket(long bytesPerSecond, long burstBytes) {
+            this.limiter = new ByteRateLimiter(bytesPerSecond, burstBytes);
+        }
+    }
+
+    private static final class Waiter {
+        final int bytes;
+        final CountDownLatch granted = new CountDownLatch(1);
+
+        Waiter(int bytes) {
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * 쓰기를 chunkSize 단위로 나눠 청크마다 전송 허가를 받은 뒤 기록
+     */
+    private final class ShapedOutputStream extends FilterOutputStream {
+        private final Client client;
+        private final UserBucket bucket; // null 이면 제한 없음
+        private boolean released;
+
+        ShapedOutputStream(OutputStream out, Client client, UserBucket bucket) {
+            super(out);
+            this.client = client;
+            this.bucket = bucket;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (bucket == null) {
+                out.write(b, off, len);
+                return;
+            }
+            while (len > 0) {
+                int n = Math.min(len, chunkSize);
+                acquire(client, bucket, n);
+                out.write(b, off, n);
+                off += n;
+                len -= n;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!released) {
+                released = true;
+                if (bucket != null) {
+                    release(client.userKey);
+                }
+            }
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractVersionEntity;
+import com.contract.backend.common.config.FileAccessTokenProperties;
+import com.contract.backend.common.dto.FileAccessTokenDTO;
+import com.contract.backend.common.event.ContractAccessRevokedEvent;
+import com.contract.backend.common.exception.CustomException;
+import com.contract.backend.common.exception.CustomExceptionEnum;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 파일 접근 토큰 발급 / 검증
+ *
+ * 한 번 권한을 확인한 뒤 사용자 / 버전 / 만료 시각과 제공할 저장 위치를 담은 토큰을 HMAC-SHA256 으로 서명해 발급하고,
+ * 이후 미리보기 / 다운로드 Range 요청은 서명과 만료만 확인해 DB 조회 없이 처리한다.
+ * 계약서 삭제 / 참여자 제외는 메모리 철회 목록으로 반영 (ttl 이 지나면 토큰이 만료되므로 그만큼만 보관)
+ */
+@Service
+public class FileAccessTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileAccessTokenService.class);
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final FileAccessTokenProperties properties;
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec signingKey;
+
+    // contractId -> 철회 시각(epoch ms), 그 이전에 발급된 토큰은 거부
+    private final Map<Long, Long> revokedContracts = new ConcurrentHashMap<>();
+    // contractId:userUuid -> 철회 시각(epoch ms)
+    private final Map<String, Long> revokedParticipants = new ConcurrentHashMap<>();
+
+    public FileAccessTokenService(FileAccessTokenProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+
+        byte[] secret;
+        if (StringUtils.hasText(properties.getSecret())) {
+            secret = properties.getSecret().getBytes(StandardCharsets.UTF_8);
+        } else {
+            secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            logger.warn("file-access-token.secret 미설정 - 임의 키 사용 (재시작 / 다른 인스턴스에서는 발급된 토큰이 무효)");
+        }
+        this.signingKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+    }
+
+    /**
+     * 권한 확인이 끝난 버전에 대한 토큰 발급
+     *
+     * @param previewFile 미리보기로 제공할 위치 (선형화 사본이 있으면 사본)
+     * @param fileName    다운로드 파일명
+     */
+    public FileAccessTokenDTO issue(String userUuid, ContractVersionEntity version, StoredFileRef previewFile, String fileName) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + properties.getTtl().toMillis();
+
+        Claims claims = new Claims();
+        claims.setUserUuid(userUuid);
+        claims.setContractId(version.getContract().getId());
+        claims.setVersionId(version.getId());
+        claims.setProvider(version.getStorageProvider());
+        claims.setBucketName(version.getBucketName());
+        claims.setFilePath(version.getFilePath());
+        claims.setFileHash(version.getFileHash());
+        if (!previewFile.getFilePath().equals(version.getFilePath())) {
+            claims.setPreviewProvider(previewFile.getStorageProvider());
+            claims.setPreviewBucketName(previewFile.getBucketName());
+            claims.setPreviewFilePath(previewFile.getFilePath());
+        }
+        claims.setFileName(fileName);
+        claims.setIssuedAt(now);
+        claims.setExpiresAt(expiresAt);
+
+        try {
+            String payload = Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(claims));
+            String token = payload + "." + sign(payload);
+            return new FileAccessTokenDTO(token, version.getId(), Instant.ofEpochMilli(expiresAt));
+        } catch (Exception e) {
+            throw new IllegalStateException("파일 접근 토큰 발급 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 서명 / 만료 / 사용자 / 철회 여부 확인 (DB 조회 없음)
+     */
+    public Claims verify(String token, String userUuid) {
+        Claims claims = parse(token);
+        long now = System.currentTimeMillis();
+
+        if (claims.getExpiresAt() < now || !claims.getUserUuid().equals(userUuid)) {
+            throw new CustomException(CustomExceptionEnum.FILE_ACCESS_TOKEN_INVALID);
+        }
+        Long contractRevokedAt = revokedContracts.get(claims.getContractId());
+        Long participantRevokedAt = revokedParticipants.get(participantKey(claims.getContractId(), claims.getUserUuid()));
+        if ((contractRevokedAt != null && contractRevokedAt >= claims.getIssuedAt())
+                || (participantRevokedAt != null && participantRevokedAt >= claims.getIssuedAt())) {
+            logger.info("철회된 파일 접근 토큰 - contractId: {}, userUuid: {}", claims.getContractId(), userUuid);
+            throw new CustomException(CustomExceptionEnum.FILE_ACCESS_TOKEN_INVALID);
+        }
+        return claims;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAccessRevoked(ContractAccessRevokedEvent event) {
+        long now = System.currentTimeMillis();
+        if (event.getUserUuid() == null) {
+            revokedContracts.put(event.getContractId(), now);
+        } else {
+            revokedParticipants.put(participantKey(event.getContractId(), event.getUserUuid()), now);
+        }
+        logger.info("파일 접근 토큰 철회 - contractId: {}, userUuid: {}", event.getContractId(), event.getUserUuid());
+    }
+
+    /**
+     * ttl 이 지난 철회 항목 정리 (그 이전에 발급된 토큰은 이미 만료)
+     */
+    @Scheduled(fixedDelayString = "#{@fileAccessTokenProperties.ttl.toMillis()}")
+    public void pruneRevocations() {
+        long threshold = System.currentTimeMillis() - properties.getTtl().toMillis();
+        revokedContracts.values().removeIf(revokedAt -> revokedAt < threshold);
+        revokedParticipants.values().removeIf(revokedAt -> revokedAt < threshold);
+    }
+
+    private Claims parse(String token) {
+        int separator = token == null ? -1 : token.indexOf('.');
+        if (separator <= 0) {
+            throw new CustomException(CustomExceptionEnum.FILE_ACCESS_TOKEN_INVALID);
+        }
+        String payload = token.substring(0, separator);
+        byte[] expected = sign(payload).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token.substring(separator + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new CustomException(CustomExceptionEnum.FILE_ACCESS_TOKEN_INVALID);
+        }
+        try {
+            return objectMapper.readValue(Base64.getUrlDecoder().decode(payload), Claims.class);
+        } catch (Exception e) {
+            throw new CustomException(CustomExceptionEnum.FILE_ACCESS_TOKEN_INVALID);
+        }
+    }
+
+    private String sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String participantKey(Long contractId, String userUuid) {
+        return contractId + ":" + userUuid;
+    }
+
+    /**
+     * 토큰에 담는 정보 (제공할 저장 위치까지 포함해 요청 처리 시 DB 조회가 필요 없음)
+     */
+    public static class Claims {
+        private String userUuid;
+        private Long contractId;
+        private Long versionId;
+        private String provider;
+        private String bucketName;
+        private String filePath;
+        private String fileHash;
+        private String previewProvider;
+        private String previewBucketName;
+        private String previewFilePath;
+        private String fileName;
+        private long issuedAt;
+        private long expiresAt;
+
+        public StoredFileRef originalFile() {
+            return new StoredFileRef(provider, bucketName, filePath, fileHash);
+        }
+
+        public StoredFileRef previewFile() {
+            return previewFilePath == null
+                    ? originalFile()
+                    : new StoredFileRef(previewProvider, previewBucketName, previewFilePath, null);
+        }
+
+        public boolean hasServingCopy() {
+            return previewFilePath != null;
+        }
+
+        public String getUserUuid() { return userUuid; }
+        public void setUserUuid(String userUuid) { this.userUuid = userUuid; }
+        public Long getContractId() { return contractId; }
+        public void setContractId(Long contractId) { this.contractId = contractId; }
+        public Long getVersionId() { return versionId; }
+        public void setVersionId(Long versionId) { this.versionId = versionId; }
+        public String getProvider() { return provider; }
+        public void setProvider(String provider) { this.provider = provider; }
+        public String getBucketName() { return bucketName; }
+        public void setBucketName(String bucketName) { this.bucketName = bucketName; }
+        public String getFilePath() { return filePath; }
+        public void setFilePath(String filePath) { this.filePath = filePath; }
+        public String getFileHash() { return fileHash; }
+        public void setFileHash(String fileHash) { this.fileHash = fileHash; }
+        public String getPreviewProvider() { return previewProvider; }
+        public void setPreviewProvider(String previewProvider) { this.previewProvider = previewProvider; }
+        public String getPreviewBucketName() { return previewBucketName; }
+        public void setPreviewBucketName(String previewBucketName) { this.previewBucketName = previewBucketName; }
+        public String getPreviewFilePath() { return previewFilePath; }
+        public void setPreviewFilePath(String previewFilePath) { this.previewFilePath = previewFilePath; }
+        public String getFileName() { return fileName; }
+        public void setFileName(String fileName) { this.fileName = fileName; }
+        public long getIssuedAt() { return issuedAt; }
+        public void setIssuedAt(long issuedAt) { this.issuedAt = issuedAt; }
+        public long getExpiresAt() { return expiresAt; }
+        public void setExpiresAt(long expiresAt) { this.expiresAt = expiresAt; }
+    }
+}
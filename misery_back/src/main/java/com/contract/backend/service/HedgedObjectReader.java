@@ -0,0 +1,174 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.config.StorageReadProperties;
+import com.contract.backend.common.metrics.StorageMetrics;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * GET 요청의 첫 바이트 기한 / hedged read
+ *
+ * - 첫 요청이 최근 지연 분포의 hedge-percentile 안에 응답하지 않으면 같은 요청을 한 번 더 보내고 먼저 온 응답 사용
+ * - 진 쪽 요청은 응답이 오는 즉시 abort (본문은 받지 않음)
+ * - 두 요청 모두 first-byte-deadline 안에 응답하지 않으면 실패
+ */
+class HedgedObjectReader {
+
+    private final StorageReadProperties properties;
+    private final StorageMetrics storageMetrics;
+    private final ExecutorService executor;
+
+    // 첫 요청 단독 지연 표본 (원형 버퍼)
+    private final long[] samples;
+    private int sampleCount;
+    private int nextSample;
+    private volatile long hedgeDelayNanos;
+
+    HedgedObjectReader(StorageReadProperties properties, StorageMetrics storageMetrics, String threadName) {
+        this.properties = properties;
+        this.storageMetrics = storageMetrics;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadName, 0).factory());
+        this.samples = new long[Math.max(16, properties.getLatencyWindow())];
+        this.hedgeDelayNanos = properties.getMaxHedgeDelay().toNanos();
+        storageMetrics.registerHedgeDelay(() -> TimeUnit.NANOSECONDS.toMillis(hedgeDelayNanos));
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    ResponseInputStream<GetObjectResponse> read(Supplier<ResponseInputStream<GetObjectResponse>> request) throws IOException {
+        long startedAt = System.nanoTime();
+        long deadlineNanos = properties.getFirstByteDeadline().toNanos();
+
+        CompletableFuture<ResponseInputStream<GetObjectResponse>> primary = CompletableFuture.supplyAsync(request, executor);
+        primary.whenComplete((stream, error) -> {
+            if (error == null) {
+                recordPrimaryLatency(System.nanoTime() - startedAt);
+            }
+        });
+
+        if (!properties.isHedgeEnabled()) {
+            ResponseInputStream<GetObjectResponse> stream = await(primary, deadlineNanos, startedAt);
+            storageMetrics.recordFirstByteLatency("served", System.nanoTime() - startedAt);
+            return stream;
+        }
+
+        try {
+            ResponseInputStream<GetObjectResponse> stream = primary.get(Math.min(hedgeDelayNanos, deadlineNanos), TimeUnit.NANOSECONDS);
+            storageMetrics.recordHedgedRead("not_needed");
+            storageMetrics.recordFirstByteLatency("served", System.nanoTime() - startedAt);
+            return stream;
+        } catch (TimeoutException e) {
+            // 아래에서 중복 요청
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            primary.thenAccept(HedgedObjectReader::abortQuietly);
+            throw new InterruptedIOException("객체 읽기 중단");
+        }
+
+        // 먼저 성공한 응답이 winner, 늦게 온 응답은 abort
+        CompletableFuture<ResponseInputStream<GetObjectResponse>> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        CompletableFuture<ResponseInputStream<GetObjectResponse>> hedge = CompletableFuture.supplyAsync(request, executor);
+        for (CompletableFuture<ResponseInputStream<GetObjectResponse>> attempt : Arrays.asList(primary, hedge)) {
+            attempt.whenComplete((stream, error) -> {
+                if (error != null) {
+                    if (failures.incrementAndGet() == 2) {
+                        winner.completeExceptionally(error);
+                    }
+                } else if (!winner.complete(stream)) {
+                    abortQuietly(stream);
+                }
+            });
+        }
+
+        ResponseInputStream<GetObjectResponse> stream;
+        try {
+            stream = await(winner, deadlineNanos, startedAt);
+        } catch (IOException | RuntimeException e) {
+            winner.completeExceptionally(e); // 이후 도착하는 응답은 abort
+            throw e;
+        }
+        boolean primaryWon = primary.isDone() && !primary.isCompletedExceptionally() && primary.join() == stream;
+        storageMetrics.recordHedgedRead(primaryWon ? "primary_won" : "hedge_won");
+        storageMetrics.recordFirstByteLatency("served", System.nanoTime() - startedAt);
+        return stream;
+    }
+
+    private ResponseInputStream<GetObjectResponse> await(CompletableFuture<ResponseInputStream<GetObjectResponse>> future,
+                                                         long deadlineNanos, long startedAt) throws IOException {
+        try {
+            return future.get(deadlineNanos - (System.nanoTime() - startedAt), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            storageMetrics.recordHedgedRead("deadline_exceeded");
+            future.thenAccept(HedgedObjectReader::abortQuietly);
+            throw new IOException("객체 읽기 첫 바이트 기한 초과 (" + properties.getFirstByteDeadline() + ")");
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.thenAccept(HedgedObjectReader::abortQuietly);
+            throw new InterruptedIOException("객체 읽기 중단");
+        }
+    }
+
+    private void recordPrimaryLatency(long elapsedNanos) {
+        storageMetrics.recordFirstByteLatency("primary", elapsedNanos);
+
+        long[] snapshot;
+        synchronized (samples) {
+            samples[nextSample] = elapsedNanos;
+            nextSample = (nextSample + 1) % samples.length;
+            sampleCount = Math.min(sampleCount + 1, samples.length);
+            // 표본 16개마다 hedge 지연 다시 계산
+            if (nextSample % 16 != 0) {
+                return;
+            }
+            snapshot = Arrays.copyOf(samples, sampleCount);
+        }
+        Arrays.sort(snapshot);
+        long percentile = snapshot[Math.min(snapshot.length - 1, (int) (snapshot.length * properties.getHedgePercentile()))];
+        hedgeDelayNanos = Math.max(properties.getMinHedgeDelay().toNanos(),
+                Math.min(properties.getMaxHedgeDelay().toNanos(), percentile));
+    }
+
+    private static IOException rethrow(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof UncheckedIOException unchecked) {
+            return unchecked.getCause();
+        }
+        if (cause instanceof RuntimeException runtime) {
+            throw runtime; // SdkException 등은 그대로 전달
+        }
+        if (cause instanceof IOException io) {
+            return io;
+        }
+        return new IOException(cause);
+    }
+
+    private static void abortQuietly(ResponseInputStream<GetObjectResponse> stream) {
+        try {
+            stream.abort();
+        } catch (Exception ignored) {
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.contract.backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 병렬로 도착하는 파트로 전체 파일 SHA-256 을 점진적으로 계산
+ *
+ * - 해시가 다음으로 기다리는 파트(nextPart)는 저장소로 보내는 동안 바로 해시에 반영 (복제본 digest 에 쓰고 성공 시 교체)
+ * - 순서보다 먼저 도착한 파트는 임시 파일에 두었다가 차례가 되면 반영
+ *   (임시 파일 크기는 인스턴스 전체 StagingBudget 으로 제한하며, 넘으면 이 세션은 invalid)
+ * - 이미 반영한 파트가 다른 내용으로 다시 올라오거나 상태를 잃은 경우 invalid 가 되며,
+ *   이때는 완료 후 저장된 객체를 다시 읽어 해시를 계산한다.
+ */
+class IncrementalFileHasher {
+
+    private final Path stagingDir;
+    private final StagingBudget budget;
+    private MessageDigest digest = newSha256();
+    private int nextPart = 1;
+    private boolean frontierBusy;
+    private boolean invalid;
+
+    private final Map<Integer, Path> stagedFiles = new HashMap<>();
+    private final Map<Integer, String> stagedHashes = new HashMap<>();
+    private final Map<Integer, Long> stagedSizes = new HashMap<>();
+    private final Map<Integer, String> hashedParts = new HashMap<>();
+
+    IncrementalFileHasher(Path stagingDir, StagingBudget budget, boolean invalid) {
+        this.stagingDir = stagingDir;
+        this.budget = budget;
+        this.invalid = invalid;
+    }
+
+    /**
+     * 파트 수신 시작: 파트 내용을 기록할 곳 결정
+     */
+    synchronized PartSink begin(int partNumber, long length) throws IOException {
+        if (invalid || hashedParts.containsKey(partNumber)) {
+            // 이미 반영한 파트의 재전송: 내용이 같은지만 commit 에서 확인
+            return new PartSink(partNumber, null, null, 0, OutputStream.nullOutputStream());
+        }
+        if (partNumber == nextPart && !frontierBusy) {
+            frontierBusy = true;
+            MessageDigest working = cloneDigest(digest);
+            return new PartSink(partNumber, working, null, 0, new DigestOutputStream(OutputStream.nullOutputStream(), working));
+        }
+        if (!budget.tryReserve(length)) {
+            // 임시 파일 한도 초과: 이 세션은 완료 시 저장된 객체를 다시 읽어 계산
+            invalidate();
+            return new PartSink(partNumber, null, null, 0, OutputStream.nullOutputStream());
+        }
+        Path file;
+        try {
+            Files.createDirectories(stagingDir);
+            file = Files.createTempFile(stagingDir, "part-" + partNumber + "-", ".tmp");
+            return new PartSink(partNumber, null, file, length, Files.newOutputStream(file));
+        } catch (IOException | RuntimeException e) {
+            budget.release(length);
+            throw e;
+        }
+    }
+
+    /**
+     * 파트가 저장소에 올라간 뒤 호출
+     */
+    synchronized void commit(PartSink sink, String partSha256) {
+        boolean closed = sink.close();
+        int partNumber = sink.partNumber;
+        if (invalid || !closed) {
+            discard(sink);
+            if (!closed) {
+                invalidate();
+            }
+            return;
+        }
+
+        if (sink.working != null) {
+            digest = sink.working;
+            frontierBusy = false;
+            hashedParts.put(partNumber, partSha256);
+            nextPart++;
+        } else if (sink.file == null) {
+            if (!partSha256.equals(hashedParts.get(partNumber))) {
+                invalidate();
+                return;
+            }
+        } else {
+            removeStaged(partNumber);
+            stagedFiles.put(partNumber, sink.file);
+            stagedHashes.put(partNumber, partSha256);
+            stagedSizes.put(partNumber, sink.reservedBytes);
+        }
+        drain();
+    }
+
+    /**
+     * 파트 전송 실패 (반영하지 않음)
+     */
+    synchronized void abort(PartSink sink) {
+        sink.close();
+        discard(sink);
+        if (sink.working != null) {
+            frontierBusy = false;
+            drain();
+        }
+    }
+
+    /**
+     * 모든 파트가 순서대로 반영되었으면 전체 파일 SHA-256, 아니면 null
+     */
+    synchronized String fileHashIfComplete(int partCount) {
+        if (invalid || frontierBusy || nextPart != partCount + 1) {
+            return null;
+        }
+        return HexFormat.of().formatHex(cloneDigest(digest).digest());
+    }
+
+    synchronized void invalidate() {
+        invalid = true;
+        for (Integer partNumber : List.copyOf(stagedFiles.keySet())) {
+            removeStaged(partNumber);
+        }
+    }
+
+    void close() {
+        invalidate();
+        deleteQuietly(stagingDir);
+    }
+
+    private void drain() {
+        // 먼저 도착했던 파트가 이미 반영된 번호라면 내용 비교 후 버림
+        for (Integer partNumber : List.copyOf(stagedFiles.keySet())) {
+            if (partNumber < nextPart) {
+                String stagedHash = stagedHashes.get(partNumber);
+                removeStaged(partNumber);
+                if (!stagedHash.equals(hashedParts.get(partNumber))) {
+                    invalidate();
+                    return;
+                }
+            }
+        }
+
+        while (!frontierBusy && stagedFiles.containsKey(nextPart)) {
+            Path file = stagedFiles.get(nextPart);
+            String partSha256 = stagedHashes.get(nextPart);
+            try (InputStream in = Files.newInputStream(file)) {
+                in.transferTo(new DigestOutputStream(OutputStream.nullOutputStream(), digest));
+            } catch (IOException e) {
+                invalidate();
+                return;
+            } finally {
+                removeStaged(nextPart);
+            }
+            hashedParts.put(nextPart, partSha256);
+            nextPart++;
+        }
+    }
+
+    /**
+     * 임시 파일에 둔 파트 삭제 (예약한 한도 반환)
+     */
+    private void removeStaged(int partNumber) {
+        Path file = stagedFiles.remove(partNumber);
+        stagedHashes.remove(partNumber);
+        Long size = stagedSizes.remove(partNumber);
+        if (file != null) {
+            deleteQuietly(file);
+        }
+        if (size != null) {
+            budget.release(size);
+        }
+    }
+
+    /**
+     * 반영하지 않은 sink 의 임시 파일 삭제 (예약한 한도 반환)
+     */
+    private void discard(PartSink sink) {
+        if (sink.file != null) {
+            deleteQuietly(sink.file);
+            budget.release(sink.reservedBytes);
+        }
+    }
+
+    private static MessageDigest cloneDigest(MessageDigest digest) {
+        try {
+            return (MessageDigest) digest.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 다음 정리 때 삭제
+        }
+    }
+
+    /**
+     * 인스턴스 전체에서 임시 파일로 둔 파트 크기 한도
+     */
+    static final class StagingBudget {
+
+        private final long maxBytes;
+        private final AtomicLong usedBytes = new AtomicLong();
+
+        StagingBudget(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        boolean tryReserve(long bytes) {
+            while (true) {
+                long used = usedBytes.get();
+                if (used + bytes > maxBytes) {
+                    return false;
+                }
+                if (usedBytes.compareAndSet(used, used + bytes)) {
+                    return true;
+                }
+            }
+        }
+
+        void release(long bytes) {
+            usedBytes.addAndGet(-bytes);
+        }
+
+        long usedBytes() {
+            return usedBytes.get();
+        }
+    }
+
+    /**
+     * 수신 중인 파트의 기록 위치 (working: 바로 반영, file: 임시 파일, 둘 다 null: 버림)
+     */
+    static final class PartSink {
+
+        private final int partNumber;
+        private final MessageDigest working;
+        private final Path file;
+        private final long reservedBytes;
+        private final OutputStream out;
+
+        private PartSink(int partNumber, MessageDigest working, Path file, long reservedBytes, OutputStream out) {
+            this.partNumber = partNumber;
+            this.working = working;
+            this.file = file;
+            this.reservedBytes = reservedBytes;
+            this.out = out;
+        }
+
+        OutputStream out() {
+            return out;
+        }
+
+        private boolean close() {
+            try {
+                out.close();
+                return true;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
+}
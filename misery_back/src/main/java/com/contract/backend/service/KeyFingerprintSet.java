@@ -0,0 +1,56 @@
+package com.contract.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 저장소 키의 64비트 지문 집합 (키 문자열 대신 long 배열로 보관, 키당 8바이트)
+ *
+ * 지문 충돌은 "있다"는 쪽으로만 틀리므로 고아 객체 정리에서는 삭제를 건너뛰는 방향으로만 영향을 준다.
+ * add 를 모두 마친 뒤 seal() 을 호출하고 나서 contains 를 사용한다.
+ */
+class KeyFingerprintSet {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private long[] fingerprints = new long[1024];
+    private int size;
+    private boolean sealed;
+
+    void add(String key) {
+        if (sealed) {
+            throw new IllegalStateException("이미 seal 된 집합입니다.");
+        }
+        if (size == fingerprints.length) {
+            fingerprints = Arrays.copyOf(fingerprints, size * 2);
+        }
+        fingerprints[size++] = fingerprint(key);
+    }
+
+    void seal() {
+        Arrays.sort(fingerprints, 0, size);
+        sealed = true;
+    }
+
+    boolean contains(String key) {
+        if (!sealed) {
+            throw new IllegalStateException("seal 되지 않은 집합입니다.");
+        }
+        return Arrays.binarySearch(fingerprints, 0, size, fingerprint(key)) >= 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // FNV-1a 64비트
+    private static long fingerprint(String key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,344 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.metrics.StorageMetrics;
+import com.contract.backend.common.util.range.ByteRange;
+import com.contract.backend.common.util.stream.BoundedInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 로컬/NAS 파일시스템 저장소 (온프레미스 배포 및 테스트 대체용)
+ *
+ * 디렉터리 구조: {root}/{bucket}/{ab}/{cd}/{sha256(key)}
+ * - 키를 해시하여 디렉터리를 분산시키고 경로 조작(../)을 원천 차단
+ * - 같은 디렉터리의 임시 파일에 쓰고 fsync 후 rename 하므로 읽는 쪽은 완성된 파일만 보게 됨
+ * - content-type 등 메타데이터는 같은 이름의 .meta 파일에 저장
+ * - 멀티파트 업로드의 파트는 {root}/{bucket}/.multipart/{uploadId}/ 아래에 두었다가 완료 시 이어 붙임
+ */
+@Service
+@ConditionalOnProperty(name = "storage.local.enabled", havingValue = "true")
+public class LocalFileSystemStorageServiceImpl implements S3StorageService {
+
+    public static final String PROVIDER_NAME = "LOCAL";
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalFileSystemStorageServiceImpl.class);
+    private static final Pattern BUCKET_NAME_PATTERN = Pattern.compile("[A-Za-z0-9._-]+");
+    private static final String META_SUFFIX = ".meta";
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final String MULTIPART_DIR = ".multipart";
+    private static final String MULTIPART_CONTENT_TYPE_FILE = "content-type";
+
+    private final Path rootDir;
+    private final String bucketName;
+    private final StorageMetrics storageMetrics;
+
+    public LocalFileSystemStorageServiceImpl(
+            @Value("${storage.local.root-dir}") String rootDir,
+            @Value("${storage.local.bucket-name:contracts}") String bucketName,
+            StorageMetrics storageMetrics
+    ) throws IOException {
+        this.rootDir = Paths.get(rootDir).toAbsolutePath().normalize();
+        this.bucketName = bucketName;
+        this.storageMetrics = storageMetrics;
+        Files.createDirectories(resolveBucketDir(bucketName));
+        logger.info("로컬 파일 저장소 초기화 - root: {}, bucket: {}", this.rootDir, bucketName);
+    }
+
+    @Override
+    public String getProviderName() {
+        return PROVIDER_NAME;
+    }
+
+    @Override
+    public String getBucketName() {
+        return bucketName;
+    }
+
+    @Override
+    public void put(String bucketName, String key, InputStream content, long contentLength, String contentType) throws IOException {
+        put(bucketName, key, content, contentLength, contentType, null);
+    }
+
+    @Override
+    public void put(String bucketName, String key, InputStream content, long contentLength, String contentType,
+                    String sha256) throws IOException {
+        writeAtomically(bucketName, key, content, contentType, sha256);
+        storageMetrics.recordBytes("put", contentLength);
+    }
+
+    @Override
+    public boolean supportsMultipartUpload() {
+        return true;
+    }
+
+    @Override
+    public String createMultipartUpload(String bucketName, String key, String contentType) throws IOException {
+        String uploadId = UUID.randomUUID().toString();
+        Path dir = Files.createDirectories(multipartDir(bucketName, uploadId));
+        Files.writeString(dir.resolve(MULTIPART_CONTENT_TYPE_FILE),
+                contentType != null ? contentType : DEFAULT_CONTENT_TYPE, StandardCharsets.UTF_8);
+        return uploadId;
+    }
+
+    @Override
+    public String uploadPart(String bucketName, String key, String uploadId, int partNumber,
+                             InputStream content, long contentLength) throws IOException {
+        Path dir = multipartDir(bucketName, uploadId);
+        if (!Files.isDirectory(dir)) {
+            throw new NoSuchFileException("멀티파트 업로드가 없습니다: " + uploadId);
+        }
+
+        MessageDigest digest = newSha256();
+        Path tempFile = Files.createTempFile(dir, ".part-", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+                 OutputStream out = new DigestOutputStream(Channels.newOutputStream(channel), digest)) {
+                content.transferTo(out);
+                channel.force(true);
+            }
+            Files.move(tempFile, partPath(dir, partNumber), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        storageMetrics.recordBytes("put", contentLength);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    @Override
+    public void completeMultipartUpload(String bucketName, String key, String uploadId, List<String> partETags) throws IOException {
+        Path dir = multipartDir(bucketName, uploadId);
+        List<InputStream> parts = new ArrayList<>(partETags.size());
+        try {
+            for (int i = 0; i < partETags.size(); i++) {
+                parts.add(Files.newInputStream(partPath(dir, i + 1)));
+            }
+            String contentType = Files.readString(dir.resolve(MULTIPART_CONTENT_TYPE_FILE), StandardCharsets.UTF_8);
+            try (InputStream joined = new SequenceInputStream(Collections.enumeration(parts))) {
+                writeAtomically(bucketName, key, joined, contentType, null);
+            }
+        } finally {
+            for (InputStream part : parts) {
+                part.close();
+            }
+        }
+        deleteRecursively(dir);
+    }
+
+    @Override
+    public void abortMultipartUpload(String bucketName, String key, String uploadId) throws IOException {
+        deleteRecursively(multipartDir(bucketName, uploadId));
+    }
+
+    @Override
+    public void delete(String bucketName, String key) throws IOException {
+        Path path = resolvePath(bucketName, key);
+        Files.deleteIfExists(path);
+        Files.deleteIfExists(metadataPath(path));
+    }
+
+    @Override
+    public StoredObjectInfo getObjectInfo(String bucketName, String filePath) throws IOException {
+        Path path = resolvePath(bucketName, filePath);
+        long size = Files.size(path); // 없으면 NoSuchFileException
+        Properties metadata = readMetadata(path);
+        return new StoredObjectInfo(size, metadata.getProperty("contentType", DEFAULT_CONTENT_TYPE),
+                metadata.getProperty("sha256"));
+    }
+
+    @Override
+    public InputStream openStream(String bucketName, String filePath, ByteRange range) throws IOException {
+        Path path = resolvePath(bucketName, filePath);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        if (range == null) {
+            return Channels.newInputStream(channel);
+        }
+        channel.position(range.getStart());
+        return new BoundedInputStream(Channels.newInputStream(channel), range.length());
+    }
+
+    @Override
+    public boolean supportsListing() {
+        return true;
+    }
+
+    /**
+     * 해시 경로 순서로 목록 조회 (키는 .meta 에 기록된 원래 키, 키를 알 수 없는 파일은 제외)
+     * 페이지마다 버킷 디렉터리를 다시 순회하므로 개발 / 단일 서버 규모를 전제로 한다.
+     */
+    @Override
+    public StoredObjectPage listObjects(String bucketName, String continuationToken, int maxKeys) throws IOException {
+        Path bucketDir = resolveBucketDir(bucketName);
+        if (!Files.isDirectory(bucketDir)) {
+            return new StoredObjectPage(List.of(), null);
+        }
+
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(bucketDir)) {
+            paths = walk.filter(Files::isRegularFile)
+                    .filter(path -> !bucketDir.relativize(path).startsWith(MULTIPART_DIR))
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return !name.startsWith(".") && !name.endsWith(META_SUFFIX);
+                    })
+                    .filter(path -> continuationToken == null
+                            || bucketDir.relativize(path).toString().compareTo(continuationToken) > 0)
+                    .sorted(Comparator.comparing(path -> bucketDir.relativize(path).toString()))
+                    .limit(maxKeys + 1L)
+                    .toList();
+        }
+
+        List<StoredObjectSummary> objects = new ArrayList<>();
+        for (Path path : paths.subList(0, Math.min(maxKeys, paths.size()))) {
+            String key = readMetadata(path).getProperty("key");
+            if (key == null) {
+                continue;
+            }
+            try {
+                objects.add(new StoredObjectSummary(key, Files.size(path), Files.getLastModifiedTime(path).toInstant()));
+            } catch (NoSuchFileException e) {
+                // 목록 조회 중 삭제됨
+            }
+        }
+        String nextToken = paths.size() > maxKeys
+                ? bucketDir.relativize(paths.get(maxKeys - 1)).toString()
+                : null;
+        return new StoredObjectPage(objects, nextToken);
+    }
+
+    @Override
+    public Optional<Path> resolveLocalPath(String bucketName, String filePath) {
+        Path path = resolvePath(bucketName, filePath);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    /**
+     * 임시 파일 + rename 방식의 원자적 쓰기
+     */
+    private void writeAtomically(String bucketName, String key, InputStream content, String contentType,
+                                 String sha256) throws IOException {
+        Path target = resolvePath(bucketName, key);
+        Path dir = target.getParent();
+        Files.createDirectories(dir);
+
+        Path tempFile = Files.createTempFile(dir, ".upload-", ".tmp");
+        Path tempMeta = Files.createTempFile(dir, ".meta-", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+                 OutputStream out = Channels.newOutputStream(channel)) {
+                content.transferTo(out);
+                channel.force(true);
+            }
+
+            Properties metadata = new Properties();
+            metadata.setProperty("key", key);
+            metadata.setProperty("contentType", contentType != null ? contentType : DEFAULT_CONTENT_TYPE);
+            if (sha256 != null) {
+                metadata.setProperty("sha256", sha256);
+            }
+            try (Writer writer = Files.newBufferedWriter(tempMeta, StandardCharsets.UTF_8)) {
+                metadata.store(writer, null);
+            }
+
+            Files.move(tempMeta, metadataPath(target), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+            Files.deleteIfExists(tempMeta);
+        }
+    }
+
+    private Properties readMetadata(Path path) throws IOException {
+        Path metaPath = metadataPath(path);
+        Properties metadata = new Properties();
+        if (!Files.exists(metaPath)) {
+            return metadata;
+        }
+        try (Reader reader = Files.newBufferedReader(metaPath, StandardCharsets.UTF_8)) {
+            metadata.load(reader);
+        }
+        return metadata;
+    }
+
+    private Path resolvePath(String bucketName, String key) {
+        String hash = sha256Hex(key);
+        return resolveBucketDir(bucketName)
+                .resolve(hash.substring(0, 2))
+                .resolve(hash.substring(2, 4))
+                .resolve(hash);
+    }
+
+    private Path resolveBucketDir(String bucketName) {
+        if (bucketName == null || !BUCKET_NAME_PATTERN.matcher(bucketName).matches()) {
+            throw new IllegalArgumentException("잘못된 버킷 이름입니다: " + bucketName);
+        }
+        return rootDir.resolve(bucketName);
+    }
+
+    private Path multipartDir(String bucketName, String uploadId) {
+        // uploadId 는 createMultipartUpload 에서 만든 UUID만 허용 (경로 조작 방지)
+        return resolveBucketDir(bucketName).resolve(MULTIPART_DIR).resolve(UUID.fromString(uploadId).toString());
+    }
+
+    private static Path partPath(Path multipartDir, int partNumber) {
+        return multipartDir.resolve(String.format("part-%05d", partNumber));
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Path metadataPath(Path objectPath) {
+        return objectPath.resolveSibling(objectPath.getFileName() + META_SUFFIX);
+    }
+
+    private static String sha256Hex(String value) {
+        return HexFormat.of().formatHex(newSha256().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}
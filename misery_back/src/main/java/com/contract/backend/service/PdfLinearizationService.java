@@ -0,0 +1,180 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractVersionEntity;
+import com.contract.backend.common.config.LinearizationProperties;
+import com.contract.backend.common.event.ContractVersionCreatedEvent;
+import com.contract.backend.common.metrics.StorageMetrics;
+import com.contract.backend.common.repository.ContractVersionRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PDF 선형화(fast web view) 사본 생성
+ *
+ * 선형화된 PDF는 첫 페이지에 필요한 객체와 힌트 테이블이 파일 앞부분에 있어
+ * 뷰어가 파일 끝의 trailer 를 먼저 읽지 않고 첫 Range 응답만으로 첫 페이지를 그릴 수 있다.
+ * 원본(fileHash 기준)은 그대로 두고 미리보기용 사본만 기본 저장소에 추가로 저장한다.
+ */
+@Service
+public class PdfLinearizationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PdfLinearizationService.class);
+
+    // qpdf 종료 코드: 0 성공, 3 경고와 함께 성공
+    private static final int QPDF_SUCCESS = 0;
+    private static final int QPDF_WARNINGS = 3;
+
+    private final StorageServiceRegistry storageServiceRegistry;
+    private final StorageRouter storageRouter;
+    private final ContractVersionRepository contractVersionRepository;
+    private final LinearizationProperties properties;
+    private final StorageMetrics storageMetrics;
+    private final ExecutorService linearizeExecutor;
+
+    public PdfLinearizationService(
+            StorageServiceRegistry storageServiceRegistry,
+            StorageRouter storageRouter,
+            ContractVersionRepository contractVersionRepository,
+            LinearizationProperties properties,
+            StorageMetrics storageMetrics
+    ) {
+        this.storageServiceRegistry = storageServiceRegistry;
+        this.storageRouter = storageRouter;
+        this.contractVersionRepository = contractVersionRepository;
+        this.properties = properties;
+        this.storageMetrics = storageMetrics;
+        this.linearizeExecutor = Executors.newFixedThreadPool(properties.getConcurrency(),
+                Thread.ofPlatform().name("pdf-linearize-", 0).daemon(true).factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        linearizeExecutor.shutdownNow();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onVersionCreated(ContractVersionCreatedEvent event) {
+        if (properties.isEnabled()) {
+            Long versionId = event.getContractVersionId();
+            linearizeExecutor.execute(() -> linearize(versionId));
+        }
+    }
+
+    /**
+     * 미리보기에 사용할 파일 (선형화 사본이 있으면 사본, 없으면 원본)
+     */
+    public StoredFileRef previewRef(ContractVersionEntity version) {
+        if (version.getServingFilePath() == null || !StorageLifecycleService.isHot(version)) {
+            return StoredFileRef.of(version);
+        }
+        S3StorageService storage = storageServiceRegistry.getDefault();
+        return new StoredFileRef(storage.getProviderName(), storage.getBucketName(), version.getServingFilePath(), null);
+    }
+
+    void linearize(Long versionId) {
+        ContractVersionEntity version = contractVersionRepository.findById(versionId).orElse(null);
+        if (version == null) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        Path inputFile = null;
+        Path outputFile = null;
+        try {
+            StorageRouter.ReadTarget source = storageRouter.resolveForRead(StoredFileRef.of(version));
+            inputFile = Files.createTempFile("linearize-in-", ".pdf");
+            outputFile = Files.createTempFile("linearize-out-", ".pdf");
+            try (InputStream in = source.getStorage().openStream(
+                    source.getLocation().getBucketName(), version.getFilePath(), null)) {
+                Files.copy(in, inputFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            // 이미 선형화된 PDF는 원본을 그대로 제공
+            if (runQpdf(List.of("--check-linearization", inputFile.toString())) == QPDF_SUCCESS) {
+                storageMetrics.recordLinearization("skipped", System.nanoTime() - startedAt);
+                logger.debug("이미 선형화된 PDF - versionId: {}", versionId);
+                return;
+            }
+
+            int exitCode = runQpdf(List.of("--linearize", inputFile.toString(), outputFile.toString()));
+            if (exitCode != QPDF_SUCCESS && exitCode != QPDF_WARNINGS) {
+                throw new IOException("qpdf 선형화 실패 (exit " + exitCode + ")");
+            }
+
+            S3StorageService target = storageServiceRegistry.getDefault();
+            String servingKey = StorageKeys.linearizedKey(version.getFilePath());
+            try (InputStream in = Files.newInputStream(outputFile)) {
+                target.put(target.getBucketName(), servingKey, in, Files.size(outputFile), "application/pdf");
+            }
+            contractVersionRepository.updateServingFilePath(versionId, servingKey);
+
+            long elapsed = System.nanoTime() - startedAt;
+            storageMetrics.recordLinearization("linearized", elapsed);
+            logger.info("PDF 선형화 완료 - versionId: {}, originalBytes: {}, linearizedBytes: {}, elapsedMs: {}",
+                    versionId, Files.size(inputFile), Files.size(outputFile), elapsed / 1_000_000);
+        } catch (Exception e) {
+            storageMetrics.recordLinearization("failed", System.nanoTime() - startedAt);
+            logger.warn("PDF 선형화 실패, 원본으로 제공 - versionId: {}, error: {}", versionId, e.getMessage());
+        } finally {
+            deleteTempFile(inputFile);
+            deleteTempFile(outputFile);
+        }
+    }
+
+    /**
+     * 선형화 사본 삭제 (COLD 계층 이동 시 HOT 에 사본이 남지 않도록)
+     */
+    public void deleteServingCopy(ContractVersionEntity version) {
+        if (version.getServingFilePath() == null) {
+            return;
+        }
+        S3StorageService storage = storageServiceRegistry.getDefault();
+        try {
+            storage.delete(storage.getBucketName(), version.getServingFilePath());
+        } catch (IOException | RuntimeException e) {
+            logger.warn("선형화 사본 삭제 실패 - key: {}, error: {}", version.getServingFilePath(), e.getMessage());
+        }
+    }
+
+    private int runQpdf(List<String> args) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(properties.getQpdfPath());
+        command.addAll(args);
+
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        if (!process.waitFor(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            process.destroyForcibly();
+            throw new IOException("qpdf 실행 시간 초과");
+        }
+        return process.exitValue();
+    }
+
+    private static void deleteTempFile(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            logger.warn("임시 파일 삭제 실패: {}", tempFile);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.contract.backend.service;
+
+import java.util.Map;
+
+/**
+ * presigned 요청 (URL 과 서명에 포함되어 클라이언트가 그대로 보내야 하는 헤더)
+ */
+public class PresignedRequest {
+
+    private final String url;
+    private final Map<String, String> headers;
+
+    public PresignedRequest(String url, Map<String, String> headers) {
+        this.url = url;
+        this.headers = headers;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+}
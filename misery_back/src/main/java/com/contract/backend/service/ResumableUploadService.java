@@ -0,0 +1,705 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractEntity;
+import com.contract.backend.common.Entity.ContractVersionEntity;
+import com.contract.backend.common.Entity.UploadSessionEntity;
+import com.contract.backend.common.Entity.UploadSessionPartEntity;
+import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.Entity.enumm.UploadSessionStatus;
+import com.contract.backend.common.config.ResumableUploadProperties;
+import com.contract.backend.common.dto.ContractUpdateRequestDTO;
+import com.contract.backend.common.dto.ContractUploadRequestDTO;
+import com.contract.backend.common.dto.UploadSessionCreateRequestDTO;
+import com.contract.backend.common.dto.UploadSessionDTO;
+import com.contract.backend.common.exception.CustomException;
+import com.contract.backend.common.exception.CustomExceptionEnum;
+import com.contract.backend.common.repository.ContractVersionRepository;
+import com.contract.backend.common.repository.UploadSessionPartRepository;
+import com.contract.backend.common.repository.UploadSessionRepository;
+import com.contract.backend.common.repository.UserRepository;
+import com.contract.backend.common.util.stream.BoundedInputStream;
+import com.contract.backend.common.util.stream.TeeInputStream;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 재개 가능한 업로드: 세션 생성 → 번호 붙은 파트 업로드(병렬 가능) → 진행 상황 조회 → 완료
+ *
+ * - 파트는 서버에 쌓지 않고 저장소 멀티파트 업로드로 바로 전송
+ * - 전체 파일 SHA-256 은 파트가 도착하는 대로 점진적으로 계산 (IncrementalFileHasher)
+ * - 완료 시 ContractService 의 업로드 / 새 버전 추가와 같은 방식으로 ContractVersionEntity 생성
+ * - 해시 계산 상태는 인스턴스 메모리에 있으므로 다른 인스턴스 / 재기동 후에는 완료 시 객체를 다시 읽어 계산
+ * - 완료 처리 중 인스턴스가 종료되어 COMPLETING / FINALIZING 으로 남은 세션은 completion-timeout 이후 정리 / 재시작
+ *
+ * direct 업로드: 세션 생성 시 파트별 presigned PUT URL 을 내려주고 클라이언트가 저장소에 직접 올린다.
+ * - 완료(finalize) 시 저장소의 파트 목록으로 멀티파트 업로드를 마치고 VERIFYING 상태로 응답
+ * - 백그라운드에서 저장된 객체를 다시 읽어 선언한 SHA-256 과 비교한 뒤 계약서(또는 새 버전) 생성
+ *   (S3 멀티파트 체크섬은 파트 체크섬의 조합이라 전체 파일 SHA-256 을 저장소가 확인해 주지 않음)
+ */
+@Service
+public class ResumableUploadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumableUploadService.class);
+
+    private static final String CONTENT_TYPE = "application/pdf";
+    private static final Pattern SHA256_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final int CLEANUP_BATCH_SIZE = 100;
+
+    private final UserRepository userRepository;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UploadSessionPartRepository uploadSessionPartRepository;
+    private final ContractVersionRepository contractVersionRepository;
+    private final ContractService contractService;
+    private final StorageRouter storageRouter;
+    private final StorageServiceRegistry storageServiceRegistry;
+    private final ResumableUploadProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Path stagingRoot;
+    private final ExecutorService verifyExecutor;
+
+    private final Map<String, IncrementalFileHasher> hashers = new ConcurrentHashMap<>();
+    private final IncrementalFileHasher.StagingBudget stagingBudget;
+    // 이 인스턴스에서 해시 확인 중인 direct 세션
+    private final Set<String> verifying = ConcurrentHashMap.newKeySet();
+
+    public ResumableUploadService(
+            UserRepository userRepository,
+            UploadSessionRepository uploadSessionRepository,
+            UploadSessionPartRepository uploadSessionPartRepository,
+            ContractVersionRepository contractVersionRepository,
+            ContractService contractService,
+            StorageRouter storageRouter,
+            StorageServiceRegistry storageServiceRegistry,
+            ResumableUploadProperties properties,
+            ObjectMapper objectMapper
+    ) throws IOException {
+        this.userRepository = userRepository;
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.uploadSessionPartRepository = uploadSessionPartRepository;
+        this.contractVersionRepository = contractVersionRepository;
+        this.contractService = contractService;
+        this.storageRouter = storageRouter;
+        this.storageServiceRegistry = storageServiceRegistry;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.stagingRoot = Paths.get(properties.getStagingDirectory()).toAbsolutePath().normalize();
+        this.stagingBudget = new IncrementalFileHasher.StagingBudget(properties.getMaxStagedSize().toBytes());
+        this.verifyExecutor = Executors.newFixedThreadPool(properties.getVerifyConcurrency(),
+                Thread.ofPlatform().name("upload-verify-", 0).daemon(true).factory());
+
+        // 이전 프로세스의 임시 파트는 해시 상태와 함께 사라졌으므로 정리
+        deleteRecursively(stagingRoot);
+        Files.createDirectories(stagingRoot);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        verifyExecutor.shutdownNow();
+    }
+
+    /**
+     * 업로드 세션 생성 (저장소 멀티파트 업로드 시작)
+     */
+    public UploadSessionDTO createSession(UploadSessionCreateRequestDTO request, String userUuid) throws IOException {
+        return toDto(openSession(request, userUuid, false), List.of());
+    }
+
+    /**
+     * direct 업로드 세션 생성: 파트별 presigned PUT URL 발급 (sha256 필수)
+     */
+    public UploadSessionDTO createDirectSession(UploadSessionCreateRequestDTO request, String userUuid) throws IOException {
+        if (request.getSha256() == null) {
+            throw new CustomException(CustomExceptionEnum.UPLOAD_SESSION_INVALID);
+        }
+        UploadSessionEntity session = openSession(request, userUuid, true);
+        S3StorageService storage = storageServiceRegistry.resolve(session.getStorageProvider());
+
+        List<String> uploadUrls = new ArrayList<>(session.getPartCount());
+        Map<String, String> uploadHeaders = Map.of();
+        for (int partNumber = 1; partNumber <= session.getPartCount(); partNumber++) {
+            PresignedRequest presigned = storage.generatePresignedUploadPartUrl(session.getBucketName(),
+                    session.getFilePath(), session.getStorageUploadId(), partNumber,
+                    session.expectedPartSize(partNumber), properties.getDirectUrlExpiry());
+            uploadUrls.add(presigned.getUrl());
+            uploadHeaders = presigned.getHeaders();
+        }
+
+        UploadSessionDTO dto = toDto(session, List.of());
+        dto.setUploadUrls(uploadUrls);
+        dto.setUploadHeaders(uploadHeaders);
+        return dto;
+    }
+
+    private UploadSessionEntity openSession(UploadSessionCreateRequestDTO request, String userUuid, boolean direct) throws IOException {
+        UserEntity user = findUser(userUuid);
+
+        long totalSize = request.getTotalSize();
+        long chunkSize = request.getChunkSize() != null
+                ? request.getChunkSize() : properties.getDefaultChunkSize().toBytes();
+        if (request.getFileName() == null || request.getFileName().isBlank()
+                || totalSize <= 0 || totalSize > properties.getMaxFileSize().toBytes()
+                || chunkSize > properties.getMaxChunkSize().toBytes()
+                || (chunkSize < properties.getMinChunkSize().toBytes() && chunkSize < totalSize)) {
+            throw new CustomException(CustomExceptionEnum.UPLOAD_SESSION_INVALID);
+        }
+        long partCount = (totalSize + chunkSize - 1) / chunkSize;
+        if (partCount > properties.getMaxParts()) {
+            throw new CustomException(CustomExceptionEnum.UPLOAD_SESSION_INVALID);
+        }
+
+        String declaredSha256 = request.getSha256();
+        if (declaredSha256 != null && !SHA256_PATTERN.matcher(declaredSha256).matches()) {
+            throw new CustomException(CustomExceptionEnum.UPLOAD_SESSION_INVALID);
+        }
+
+        // 새 버전 업로드는 세션을 만들 때 미리 권한 / 상태 확인 (완료 시 다시 확인)
+        ContractEntity contract = request.getContractId() != null
+                ? contractService.findModifiableContract(request.getContractId(), user)
+                : null;
+
+        // 해시를 미리 알면 라우터 기본 위치에, 모르면 기본 저장소에 두고 재배치 작업이 옮김
+        StorageLocation target;
+        if (declaredSha256 != null) {
+            target = storageRouter.locate(declaredSha256).get(0);
+        } else {
+            S3StorageService defaultStorage = storageServiceRegistry.getDefault();
+            target = new StorageLocation(defaultStorage.getProviderName(), defaultStorage.getBucketName());
+        }
+        S3StorageService storage = storageServiceRegistry.resolve(target.getProvider());
+        if (!storage.supportsMultipartUpload() || (direct && !storage.supportsPresignedUpload())) {
+            throw new CustomException(CustomExceptionEnum.RESUMABLE_UPLOAD_UNSUPPORTED);
+        }
+
+        String key = StorageKeys.generateFileKey(request.getFileName());
+        String storageUploadId = storage.createMultipartUpload(target.getBucketName(), key, CONTENT_TYPE);
+
+        UploadSessionEntity session = new UploadSessionEntity(
+                UUID.randomUUID().toString(),
+                user,
+                contract,
+                request.getFileName(),
+                totalSize,
+                chunkSize,
+                (int) partCount,
+                declaredSha256,
+                target.getProvider(),
+                target.getBucketName(),
+                key,
+                storageUploadId,
+                LocalDateTime.now().plus(properties.getSessionTtl()));
+        session.setDirect(direct);
+        uploadSessionRepository.save(session);
+
+        logger.info("업로드 세션 생성 - sessionId: {}, totalSize: {}, parts: {}, location: {}, direct: {}",
+                session.getId(), totalSize, partCount, target, direct);
+        return session;
+    }
+
+    /**
+     * 파트 업로드 (같은 번호로 다시 올리면 덮어씀)
+     */
+    public UploadSessionDTO uploadPart(String sessionId, int partNumber, long contentLength,
+                                       InputStream body, String userUuid) throws IOException {
+        UploadSessionEntity session = findActiveSession(sessionId, userUuid);
+        if (session.isDirect() || partNumber < 1 || partNumber > session.getPartCount()
+                || contentLength != session.expectedPartSize(partNumber)) {
+            throw new CustomException(CustomExceptionEnum.UPLOAD_SESSION_INVALID);
+        }
+
+        IncrementalFileHasher hasher = hasherFor(session);
+        IncrementalFileHasher.PartSink sink = hasher.begin(partNumber, contentLength);
+        MessageDigest partDigest = IncrementalFileHasher.newSha256();
+        String eTag;
+        try {
+            TeeInputStream tee = new TeeInputStream(new BoundedInputStream(body, contentLength), sink.out());
+            try (InputStream in = new DigestInputStream(tee, partDigest)) {
+                eTag = storageServiceRegistry.resolve(session.getStorageProvider()).uploadPart(
+                        session.getBucketName(), session.getFilePath(), session.getStorageUploadId(),
+                        partNumber, in, contentLength);
+            }
+            if (tee.getBytesRead() != contentLength) {
+                throw new CustomException(CustomExceptionEnum.UPLOAD_SESSION_INVALID);
+            }
+        } catch (IOException | RuntimeException e) {
+            hasher.abort(sink);
+            throw e;
+        }
+
+        String partSha256 = hex(partDigest);
+        hasher.commit(sink, partSha256);
+
+        UploadSessionPartEntity part = uploadSessionPartRepository.findBySessionAndPartNumber(session, partNumber)
+                .orElse(null);
+        if (part == null) {
+            part = new UploadSessionPartEntity(session, partNumber, contentLength, partSha256, eTag);
+        } else {
+            part.replace(contentLength, partSha256, eTag);
+        }
+        uploadSessionPartRepository.save(part);
+
+        logger.debug("업로드 파트 수신 - sessionId: {}, part: {}/{}, bytes: {}",
+                sessionId, partNumber, session.getPartCount(), contentLength);
+        return toDto(session, uploadSessionPartRepository.findBySessionOrderByPartNumberAsc(session));
+    }
+
+    /**
+     * 진행 상황 조회 (받은 파트 / 이어서 올릴 위치)
+     */
+    public UploadSessionDTO getSession(String sessionId, String userUuid) {
+        UploadSessionEntity session = findOwnedSession(sessionId, userUuid);
+        return toDto(session, uploadSessionPartRepository.findBySessionOrderByPartNumberAsc(session));
+    }
+
+    /**
+     * 업로드 완료: 멀티파트 업로드를 마치고 계약서(또는 새 버전) 생성
+     */
+    public ContractEntity complete(String sessionId, ContractUploadRequestDTO request, String userUuid) throws Exception {
+        UploadSessionEntity session = findActiveSession(sessionId, userUuid);
+        if (session.isDirect()) {
+            throw new CustomException(CustomExceptionEnum.UPLOAD_SESSION_INVALID);
+        }
+        if (uploadSessionRepository.compareAndSetStatus(sessionId,
+                UploadSessionStatus.ACTIVE, UploadSessionStatus.COMPLETING) != 1) {
+            throw new CustomException(CustomExceptionEnum.UPLOAD_SESSION_NOT_ACTIVE);
+        }
+
+        S3StorageService storage = storageServiceRegistry.resolve(session.getStorageProvider());
+        List<UploadSessionPartEntity> parts = uploadSessionPartRepository.findBySessionOrderByPartNumberAsc(session);
+        try {
+            if (parts.size() != session.getPartCount()) {
+                throw new CustomException(CustomExceptionEnum.UPLOAD_INCOMPLETE);
+            }
+            List<String> eTags = new ArrayList<>(parts.size());
+            for (UploadSessionPartEntity part : parts) {
+                eTags.add(part.getETag());
+            }
+            storage.completeMultipartUpload(session.getBucketName(), session.getFilePath(),
+                    session.getStorageUploadId(), eTags);
+        } catch (Exception e) {
+            // 멀티파트 업로드가 아직 열려 있으므로 파트를 더 받을 수 있도록 되돌림
+            uploadSessionRepository.compareAndSetStatus(sessionId,
+                    UploadSessionStatus.COMPLETING, UploadSessionStatus.ACTIVE);
+            throw e;
+        }
+
+        String fileHash;
+        try {
+            fileHash = fileHashOf(session, storage);
+        } catch (Exception e) {
+            failCompletedUpload(session, storage, UploadSessionStatus.COMPLETING, e);
+            throw e;
+        }
+        return finishUpload(session, request, fileHash, storage, UploadSessionStatus.COMPLETING);
+    }
+
+    /**
+     * direct 업로드 완료: 저장소의 파트 목록으로 멀티파트 업로드를 마치고 해시 확인 시작
+     * 응답 시점에는 VERIFYING, 확인이 끝나면 COMPLETED(contractVersionId) 또는 ABORTED
+     */
+    public UploadSessionDTO finalizeDirect(String sessionId, ContractUploadRequestDTO request, String userUuid) throws Exception {
+        UploadSessionEntity session = findActiveSession(sessionId, userUuid);
+        if (!session.isDirect()) {
+            throw new CustomException(CustomExceptionEnum.UPLOAD_SESSION_INVALID);
+        }
+        if (uploadSessionRepository.compareAndSetStatus(sessionId,
+                UploadSessionStatus.ACTIVE, UploadSessionStatus.COMPLETING) != 1) {
+            throw new CustomException(CustomExceptionEnum.UPLOAD_SESSION_NOT_ACTIVE);
+        }
+
+        S3StorageService storage = storageServiceRegistry.resolve(session.getStorageProvider());
+        try {
+            SortedMap<Integer, String> parts = storage.listUploadedParts(
+                    session.getBucketName(), session.getFilePath(), session.getStorageUploadId());
+            if (parts.size() != session.getPartCount()
+                    || parts.firstKey() != 1 || parts.lastKey() != session.getPartCount()) {
+                throw new CustomException(CustomExceptionEnum.UPLOAD_INCOMPLETE);
+            }
+            storage.completeMultipartUpload(session.getBucketName(), session.getFilePath(),
+                    session.getStorageUploadId(), new ArrayList<>(parts.values()));
+        } catch (Exception e) {
+            uploadSessionRepository.compareAndSetStatus(sessionId,
+                    UploadSessionStatus.COMPLETING, UploadSessionStatus.ACTIVE);
+            throw e;
+        }
+
+        try {
+            if (storage.getObjectInfo(session.getBucketName(), session.getFilePath()).getContentLength()
+                    != session.getTotalSize()) {
+                throw new CustomException(CustomExceptionEnum.UPLOAD_SESSION_INVALID);
+            }
+            session.setFinalizeRequest(objectMapper.writeValueAsString(request));
+            session.setStatus(UploadSessionStatus.VERIFYING);
+            uploadSessionRepository.save(session);
+        } catch (Exception e) {
+            failCompletedUpload(session, storage, UploadSessionStatus.COMPLETING, e);
+            throw e;
+        }
+
+        scheduleVerification(sessionId);
+        logger.info("direct 업로드 완료 요청 - sessionId: {}, totalSize: {}", sessionId, session.getTotalSize());
+        return toDto(session, List.of());
+    }
+
+    /**
+     * 해시 확인 대기 중인 direct 세션 재시작 (재기동 / 다른 인스턴스에서 시작된 세션)
+     * 여러 인스턴스가 같은 세션을 확인할 수 있지만 계약서 생성은 VERIFYING -> FINALIZING 을 선점한 쪽만 진행
+     */
+    @Scheduled(fixedDelayString = "#{@resumableUploadProperties.cleanupInterval.toMillis()}")
+    public void resumeVerifications() {
+        for (UploadSessionEntity session : uploadSessionRepository.findByStatus(
+                UploadSessionStatus.VERIFYING, PageRequest.of(0, CLEANUP_BATCH_SIZE))) {
+            scheduleVerification(session.getId());
+        }
+    }
+
+    private void scheduleVerification(String sessionId) {
+        if (!verifying.add(sessionId)) {
+            return;
+        }
+        verifyExecutor.execute(() -> {
+            try {
+                verifyDirectUpload(sessionId);
+            } catch (Exception e) {
+                logger.warn("direct 업로드 해시 확인 실패 - sessionId: {}, error: {}", sessionId, e.getMessage());
+            } finally {
+                verifying.remove(sessionId);
+            }
+        });
+    }
+
+    /**
+     * 저장된 객체를 다시 읽어 선언한 SHA-256 과 비교하고, 일치하면 계약서(또는 새 버전) 생성
+     */
+    private void verifyDirectUpload(String sessionId) throws Exception {
+        UploadSessionEntity session = uploadSessionRepository.findById(sessionId).orElse(null);
+        if (session == null || session.getStatus() != UploadSessionStatus.VERIFYING) {
+            return;
+        }
+        S3StorageService storage = storageServiceRegistry.resolve(session.getStorageProvider());
+
+        String fileHash = rehash(storage, session);
+        if (!session.getDeclaredSha256().equals(fileHash)) {
+            failCompletedUpload(session, storage, UploadSessionStatus.VERIFYING,
+                    new CustomException(CustomExceptionEnum.FILE_HASH_MISMATCH));
+            return;
+        }
+        // 같은 세션을 다른 인스턴스도 확인할 수 있으므로 상태를 선점한 인스턴스만 계약서(버전) 생성
+        if (uploadSessionRepository.compareAndSetStatus(sessionId,
+                UploadSessionStatus.VERIFYING, UploadSessionStatus.FINALIZING) != 1) {
+            logger.info("다른 인스턴스가 처리 중인 direct 업로드 - sessionId: {}", sessionId);
+            return;
+        }
+        session.setStatus(UploadSessionStatus.FINALIZING);
+        ContractUploadRequestDTO request = objectMapper.readValue(session.getFinalizeRequest(), ContractUploadRequestDTO.class);
+        finishUpload(session, request, fileHash, storage, UploadSessionStatus.FINALIZING);
+    }
+
+    /**
+     * 해시가 확인된 업로드로 계약서(또는 새 버전) 생성
+     */
+    private ContractEntity finishUpload(UploadSessionEntity session, ContractUploadRequestDTO request, String fileHash,
+                                        S3StorageService storage, UploadSessionStatus current) throws Exception {
+        String sessionId = session.getId();
+        ContractEntity contract;
+        try {
+            if (session.getDeclaredSha256() != null && !session.getDeclaredSha256().equals(fileHash)) {
+                throw new CustomException(CustomExceptionEnum.FILE_HASH_MISMATCH);
+            }
+
+            StoredFileRef stored = new StoredFileRef(session.getStorageProvider(), session.getBucketName(),
+                    session.getFilePath(), fileHash);
+            // 백그라운드 확인에서도 쓰이므로 지연 로딩 프록시 대신 다시 조회
+            UserEntity user = userRepository.findById(session.getCreatedBy().getId())
+                    .orElseThrow(() -> new CustomException(CustomExceptionEnum.USER_NOT_FOUND));
+            if (session.getContract() == null) {
+                contract = contractService.uploadContract(request, user, stored);
+            } else {
+                contract = contractService.updateContract(session.getContract().getId(),
+                        new ContractUpdateRequestDTO(request.getTitle(), request.getDescription()), user, stored);
+            }
+        } catch (Exception e) {
+            failCompletedUpload(session, storage, current, e);
+            throw e;
+        }
+
+        // 여기부터는 계약서(버전)가 이미 커밋되어 객체를 참조하므로, 실패해도 객체는 지우지 않고 로그만 남김
+        try {
+            session.setStatus(UploadSessionStatus.COMPLETED);
+            session.setContractVersionId(contract.getCurrentVersion().getId());
+            uploadSessionRepository.save(session);
+            uploadSessionPartRepository.deleteBySession(session);
+        } catch (RuntimeException e) {
+            logger.error("업로드 세션 완료 기록 실패 (계약서는 생성됨) - sessionId: {}, contractId: {}, error: {}",
+                    sessionId, contract.getId(), e.getMessage(), e);
+        } finally {
+            closeHasher(sessionId);
+        }
+
+        logger.info("업로드 세션 완료 - sessionId: {}, contractId: {}, fileHash: {}",
+                sessionId, contract.getId(), fileHash);
+        return contract;
+    }
+
+    /**
+     * 멀티파트 업로드를 이미 마친 뒤의 실패: 세션을 재사용할 수 없으므로 객체 삭제 후 ABORTED
+     * 상태가 이미 바뀌었으면(다른 인스턴스가 선점) 객체는 그쪽에서 쓰고 있으므로 삭제하지 않음
+     */
+    private void failCompletedUpload(UploadSessionEntity session, S3StorageService storage,
+                                     UploadSessionStatus current, Exception cause) {
+        logger.warn("업로드 세션 완료 실패 - sessionId: {}, error: {}", session.getId(), cause.getMessage());
+        if (uploadSessionRepository.compareAndSetStatus(session.getId(), current, UploadSessionStatus.ABORTED) != 1) {
+            logger.warn("세션 상태가 이미 바뀌어 객체를 삭제하지 않음 - sessionId: {}", session.getId());
+            return;
+        }
+        deleteObjectQuietly(storage, session);
+        uploadSessionPartRepository.deleteBySession(session);
+        closeHasher(session.getId());
+    }
+
+    /**
+     * 업로드 취소
+     */
+    public void abort(String sessionId, String userUuid) {
+        UploadSessionEntity session = findActiveSession(sessionId, userUuid);
+        if (uploadSessionRepository.compareAndSetStatus(sessionId,
+                UploadSessionStatus.ACTIVE, UploadSessionStatus.ABORTED) != 1) {
+            throw new CustomException(CustomExceptionEnum.UPLOAD_SESSION_NOT_ACTIVE);
+        }
+        releaseSession(session);
+        logger.info("업로드 세션 취소 - sessionId: {}", sessionId);
+    }
+
+    /**
+     * 기한이 지난 세션 정리 (저장소 멀티파트 업로드 중단)
+     */
+    @Scheduled(fixedDelayString = "#{@resumableUploadProperties.cleanupInterval.toMillis()}")
+    public void expireSessions() {
+        List<UploadSessionEntity> expired = uploadSessionRepository.findByStatusAndExpiresAtBefore(
+                UploadSessionStatus.ACTIVE, LocalDateTime.now(), PageRequest.of(0, CLEANUP_BATCH_SIZE));
+        for (UploadSessionEntity session : expired) {
+            if (uploadSessionRepository.compareAndSetStatus(session.getId(),
+                    UploadSessionStatus.ACTIVE, UploadSessionStatus.EXPIRED) == 1) {
+                releaseSession(session);
+            }
+        }
+        if (!expired.isEmpty()) {
+            logger.info("만료된 업로드 세션 정리 - count: {}", expired.size());
+        }
+    }
+
+    /**
+     * 완료 처리 중 인스턴스가 종료되어 COMPLETING / FINALIZING 으로 남은 세션 정리
+     * - 계약서(버전)가 이미 객체를 참조하면 완료 기록만 남김
+     * - COMPLETING: ABORTED 로 바꾸고 멀티파트 업로드 중단, 이미 합쳐진 객체는 삭제
+     * - FINALIZING(direct): 객체는 합쳐져 있으므로 VERIFYING 으로 되돌려 해시 확인부터 다시 진행
+     */
+    @Scheduled(fixedDelayString = "#{@resumableUploadProperties.cleanupInterval.toMillis()}")
+    public void recoverInterruptedSessions() {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(properties.getCompletionTimeout());
+        for (UploadSessionEntity session : uploadSessionRepository.findStaleByStatus(
+                UploadSessionStatus.COMPLETING, staleBefore, PageRequest.of(0, CLEANUP_BATCH_SIZE))) {
+            if (!recordCompletedIfCreated(session, UploadSessionStatus.COMPLETING)) {
+                abortInterruptedSession(session);
+            }
+        }
+        for (UploadSessionEntity session : uploadSessionRepository.findStaleByStatus(
+                UploadSessionStatus.FINALIZING, staleBefore, PageRequest.of(0, CLEANUP_BATCH_SIZE))) {
+            if (!recordCompletedIfCreated(session, UploadSessionStatus.FINALIZING)
+                    && uploadSessionRepository.compareAndSetStatus(session.getId(),
+                            UploadSessionStatus.FINALIZING, UploadSessionStatus.VERIFYING) == 1) {
+                logger.warn("중단된 direct 업로드 완료 재시작 - sessionId: {}", session.getId());
+                scheduleVerification(session.getId());
+            }
+        }
+    }
+
+    /**
+     * 계약서(버전)는 커밋되었지만 세션 완료 기록 전에 종료된 경우 완료로 기록
+     *
+     * @return 이미 만들어진 버전이 있으면 true
+     */
+    private boolean recordCompletedIfCreated(UploadSessionEntity session, UploadSessionStatus current) {
+        ContractVersionEntity version = contractVersionRepository.findByFilePath(session.getFilePath()).orElse(null);
+        if (version == null) {
+            return false;
+        }
+        if (uploadSessionRepository.compareAndSetStatus(session.getId(), current, UploadSessionStatus.COMPLETED) == 1) {
+            session.setStatus(UploadSessionStatus.COMPLETED);
+            session.setContractVersionId(version.getId());
+            uploadSessionRepository.save(session);
+            uploadSessionPartRepository.deleteBySession(session);
+            closeHasher(session.getId());
+            logger.warn("중단된 업로드 세션 완료 기록 - sessionId: {}, status: {}, contractVersionId: {}",
+                    session.getId(), current, version.getId());
+        }
+        return true;
+    }
+
+    private void abortInterruptedSession(UploadSessionEntity session) {
+        if (uploadSessionRepository.compareAndSetStatus(session.getId(),
+                UploadSessionStatus.COMPLETING, UploadSessionStatus.ABORTED) != 1) {
+            return;
+        }
+        // 멀티파트 업로드를 마치기 전에 종료되었으면 중단, 마친 뒤라면 합쳐진 객체 삭제 (둘 중 해당 없는 쪽은 실패해도 무시)
+        releaseSession(session);
+        deleteObjectQuietly(storageServiceRegistry.resolve(session.getStorageProvider()), session);
+        logger.warn("중단된 업로드 세션 정리 - sessionId: {}", session.getId());
+    }
+
+    private void releaseSession(UploadSessionEntity session) {
+        try {
+            storageServiceRegistry.resolve(session.getStorageProvider()).abortMultipartUpload(
+                    session.getBucketName(), session.getFilePath(), session.getStorageUploadId());
+        } catch (IOException | RuntimeException e) {
+            logger.warn("멀티파트 업로드 중단 실패 - sessionId: {}, error: {}", session.getId(), e.getMessage());
+        }
+        uploadSessionPartRepository.deleteBySession(session);
+        closeHasher(session.getId());
+    }
+
+    /**
+     * 전체 파일 SHA-256 (점진적으로 계산된 값이 없으면 저장된 객체를 다시 읽어 계산)
+     */
+    private String fileHashOf(UploadSessionEntity session, S3StorageService storage) throws IOException {
+        IncrementalFileHasher hasher = hashers.get(session.getId());
+        String fileHash = hasher != null ? hasher.fileHashIfComplete(session.getPartCount()) : null;
+        if (fileHash != null) {
+            return fileHash;
+        }
+
+        logger.info("파트 순서가 어긋났거나 해시 상태가 없어 객체를 다시 읽어 해시 계산 - sessionId: {}", session.getId());
+        return rehash(storage, session);
+    }
+
+    private static String rehash(S3StorageService storage, UploadSessionEntity session) throws IOException {
+        MessageDigest digest = IncrementalFileHasher.newSha256();
+        try (InputStream in = storage.openStream(session.getBucketName(), session.getFilePath(), null)) {
+            in.transferTo(new DigestOutputStream(OutputStream.nullOutputStream(), digest));
+        }
+        return hex(digest);
+    }
+
+    private IncrementalFileHasher hasherFor(UploadSessionEntity session) {
+        return hashers.computeIfAbsent(session.getId(), id -> {
+            // 이 인스턴스가 처음 보는 세션에 이미 받은 파트가 있으면 (재기동 / 다른 인스턴스) 완료 시 다시 읽어 계산
+            return new IncrementalFileHasher(stagingRoot.resolve(id), stagingBudget,
+                    uploadSessionPartRepository.existsBySession(session));
+        });
+    }
+
+    private void closeHasher(String sessionId) {
+        IncrementalFileHasher hasher = hashers.remove(sessionId);
+        if (hasher != null) {
+            hasher.close();
+        }
+    }
+
+    private UploadSessionEntity findActiveSession(String sessionId, String userUuid) {
+        UploadSessionEntity session = findOwnedSession(sessionId, userUuid);
+        if (session.getStatus() != UploadSessionStatus.ACTIVE || session.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new CustomException(CustomExceptionEnum.UPLOAD_SESSION_NOT_ACTIVE);
+        }
+        return session;
+    }
+
+    private UploadSessionEntity findOwnedSession(String sessionId, String userUuid) {
+        UploadSessionEntity session = uploadSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new CustomException(CustomExceptionEnum.UPLOAD_SESSION_NOT_FOUND));
+        UserEntity user = findUser(userUuid);
+        if (!session.getCreatedBy().getId().equals(user.getId())) {
+            throw new CustomException(CustomExceptionEnum.UNAUTHORIZED);
+        }
+        return session;
+    }
+
+    private UserEntity findUser(String userUuid) {
+        return userRepository.findByUuid(userUuid)
+                .orElseThrow(() -> new CustomException(CustomExceptionEnum.USER_NOT_FOUND));
+    }
+
+    private UploadSessionDTO toDto(UploadSessionEntity session, List<UploadSessionPartEntity> parts) {
+        List<Integer> receivedParts = new ArrayList<>(parts.size());
+        long receivedBytes = 0;
+        long committedOffset = 0;
+        boolean contiguous = true;
+        int expectedPart = 1;
+        for (UploadSessionPartEntity part : parts) {
+            receivedParts.add(part.getPartNumber());
+            receivedBytes += part.getSize();
+            if (contiguous && part.getPartNumber() == expectedPart) {
+                committedOffset += part.getSize();
+                expectedPart++;
+            } else {
+                contiguous = false;
+            }
+        }
+
+        UploadSessionDTO dto = new UploadSessionDTO();
+        dto.setSessionId(session.getId());
+        dto.setStatus(session.getStatus().name());
+        dto.setContractId(session.getContract() != null ? session.getContract().getId() : null);
+        dto.setFileName(session.getFileName());
+        dto.setTotalSize(session.getTotalSize());
+        dto.setChunkSize(session.getChunkSize());
+        dto.setPartCount(session.getPartCount());
+        dto.setReceivedParts(receivedParts);
+        dto.setReceivedBytes(receivedBytes);
+        dto.setCommittedOffset(committedOffset);
+        dto.setContractVersionId(session.getContractVersionId());
+        dto.setExpiresAt(session.getExpiresAt());
+        return dto;
+    }
+
+    private void deleteObjectQuietly(S3StorageService storage, UploadSessionEntity session) {
+        try {
+            storage.delete(session.getBucketName(), session.getFilePath());
+        } catch (IOException | RuntimeException e) {
+            logger.warn("완료하지 못한 업로드 객체 삭제 실패 - key: {}, error: {}", session.getFilePath(), e.getMessage());
+        }
+    }
+
+    private static String hex(MessageDigest digest) {
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) sb.append(String.format("%02x", b));
+        return sb.toString();
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -1,10 +1,157 @@
 package com.contract.backend.service;
 
+import com.contract.backend.common.util.range.ByteRange;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
 
+/**
+ * 계약서 파일 저장소
+ * 구현체마다 ContractVersionEntity.storageProvider 값(getProviderName)이 다르며,
+ * 파일 제공 시 버전에 기록된 provider / bucket 기준으로 구현체를 선택한다. (StorageServiceRegistry)
+ */
 public interface S3StorageService {
-    String upload(MultipartFile file) throws IOException;
+
+    /**
+     * ContractVersionEntity.storageProvider 에 기록되는 이름 (예: B2, LOCAL)
+     */
+    String getProviderName();
+
+    /**
+     * 기본 버킷
+     */
     String getBucketName();
+
+    default String upload(MultipartFile file) throws IOException {
+        return upload(getBucketName(), file);
+    }
+
+    /**
+     * 새 키를 생성하여 업로드하고 키를 반환
+     */
+    default String upload(String bucketName, MultipartFile file) throws IOException {
+        String key = StorageKeys.generateFileKey(file.getOriginalFilename());
+        try (InputStream in = file.getInputStream()) {
+            put(bucketName, key, in, file.getSize(), file.getContentType());
+        }
+        return key;
+    }
+
+    /**
+     * 지정한 키로 객체 저장 (같은 키가 있으면 덮어씀)
+     * 라우터의 복제본 쓰기 / 재배치 복사에서 키를 유지하기 위해 사용
+     */
+    void put(String bucketName, String key, InputStream content, long contentLength, String contentType) throws IOException;
+
+    /**
+     * 내용의 SHA-256 을 객체 메타데이터로 함께 기록 (무결성 검사에서 객체를 다시 읽지 않고 비교)
+     * 메타데이터를 지원하지 않는 저장소는 해시 없이 저장
+     *
+     * @param sha256 null이면 기록하지 않음
+     */
+    default void put(String bucketName, String key, InputStream content, long contentLength, String contentType,
+                     String sha256) throws IOException {
+        put(bucketName, key, content, contentLength, contentType);
+    }
+
+    void delete(String bucketName, String key) throws IOException;
+
+    StoredObjectInfo getObjectInfo(String bucketName, String filePath) throws IOException;
+
+    /**
+     * 객체 읽기
+     *
+     * @param range null이면 전체
+     */
+    InputStream openStream(String bucketName, String filePath, ByteRange range) throws IOException;
+
+    default boolean supportsMultipartUpload() {
+        return false;
+    }
+
+    /**
+     * 멀티파트 업로드 시작 (재개 가능한 업로드용), uploadId 반환
+     */
+    default String createMultipartUpload(String bucketName, String key, String contentType) throws IOException {
+        throw new UnsupportedOperationException(getProviderName() + " 스토리지는 멀티파트 업로드를 지원하지 않습니다.");
+    }
+
+    /**
+     * 파트 업로드 (같은 partNumber 로 다시 올리면 덮어씀), ETag 반환
+     */
+    default String uploadPart(String bucketName, String key, String uploadId, int partNumber,
+                              InputStream content, long contentLength) throws IOException {
+        throw new UnsupportedOperationException(getProviderName() + " 스토리지는 멀티파트 업로드를 지원하지 않습니다.");
+    }
+
+    /**
+     * 멀티파트 업로드 완료
+     *
+     * @param partETags 1번 파트부터 순서대로의 ETag
+     */
+    default void completeMultipartUpload(String bucketName, String key, String uploadId,
+                                         List<String> partETags) throws IOException {
+        throw new UnsupportedOperationException(getProviderName() + " 스토리지는 멀티파트 업로드를 지원하지 않습니다.");
+    }
+
+    default void abortMultipartUpload(String bucketName, String key, String uploadId) throws IOException {
+        throw new UnsupportedOperationException(getProviderName() + " 스토리지는 멀티파트 업로드를 지원하지 않습니다.");
+    }
+
+    /**
+     * 지금까지 올라온 멀티파트 업로드 파트 (파트 번호 → ETag, presigned 업로드 완료 시 사용)
+     */
+    default SortedMap<Integer, String> listUploadedParts(String bucketName, String key, String uploadId) throws IOException {
+        throw new UnsupportedOperationException(getProviderName() + " 스토리지는 멀티파트 업로드를 지원하지 않습니다.");
+    }
+
+    default boolean supportsPresignedUpload() {
+        return false;
+    }
+
+    /**
+     * 멀티파트 업로드 파트에 대한 단기 만료 PUT URL 생성 (클라이언트가 저장소에 직접 업로드)
+     */
+    default PresignedRequest generatePresignedUploadPartUrl(String bucketName, String key, String uploadId,
+                                                           int partNumber, long contentLength, Duration expiry) {
+        throw new UnsupportedOperationException(getProviderName() + " 스토리지는 presigned 업로드를 지원하지 않습니다.");
+    }
+
+    default boolean supportsListing() {
+        return false;
+    }
+
+    /**
+     * 버킷 객체 목록 한 페이지 (continuationToken 이 null 이면 처음부터)
+     * 진행 중인 멀티파트 업로드의 파트는 포함하지 않는다.
+     */
+    default StoredObjectPage listObjects(String bucketName, String continuationToken, int maxKeys) throws IOException {
+        throw new UnsupportedOperationException(getProviderName() + " 스토리지는 목록 조회를 지원하지 않습니다.");
+    }
+
+    /**
+     * 로컬 파일로 존재하는 경우 경로 반환 (zero-copy 전송용)
+     */
+    default Optional<Path> resolveLocalPath(String bucketName, String filePath) {
+        return Optional.empty();
+    }
+
+    default boolean supportsPresignedUrls() {
+        return false;
+    }
+
+    /**
+     * 객체에 대한 단기 만료 GET URL 생성
+     * contentDisposition / contentType은 응답 헤더로 그대로 내려가며, Range 요청도 스토리지가 직접 처리한다.
+     */
+    default String generatePresignedDownloadUrl(String bucketName, String filePath, String contentType,
+                                                String contentDisposition, Duration expiry) {
+        throw new UnsupportedOperationException(getProviderName() + " 스토리지는 presigned URL을 지원하지 않습니다.");
+    }
 }
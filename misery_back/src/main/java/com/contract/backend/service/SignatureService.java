@@ -5,6 +5,7 @@ import com.contract.backend.common.Entity.enumm.ContractStatus;
 import com.contract.backend.common.Entity.enumm.PartyRole;
 import com.contract.backend.common.Entity.enumm.VersionStatus;
 import com.contract.backend.common.dto.BlockchainMetadataDTO; // DTO 임포트
+import com.contract.backend.common.event.ContractChangedEvent;
 import com.contract.backend.common.exception.CustomException;
 import com.contract.backend.common.exception.CustomExceptionEnum;
 import com.contract.backend.common.repository.ContractPartyRepository;
@@ -13,6 +14,7 @@ import com.contract.backend.common.repository.ContractVersionRepository;
 import com.contract.backend.common.repository.SignatureRepository;
 import com.fasterxml.jackson.databind.ObjectMapper; // ObjectMapper 임포트
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule; // JavaTimeModule 임포트
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,6 +43,8 @@ public class SignatureService {
     private final BlockchainService blockchainService;
     private final BlockchainRecordRepository blockchainRecordRepository;
     private final ObjectMapper objectMapper; // JSON 직렬화용
+    private final ContractMembershipService contractMembershipService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public SignatureService(ContractRepository contractRepository,
                             ContractVersionRepository contractVersionRepository,
@@ -48,7 +52,9 @@ public class SignatureService {
                             ContractPartyRepository contractPartyRepository,
                             BlockchainService blockchainService,
                             BlockchainRecordRepository blockchainRecordRepository,
-                            ObjectMapper objectMapper // ObjectMapper 주입
+                            ObjectMapper objectMapper, // ObjectMapper 주입
+                            ContractMembershipService contractMembershipService,
+                            ApplicationEventPublisher eventPublisher
     ) {
         this.contractRepository = contractRepository;
         this.contractVersionRepository = contractVersionRepository;
@@ -56,6 +62,8 @@ public class SignatureService {
         this.contractPartyRepository = contractPartyRepository;
         this.blockchainService = blockchainService;
         this.blockchainRecordRepository = blockchainRecordRepository;
+        this.contractMembershipService = contractMembershipService;
+        this.eventPublisher = eventPublisher;
         this.objectMapper = objectMapper.copy(); // 원본 ObjectMapper의 설정을 복사하여 사용
         this.objectMapper.registerModule(new JavaTimeModule());
     }
@@ -87,6 +95,7 @@ public class SignatureService {
         String signatureHashValue = generateSimpleSignatureHash(currentVersion.getFileHash(), signer.getUuid());
         SignatureEntity signature = new SignatureEntity(currentVersion, signer, signatureHashValue);
         signatureRepository.save(signature);
+        eventPublisher.publishEvent(new ContractChangedEvent(contract.getId()));
         logger.info("사용자 {}가 계약 ID {}의 버전 {}에 서명했습니다.", signer.getUuid(), contractId, currentVersion.getVersionNumber());
 
         List<ContractPartyEntity> allPartiesInContract = contractPartyRepository.findByContract(contract);
@@ -124,6 +133,7 @@ public class SignatureService {
             contract.setUpdatedAt(LocalDateTime.now());
             contract.setUpdatedBy(signer);
             contractRepository.save(contract);
+            contractMembershipService.updateStatus(contract);
             logger.info("계약 ID {}의 상태가 CLOSED로, 버전 {}의 상태가 SIGNED로 변경되었습니다.", contract.getId(), currentVersion.getId());
 
             // --- 블록체인 연동 로직 ---
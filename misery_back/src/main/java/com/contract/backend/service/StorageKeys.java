@@ -0,0 +1,46 @@
+package com.contract.backend.service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * 스토리지 객체 키 생성 규칙 (모든 provider 공통)
+ */
+public final class StorageKeys {
+
+    // 원본 키 뒤에 붙는 파생 객체 접미사 (썸네일 / 페이지 이미지)
+    public static final String PREVIEW_SUFFIX = ".preview/";
+    public static final String LINEARIZED_SUFFIX = ".linearized.pdf";
+    // 해시가 맞지 않아 격리된 객체 (원래 키 앞에 붙음)
+    public static final String QUARANTINE_PREFIX = "quarantine/";
+
+    private StorageKeys() {
+    }
+
+    public static String generateFileKey(String originalFileName) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+        return "contracts/" + timestamp + "_" + UUID.randomUUID() + "_" + originalFileName;
+    }
+
+    /**
+     * 원본 옆에 저장되는 미리보기 이미지 키 (예: contracts/..._a.pdf.preview/thumb.jpg)
+     */
+    public static String previewKey(String filePath, String name) {
+        return filePath + PREVIEW_SUFFIX + name;
+    }
+
+    /**
+     * 격리된 객체 키
+     */
+    public static String quarantineKey(String filePath) {
+        return QUARANTINE_PREFIX + filePath;
+    }
+
+    /**
+     * 미리보기용 선형화 사본 키
+     */
+    public static String linearizedKey(String filePath) {
+        return filePath + LINEARIZED_SUFFIX;
+    }
+}
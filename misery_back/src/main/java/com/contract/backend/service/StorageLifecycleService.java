@@ -0,0 +1,319 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractVersionEntity;
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.Entity.enumm.StorageTier;
+import com.contract.backend.common.Entity.enumm.VersionStatus;
+import com.contract.backend.common.config.StorageLifecycleProperties;
+import com.contract.backend.common.event.ContractChangedEvent;
+import com.contract.backend.common.metrics.StorageMetrics;
+import com.contract.backend.common.repository.ContractVersionRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관 계층 관리 (HOT ↔ COLD)
+ *
+ * - ARCHIVED 버전과 보존 기간이 지난 CLOSED 계약의 버전을 주기적으로 COLD 위치로 옮기고 HOT 사본 삭제
+ *   (선택적으로 gzip 압축, content_encoding 에 기록)
+ * - COLD 버전에 처음 접근하면 RESTORING 으로 바꾸고 백그라운드에서 HOT 위치로 복원, 그동안 202 + Retry-After 응답
+ */
+@Service
+public class StorageLifecycleService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorageLifecycleService.class);
+
+    public static final String STORAGE_STATE_HEADER = "X-Storage-State";
+    private static final String GZIP_ENCODING = "gzip";
+
+    private final StorageRouter storageRouter;
+    private final StorageServiceRegistry storageServiceRegistry;
+    private final ContractVersionRepository contractVersionRepository;
+    private final StorageLifecycleProperties properties;
+    private final StorageMetrics storageMetrics;
+    private final PdfLinearizationService pdfLinearizationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService restoreExecutor;
+
+    // 다음 실행에서 이어서 검사할 위치
+    private long lastVersionId = 0;
+
+    public StorageLifecycleService(
+            StorageRouter storageRouter,
+            StorageServiceRegistry storageServiceRegistry,
+            ContractVersionRepository contractVersionRepository,
+            StorageLifecycleProperties properties,
+            StorageMetrics storageMetrics,
+            PdfLinearizationService pdfLinearizationService,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.storageRouter = storageRouter;
+        this.storageServiceRegistry = storageServiceRegistry;
+        this.contractVersionRepository = contractVersionRepository;
+        this.properties = properties;
+        this.storageMetrics = storageMetrics;
+        this.pdfLinearizationService = pdfLinearizationService;
+        this.eventPublisher = eventPublisher;
+        this.restoreExecutor = Executors.newFixedThreadPool(properties.getRestoreConcurrency(),
+                Thread.ofPlatform().name("storage-restore-", 0).daemon(true).factory());
+
+        if (properties.isEnabled()) {
+            if (properties.getColdBucket() == null || properties.getColdBucket().isBlank()) {
+                throw new IllegalStateException("storage.lifecycle.cold-bucket 이 설정되지 않았습니다.");
+            }
+            storageServiceRegistry.resolve(properties.getColdProvider()); // 활성화되지 않은 provider면 기동 실패
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        restoreExecutor.shutdownNow();
+    }
+
+    public static boolean isHot(ContractVersionEntity version) {
+        return version.getStorageTier() == null || version.getStorageTier() == StorageTier.HOT;
+    }
+
+    /**
+     * HOT 이 아닌 버전에 대한 접근: COLD 면 복원을 시작하고, 복원(또는 스풀 전송)이 끝날 때까지 202 응답
+     */
+    public Optional<ResponseEntity<StreamingResponseBody>> restoringResponse(ContractVersionEntity version) {
+        if (isHot(version)) {
+            return Optional.empty();
+        }
+        StorageTier state = version.getStorageTier();
+        if (state == StorageTier.COLD) {
+            requestRestore(version);
+            state = StorageTier.RESTORING;
+        }
+
+        logger.info("HOT 계층에 없는 파일 요청 - versionId: {}, state: {}, filePath: {}",
+                version.getId(), state, version.getFilePath());
+        return Optional.of(ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(properties.getRetryAfterSeconds()))
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .header(STORAGE_STATE_HEADER, state.name())
+                .build());
+    }
+
+    private void requestRestore(ContractVersionEntity version) {
+        Long versionId = version.getId();
+        // 동시 요청 중 하나만 복원 작업을 시작
+        int updated = contractVersionRepository.compareAndSetStorageTier(
+                versionId, StorageTier.COLD, StorageTier.RESTORING, LocalDateTime.now());
+        if (updated == 1) {
+            restoreExecutor.execute(() -> restore(versionId));
+        }
+    }
+
+    /**
+     * COLD → HOT 복원 (라우터가 정한 HOT 위치와 복제본 위치에 압축 해제하여 저장)
+     */
+    void restore(Long versionId) {
+        ContractVersionEntity version = contractVersionRepository.findById(versionId).orElse(null);
+        if (version == null || version.getStorageTier() != StorageTier.RESTORING) {
+            return;
+        }
+
+        Path tempFile = null;
+        try {
+            StoredFileRef coldFile = StoredFileRef.of(version);
+            StorageLocation coldLocation = storageRouter.recordedLocation(coldFile);
+            StorageRouter.ReadTarget source = storageRouter.resolveForRead(coldFile);
+            String key = version.getFilePath();
+
+            tempFile = Files.createTempFile("restore-", ".tmp");
+            try (InputStream raw = source.getStorage().openStream(source.getLocation().getBucketName(), key, null);
+                 InputStream in = GZIP_ENCODING.equals(version.getContentEncoding()) ? new GZIPInputStream(raw) : raw) {
+                Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            List<StorageLocation> targets = storageRouter.locate(version.getFileHash());
+            for (StorageLocation target : targets) {
+                putFile(target, key, tempFile, source.getObjectInfo().getContentType(), version.getFileHash());
+            }
+
+            // 다른 열(미리보기 / 무결성 등)은 건드리지 않고 계층과 위치만 조건부로 변경
+            StorageLocation primary = targets.get(0);
+            int updated = contractVersionRepository.completeRestore(versionId,
+                    version.getStorageProvider(), version.getBucketName(),
+                    primary.getProvider(), primary.getBucketName(),
+                    StorageTier.RESTORING, StorageTier.HOT, LocalDateTime.now());
+            if (updated == 0) {
+                // 시간 초과로 COLD 로 되돌려진 뒤 다른 복원이 진행 중일 수 있으므로 어느 사본도 지우지 않음
+                logger.warn("복원 중 버전 상태가 바뀌어 결과를 기록하지 않음 - versionId: {}", versionId);
+                return;
+            }
+            storageMetrics.recordTierTransition(StorageTier.HOT.name());
+            eventPublisher.publishEvent(new ContractChangedEvent(version.getContract().getId()));
+
+            deleteQuietly(coldLocation, key);
+            logger.info("COLD 계층 파일 복원 완료 - versionId: {}, location: {}", versionId, primary);
+        } catch (Exception e) {
+            logger.error("COLD 계층 파일 복원 실패 - versionId: {}, error: {}", versionId, e.getMessage(), e);
+            // 다음 접근 시 다시 복원하도록 되돌림
+            contractVersionRepository.compareAndSetStorageTier(
+                    versionId, StorageTier.RESTORING, StorageTier.COLD, LocalDateTime.now());
+        } finally {
+            deleteTempFile(tempFile);
+        }
+    }
+
+    /**
+     * HOT → COLD 이동 작업
+     */
+    @Scheduled(fixedDelayString = "#{@storageLifecycleProperties.interval.toMillis()}")
+    public void runLifecycle() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        recoverStaleRestores();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ContractVersionEntity> candidates = contractVersionRepository.findColdTierCandidates(
+                lastVersionId,
+                StorageTier.HOT,
+                VersionStatus.ARCHIVED,
+                ContractStatus.CLOSED,
+                now.minus(properties.getRestoredHotPeriod()),
+                now.minus(properties.getClosedRetention()),
+                PageRequest.of(0, properties.getBatchSize()));
+        if (candidates.isEmpty()) {
+            lastVersionId = 0;
+            return;
+        }
+
+        int moved = 0;
+        for (ContractVersionEntity version : candidates) {
+            lastVersionId = version.getId();
+            try {
+                moveToCold(version);
+                moved++;
+            } catch (Exception e) {
+                // 다음 바퀴에서 다시 시도
+                logger.warn("COLD 계층 이동 실패 - versionId: {}, error: {}", version.getId(), e.getMessage());
+            }
+        }
+        logger.info("COLD 계층 이동 - checked: {}, moved: {}", candidates.size(), moved);
+    }
+
+    private void moveToCold(ContractVersionEntity version) throws IOException {
+        StorageLocation coldLocation = new StorageLocation(properties.getColdProvider(), properties.getColdBucket());
+        StoredFileRef hotFile = StoredFileRef.of(version);
+        String key = version.getFilePath();
+
+        // 삭제할 HOT 사본 위치 (기록된 위치 + 라우터 복제본 위치)
+        Set<StorageLocation> hotLocations = new LinkedHashSet<>();
+        hotLocations.add(storageRouter.recordedLocation(hotFile));
+        if (version.getFileHash() != null) {
+            hotLocations.addAll(storageRouter.locate(version.getFileHash()));
+        }
+        hotLocations.remove(coldLocation);
+
+        StorageRouter.ReadTarget source = storageRouter.resolveForRead(hotFile);
+        if (properties.isCompress()) {
+            Path tempFile = Files.createTempFile("cold-", ".gz");
+            try {
+                try (InputStream in = source.getStorage().openStream(source.getLocation().getBucketName(), key, null);
+                     OutputStream out = new GZIPOutputStream(Files.newOutputStream(tempFile))) {
+                    in.transferTo(out);
+                }
+                // 압축본은 내용 해시가 fileHash 와 다르므로 기록하지 않음
+                putFile(coldLocation, key, tempFile, source.getObjectInfo().getContentType(), null);
+            } finally {
+                deleteTempFile(tempFile);
+            }
+        } else {
+            storageRouter.copy(source, coldLocation, key);
+        }
+
+        // 읽어 둔 HOT 위치 그대로인 경우에만 COLD 로 변경 (다른 열은 건드리지 않음, 재배치와 경쟁 시 한쪽만 성공)
+        int updated = contractVersionRepository.moveToCold(version.getId(),
+                version.getStorageProvider(), version.getBucketName(),
+                coldLocation.getProvider(), coldLocation.getBucketName(),
+                properties.isCompress() ? GZIP_ENCODING : null,
+                StorageTier.HOT, StorageTier.COLD, LocalDateTime.now());
+        if (updated == 0) {
+            ContractVersionEntity current = contractVersionRepository.findById(version.getId()).orElse(null);
+            boolean alreadyCold = current != null && current.getStorageTier() == StorageTier.COLD
+                    && coldLocation.equals(storageRouter.recordedLocation(StoredFileRef.of(current)));
+            if (!alreadyCold) {
+                deleteQuietly(coldLocation, key);
+            }
+            throw new IOException("COLD 이동 중 버전 위치 / 계층이 바뀜");
+        }
+        // 미리보기용 선형화 사본도 HOT 에서 제거 (복원 후에는 원본으로 제공), 참조를 지운 뒤에 삭제
+        pdfLinearizationService.deleteServingCopy(version);
+        storageMetrics.recordTierTransition(StorageTier.COLD.name());
+        eventPublisher.publishEvent(new ContractChangedEvent(version.getContract().getId()));
+
+        for (StorageLocation hotLocation : hotLocations) {
+            deleteQuietly(hotLocation, key);
+        }
+    }
+
+    /**
+     * 재기동 등으로 끝나지 못한 복원은 COLD 로 되돌림
+     */
+    private void recoverStaleRestores() {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(properties.getRestoreTimeout());
+        for (ContractVersionEntity version : contractVersionRepository
+                .findByStorageTierAndTierChangedAtBefore(StorageTier.RESTORING, staleBefore)) {
+            contractVersionRepository.compareAndSetStorageTier(
+                    version.getId(), StorageTier.RESTORING, StorageTier.COLD, LocalDateTime.now());
+            logger.warn("중단된 복원 작업 초기화 - versionId: {}", version.getId());
+        }
+    }
+
+    private void putFile(StorageLocation target, String key, Path file, String contentType,
+                         String sha256) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            storageServiceRegistry.resolve(target.getProvider())
+                    .put(target.getBucketName(), key, in, Files.size(file), contentType, sha256);
+        }
+    }
+
+    private void deleteQuietly(StorageLocation location, String key) {
+        try {
+            storageRouter.delete(location, key);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("이전 사본 삭제 실패 - location: {}, key: {}, error: {}", location, key, e.getMessage());
+        }
+    }
+
+    private static void deleteTempFile(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            logger.warn("임시 파일 삭제 실패: {}", tempFile);
+        }
+    }
+}
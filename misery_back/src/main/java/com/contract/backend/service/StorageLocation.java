@@ -0,0 +1,43 @@
+package com.contract.backend.service;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 객체가 놓이는 위치 (provider + bucket)
+ */
+public final class StorageLocation {
+
+    private final String provider;
+    private final String bucketName;
+
+    public StorageLocation(String provider, String bucketName) {
+        this.provider = provider.trim().toUpperCase(Locale.ROOT);
+        this.bucketName = bucketName;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public String getBucketName() {
+        return bucketName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StorageLocation that)) return false;
+        return provider.equals(that.provider) && bucketName.equals(that.bucketName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(provider, bucketName);
+    }
+
+    @Override
+    public String toString() {
+        return provider + "/" + bucketName;
+    }
+}
@@ -0,0 +1,233 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.enumm.UploadSessionStatus;
+import com.contract.backend.common.config.ChunkedStorageProperties;
+import com.contract.backend.common.config.StorageGcProperties;
+import com.contract.backend.common.config.StorageLifecycleProperties;
+import com.contract.backend.common.config.StorageRouterProperties;
+import com.contract.backend.common.metrics.StorageMetrics;
+import com.contract.backend.common.repository.ContractVersionRepository;
+import com.contract.backend.common.repository.UploadSessionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 고아 저장소 객체 정리 (mark-and-sweep)
+ *
+ * 업로드는 트랜잭션 안에서 저장소에 먼저 기록되므로, 이후 트랜잭션이 롤백되면 어떤 버전도 참조하지 않는 객체가 남는다.
+ * - mark: contract_versions 의 filePath / servingFilePath 와 진행 중인 업로드 세션 키를 지문 집합(KeyFingerprintSet)으로 수집
+ * - sweep: 알려진 모든 버킷을 페이지 단위로 목록 조회해 집합에 없는 키 중 grace 보다 오래된 객체 삭제
+ * - 미리보기 이미지(.preview/) / 선형화 사본은 원본 키 기준으로 판단하고, chunks/ 는 청크 저장소 GC 가 담당
+ * - quarantine/ 아래 격리된 객체는 조사용으로 남겨 둠
+ * - 삭제 직전 DB 를 한 번 더 확인해 mark 이후 커밋된 버전의 객체는 건너뜀
+ */
+@Component
+@ConditionalOnProperty(name = "storage.gc.enabled", havingValue = "true")
+public class StorageOrphanCollector {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorageOrphanCollector.class);
+
+    // 처리 중 상태로 멈춘 세션은 ResumableUploadService 가 completion-timeout 이후 끝 상태로 옮기므로 계속 보호되지 않음
+    private static final List<UploadSessionStatus> IN_FLIGHT_UPLOADS =
+            List.of(UploadSessionStatus.ACTIVE, UploadSessionStatus.COMPLETING, UploadSessionStatus.VERIFYING,
+                    UploadSessionStatus.FINALIZING);
+
+    private final StorageServiceRegistry storageServiceRegistry;
+    private final ContractVersionRepository contractVersionRepository;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final StorageGcProperties properties;
+    private final StorageRouterProperties routerProperties;
+    private final StorageLifecycleProperties lifecycleProperties;
+    private final ChunkedStorageProperties chunkedProperties;
+    private final StorageMetrics storageMetrics;
+
+    public StorageOrphanCollector(
+            StorageServiceRegistry storageServiceRegistry,
+            ContractVersionRepository contractVersionRepository,
+            UploadSessionRepository uploadSessionRepository,
+            StorageGcProperties properties,
+            StorageRouterProperties routerProperties,
+            StorageLifecycleProperties lifecycleProperties,
+            ChunkedStorageProperties chunkedProperties,
+            StorageMetrics storageMetrics
+    ) {
+        this.storageServiceRegistry = storageServiceRegistry;
+        this.contractVersionRepository = contractVersionRepository;
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.properties = properties;
+        this.routerProperties = routerProperties;
+        this.lifecycleProperties = lifecycleProperties;
+        this.chunkedProperties = chunkedProperties;
+        this.storageMetrics = storageMetrics;
+    }
+
+    @Scheduled(fixedDelayString = "#{@storageGcProperties.interval.toMillis()}")
+    public void collect() {
+        long startedAt = System.nanoTime();
+        KeyFingerprintSet liveKeys = markLiveKeys();
+        if (liveKeys.size() == 0) {
+            // DB 가 비어 있는 것처럼 보이면 설정 오류일 수 있으므로 전체 삭제를 막음
+            logger.warn("고아 객체 정리 건너뜀 - 참조 중인 키가 없습니다.");
+            return;
+        }
+
+        Instant modifiedBefore = Instant.now().minus(properties.getGrace());
+        SweepResult total = new SweepResult();
+        for (StorageLocation location : knownLocations()) {
+            S3StorageService storage = storageServiceRegistry.resolve(location.getProvider());
+            if (!storage.supportsListing()) {
+                logger.debug("목록 조회를 지원하지 않는 저장소 건너뜀 - location: {}", location);
+                continue;
+            }
+            try {
+                sweep(location, storage, liveKeys, modifiedBefore, total);
+            } catch (Exception e) {
+                logger.error("고아 객체 정리 실패 - location: {}, error: {}", location, e.getMessage(), e);
+            }
+            if (total.orphans >= properties.getMaxDeletesPerRun()) {
+                logger.warn("한 번 실행의 최대 삭제 수에 도달 - maxDeletesPerRun: {}", properties.getMaxDeletesPerRun());
+                break;
+            }
+        }
+
+        logger.info("고아 객체 정리 완료 - liveKeys: {}, scanned: {}, orphans: {}, reclaimedBytes: {}, dryRun: {}, elapsedMs: {}",
+                liveKeys.size(), total.scanned, total.orphans, total.reclaimedBytes, properties.isDryRun(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * mark: 버전 / 진행 중인 업로드 세션이 참조하는 키 수집
+     */
+    private KeyFingerprintSet markLiveKeys() {
+        KeyFingerprintSet liveKeys = new KeyFingerprintSet();
+        long lastId = 0;
+        while (true) {
+            List<Object[]> rows = contractVersionRepository.findStorageKeysAfter(
+                    lastId, PageRequest.of(0, properties.getPageSize()));
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                lastId = (Long) row[0];
+                liveKeys.add((String) row[1]);
+                if (row[2] != null) {
+                    liveKeys.add((String) row[2]);
+                }
+            }
+        }
+        for (String filePath : uploadSessionRepository.findFilePathsByStatusIn(IN_FLIGHT_UPLOADS)) {
+            if (filePath != null) {
+                liveKeys.add(filePath);
+            }
+        }
+        liveKeys.seal();
+        return liveKeys;
+    }
+
+    /**
+     * sweep: 한 위치의 객체 목록을 페이지 단위로 조회해 고아 객체 삭제
+     */
+    private void sweep(StorageLocation location, S3StorageService storage, KeyFingerprintSet liveKeys,
+                       Instant modifiedBefore, SweepResult total) throws Exception {
+        String continuationToken = null;
+        do {
+            StoredObjectPage page = storage.listObjects(location.getBucketName(), continuationToken, properties.getPageSize());
+            for (StoredObjectSummary object : page.getObjects()) {
+                total.scanned++;
+                String key = object.getKey();
+                if (key.startsWith(ChunkedStorageServiceImpl.CHUNK_KEY_PREFIX)
+                        || key.startsWith(StorageKeys.QUARANTINE_PREFIX)
+                        || object.getLastModified().isAfter(modifiedBefore)) {
+                    continue;
+                }
+                String ownerKey = ownerKey(key);
+                if (liveKeys.contains(key) || liveKeys.contains(ownerKey) || isReferencedNow(key, ownerKey)) {
+                    continue;
+                }
+
+                total.orphans++;
+                total.reclaimedBytes += object.getSize();
+                if (properties.isDryRun()) {
+                    logger.info("고아 객체 (dry-run) - location: {}, key: {}, size: {}", location, key, object.getSize());
+                    storageMetrics.recordOrphan(location.toString(), "dry_run", object.getSize());
+                } else {
+                    try {
+                        storage.delete(location.getBucketName(), key);
+                        logger.info("고아 객체 삭제 - location: {}, key: {}, size: {}", location, key, object.getSize());
+                        storageMetrics.recordOrphan(location.toString(), "deleted", object.getSize());
+                    } catch (Exception e) {
+                        total.reclaimedBytes -= object.getSize();
+                        storageMetrics.recordOrphan(location.toString(), "failed", 0);
+                        logger.warn("고아 객체 삭제 실패 - location: {}, key: {}, error: {}", location, key, e.getMessage());
+                    }
+                }
+                if (total.orphans >= properties.getMaxDeletesPerRun()) {
+                    return;
+                }
+            }
+            continuationToken = page.getNextContinuationToken();
+        } while (continuationToken != null);
+    }
+
+    /**
+     * 삭제 직전 재확인 (mark 이후 커밋된 버전 / 업로드 세션)
+     */
+    private boolean isReferencedNow(String key, String ownerKey) {
+        return contractVersionRepository.existsByFilePathOrServingFilePath(ownerKey, key)
+                || uploadSessionRepository.existsByFilePathAndStatusIn(ownerKey, IN_FLIGHT_UPLOADS);
+    }
+
+    /**
+     * 파생 객체(미리보기 이미지 / 선형화 사본)는 원본 키, 그 외에는 키 자체
+     */
+    private static String ownerKey(String key) {
+        int previewIndex = key.indexOf(StorageKeys.PREVIEW_SUFFIX);
+        if (previewIndex > 0) {
+            return key.substring(0, previewIndex);
+        }
+        if (key.endsWith(StorageKeys.LINEARIZED_SUFFIX)) {
+            return key.substring(0, key.length() - StorageKeys.LINEARIZED_SUFFIX.length());
+        }
+        return key;
+    }
+
+    /**
+     * 정리 대상 위치: 활성화된 저장소의 기본 버킷, 라우터 노드, COLD 버킷, 청크 저장소의 backing 버킷
+     */
+    private Set<StorageLocation> knownLocations() {
+        Set<StorageLocation> locations = new LinkedHashSet<>();
+        for (S3StorageService storage : storageServiceRegistry.getAll()) {
+            if (storage.getBucketName() != null) {
+                locations.add(new StorageLocation(storage.getProviderName(), storage.getBucketName()));
+            }
+        }
+        if (routerProperties.isEnabled()) {
+            for (StorageRouterProperties.Node node : routerProperties.getNodes()) {
+                locations.add(new StorageLocation(node.getProvider(), node.getBucket()));
+            }
+        }
+        if (lifecycleProperties.isEnabled()) {
+            locations.add(new StorageLocation(lifecycleProperties.getColdProvider(), lifecycleProperties.getColdBucket()));
+        }
+        if (chunkedProperties.isEnabled() && chunkedProperties.getBucketName() != null
+                && !chunkedProperties.getBucketName().isBlank()) {
+            locations.add(new StorageLocation(chunkedProperties.getBackingProvider(), chunkedProperties.getBucketName()));
+        }
+        return locations;
+    }
+
+    private static class SweepResult {
+        long scanned;
+        long orphans;
+        long reclaimedBytes;
+    }
+}
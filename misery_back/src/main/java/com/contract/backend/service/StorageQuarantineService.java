@@ -0,0 +1,118 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.enumm.IntegrityStatus;
+import com.contract.backend.common.metrics.StorageMetrics;
+import com.contract.backend.common.repository.ContractVersionRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 해시가 맞지 않는 저장 객체 격리
+ *
+ * 전송 중 해시 불일치가 보고되면 백그라운드에서 같은 위치를 다시 읽어 확인하고,
+ * 확인되면 quarantine/ 아래로 옮긴 뒤 원래 키를 삭제해 더 이상 제공되지 않게 한다.
+ * (이후 읽기는 StorageRouter 가 복제본으로 대체하고, 재배치 작업이 복제본에서 기록된 위치를 다시 채운다.)
+ */
+@Service
+public class StorageQuarantineService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorageQuarantineService.class);
+
+    private final StorageServiceRegistry storageServiceRegistry;
+    private final ContractVersionRepository contractVersionRepository;
+    private final StorageMetrics storageMetrics;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("storage-quarantine-", 0).daemon(true).factory());
+
+    // 같은 객체에 대한 중복 격리 방지
+    private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+
+    public StorageQuarantineService(
+            StorageServiceRegistry storageServiceRegistry,
+            ContractVersionRepository contractVersionRepository,
+            StorageMetrics storageMetrics
+    ) {
+        this.storageServiceRegistry = storageServiceRegistry;
+        this.contractVersionRepository = contractVersionRepository;
+        this.storageMetrics = storageMetrics;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 전송 중 계산한 해시가 기록된 fileHash 와 다름 (요청 스레드를 막지 않도록 확인 / 격리는 백그라운드)
+     */
+    public void reportMismatch(StorageLocation location, String key, String expectedHash, String actualHash) {
+        storageMetrics.recordStreamVerification("mismatch");
+        logger.error("전송 중 해시 불일치 - location: {}, key: {}, expected: {}, actual: {}",
+                location, key, expectedHash, actualHash);
+
+        String taskKey = location + "/" + key;
+        if (!inProgress.add(taskKey)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                quarantine(location, key, expectedHash);
+            } finally {
+                inProgress.remove(taskKey);
+            }
+        });
+    }
+
+    private void quarantine(StorageLocation location, String key, String expectedHash) {
+        S3StorageService storage = storageServiceRegistry.resolve(location.getProvider());
+        String bucketName = location.getBucketName();
+        try {
+            // 전송 경로의 일시적 오류일 수 있으므로 저장된 내용을 다시 읽어 확인
+            String storedHash = rehash(storage, bucketName, key);
+            if (expectedHash.equals(storedHash)) {
+                storageMetrics.recordQuarantine("transient");
+                logger.warn("재확인 결과 해시 일치 (일시적 오류) - location: {}, key: {}", location, key);
+                return;
+            }
+
+            StoredObjectInfo objectInfo = storage.getObjectInfo(bucketName, key);
+            String quarantineKey = StorageKeys.quarantineKey(key);
+            try (InputStream in = storage.openStream(bucketName, key, null)) {
+                storage.put(bucketName, quarantineKey, in, objectInfo.getContentLength(), objectInfo.getContentType());
+            }
+            storage.delete(bucketName, key);
+            contractVersionRepository.updateIntegrityByFilePath(key, IntegrityStatus.MISMATCH, LocalDateTime.now());
+
+            storageMetrics.recordQuarantine("quarantined");
+            logger.error("객체 격리 완료 - location: {}, key: {}, quarantineKey: {}, storedHash: {}",
+                    location, key, quarantineKey, storedHash);
+        } catch (Exception e) {
+            storageMetrics.recordQuarantine("failed");
+            logger.error("객체 격리 실패 - location: {}, key: {}, error: {}", location, key, e.getMessage(), e);
+        }
+    }
+
+    private static String rehash(S3StorageService storage, String bucketName, String key) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = storage.openStream(bucketName, key, null)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
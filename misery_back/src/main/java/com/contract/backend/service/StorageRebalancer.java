@@ -0,0 +1,138 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractVersionEntity;
+import com.contract.backend.common.Entity.enumm.StorageTier;
+import com.contract.backend.common.config.StorageRouterProperties;
+import com.contract.backend.common.event.ContractChangedEvent;
+import com.contract.backend.common.metrics.StorageMetrics;
+import com.contract.backend.common.repository.ContractVersionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 링 변경(버킷 추가 / 가중치 변경) 후 기존 객체를 새 배치 위치로 옮기는 온라인 재배치 작업
+ *
+ * - id 커서로 버전을 batch-size 만큼씩 순회하며, 한 바퀴를 돌면 처음부터 다시 시작
+ * - 새 위치에 먼저 복사한 뒤 버전의 provider / bucket 을 바꾸므로 이동 중에도 읽기는 계속 가능
+ * - 위치 변경은 조건부 UPDATE 라 복사 중 다른 작업(COLD 이동 등)이 바꾼 버전은 건드리지 않음
+ * - 복제본 위치에 객체가 없으면 함께 복구
+ */
+@Component
+@ConditionalOnProperty(name = "storage.router.rebalance.enabled", havingValue = "true")
+public class StorageRebalancer {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorageRebalancer.class);
+
+    private final StorageRouter storageRouter;
+    private final ContractVersionRepository contractVersionRepository;
+    private final StorageRouterProperties properties;
+    private final StorageMetrics storageMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 다음 실행에서 이어서 검사할 위치
+    private long lastVersionId = 0;
+
+    public StorageRebalancer(
+            StorageRouter storageRouter,
+            ContractVersionRepository contractVersionRepository,
+            StorageRouterProperties properties,
+            StorageMetrics storageMetrics,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.storageRouter = storageRouter;
+        this.contractVersionRepository = contractVersionRepository;
+        this.properties = properties;
+        this.storageMetrics = storageMetrics;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Scheduled(fixedDelayString = "#{@storageRouterProperties.rebalance.interval.toMillis()}")
+    public void rebalance() {
+        if (!storageRouter.isEnabled()) {
+            return;
+        }
+
+        List<ContractVersionEntity> batch = contractVersionRepository.findByIdGreaterThanOrderByIdAsc(
+                lastVersionId, PageRequest.of(0, properties.getRebalance().getBatchSize()));
+        if (batch.isEmpty()) {
+            if (lastVersionId != 0) {
+                logger.info("스토리지 재배치 한 바퀴 완료");
+            }
+            lastVersionId = 0;
+            return;
+        }
+
+        int moved = 0;
+        for (ContractVersionEntity version : batch) {
+            lastVersionId = version.getId();
+            try {
+                if (relocate(version)) {
+                    moved++;
+                }
+            } catch (IOException | RuntimeException e) {
+                // 다음 바퀴에서 다시 시도
+                logger.warn("버전 재배치 실패 - versionId: {}, key: {}, error: {}",
+                        version.getId(), version.getFilePath(), e.getMessage());
+            }
+        }
+
+        if (moved > 0) {
+            logger.info("스토리지 재배치 - checked: {}, moved: {}, cursor: {}", batch.size(), moved, lastVersionId);
+        }
+    }
+
+    /**
+     * @return 기록된 위치가 바뀌었으면 true
+     */
+    private boolean relocate(ContractVersionEntity version) throws IOException {
+        // COLD / 복원 중인 버전은 링 배치 대상이 아님 (StorageLifecycleService)
+        if (version.getFileHash() == null || !StorageLifecycleService.isHot(version)) {
+            return false;
+        }
+
+        StoredFileRef file = StoredFileRef.of(version);
+        List<StorageLocation> targets = storageRouter.locate(version.getFileHash());
+        StorageLocation recorded = storageRouter.recordedLocation(file);
+        StorageLocation primary = targets.get(0);
+
+        // 복제본이 없고 이미 제자리면 저장소 요청 없이 건너뜀
+        if (targets.size() == 1 && primary.equals(recorded)) {
+            return false;
+        }
+
+        StorageRouter.ReadTarget source = storageRouter.resolveForRead(file);
+        for (StorageLocation target : targets) {
+            if (!target.equals(source.getLocation()) && !storageRouter.exists(target, file.getFilePath())) {
+                storageRouter.copy(source, target, file.getFilePath());
+            }
+        }
+
+        if (primary.equals(recorded)) {
+            return false;
+        }
+
+        // 읽어 둔 위치 그대로이고 아직 HOT 일 때만 변경 (그 사이 다른 작업이 바꿨으면 원본도 지우지 않음)
+        int updated = contractVersionRepository.compareAndSetLocation(version.getId(),
+                version.getStorageProvider(), version.getBucketName(),
+                primary.getProvider(), primary.getBucketName(), StorageTier.HOT);
+        if (updated == 0) {
+            logger.info("재배치 중 버전 위치 / 계층이 바뀌어 건너뜀 - versionId: {}", version.getId());
+            return false;
+        }
+        storageMetrics.recordRebalanced(primary.toString());
+        eventPublisher.publishEvent(new ContractChangedEvent(version.getContract().getId()));
+
+        if (properties.getRebalance().isDeleteSource() && !targets.contains(recorded)) {
+            storageRouter.delete(recorded, file.getFilePath());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,277 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.config.StorageRouterProperties;
+import com.contract.backend.common.metrics.StorageMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * fileHash 기반 consistent hashing 으로 새 객체의 저장 위치(provider + bucket)를 결정
+ *
+ * - 노드마다 weight * virtualNodesPerWeight 개의 가상 노드를 링에 배치하여 용량 비율대로 분산
+ * - 버킷을 추가해도 링에서 새 노드가 차지한 구간의 객체만 위치가 바뀜 (StorageRebalancer 가 이동)
+ * - 링에서 시계 방향으로 만나는 서로 다른 위치들을 복제본 위치로 사용
+ * - 읽기는 버전에 기록된 위치를 먼저 시도하고, 실패하면 링 위치를 차례로 시도
+ */
+@Component
+public class StorageRouter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorageRouter.class);
+
+    private final StorageServiceRegistry storageServiceRegistry;
+    private final StorageRouterProperties properties;
+    private final StorageMetrics storageMetrics;
+
+    private final NavigableMap<Long, StorageLocation> ring;
+    private final int locationCount;
+
+    public StorageRouter(
+            StorageServiceRegistry storageServiceRegistry,
+            StorageRouterProperties properties,
+            StorageMetrics storageMetrics
+    ) {
+        this.storageServiceRegistry = storageServiceRegistry;
+        this.properties = properties;
+        this.storageMetrics = storageMetrics;
+
+        if (!properties.isEnabled()) {
+            this.ring = Collections.emptyNavigableMap();
+            this.locationCount = 0;
+            return;
+        }
+        if (properties.getNodes().isEmpty()) {
+            throw new IllegalStateException("storage.router.nodes 가 비어 있습니다.");
+        }
+
+        NavigableMap<Long, StorageLocation> built = new TreeMap<>();
+        Set<StorageLocation> locations = new LinkedHashSet<>();
+        for (StorageRouterProperties.Node node : properties.getNodes()) {
+            if (node.getWeight() <= 0) {
+                continue; // 가중치 0: 새 객체 배치 중단 (기존 객체 읽기는 계속 가능)
+            }
+            storageServiceRegistry.resolve(node.getProvider()); // 활성화되지 않은 provider면 기동 실패
+            StorageLocation location = new StorageLocation(node.getProvider(), node.getBucket());
+            locations.add(location);
+
+            int virtualNodes = node.getWeight() * properties.getVirtualNodesPerWeight();
+            for (int i = 0; i < virtualNodes; i++) {
+                built.putIfAbsent(hash(location + "#" + i), location);
+            }
+        }
+        if (locations.isEmpty()) {
+            throw new IllegalStateException("가중치가 있는 storage.router.nodes 가 없습니다.");
+        }
+
+        this.ring = Collections.unmodifiableNavigableMap(built);
+        this.locationCount = locations.size();
+        logger.info("스토리지 라우터 초기화 - locations: {}, virtualNodes: {}, replicas: {}",
+                locations, built.size(), properties.getReplicas());
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * fileHash 에 대한 배치 위치 목록 (첫 번째가 기본 위치, 나머지는 복제본)
+     */
+    public List<StorageLocation> locate(String fileHash) {
+        if (!properties.isEnabled()) {
+            S3StorageService storage = storageServiceRegistry.getDefault();
+            return List.of(new StorageLocation(storage.getProviderName(), storage.getBucketName()));
+        }
+
+        int wanted = Math.min(1 + Math.max(0, properties.getReplicas()), locationCount);
+        Set<StorageLocation> result = new LinkedHashSet<>(wanted * 2);
+        long point = hash(fileHash);
+
+        // 시계 방향으로 링을 돌며 서로 다른 위치 수집
+        if (collectDistinct(ring.tailMap(point, true).values(), result, wanted)) {
+            return List.copyOf(result);
+        }
+        collectDistinct(ring.headMap(point, false).values(), result, wanted);
+        return List.copyOf(result);
+    }
+
+    /**
+     * 새 파일 저장: 기본 위치와 복제본 위치에 같은 키로 기록
+     * 기본 위치 쓰기에 실패하면 다음 위치가 버전에 기록되고, 재배치 작업이 이후 기본 위치로 옮긴다.
+     */
+    public StoredFileRef store(String fileHash, MultipartFile file) throws IOException {
+        String key = StorageKeys.generateFileKey(file.getOriginalFilename());
+        return store(fileHash, key, file, file.getSize(), file.getContentType());
+    }
+
+    /**
+     * 키를 미리 정해 둔 파일 저장 (업로드 스풀 전송용, 위치마다 source 를 새로 연다)
+     */
+    public StoredFileRef store(String fileHash, String key, InputStreamSource source,
+                               long contentLength, String contentType) throws IOException {
+        List<StorageLocation> targets = locate(fileHash);
+
+        StorageLocation stored = null;
+        Exception lastError = null;
+        for (StorageLocation target : targets) {
+            try (InputStream in = source.getInputStream()) {
+                storageServiceRegistry.resolve(target.getProvider())
+                        .put(target.getBucketName(), key, in, contentLength, contentType, fileHash);
+                if (stored == null) {
+                    stored = target;
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warn("객체 저장 실패 - location: {}, key: {}, error: {}", target, key, e.getMessage());
+                lastError = e;
+            }
+        }
+
+        if (stored == null) {
+            throw new IOException("모든 저장 위치에 업로드하지 못했습니다: " + targets, lastError);
+        }
+        return new StoredFileRef(stored.getProvider(), stored.getBucketName(), key, fileHash);
+    }
+
+    /**
+     * 읽을 위치 결정 (기록된 위치 → 링 위치 순으로 메타데이터 조회가 성공하는 첫 위치)
+     */
+    public ReadTarget resolveForRead(StoredFileRef file) throws IOException {
+        StorageLocation recorded = recordedLocation(file);
+
+        List<StorageLocation> candidates = new ArrayList<>();
+        candidates.add(recorded);
+        if (properties.isEnabled() && file.getFileHash() != null) {
+            for (StorageLocation location : locate(file.getFileHash())) {
+                if (!location.equals(recorded)) {
+                    candidates.add(location);
+                }
+            }
+        }
+
+        Exception firstError = null;
+        for (StorageLocation candidate : candidates) {
+            try {
+                S3StorageService storage = storageServiceRegistry.resolve(candidate.getProvider());
+                StoredObjectInfo objectInfo = storage.getObjectInfo(candidate.getBucketName(), file.getFilePath());
+                if (firstError != null) {
+                    logger.warn("복제본 위치에서 읽기 - key: {}, recorded: {}, served: {}",
+                            file.getFilePath(), recorded, candidate);
+                    storageMetrics.recordReadFailover(recorded.toString());
+                }
+                return new ReadTarget(candidate, storage, objectInfo);
+            } catch (IOException | RuntimeException e) {
+                if (firstError == null) {
+                    firstError = e;
+                }
+                logger.debug("읽기 위치 조회 실패 - location: {}, key: {}, error: {}",
+                        candidate, file.getFilePath(), e.getMessage());
+            }
+        }
+
+        // 대체 위치도 없으면 기록된 위치의 오류를 그대로 전달
+        if (firstError instanceof IOException ioException) {
+            throw ioException;
+        }
+        throw (RuntimeException) firstError;
+    }
+
+    /**
+     * 버전에 기록된 위치 (값이 없는 기존 데이터는 provider 기본값 / 기본 버킷)
+     */
+    public StorageLocation recordedLocation(StoredFileRef file) {
+        S3StorageService storage = storageServiceRegistry.resolve(file.getStorageProvider());
+        String bucketName = file.getBucketName() != null ? file.getBucketName() : storage.getBucketName();
+        return new StorageLocation(storage.getProviderName(), bucketName);
+    }
+
+    /**
+     * 같은 키로 다른 위치에 복사 (재배치 / 복제본 복구용)
+     */
+    public void copy(ReadTarget source, StorageLocation target, String key) throws IOException {
+        S3StorageService targetStorage = storageServiceRegistry.resolve(target.getProvider());
+        try (InputStream in = source.getStorage().openStream(source.getLocation().getBucketName(), key, null)) {
+            targetStorage.put(target.getBucketName(), key, in,
+                    source.getObjectInfo().getContentLength(), source.getObjectInfo().getContentType(),
+                    source.getObjectInfo().getSha256());
+        }
+    }
+
+    public boolean exists(StorageLocation location, String key) {
+        try {
+            storageServiceRegistry.resolve(location.getProvider()).getObjectInfo(location.getBucketName(), key);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    public void delete(StorageLocation location, String key) throws IOException {
+        storageServiceRegistry.resolve(location.getProvider()).delete(location.getBucketName(), key);
+    }
+
+    private static boolean collectDistinct(Collection<StorageLocation> nodes, Set<StorageLocation> result, int wanted) {
+        for (StorageLocation location : nodes) {
+            result.add(location);
+            if (result.size() >= wanted) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 링 좌표: SHA-256 앞 8바이트
+     */
+    private static long hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(digest.digest(value.getBytes(StandardCharsets.UTF_8))).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 읽기 대상 (위치 + 구현체 + 조회한 메타데이터)
+     */
+    public static class ReadTarget {
+
+        private final StorageLocation location;
+        private final S3StorageService storage;
+        private final StoredObjectInfo objectInfo;
+
+        ReadTarget(StorageLocation location, S3StorageService storage, StoredObjectInfo objectInfo) {
+            this.location = location;
+            this.storage = storage;
+            this.objectInfo = objectInfo;
+        }
+
+        public StorageLocation getLocation() {
+            return location;
+        }
+
+        public S3StorageService getStorage() {
+            return storage;
+        }
+
+        public StoredObjectInfo getObjectInfo() {
+            return objectInfo;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractVersionEntity;
+import com.contract.backend.common.Entity.enumm.IntegrityStatus;
+import com.contract.backend.common.Entity.enumm.StorageTier;
+import com.contract.backend.common.config.StorageScrubProperties;
+import com.contract.backend.common.metrics.StorageMetrics;
+import com.contract.backend.common.repository.ContractVersionRepository;
+import com.contract.backend.common.util.stream.ByteRateLimiter;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 저장된 객체가 ContractVersionEntity.fileHash 와 일치하는지 주기적으로 확인하는 무결성 검사
+ *
+ * - id 커서로 HOT 계층 버전을 batch-size 만큼씩 순회 (recheck-interval 안에 검사한 버전은 건너뜀)
+ * - 업로드 시 함께 기록한 저장소 메타데이터 해시가 있으면 HEAD 요청만으로 비교
+ * - 메타데이터 해시가 없으면 객체를 다시 읽어 해시 계산 (동시 읽기 수 / 초당 바이트 제한)
+ * - 복제본으로 대체 읽기를 하지 않고 버전에 기록된 위치를 검사하며, 결과는 버전의 integrityStatus 에 기록
+ */
+@Component
+@ConditionalOnProperty(name = "storage.scrub.enabled", havingValue = "true")
+public class StorageScrubber {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorageScrubber.class);
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final StorageRouter storageRouter;
+    private final StorageServiceRegistry storageServiceRegistry;
+    private final ContractVersionRepository contractVersionRepository;
+    private final StorageScrubProperties properties;
+    private final StorageMetrics storageMetrics;
+    private final ByteRateLimiter rateLimiter;
+    private final ExecutorService rehashExecutor;
+
+    // 다음 실행에서 이어서 검사할 위치
+    private long lastVersionId = 0;
+
+    private volatile double coverage;
+
+    public StorageScrubber(
+            StorageRouter storageRouter,
+            StorageServiceRegistry storageServiceRegistry,
+            ContractVersionRepository contractVersionRepository,
+            StorageScrubProperties properties,
+            StorageMetrics storageMetrics
+    ) {
+        this.storageRouter = storageRouter;
+        this.storageServiceRegistry = storageServiceRegistry;
+        this.contractVersionRepository = contractVersionRepository;
+        this.properties = properties;
+        this.storageMetrics = storageMetrics;
+        this.rateLimiter = new ByteRateLimiter(properties.getMaxRehashBytesPerSecond().toBytes());
+        this.rehashExecutor = Executors.newFixedThreadPool(properties.getRehashConcurrency(),
+                Thread.ofPlatform().name("storage-scrub-", 0).daemon(true).factory());
+        storageMetrics.registerScrubCoverage(() -> coverage);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rehashExecutor.shutdownNow();
+    }
+
+    @Scheduled(fixedDelayString = "#{@storageScrubProperties.interval.toMillis()}")
+    public void scrub() {
+        List<ContractVersionEntity> batch = contractVersionRepository.findByIdGreaterThanOrderByIdAsc(
+                lastVersionId, PageRequest.of(0, properties.getBatchSize()));
+        if (batch.isEmpty()) {
+            if (lastVersionId != 0) {
+                logger.info("저장소 무결성 검사 한 바퀴 완료");
+            }
+            lastVersionId = 0;
+            updateCoverage();
+            return;
+        }
+
+        LocalDateTime recheckBefore = LocalDateTime.now().minus(properties.getRecheckInterval());
+        List<Callable<Void>> rehashTasks = new ArrayList<>();
+        for (ContractVersionEntity version : batch) {
+            lastVersionId = version.getId();
+            if (version.getFileHash() == null || !StorageLifecycleService.isHot(version)
+                    || (version.getIntegrityCheckedAt() != null && version.getIntegrityCheckedAt().isAfter(recheckBefore))) {
+                continue;
+            }
+
+            StorageLocation location = storageRouter.recordedLocation(StoredFileRef.of(version));
+            S3StorageService storage = storageServiceRegistry.resolve(location.getProvider());
+            try {
+                StoredObjectInfo objectInfo = storage.getObjectInfo(location.getBucketName(), version.getFilePath());
+                if (objectInfo.getSha256() != null && !properties.isAlwaysRehash()) {
+                    record(version, location, "checksum",
+                            version.getFileHash().equals(objectInfo.getSha256())
+                                    ? IntegrityStatus.VERIFIED : IntegrityStatus.MISMATCH);
+                } else {
+                    rehashTasks.add(() -> {
+                        rehash(version, location, storage);
+                        return null;
+                    });
+                }
+            } catch (Exception e) {
+                handleFailure(version, location, "checksum", e);
+            }
+        }
+
+        if (!rehashTasks.isEmpty()) {
+            try {
+                rehashExecutor.invokeAll(rehashTasks);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        updateCoverage();
+    }
+
+    private void rehash(ContractVersionEntity version, StorageLocation location, S3StorageService storage) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[READ_BUFFER_SIZE];
+            long total = 0;
+            try (InputStream in = storage.openStream(location.getBucketName(), version.getFilePath(), null)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    rateLimiter.acquire(read);
+                    digest.update(buffer, 0, read);
+                    total += read;
+                }
+            }
+            storageMetrics.recordScrubbedBytes(total);
+
+            String actualHash = HexFormat.of().formatHex(digest.digest());
+            record(version, location, "rehash",
+                    version.getFileHash().equals(actualHash) ? IntegrityStatus.VERIFIED : IntegrityStatus.MISMATCH);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (Exception e) {
+            handleFailure(version, location, "rehash", e);
+        }
+    }
+
+    private void handleFailure(ContractVersionEntity version, StorageLocation location, String method, Exception e) {
+        if (isNotFound(e)) {
+            record(version, location, method, IntegrityStatus.MISSING);
+            return;
+        }
+        // 일시적인 오류는 기록하지 않고 다음 바퀴에서 다시 검사
+        storageMetrics.recordScrub(method, "error");
+        logger.warn("무결성 검사 실패 - versionId: {}, location: {}, error: {}", version.getId(), location, e.getMessage());
+    }
+
+    private void record(ContractVersionEntity version, StorageLocation location, String method, IntegrityStatus status) {
+        contractVersionRepository.updateIntegrity(version.getId(), status, LocalDateTime.now());
+        storageMetrics.recordScrub(method, status.name());
+        if (status != IntegrityStatus.VERIFIED) {
+            logger.error("저장소 무결성 오류 - versionId: {}, status: {}, location: {}, key: {}, fileHash: {}",
+                    version.getId(), status, location, version.getFilePath(), version.getFileHash());
+        }
+    }
+
+    private void updateCoverage() {
+        long total = contractVersionRepository.countByHotTier(StorageTier.HOT);
+        long checked = contractVersionRepository.countHotTierCheckedSince(StorageTier.HOT,
+                LocalDateTime.now().minus(properties.getRecheckInterval()));
+        coverage = total == 0 ? 1.0 : (double) checked / total;
+    }
+
+    private static boolean isNotFound(Exception e) {
+        return e instanceof NoSuchFileException
+                || (e instanceof S3Exception s3Exception && s3Exception.statusCode() == 404);
+    }
+}
@@ -0,0 +1,65 @@
+package com.contract.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * storageProvider 이름으로 저장소 구현체 조회
+ * 새 파일은 storage.default-provider 에 저장되고, 기존 파일은 버전에 기록된 provider 에서 읽는다.
+ */
+@Component
+public class StorageServiceRegistry {
+
+    private final Map<String, S3StorageService> storageServices;
+    private final String defaultProvider;
+
+    public StorageServiceRegistry(
+            List<S3StorageService> storageServices,
+            @Value("${storage.default-provider:B2}") String defaultProvider
+    ) {
+        this.storageServices = storageServices.stream()
+                .collect(Collectors.toMap(s -> normalize(s.getProviderName()), Function.identity()));
+        this.defaultProvider = normalize(defaultProvider);
+
+        if (!this.storageServices.containsKey(this.defaultProvider)) {
+            throw new IllegalStateException("기본 저장소가 활성화되어 있지 않습니다: " + defaultProvider
+                    + " (사용 가능: " + this.storageServices.keySet() + ")");
+        }
+    }
+
+    public S3StorageService getDefault() {
+        return storageServices.get(defaultProvider);
+    }
+
+    /**
+     * 활성화된 모든 저장소 구현체
+     */
+    public Collection<S3StorageService> getAll() {
+        return storageServices.values();
+    }
+
+    /**
+     * provider 이름으로 구현체 조회 (값이 없는 기존 데이터는 B2로 간주)
+     */
+    public S3StorageService resolve(String providerName) {
+        String key = providerName == null || providerName.isBlank()
+                ? B2StorageServiceImpl.PROVIDER_NAME
+                : normalize(providerName);
+        S3StorageService storageService = storageServices.get(key);
+        if (storageService == null) {
+            throw new IllegalStateException("활성화되지 않은 저장소입니다: " + providerName);
+        }
+        return storageService;
+    }
+
+    private static String normalize(String providerName) {
+        return providerName.trim().toUpperCase(Locale.ROOT);
+    }
+}
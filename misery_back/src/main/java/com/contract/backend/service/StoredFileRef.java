@@ -0,0 +1,43 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractVersionEntity;
+
+/**
+ * 제공할 파일의 저장 위치 (provider / bucket / key)
+ * fileHash 는 라우터가 복제본 위치를 계산할 때 사용 (없으면 대체 위치 없음)
+ */
+public class StoredFileRef {
+
+    private final String storageProvider;
+    private final String bucketName;
+    private final String filePath;
+    private final String fileHash;
+
+    public StoredFileRef(String storageProvider, String bucketName, String filePath, String fileHash) {
+        this.storageProvider = storageProvider;
+        this.bucketName = bucketName;
+        this.filePath = filePath;
+        this.fileHash = fileHash;
+    }
+
+    public static StoredFileRef of(ContractVersionEntity version) {
+        return new StoredFileRef(version.getStorageProvider(), version.getBucketName(),
+                version.getFilePath(), version.getFileHash());
+    }
+
+    public String getStorageProvider() {
+        return storageProvider;
+    }
+
+    public String getBucketName() {
+        return bucketName;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public String getFileHash() {
+        return fileHash;
+    }
+}
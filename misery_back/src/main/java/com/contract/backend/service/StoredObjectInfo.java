@@ -0,0 +1,34 @@
+package com.contract.backend.service;
+
+/**
+ * 저장된 객체 메타데이터
+ * sha256 은 업로드 시 함께 기록한 내용 해시 (기록하지 않았거나 지원하지 않는 저장소는 null)
+ */
+public class StoredObjectInfo {
+
+    private final long contentLength;
+    private final String contentType;
+    private final String sha256;
+
+    public StoredObjectInfo(long contentLength, String contentType) {
+        this(contentLength, contentType, null);
+    }
+
+    public StoredObjectInfo(long contentLength, String contentType, String sha256) {
+        this.contentLength = contentLength;
+        this.contentType = contentType;
+        this.sha256 = sha256;
+    }
+
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+}
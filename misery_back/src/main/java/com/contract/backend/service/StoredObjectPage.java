@@ -0,0 +1,26 @@
+package com.contract.backend.service;
+
+import java.util.List;
+
+/**
+ * 버킷 목록 조회 한 페이지
+ * nextContinuationToken 이 null 이면 마지막 페이지
+ */
+public class StoredObjectPage {
+
+    private final List<StoredObjectSummary> objects;
+    private final String nextContinuationToken;
+
+    public StoredObjectPage(List<StoredObjectSummary> objects, String nextContinuationToken) {
+        this.objects = objects;
+        this.nextContinuationToken = nextContinuationToken;
+    }
+
+    public List<StoredObjectSummary> getObjects() {
+        return objects;
+    }
+
+    public String getNextContinuationToken() {
+        return nextContinuationToken;
+    }
+}
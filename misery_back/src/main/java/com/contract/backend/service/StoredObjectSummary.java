@@ -0,0 +1,31 @@
+package com.contract.backend.service;
+
+import java.time.Instant;
+
+/**
+ * 버킷 목록 조회 결과의 객체 한 건 (key / 크기 / 마지막 수정 시각)
+ */
+public class StoredObjectSummary {
+
+    private final String key;
+    private final long size;
+    private final Instant lastModified;
+
+    public StoredObjectSummary(String key, long size, Instant lastModified) {
+        this.key = key;
+        this.size = size;
+        this.lastModified = lastModified;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+}
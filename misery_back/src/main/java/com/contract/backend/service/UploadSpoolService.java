@@ -0,0 +1,400 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractVersionEntity;
+import com.contract.backend.common.Entity.enumm.StorageTier;
+import com.contract.backend.common.config.UploadSpoolProperties;
+import com.contract.backend.common.event.ContractChangedEvent;
+import com.contract.backend.common.event.ContractVersionCreatedEvent;
+import com.contract.backend.common.event.ContractVersionSpooledEvent;
+import com.contract.backend.common.exception.CustomException;
+import com.contract.backend.common.exception.CustomExceptionEnum;
+import com.contract.backend.common.metrics.StorageMetrics;
+import com.contract.backend.common.repository.ContractVersionRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 업로드 스풀: 업로드 요청은 로컬 디스크에 기록(fsync)하고 해시만 계산한 뒤 바로 응답하고,
+ * 저장소 전송은 백그라운드에서 재시도와 함께 진행
+ *
+ * - 버전은 storageTier = UPLOADING 으로 저장되고, 전송이 끝나면 HOT 으로 바뀌며 ContractVersionCreatedEvent 발행
+ * - 전송 대기 파일 전체 크기를 max-disk-usage 로 제한 (초과 시 업로드 요청이 잠시 기다린 뒤 503)
+ * - 스풀 파일 이름은 {versionId}.spool 이므로 재기동 후 디렉터리만 보고 전송을 이어서 진행
+ * - 스풀 디렉터리는 인스턴스 로컬이므로 파일을 받은 인스턴스가 전송까지 담당
+ */
+@Service
+public class UploadSpoolService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UploadSpoolService.class);
+
+    private static final String SPOOL_SUFFIX = ".spool";
+    private static final String PART_SUFFIX = ".part";
+    // 스풀 파일에는 content-type 을 남기지 않음 (계약서는 PDF만 업로드)
+    private static final String CONTENT_TYPE = "application/pdf";
+
+    private final StorageRouter storageRouter;
+    private final ContractVersionRepository contractVersionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final UploadSpoolProperties properties;
+    private final StorageMetrics storageMetrics;
+    private final Path directory;
+    private final ScheduledExecutorService transferExecutor;
+
+    // 전송 중이거나 재시도 대기 중인 버전 (재전송 작업과 중복 방지)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final ReentrantLock quotaLock = new ReentrantLock();
+    private final Condition spaceFreed = quotaLock.newCondition();
+    private long usedBytes;
+
+    public UploadSpoolService(
+            StorageRouter storageRouter,
+            ContractVersionRepository contractVersionRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            UploadSpoolProperties properties,
+            StorageMetrics storageMetrics
+    ) throws IOException {
+        this.storageRouter = storageRouter;
+        this.contractVersionRepository = contractVersionRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.storageMetrics = storageMetrics;
+        this.directory = Paths.get(properties.getDirectory()).toAbsolutePath().normalize();
+        this.transferExecutor = Executors.newScheduledThreadPool(properties.getTransferConcurrency(),
+                Thread.ofPlatform().name("upload-spool-", 0).daemon(true).factory());
+
+        if (properties.isEnabled()) {
+            Files.createDirectories(directory);
+            this.usedBytes = scanDirectory();
+            logger.info("업로드 스풀 초기화 - directory: {}, pendingBytes: {}, limit: {}",
+                    directory, usedBytes, properties.getMaxDiskUsage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        transferExecutor.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 업로드 파일을 스풀에 기록하고 SHA-256 과 저장 위치(키 / 라우터 기본 위치)를 정함
+     */
+    public SpooledUpload spool(MultipartFile file) throws IOException {
+        long size = file.getSize();
+        reserve(size);
+
+        Path partFile = directory.resolve(UUID.randomUUID() + PART_SUFFIX);
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = file.getInputStream();
+                 FileChannel channel = FileChannel.open(partFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                OutputStream out = new DigestOutputStream(Channels.newOutputStream(channel), digest);
+                in.transferTo(out);
+                // 응답 후 프로세스가 죽어도 파일이 남아 있도록 응답 전에 디스크에 반영
+                channel.force(true);
+            }
+
+            String fileHash = HexFormat.of().formatHex(digest.digest());
+            String key = StorageKeys.generateFileKey(file.getOriginalFilename());
+            StorageLocation target = storageRouter.locate(fileHash).get(0);
+            return new SpooledUpload(partFile, size, fileHash,
+                    new StoredFileRef(target.getProvider(), target.getBucketName(), key, fileHash));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partFile);
+            release(size);
+            throw e;
+        }
+    }
+
+    /**
+     * 저장한 버전에 스풀 파일 연결 (버전 저장과 같은 트랜잭션에서 호출)
+     * 커밋되면 전송을 시작하고, 롤백되면 스풀 파일을 지운다.
+     */
+    public void register(SpooledUpload upload, Long versionId) {
+        Path spoolFile = spoolFile(versionId);
+        try {
+            Files.move(upload.path, spoolFile, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스풀 파일 이름 변경 실패: " + spoolFile, e);
+        }
+        upload.path = spoolFile;
+        eventPublisher.publishEvent(new ContractVersionSpooledEvent(versionId));
+    }
+
+    /**
+     * 버전을 저장하지 못한 경우 스풀 파일 정리
+     */
+    public void discard(SpooledUpload upload) {
+        removeSpoolFile(upload.path);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onVersionSpooled(ContractVersionSpooledEvent event) {
+        submitTransfer(event.getContractVersionId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onVersionSpoolRolledBack(ContractVersionSpooledEvent event) {
+        removeSpoolFile(spoolFile(event.getContractVersionId()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void redriveOnStartup() {
+        redrive();
+    }
+
+    /**
+     * 남아 있는 스풀 파일 재전송 (재기동 / 재시도 횟수를 넘긴 파일)
+     */
+    @Scheduled(fixedDelayString = "#{@uploadSpoolProperties.redriveInterval.toMillis()}")
+    public void redrive() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int submitted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SPOOL_SUFFIX)) {
+            for (Path file : files) {
+                Long versionId = parseVersionId(file);
+                if (versionId != null && submitTransfer(versionId)) {
+                    submitted++;
+                }
+            }
+        } catch (IOException e) {
+            logger.error("스풀 디렉터리 조회 실패 - directory: {}, error: {}", directory, e.getMessage(), e);
+            return;
+        }
+        if (submitted > 0) {
+            logger.info("스풀 파일 재전송 시작 - count: {}", submitted);
+        }
+    }
+
+    private boolean submitTransfer(Long versionId) {
+        if (!inFlight.add(versionId)) {
+            return false;
+        }
+        transferExecutor.execute(() -> transfer(versionId, 1));
+        return true;
+    }
+
+    void transfer(Long versionId, int attempt) {
+        Path spoolFile = spoolFile(versionId);
+        try {
+            ContractVersionEntity version = contractVersionRepository.findById(versionId).orElse(null);
+            if (version == null || version.getStorageTier() != StorageTier.UPLOADING) {
+                // 이미 전송되었거나 커밋되지 않은 버전의 스풀 파일
+                removeSpoolFile(spoolFile);
+                inFlight.remove(versionId);
+                return;
+            }
+
+            long size = Files.size(spoolFile);
+            StoredFileRef stored = storageRouter.store(version.getFileHash(), version.getFilePath(),
+                    new FileSystemResource(spoolFile), size, CONTENT_TYPE);
+
+            // 기본 위치 쓰기에 실패하면 라우터가 다른 위치에 저장하므로 실제 위치를 기록
+            transactionTemplate.executeWithoutResult(status -> {
+                int updated = contractVersionRepository.completeUpload(versionId,
+                        stored.getStorageProvider(), stored.getBucketName(),
+                        StorageTier.UPLOADING, StorageTier.HOT, LocalDateTime.now());
+                if (updated == 1) {
+                    eventPublisher.publishEvent(new ContractVersionCreatedEvent(versionId));
+                    // 상세 조회의 저장 위치(provider / bucket)가 바뀌었으므로 커밋 후 조회 캐시 무효화
+                    eventPublisher.publishEvent(new ContractChangedEvent(version.getContract().getId()));
+                }
+            });
+
+            removeSpoolFile(spoolFile);
+            inFlight.remove(versionId);
+            storageMetrics.recordSpoolTransfer("stored");
+            logger.info("스풀 파일 전송 완료 - versionId: {}, key: {}, bytes: {}, attempt: {}",
+                    versionId, version.getFilePath(), size, attempt);
+        } catch (Exception e) {
+            if (attempt >= properties.getMaxAttempts()) {
+                inFlight.remove(versionId);
+                storageMetrics.recordSpoolTransfer("gave_up");
+                logger.error("스풀 파일 전송 재시도 초과, 다음 재전송 주기에 다시 시도 - versionId: {}, attempts: {}, error: {}",
+                        versionId, attempt, e.getMessage());
+                return;
+            }
+
+            long delayMillis = backoffMillis(attempt);
+            storageMetrics.recordSpoolTransfer("retry");
+            logger.warn("스풀 파일 전송 실패, 재시도 예정 - versionId: {}, attempt: {}, retryInMs: {}, error: {}",
+                    versionId, attempt, delayMillis, e.getMessage());
+            transferExecutor.schedule(() -> transfer(versionId, attempt + 1), delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private long backoffMillis(int attempt) {
+        long initial = properties.getInitialBackoff().toMillis();
+        long max = properties.getMaxBackoff().toMillis();
+        int shift = Math.min(attempt - 1, 30);
+        return Math.min(max, initial << shift);
+    }
+
+    /**
+     * 스풀 공간 예약 (한도를 넘으면 reserve-timeout 동안 전송 완료를 기다림)
+     */
+    private void reserve(long bytes) {
+        long limit = properties.getMaxDiskUsage().toBytes();
+        if (bytes > limit) {
+            throw new CustomException(CustomExceptionEnum.UPLOAD_SPOOL_FULL);
+        }
+
+        quotaLock.lock();
+        try {
+            long remainingNanos = properties.getReserveTimeout().toNanos();
+            while (usedBytes + bytes > limit) {
+                if (remainingNanos <= 0) {
+                    logger.warn("업로드 스풀 공간 부족 - used: {}, requested: {}, limit: {}", usedBytes, bytes, limit);
+                    throw new CustomException(CustomExceptionEnum.UPLOAD_SPOOL_FULL);
+                }
+                remainingNanos = spaceFreed.awaitNanos(remainingNanos);
+            }
+            usedBytes += bytes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(CustomExceptionEnum.UPLOAD_SPOOL_FULL);
+        } finally {
+            quotaLock.unlock();
+        }
+    }
+
+    private void release(long bytes) {
+        quotaLock.lock();
+        try {
+            usedBytes = Math.max(0, usedBytes - bytes);
+            spaceFreed.signalAll();
+        } finally {
+            quotaLock.unlock();
+        }
+    }
+
+    /**
+     * 스풀 파일 삭제 (실제로 지운 경우에만 예약 공간 반환)
+     */
+    private void removeSpoolFile(Path file) {
+        try {
+            long size = Files.size(file);
+            if (Files.deleteIfExists(file)) {
+                release(size);
+            }
+        } catch (IOException e) {
+            logger.debug("스풀 파일 삭제 생략 - file: {}, error: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 기동 시 스풀 디렉터리 정리: 기록 중이던 .part 파일 삭제, 남은 .spool 파일 크기 합계 반환
+     */
+    private long scanDirectory() throws IOException {
+        long pending = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(PART_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                } else if (name.endsWith(SPOOL_SUFFIX)) {
+                    pending += Files.size(file);
+                }
+            }
+        }
+        return pending;
+    }
+
+    private Path spoolFile(Long versionId) {
+        return directory.resolve(versionId + SPOOL_SUFFIX);
+    }
+
+    private static Long parseVersionId(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.valueOf(name.substring(0, name.length() - SPOOL_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 스풀에 기록된 업로드 (버전에 저장할 해시와 예정 위치)
+     */
+    public static class SpooledUpload {
+
+        private Path path;
+        private final long size;
+        private final String fileHash;
+        private final StoredFileRef target;
+
+        SpooledUpload(Path path, long size, String fileHash, StoredFileRef target) {
+            this.path = path;
+            this.size = size;
+            this.fileHash = fileHash;
+            this.target = target;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public String getFileHash() {
+            return fileHash;
+        }
+
+        public StoredFileRef getTarget() {
+            return target;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.contract.backend.common.util.chunk;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 내용 기반 청크 경계 검증 (결정성, 크기 범위, 중간 수정 후 경계 유지)
+ */
+class ContentDefinedChunkerTest {
+
+    private static final int MIN = 2 * 1024;
+    private static final int AVG = 8 * 1024;
+    private static final int MAX = 32 * 1024;
+
+    private final ContentDefinedChunker chunker = new ContentDefinedChunker(MIN, AVG, MAX);
+
+    @Test
+    void sameContentYieldsSameBoundariesRegardlessOfReadSize() throws IOException {
+        byte[] data = randomBytes(1, 512 * 1024);
+
+        List<byte[]> whole = split(new ByteArrayInputStream(data));
+        // 한 번에 조금씩만 읽히는 스트림이어도 경계가 같아야 함 (네트워크 / multipart 스트림)
+        List<byte[]> trickled = split(new TrickleInputStream(data, 1000));
+
+        assertThat(trickled).hasSameSizeAs(whole);
+        for (int i = 0; i < whole.size(); i++) {
+            assertThat(trickled.get(i)).isEqualTo(whole.get(i));
+        }
+    }
+
+    @Test
+    void chunkSizesStayWithinBoundsAndReassembleToInput() throws IOException {
+        byte[] data = randomBytes(2, 1024 * 1024 + 123);
+
+        List<byte[]> chunks = split(new ByteArrayInputStream(data));
+
+        ByteArrayOutputStream joined = new ByteArrayOutputStream();
+        for (int i = 0; i < chunks.size(); i++) {
+            int size = chunks.get(i).length;
+            assertThat(size).isLessThanOrEqualTo(MAX);
+            if (i < chunks.size() - 1) {
+                // 마지막 청크만 min 보다 작을 수 있음
+                assertThat(size).isGreaterThanOrEqualTo(MIN);
+            }
+            joined.write(chunks.get(i));
+        }
+        assertThat(joined.toByteArray()).isEqualTo(data);
+    }
+
+    @Test
+    void insertionInTheMiddleKeepsMostChunks() throws IOException {
+        byte[] original = randomBytes(3, 1024 * 1024);
+        // 중간에 500 바이트 삽입 (페이지 하나가 바뀐 새 버전)
+        int at = original.length / 2;
+        byte[] inserted = randomBytes(4, 500);
+        byte[] edited = new byte[original.length + inserted.length];
+        System.arraycopy(original, 0, edited, 0, at);
+        System.arraycopy(inserted, 0, edited, at, inserted.length);
+        System.arraycopy(original, at, edited, at + inserted.length, original.length - at);
+
+        Set<String> before = fingerprints(split(new ByteArrayInputStream(original)));
+        List<byte[]> after = split(new ByteArrayInputStream(edited));
+
+        long reused = fingerprints(after).stream().filter(before::contains).count();
+        // 바뀐 위치 주변의 청크 몇 개만 새로 생김
+        assertThat(after.size() - reused).isLessThanOrEqualTo(3);
+        assertThat(reused).isGreaterThan(after.size() - 4L);
+    }
+
+    @Test
+    void inputsUpToMinSizeAreASingleChunk() throws IOException {
+        assertThat(split(new ByteArrayInputStream(new byte[0]))).isEmpty();
+        assertThat(split(new ByteArrayInputStream(randomBytes(5, MIN))))
+                .singleElement().satisfies(chunk -> assertThat(chunk).hasSize(MIN));
+    }
+
+    @Test
+    void rejectsInvalidSizes() {
+        assertThatThrownBy(() -> new ContentDefinedChunker(0, AVG, MAX)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ContentDefinedChunker(MIN, AVG + 1, MAX)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ContentDefinedChunker(MIN, MAX * 2, MAX)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<byte[]> split(InputStream in) throws IOException {
+        List<byte[]> chunks = new ArrayList<>();
+        chunker.split(in, (data, offset, length) -> chunks.add(Arrays.copyOfRange(data, offset, offset + length)));
+        return chunks;
+    }
+
+    private static Set<String> fingerprints(List<byte[]> chunks) {
+        Set<String> result = new HashSet<>();
+        for (byte[] chunk : chunks) {
+            result.add(Arrays.hashCode(chunk) + ":" + chunk.length);
+        }
+        return result;
+    }
+
+    private static byte[] randomBytes(long seed, int size) {
+        byte[] data = new byte[size];
+        new Random(seed).nextBytes(data);
+        return data;
+    }
+
+    /**
+     * read 한 번에 최대 limit 바이트만 돌려주는 스트림
+     */
+    private static final class TrickleInputStream extends ByteArrayInputStream {
+
+        private final int limit;
+
+        TrickleInputStream(byte[] data, int limit) {
+            super(data);
+            this.limit = limit;
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, limit));
+        }
+    }
+}
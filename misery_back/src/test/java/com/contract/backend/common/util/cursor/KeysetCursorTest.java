@@ -0,0 +1,63 @@
+package com.contract.backend.common.util.cursor;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커서 토큰 인코딩 / 디코딩 검증 (해석할 수 없는 토큰은 null)
+ */
+class KeysetCursorTest {
+
+    @Test
+    void roundTripsCreatedAtAndId() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_793_000);
+
+        KeysetCursor decoded = KeysetCursor.decode(new KeysetCursor(createdAt, 42L).encode());
+
+        assertThat(decoded).isNotNull();
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void roundTripsWholeSeconds() {
+        // LocalDateTime.toString 은 초 / 나노초가 0 이면 생략하므로 짧은 형식도 복원되어야 함
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        KeysetCursor decoded = KeysetCursor.decode(new KeysetCursor(createdAt, Long.MAX_VALUE).encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getId()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void encodedTokenIsUrlSafe() {
+        String token = new KeysetCursor(LocalDateTime.of(2025, 12, 31, 23, 59, 59, 999_999_999), 1L).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void rejectsGarbageTokens() {
+        assertThat(KeysetCursor.decode("")).isNull();
+        assertThat(KeysetCursor.decode("not base64!")).isNull();
+        assertThat(KeysetCursor.decode(encode("no separator"))).isNull();
+    }
+
+    @Test
+    void rejectsTamperedTokens() {
+        assertThat(KeysetCursor.decode(encode("2025-03-14T09:26:53|abc"))).isNull();
+        assertThat(KeysetCursor.decode(encode("2025-13-14T09:26:53|42"))).isNull();
+        assertThat(KeysetCursor.decode(encode("yesterday|42"))).isNull();
+        assertThat(KeysetCursor.decode(encode("2025-03-14T09:26:53|99999999999999999999"))).isNull();
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,95 @@
+package com.contract.backend.common.util.range;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Range 헤더 파싱 검증 (null: 헤더 무시 후 전체 응답, 빈 리스트: 416)
+ */
+class ByteRangeParserTest {
+
+    private static final long FILE_SIZE = 1000;
+
+    @Test
+    void parsesClosedAndOpenEndedRanges() {
+        assertRanges(ByteRangeParser.parse("bytes=0-99", FILE_SIZE), "0-99");
+        assertRanges(ByteRangeParser.parse("bytes=900-", FILE_SIZE), "900-999");
+        assertRanges(ByteRangeParser.parse("bytes=990-5000", FILE_SIZE), "990-999");
+    }
+
+    @Test
+    void parsesSuffixRanges() {
+        assertRanges(ByteRangeParser.parse("bytes=-100", FILE_SIZE), "900-999");
+        // 파일보다 긴 suffix 는 파일 전체
+        assertRanges(ByteRangeParser.parse("bytes=-5000", FILE_SIZE), "0-999");
+    }
+
+    @Test
+    void unsatisfiableRangesYieldEmptyList() {
+        assertThat(ByteRangeParser.parse("bytes=1000-1099", FILE_SIZE)).isEmpty();
+        assertThat(ByteRangeParser.parse("bytes=-0", FILE_SIZE)).isEmpty();
+        assertThat(ByteRangeParser.parse("bytes=-100", 0)).isEmpty();
+        assertThat(ByteRangeParser.parse("bytes=1000-,2000-2100", FILE_SIZE)).isEmpty();
+    }
+
+    @Test
+    void unsatisfiableRangesAreDroppedFromSatisfiableOnes() {
+        assertRanges(ByteRangeParser.parse("bytes=0-9,5000-5100", FILE_SIZE), "0-9");
+    }
+
+    @Test
+    void mergesOverlappingAndAdjacentRanges() {
+        assertRanges(ByteRangeParser.parse("bytes=0-99,50-149", FILE_SIZE), "0-149");
+        assertRanges(ByteRangeParser.parse("bytes=0-99,100-199", FILE_SIZE), "0-199");
+        assertRanges(ByteRangeParser.parse("bytes=300-399,0-99,-100", FILE_SIZE), "0-99", "300-399", "900-999");
+        assertRanges(ByteRangeParser.parse("bytes=0-499,100-199", FILE_SIZE), "0-499");
+    }
+
+    @Test
+    void keepsRangesSeparatedByGap() {
+        assertRanges(ByteRangeParser.parse("bytes=0-99,101-199", FILE_SIZE), "0-99", "101-199");
+    }
+
+    @Test
+    void emptyListElementsAreAccepted() {
+        assertRanges(ByteRangeParser.parse("bytes=0-99,", FILE_SIZE), "0-99");
+    }
+
+    @Test
+    void startAfterEndIgnoresHeader() {
+        assertThat(ByteRangeParser.parse("bytes=100-99", FILE_SIZE)).isNull();
+        assertThat(ByteRangeParser.parse("bytes=0-9,100-99", FILE_SIZE)).isNull();
+    }
+
+    @Test
+    void malformedHeadersAreIgnored() {
+        assertThat(ByteRangeParser.parse(null, FILE_SIZE)).isNull();
+        assertThat(ByteRangeParser.parse("items=0-99", FILE_SIZE)).isNull();
+        assertThat(ByteRangeParser.parse("bytes=-", FILE_SIZE)).isNull();
+        assertThat(ByteRangeParser.parse("bytes=abc", FILE_SIZE)).isNull();
+        assertThat(ByteRangeParser.parse("bytes=99999999999999999999-", FILE_SIZE)).isNull();
+    }
+
+    @Test
+    void capsNumberOfRanges() {
+        assertThat(ByteRangeParser.parse(rangeHeader(100), FILE_SIZE)).hasSize(100);
+        assertThat(ByteRangeParser.parse(rangeHeader(101), FILE_SIZE)).isNull();
+    }
+
+    private static String rangeHeader(int count) {
+        // 서로 인접하지 않는 1바이트 범위 count 개
+        StringJoiner specs = new StringJoiner(",", "bytes=", "");
+        for (int i = 0; i < count; i++) {
+            specs.add((i * 2) + "-" + (i * 2));
+        }
+        return specs.toString();
+    }
+
+    private static void assertRanges(List<ByteRange> ranges, String... expected) {
+        assertThat(ranges).extracting(ByteRange::toString).containsExactly(expected);
+    }
+}
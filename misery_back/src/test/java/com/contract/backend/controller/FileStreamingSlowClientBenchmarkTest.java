@@ -0,0 +1,265 @@
+package com.contract.backend.controller;
+
+import com.contract.backend.common.config.FileStreamingConfig;
+import com.contract.backend.common.util.stream.NonBlockingResponseBody;
+import com.contract.backend.common.util.stream.StreamingBufferPool;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 느린 클라이언트 부하 측정
+ * - blocking: 요청 스레드에서 직접 복사 (이전 방식)
+ * - streaming: StreamingResponseBody + 가상 스레드, Tomcat 블로킹 쓰기
+ * - nonblocking: 위와 같되 NonBlockingResponseBody 로 논블로킹 쓰기 (현재 방식)
+ *
+ * 워커 스레드 수를 작게 잡은 Tomcat 에 느리게 읽는 클라이언트를 여러 개 붙인 뒤
+ * 사용 중인 워커 수, 그 상태에서 짧은 요청(/bench/ping)의 응답 시간, 클라이언트가 받은 바이트를 기록한다.
+ * streaming 은 JDK 21 에서 블로킹 쓰기 대기가 캐리어를 고정하므로 클라이언트가 약 256 개를 넘으면 전송량이 급감한다.
+ * 일반 테스트에서는 제외되며 ./gradlew benchmark 로 실행 (-Dbenchmark.clients=2000 등으로 조정)
+ */
+@Tag("benchmark")
+@SpringBootTest(
+        classes = FileStreamingSlowClientBenchmarkTest.Harness.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.tomcat.threads.max=" + FileStreamingSlowClientBenchmarkTest.WORKER_THREADS,
+                "server.tomcat.threads.min-spare=" + FileStreamingSlowClientBenchmarkTest.WORKER_THREADS,
+                "server.tomcat.max-connections=20000",
+                "server.tomcat.accept-count=1000"
+        })
+class FileStreamingSlowClientBenchmarkTest {
+
+    static final int WORKER_THREADS = 16;
+
+    // 클라이언트가 읽는 속도보다 서버 소켓 버퍼가 먼저 차도록 충분히 큰 응답
+    private static final byte[] PAYLOAD = new byte[32 * 1024 * 1024];
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 500);
+    private static final Duration SETTLE = Duration.ofSeconds(Long.getLong("benchmark.settle-seconds", 3));
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(5);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Test
+    void slowClientsDoNotHoldTomcatWorkers() throws Exception {
+        Result before = run("/bench/blocking");
+        Result after = run("/bench/nonblocking");
+        // 고정된 캐리어는 클라이언트를 닫아도 쓰기 시간 초과까지 풀리지 않으므로 마지막에 측정
+        Result streaming = run("/bench/streaming");
+
+        System.out.printf("%n느린 클라이언트 %d개, Tomcat 워커 %d개, %d초%n", CLIENTS, WORKER_THREADS, SETTLE.toSeconds());
+        System.out.printf("%-12s %12s %18s %16s%n", "mode", "busyWorkers", "probeLatencyMs", "bytesReceived");
+        before.print("blocking");
+        streaming.print("streaming");
+        after.print("nonblocking");
+
+        // 이전 방식: 느린 클라이언트가 워커를 모두 붙잡아 짧은 요청도 처리되지 않음
+        assertThat(before.busyWorkers).isEqualTo(WORKER_THREADS);
+        assertThat(before.probeLatencyMs).isNegative();
+        // 현재 방식: 복사는 가상 스레드에서, 워커는 바로 반환
+        assertThat(after.busyWorkers).isLessThan(WORKER_THREADS);
+        assertThat(after.probeLatencyMs).isBetween(0L, 1000L);
+        // 워커를 붙잡지 않으면서 클라이언트 수만큼 전송량이 늘어야 함 (워커 16개로 보낸 양 이상)
+        assertThat(after.bytesReceived).isGreaterThan(before.bytesReceived);
+    }
+
+    private Result run(String path) throws Exception {
+        List<SlowClient> clients = new ArrayList<>(CLIENTS);
+        AtomicLong received = new AtomicLong();
+        try {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.add(SlowClient.start(port, path, received));
+            }
+            Thread.sleep(SETTLE.toMillis());
+
+            Result result = new Result();
+            result.busyWorkers = tomcatWorkers().getActiveCount();
+            result.probeLatencyMs = probe();
+            result.bytesReceived = received.get();
+            return result;
+        } finally {
+            clients.forEach(SlowClient::close);
+            awaitIdleWorkers();
+        }
+    }
+
+    private long probe() throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(PROBE_TIMEOUT).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/bench/ping"))
+                .timeout(PROBE_TIMEOUT)
+                .build();
+        long startedAt = System.nanoTime();
+        try {
+            client.send(request, HttpResponse.BodyHandlers.ofString());
+            return (System.nanoTime() - startedAt) / 1_000_000;
+        } catch (HttpTimeoutException e) {
+            return -1;
+        }
+    }
+
+    private ThreadPoolExecutor tomcatWorkers() {
+        TomcatWebServer webServer = (TomcatWebServer) context.getWebServer();
+        Executor executor = webServer.getTomcat().getConnector().getProtocolHandler().getExecutor();
+        return (ThreadPoolExecutor) executor;
+    }
+
+    private void awaitIdleWorkers() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (tomcatWorkers().getActiveCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+    }
+
+    private static final class Result {
+        int busyWorkers;
+        long probeLatencyMs;
+        long bytesReceived;
+
+        void print(String mode) {
+            String latency = probeLatencyMs < 0 ? "timeout(" + PROBE_TIMEOUT.toMillis() + ")" : String.valueOf(probeLatencyMs);
+            System.out.printf("%-12s %12d %18s %16d%n", mode, busyWorkers, latency, bytesReceived);
+        }
+    }
+
+    /**
+     * 수신 버퍼를 작게 잡고 50ms 마다 4KB 씩만 읽는 클라이언트 (모바일 회선 흉내)
+     */
+    private static final class SlowClient {
+        private final Socket socket;
+        private final Thread reader;
+
+        private SlowClient(Socket socket, Thread reader) {
+            this.socket = socket;
+            this.reader = reader;
+        }
+
+        static SlowClient start(int port, String path, AtomicLong received) throws IOException {
+            Socket socket = new Socket();
+            socket.setReceiveBufferSize(4096);
+            socket.connect(new InetSocketAddress("localhost", port));
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET " + path + " HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+
+            Thread reader = Thread.ofVirtual().start(() -> {
+                byte[] buffer = new byte[4096];
+                try (InputStream in = socket.getInputStream()) {
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        received.addAndGet(read);
+                        Thread.sleep(50);
+                    }
+                } catch (IOException | InterruptedException ignored) {
+                    // close() 로 종료
+                }
+            });
+            return new SlowClient(socket, reader);
+        }
+
+        void close() {
+            reader.interrupt();
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({
+            ServletWebServerFactoryAutoConfiguration.class,
+            EmbeddedWebServerFactoryCustomizerAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class
+    })
+    @Import({FileStreamingConfig.class, BenchmarkController.class})
+    static class Harness {
+    }
+
+    @RestController
+    static class BenchmarkController {
+
+        private final StreamingBufferPool streamingBufferPool;
+
+        BenchmarkController(StreamingBufferPool streamingBufferPool) {
+            this.streamingBufferPool = streamingBufferPool;
+        }
+
+        @GetMapping("/bench/ping")
+        String ping() {
+            return "pong";
+        }
+
+        // 이전 방식: 전송이 끝날 때까지 Tomcat 워커에서 복사
+        @GetMapping("/bench/blocking")
+        void blocking(HttpServletResponse response) throws IOException {
+            response.setContentType("application/pdf");
+            response.setContentLengthLong(PAYLOAD.length);
+            streamingBufferPool.copy(new ByteArrayInputStream(PAYLOAD), response.getOutputStream());
+        }
+
+        // StreamingResponseBody 로 반환하지만 Tomcat 블로킹 쓰기 사용
+        @GetMapping("/bench/streaming")
+        ResponseEntity<StreamingResponseBody> streaming() {
+            return pdf(out -> streamingBufferPool.copy(new ByteArrayInputStream(PAYLOAD), out));
+        }
+
+        // 현재 방식: ContractFileStreamingService 와 같이 논블로킹 쓰기로 감싸 반환
+        @GetMapping("/bench/nonblocking")
+        ResponseEntity<StreamingResponseBody> nonBlocking() {
+            return pdf(NonBlockingResponseBody.of(out -> streamingBufferPool.copy(new ByteArrayInputStream(PAYLOAD), out)));
+        }
+
+        private static ResponseEntity<StreamingResponseBody> pdf(StreamingResponseBody body) {
+            return ResponseEntity.ok()
+                    .header("Content-Type", "application/pdf")
+                    .contentLength(PAYLOAD.length)
+                    .body(body);
+        }
+    }
+}
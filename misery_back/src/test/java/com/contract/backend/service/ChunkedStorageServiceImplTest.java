@@ -0,0 +1,295 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.StorageChunkEntity;
+import com.contract.backend.common.Entity.enumm.ChunkState;
+import com.contract.backend.common.config.ChunkedStorageProperties;
+import com.contract.backend.common.metrics.StorageMetrics;
+import com.contract.backend.common.repository.StorageChunkRepository;
+import com.contract.backend.common.util.range.ByteRange;
+import com.contract.backend.support.JpaSliceTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 청크 저장소 검증 (Range 의 청크 / 청크 내부 범위 변환, 청크 행의 별도 트랜잭션과 업로드 전 예약)
+ * 청크 행 트랜잭션을 직접 확인하므로 테스트 트랜잭션은 쓰지 않음
+ */
+@JpaSliceTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChunkedStorageServiceImplTest {
+
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "contracts/1/1.pdf";
+
+    @Autowired
+    private StorageChunkRepository storageChunkRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final InMemoryStorage backing = new InMemoryStorage();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ChunkedStorageProperties properties;
+    private ChunkedStorageServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        storageChunkRepository.deleteAll();
+
+        properties = new ChunkedStorageProperties();
+        properties.setBucketName(BUCKET);
+        properties.setMinChunkSize(1024);
+        properties.setAvgChunkSize(4096);
+        properties.setMaxChunkSize(16 * 1024);
+
+        StorageServiceRegistry registry = mock(StorageServiceRegistry.class);
+        when(registry.resolve(properties.getBackingProvider())).thenReturn(backing);
+        @SuppressWarnings("unchecked")
+        ObjectProvider<StorageServiceRegistry> registryProvider = mock(ObjectProvider.class);
+        when(registryProvider.getObject()).thenReturn(registry);
+
+        service = new ChunkedStorageServiceImpl(registryProvider, storageChunkRepository, properties,
+                new StorageMetrics(new SimpleMeterRegistry()), objectMapper, transactionManager);
+    }
+
+    @Test
+    void rangesMapToOverlappingChunksAndInnerRanges() throws IOException {
+        byte[] data = randomBytes(1, 64 * 1024);
+        service.put(BUCKET, KEY, new ByteArrayInputStream(data), data.length, "application/pdf");
+        List<ChunkManifest.Chunk> chunks = readManifest().getChunks();
+        assertThat(chunks.size()).isGreaterThan(4);
+        long[] starts = chunkStarts(chunks);
+
+        // 전체: 모든 청크를 범위 없이
+        assertRead(null, data);
+        assertThat(backing.opened).hasSize(chunks.size()).allMatch(open -> open.endsWith("@all"));
+
+        // 한 청크 내부
+        long inner = starts[2] + 10;
+        long innerEnd = starts[3] - 11;
+        assertRead(new ByteRange(inner, innerEnd), data);
+        assertThat(backing.opened).containsExactly(opened(chunks.get(2), 10, chunks.get(2).getSize() - 11));
+
+        // 청크 경계에 딱 맞는 범위는 청크 전체
+        assertRead(new ByteRange(starts[1], starts[2] - 1), data);
+        assertThat(backing.opened).containsExactly(opened(chunks.get(1), -1, -1));
+
+        // 여러 청크에 걸친 범위: 앞 청크의 끝부분, 가운데 청크 전체, 뒤 청크의 앞부분
+        long across = starts[2] - 5;
+        long acrossEnd = starts[3] + 5;
+        assertRead(new ByteRange(across, acrossEnd), data);
+        assertThat(backing.opened).containsExactly(
+                opened(chunks.get(1), chunks.get(1).getSize() - 5, chunks.get(1).getSize() - 1),
+                opened(chunks.get(2), -1, -1),
+                opened(chunks.get(3), 0, 5));
+
+        // 마지막 바이트
+        assertRead(new ByteRange(data.length - 1, data.length - 1), data);
+        ChunkManifest.Chunk last = chunks.get(chunks.size() - 1);
+        assertThat(backing.opened).containsExactly(opened(last, last.getSize() - 1, last.getSize() - 1));
+    }
+
+    @Test
+    void repeatedPutOnlyAddsReferences() throws IOException {
+        byte[] data = randomBytes(2, 32 * 1024);
+        service.put(BUCKET, KEY, new ByteArrayInputStream(data), data.length, "application/pdf");
+        int chunkPuts = backing.chunkPuts.size();
+
+        service.put(BUCKET, "contracts/1/2.pdf", new ByteArrayInputStream(data), data.length, "application/pdf");
+
+        assertThat(backing.chunkPuts).hasSize(chunkPuts);
+        assertThat(storageChunkRepository.findAll())
+                .hasSize(chunkPuts)
+                .allSatisfy(chunk -> {
+                    assertThat(chunk.getState()).isEqualTo(ChunkState.ACTIVE);
+                    assertThat(chunk.getRefCount()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    void concurrentReservationDoesNotPoisonCallerTransaction() throws Exception {
+        byte[] data = randomBytes(3, 512);
+        String hash = sha256Hex(data);
+        // 다른 요청이 같은 청크를 올리는 중
+        StorageChunkEntity reserved = storageChunkRepository.save(new StorageChunkEntity(BUCKET, hash, data.length));
+        CompletableFuture<Integer> otherUpload = CompletableFuture.supplyAsync(() -> {
+            sleep(300);
+            backing.objects.put(ChunkedStorageServiceImpl.chunkKey(hash), data);
+            return storageChunkRepository.activate(reserved.getId(), ChunkState.UPLOADING, ChunkState.ACTIVE, LocalDateTime.now());
+        });
+
+        // 업로드 트랜잭션 안에서 호출: 예약 insert 의 unique 위반이 호출자 트랜잭션을 rollback-only 로 만들면 커밋에서 실패
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            storageChunkRepository.count();
+            try {
+                service.put(BUCKET, KEY, new ByteArrayInputStream(data), data.length, "application/pdf");
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(otherUpload.get()).isEqualTo(1);
+        assertThat(backing.chunkPuts).isEmpty();
+        StorageChunkEntity chunk = storageChunkRepository.findById(reserved.getId()).orElseThrow();
+        assertThat(chunk.getState()).isEqualTo(ChunkState.ACTIVE);
+        assertThat(chunk.getRefCount()).isEqualTo(2);
+    }
+
+    @Test
+    void rowIsReservedBeforeUploadSoGcReclaimsInterruptedUploads() throws Exception {
+        byte[] data = randomBytes(4, 512);
+        String hash = sha256Hex(data);
+        // 객체는 저장되었지만 응답을 받지 못한 경우
+        backing.failChunkPutAfterStore = true;
+
+        assertThatThrownBy(() -> service.put(BUCKET, KEY, new ByteArrayInputStream(data), data.length, "application/pdf"))
+                .isInstanceOf(IOException.class);
+
+        assertThat(backing.objects).containsKey(ChunkedStorageServiceImpl.chunkKey(hash));
+        assertThat(storageChunkRepository.findAll()).singleElement().satisfies(chunk -> {
+            assertThat(chunk.getState()).isEqualTo(ChunkState.UPLOADING);
+            assertThat(chunk.getRefCount()).isZero();
+        });
+
+        properties.setGcGrace(Duration.ZERO);
+        sleep(10);
+        service.collectUnreferencedChunks();
+
+        assertThat(storageChunkRepository.findAll()).isEmpty();
+        assertThat(backing.objects).doesNotContainKey(ChunkedStorageServiceImpl.chunkKey(hash));
+    }
+
+    private void assertRead(ByteRange range, byte[] data) throws IOException {
+        backing.opened.clear();
+        int from = range != null ? (int) range.getStart() : 0;
+        int to = range != null ? (int) range.getEnd() + 1 : data.length;
+        try (InputStream in = service.openStream(BUCKET, KEY, range)) {
+            assertThat(in.readAllBytes()).isEqualTo(Arrays.copyOfRange(data, from, to));
+        }
+    }
+
+    private ChunkManifest readManifest() throws IOException {
+        return objectMapper.readValue(backing.objects.get(KEY), ChunkManifest.class);
+    }
+
+    private static long[] chunkStarts(List<ChunkManifest.Chunk> chunks) {
+        long[] starts = new long[chunks.size() + 1];
+        for (int i = 0; i < chunks.size(); i++) {
+            starts[i + 1] = starts[i] + chunks.get(i).getSize();
+        }
+        return starts;
+    }
+
+    private static String opened(ChunkManifest.Chunk chunk, long start, long end) {
+        return ChunkedStorageServiceImpl.chunkKey(chunk.getHash()) + (start < 0 ? "@all" : "@" + start + "-" + end);
+    }
+
+    private static byte[] randomBytes(long seed, int size) {
+        byte[] data = new byte[size];
+        new Random(seed).nextBytes(data);
+        return data;
+    }
+
+    private static String sha256Hex(byte[] data) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 메모리 backing 저장소 (청크 열기 / 업로드 기록)
+     */
+    private static final class InMemoryStorage implements S3StorageService {
+
+        final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        final List<String> opened = new CopyOnWriteArrayList<>();
+        final List<String> chunkPuts = new CopyOnWriteArrayList<>();
+        volatile boolean failChunkPutAfterStore;
+
+        @Override
+        public String getProviderName() {
+            return "B2";
+        }
+
+        @Override
+        public String getBucketName() {
+            return BUCKET;
+        }
+
+        @Override
+        public void put(String bucketName, String key, InputStream content, long contentLength, String contentType) throws IOException {
+            objects.put(key, content.readAllBytes());
+            if (key.startsWith(ChunkedStorageServiceImpl.CHUNK_KEY_PREFIX)) {
+                chunkPuts.add(key);
+                if (failChunkPutAfterStore) {
+                    throw new IOException("응답 수신 실패");
+                }
+            }
+        }
+
+        @Override
+        public void delete(String bucketName, String key) {
+            objects.remove(key);
+        }
+
+        @Override
+        public StoredObjectInfo getObjectInfo(String bucketName, String filePath) throws IOException {
+            return new StoredObjectInfo(get(filePath).length, "application/octet-stream");
+        }
+
+        @Override
+        public InputStream openStream(String bucketName, String filePath, ByteRange range) throws IOException {
+            byte[] data = get(filePath);
+            if (filePath.startsWith(ChunkedStorageServiceImpl.CHUNK_KEY_PREFIX)) {
+                opened.add(filePath + (range == null ? "@all" : "@" + range.getStart() + "-" + range.getEnd()));
+            }
+            if (range == null) {
+                return new ByteArrayInputStream(data);
+            }
+            return new ByteArrayInputStream(data, (int) range.getStart(), (int) (range.getEnd() - range.getStart() + 1));
+        }
+
+        private byte[] get(String key) throws IOException {
+            byte[] data = objects.get(key);
+            if (data == null) {
+                throw new IOException("없는 객체: " + key);
+            }
+            return data;
+        }
+    }
+}
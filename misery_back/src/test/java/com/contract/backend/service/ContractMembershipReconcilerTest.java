@@ -0,0 +1,204 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractEntity;
+import com.contract.backend.common.Entity.UserContractMembershipEntity;
+import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.Entity.enumm.MembershipRole;
+import com.contract.backend.common.config.MembershipProperties;
+import com.contract.backend.common.repository.ContractPartyRepository;
+import com.contract.backend.common.repository.ContractRepository;
+import com.contract.backend.common.repository.UserContractMembershipRepository;
+import com.contract.backend.support.JpaSliceTest;
+import com.contract.backend.support.TestEntities;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 멤버십 백필 / 정합성 검사 검증 (missing / stale / orphan 을 찾아 고치고, repair=false 면 지표만 남김)
+ */
+@JpaSliceTest
+class ContractMembershipReconcilerTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ContractRepository contractRepository;
+
+    @Autowired
+    private ContractPartyRepository contractPartyRepository;
+
+    @Autowired
+    private UserContractMembershipRepository membershipRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final MembershipProperties properties = new MembershipProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TestEntities entities;
+    private ContractMembershipService membershipService;
+    private ContractMembershipReconciler reconciler;
+
+    private UserEntity owner;
+    private UserEntity party;
+    private UserEntity outsider;
+    private ContractEntity shared;
+    private ContractEntity deleted;
+    private ContractEntity outsiders;
+
+    @BeforeEach
+    void setUp() {
+        // 배치 경계를 넘나들도록 배치 크기를 계약서 수보다 작게
+        properties.setBatchSize(2);
+        membershipService = new ContractMembershipService(membershipRepository, contractPartyRepository);
+        reconciler = new ContractMembershipReconciler(contractRepository, contractPartyRepository, membershipRepository,
+                membershipService, properties, meterRegistry, transactionManager);
+
+        entities = new TestEntities(entityManager);
+        owner = entities.user("owner");
+        party = entities.user("party");
+        outsider = entities.user("outsider");
+
+        shared = persistContract(owner, ContractStatus.CLOSED, null);
+        entities.party(shared, party);
+        deleted = persistContract(owner, ContractStatus.OPEN, CREATED_AT.plusDays(1));
+        outsiders = persistContract(outsider, ContractStatus.OPEN, null);
+    }
+
+    @Test
+    void repairsMissingStaleAndOrphanRows() {
+        seedDrift();
+
+        reconciler.check();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertExpectedMemberships();
+        assertThat(drift("missing")).isEqualTo(2);
+        assertThat(drift("stale")).isEqualTo(2);
+        assertThat(drift("orphan")).isEqualTo(1);
+        assertThat(membershipService.isBackfilled()).isTrue();
+
+        // 고친 뒤 다시 검사하면 불일치 없음
+        reconciler.check();
+        assertThat(drift("missing")).isEqualTo(2);
+        assertThat(drift("stale")).isEqualTo(2);
+        assertThat(drift("orphan")).isEqualTo(1);
+    }
+
+    @Test
+    void reportsWithoutRepairingWhenRepairIsDisabled() {
+        properties.setRepair(false);
+        seedDrift();
+
+        reconciler.check();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(drift("missing")).isEqualTo(2);
+        assertThat(drift("stale")).isEqualTo(2);
+        assertThat(drift("orphan")).isEqualTo(1);
+        assertThat(membershipRepository.findAll()).hasSize(3);
+        assertThat(find(outsider, shared)).isNotNull();
+        assertThat(find(owner, deleted).isDeleted()).isFalse();
+        // 누락 행이 남아 있으므로 멤버십 기반 조회로 전환하지 않음
+        assertThat(membershipService.isBackfilled()).isFalse();
+    }
+
+    @Test
+    void backfillsEmptyMembershipOnStartup() {
+        entityManager.flush();
+        entityManager.clear();
+
+        reconciler.backfillOnStartup();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertExpectedMemberships();
+        assertThat(drift("missing")).isEqualTo(4);
+        assertThat(membershipService.isBackfilled()).isTrue();
+    }
+
+    @Test
+    void skipsBackfillWhenDisabled() {
+        properties.setBackfillOnStartup(false);
+        entityManager.flush();
+        entityManager.clear();
+
+        reconciler.backfillOnStartup();
+
+        assertThat(membershipRepository.findAll()).isEmpty();
+        assertThat(membershipService.isBackfilled()).isTrue();
+    }
+
+    /**
+     * shared: 작성자 행의 역할 / 상태가 다름 (stale), 참여자 행 없음 (missing), 외부인 행 (orphan)
+     * deleted: 삭제 여부가 반영되지 않음 (stale)
+     * outsiders: 작성자 행 없음 (missing)
+     */
+    private void seedDrift() {
+        UserContractMembershipEntity wrongRole = new UserContractMembershipEntity(owner, shared, MembershipRole.COUNTERPARTY);
+        wrongRole.setStatus(ContractStatus.OPEN);
+        entityManager.persist(wrongRole);
+        entities.membership(outsider, shared, MembershipRole.COUNTERPARTY);
+
+        UserContractMembershipEntity notDeleted = new UserContractMembershipEntity(owner, deleted, MembershipRole.CREATOR);
+        notDeleted.setDeleted(false);
+        entityManager.persist(notDeleted);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void assertExpectedMemberships() {
+        assertThat(membershipRepository.findAll()).hasSize(4);
+
+        UserContractMembershipEntity sharedOwner = find(owner, shared);
+        assertThat(sharedOwner.getRole()).isEqualTo(MembershipRole.CREATOR);
+        assertThat(sharedOwner.getStatus()).isEqualTo(ContractStatus.CLOSED);
+        assertThat(sharedOwner.getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(sharedOwner.isDeleted()).isFalse();
+
+        UserContractMembershipEntity sharedParty = find(party, shared);
+        assertThat(sharedParty.getRole()).isEqualTo(MembershipRole.COUNTERPARTY);
+        assertThat(sharedParty.getStatus()).isEqualTo(ContractStatus.CLOSED);
+
+        assertThat(find(outsider, shared)).isNull();
+        assertThat(find(owner, deleted).isDeleted()).isTrue();
+        assertThat(find(outsider, outsiders).getRole()).isEqualTo(MembershipRole.CREATOR);
+    }
+
+    private UserContractMembershipEntity find(UserEntity user, ContractEntity contract) {
+        List<UserContractMembershipEntity> rows = entityManager.createQuery(
+                        "SELECT m FROM UserContractMembershipEntity m WHERE m.user.id = :userId AND m.contract.id = :contractId",
+                        UserContractMembershipEntity.class)
+                .setParameter("userId", user.getId())
+                .setParameter("contractId", contract.getId())
+                .getResultList();
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private double drift(String kind) {
+        return meterRegistry.counter("contract.membership.drift", "kind", kind).count();
+    }
+
+    private ContractEntity persistContract(UserEntity creator, ContractStatus status, LocalDateTime deletedAt) {
+        ContractEntity contract = entities.contract(creator, status, CREATED_AT);
+        contract.setDeletedAt(deletedAt);
+        return contract;
+    }
+}
@@ -0,0 +1,153 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractEntity;
+import com.contract.backend.common.Entity.ContractVersionEntity;
+import com.contract.backend.common.Entity.enumm.PreviewStatus;
+import com.contract.backend.common.Entity.enumm.VersionStatus;
+import com.contract.backend.common.config.PreviewProperties;
+import com.contract.backend.common.metrics.StorageMetrics;
+import com.contract.backend.common.repository.ContractVersionRepository;
+import com.contract.backend.common.util.stream.StreamingBufferPool;
+import com.contract.backend.support.JpaSliceTest;
+import com.contract.backend.support.TestEntities;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 유실된 렌더링 작업 복구 검증 (render-timeout 이 지난 PENDING 만 한 번 다시 렌더링)
+ * 렌더링은 다른 스레드에서 실행되므로 테스트 트랜잭션 없이 커밋된 데이터를 사용
+ */
+@JpaSliceTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ContractPreviewServiceTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ContractVersionRepository contractVersionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final PreviewProperties properties = new PreviewProperties();
+    private final StorageRouter storageRouter = mock(StorageRouter.class);
+    // 렌더링을 시도한 버전의 파일 경로 (원본 조회 단계에서 실패시켜 FAILED 로 끝냄)
+    private final Set<String> rendered = ConcurrentHashMap.newKeySet();
+
+    private TransactionTemplate transaction;
+    private ContractPreviewService previewService;
+    private ContractEntity contract;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        transaction = new TransactionTemplate(transactionManager);
+        properties.setRenderTimeout(Duration.ofMinutes(10));
+        when(storageRouter.resolveForRead(any())).thenAnswer(invocation -> {
+            rendered.add(((StoredFileRef) invocation.getArgument(0)).getFilePath());
+            throw new IOException("원본 없음");
+        });
+
+        previewService = new ContractPreviewService(mock(StorageServiceRegistry.class), storageRouter,
+                contractVersionRepository, properties, new StreamingBufferPool(8192, 4),
+                new StorageMetrics(new SimpleMeterRegistry()), mock(ApplicationEventPublisher.class));
+
+        contract = transaction.execute(status -> {
+            TestEntities entities = new TestEntities(entityManager);
+            return entities.contract(entities.user("owner"));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        previewService.shutdown();
+        transaction.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM ContractVersionEntity").executeUpdate();
+            entityManager.createQuery("DELETE FROM ContractEntity").executeUpdate();
+            entityManager.createQuery("DELETE FROM UserEntity").executeUpdate();
+        });
+    }
+
+    @Test
+    void scheduledRecoveryRerendersOnlyStalePending() {
+        LocalDateTime now = LocalDateTime.now();
+        Long stale = persistVersion(1, PreviewStatus.PENDING, now.minusMinutes(30));   // 유실된 작업
+        Long legacy = persistVersion(2, PreviewStatus.PENDING, null);                  // 요청 시각 컬럼 도입 전
+        Long inFlight = persistVersion(3, PreviewStatus.PENDING, now.minusMinutes(1)); // 아직 렌더링 중
+        persistVersion(4, PreviewStatus.READY, now.minusMinutes(30));
+
+        previewService.recoverStaleRenders();
+        awaitStatus(stale, PreviewStatus.FAILED);
+        awaitStatus(legacy, PreviewStatus.FAILED);
+
+        assertThat(rendered).containsExactlyInAnyOrder(filePath(stale), filePath(legacy));
+        assertThat(contractVersionRepository.findById(inFlight).orElseThrow().getPreviewStatus())
+                .isEqualTo(PreviewStatus.PENDING);
+    }
+
+    @Test
+    void requestForStalePendingRerendersOnceAndAnswersAccepted() throws IOException {
+        Long stale = persistVersion(1, PreviewStatus.PENDING, LocalDateTime.now().minusHours(1));
+        ContractVersionEntity version = contractVersionRepository.findById(stale).orElseThrow();
+
+        assertThat(previewService.serveThumbnail(version, null).getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        // 같은 오래된 엔티티로 다시 요청해도 요청 시각이 이미 갱신되어 다시 제출하지 않음
+        assertThat(previewService.serveThumbnail(version, null).getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        awaitStatus(stale, PreviewStatus.FAILED);
+
+        assertThat(rendered).containsExactly(filePath(stale));
+        assertThat(contractVersionRepository.findById(stale).orElseThrow().getPreviewRequestedAt())
+                .isAfter(LocalDateTime.now().minusMinutes(1));
+    }
+
+    private Long persistVersion(int versionNumber, PreviewStatus previewStatus, LocalDateTime requestedAt) {
+        return transaction.execute(status -> {
+            ContractVersionEntity version = new TestEntities(entityManager)
+                    .version(entityManager.merge(contract), versionNumber, VersionStatus.ARCHIVED);
+            version.setPreviewStatus(previewStatus);
+            version.setPreviewRequestedAt(requestedAt);
+            return version.getId();
+        });
+    }
+
+    private String filePath(Long versionId) {
+        return contractVersionRepository.findById(versionId).orElseThrow().getFilePath();
+    }
+
+    private void awaitStatus(Long versionId, PreviewStatus expected) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            if (contractVersionRepository.findById(versionId).orElseThrow().getPreviewStatus() == expected) {
+                return;
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        assertThat(contractVersionRepository.findById(versionId).orElseThrow().getPreviewStatus()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,316 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.config.ContractCacheProperties;
+import com.contract.backend.common.dto.ContractCursorPageDTO;
+import com.contract.backend.common.dto.ContractDetailDTO;
+import com.contract.backend.common.dto.ContractListDTO;
+import com.contract.backend.common.event.ContractChangedEvent;
+import com.contract.backend.common.repository.ContractPartyRepository;
+import com.contract.backend.common.repository.ContractRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 조회 캐시 검증 (버전 키 무효화, near cache 제거, Redis 장애 시 DB 조회와 복구 후 epoch 갱신)
+ * Redis 는 인스턴스 간에 공유되는 메모리 맵으로 대신함
+ */
+class ContractReadCacheTest {
+
+    private static final Long CONTRACT_ID = 7L;
+    private static final String CREATOR = "creator-uuid";
+    private static final String PARTY = "party-uuid";
+    private static final String OUTSIDER = "outsider-uuid";
+
+    private final FakeRedis redis = new FakeRedis();
+    private final ContractRepository contractRepository = mock(ContractRepository.class);
+    private final ContractPartyRepository contractPartyRepository = mock(ContractPartyRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private ContractCacheProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ContractReadCache cache;
+
+    // DB 에 있는 현재 제목 (loader 가 읽는 값)
+    private String title = "v1";
+    private final AtomicInteger detailLoads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        when(contractPartyRepository.findPartyUuidsByContractId(CONTRACT_ID)).thenReturn(List.of(PARTY));
+        when(contractRepository.findCreatorUuidById(CONTRACT_ID)).thenReturn(Optional.of(CREATOR));
+
+        properties = new ContractCacheProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        cache = newInstance(properties, meterRegistry);
+    }
+
+    @Test
+    void writeAfterReadInvalidatesCachedDetail() {
+        assertThat(readDetail(cache).getTitle()).isEqualTo("v1");
+        assertThat(readDetail(cache).getTitle()).isEqualTo("v1");
+        assertThat(detailLoads).hasValue(1);
+
+        title = "v2";
+        cache.onContractChanged(new ContractChangedEvent(CONTRACT_ID));
+
+        assertThat(readDetail(cache).getTitle()).isEqualTo("v2");
+        assertThat(detailLoads).hasValue(2);
+        assertThat(requests("detail", "near")).isEqualTo(1);
+        assertThat(requests("detail", "miss")).isEqualTo(2);
+    }
+
+    @Test
+    void otherInstanceReadsRedisUntilVersionIsBumped() {
+        // near cache 를 끈 두 번째 인스턴스 (같은 Redis 사용)
+        ContractCacheProperties otherProperties = new ContractCacheProperties();
+        otherProperties.setNearTtl(Duration.ZERO);
+        SimpleMeterRegistry otherRegistry = new SimpleMeterRegistry();
+        ContractReadCache other = newInstance(otherProperties, otherRegistry);
+
+        readDetail(cache);
+        assertThat(readDetail(other).getTitle()).isEqualTo("v1");
+        assertThat(detailLoads).hasValue(1);
+        assertThat(otherRegistry.counter("contract.cache.requests", "cache", "detail", "result", "redis").count())
+                .isEqualTo(1);
+
+        title = "v2";
+        cache.onContractChanged(new ContractChangedEvent(CONTRACT_ID));
+
+        assertThat(redis.data).containsEntry("contract-cache:ver:contract:7", "1");
+        assertThat(readDetail(other).getTitle()).isEqualTo("v2");
+        assertThat(detailLoads).hasValue(2);
+        // 이전 버전 값은 지우지 않고 ttl 로 만료
+        assertThat(redis.data).containsKeys("contract-cache:detail:7:e0:v0", "contract-cache:detail:7:e0:v1");
+    }
+
+    @Test
+    void contractChangeEvictsListsOfMembersOnly() {
+        AtomicInteger listLoads = new AtomicInteger();
+        for (String user : List.of(CREATOR, PARTY, OUTSIDER)) {
+            readCursorPage(user, listLoads);
+        }
+        assertThat(listLoads).hasValue(3);
+
+        cache.onContractChanged(new ContractChangedEvent(CONTRACT_ID));
+
+        readCursorPage(CREATOR, listLoads);
+        readCursorPage(PARTY, listLoads);
+        readCursorPage(OUTSIDER, listLoads);
+        assertThat(listLoads).hasValue(5);
+        assertThat(redis.data).containsEntry("contract-cache:ver:user:" + PARTY, "1")
+                .doesNotContainKey("contract-cache:ver:user:" + OUTSIDER);
+        assertThat(meterRegistry.counter("contract.cache.invalidations", "scope", "user").count()).isEqualTo(2);
+    }
+
+    @Test
+    void pageNumberListKeepsTotal() {
+        Pageable pageable = PageRequest.of(1, 2);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Page<ContractListDTO>> read = () -> cache.getPage(CREATOR, pageable, () -> CREATOR, user -> {
+            loads.incrementAndGet();
+            return new PageImpl<>(List.of(listItem(3L), listItem(4L)), pageable, 9);
+        });
+
+        read.get();
+        Page<ContractListDTO> cached = read.get();
+
+        assertThat(loads).hasValue(1);
+        assertThat(cached.getTotalElements()).isEqualTo(9);
+        assertThat(cached.getContent()).extracting(ContractListDTO::getId).containsExactly(3L, 4L);
+        assertThat(cached.getPageable()).isEqualTo(pageable);
+    }
+
+    @Test
+    void authorizationRunsEvenOnCacheHit() {
+        readDetail(cache);
+
+        assertThatThrownBy(() -> cache.getDetail(CONTRACT_ID,
+                () -> { throw new IllegalStateException("권한 없음"); },
+                contract -> detail()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(detailLoads).hasValue(1);
+    }
+
+    @Test
+    void invalidationDuringLoadIsNotKeptInNearCache() {
+        cache.getDetail(CONTRACT_ID, () -> CONTRACT_ID, contractId -> {
+            detailLoads.incrementAndGet();
+            ContractDetailDTO stale = detail();
+            // 조회 도중 다른 요청의 변경이 커밋됨
+            title = "v2";
+            cache.onContractChanged(new ContractChangedEvent(CONTRACT_ID));
+            return stale;
+        });
+
+        assertThat(readDetail(cache).getTitle()).isEqualTo("v2");
+        assertThat(detailLoads).hasValue(2);
+    }
+
+    @Test
+    void redisOutageFallsBackToDatabase() {
+        properties.setNearTtl(Duration.ZERO);
+        redis.down = true;
+
+        assertThat(readDetail(cache).getTitle()).isEqualTo("v1");
+        assertThat(readDetail(cache).getTitle()).isEqualTo("v1");
+
+        assertThat(detailLoads).hasValue(2);
+        // 첫 오류 후 redisRetryAfter 동안은 Redis 를 호출하지 않음
+        assertThat(redis.calls).hasValue(1);
+        assertThat(meterRegistry.counter("contract.cache.errors", "operation", "read").count()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidationMissedDuringOutageBumpsEpoch() {
+        properties.setNearTtl(Duration.ZERO);
+        properties.setRedisRetryAfter(Duration.ZERO);
+        readDetail(cache);
+
+        // Redis 장애 중 변경: 버전 키를 올리지 못함
+        redis.down = true;
+        title = "v2";
+        cache.onContractChanged(new ContractChangedEvent(CONTRACT_ID));
+        assertThat(meterRegistry.counter("contract.cache.errors", "operation", "invalidate").count()).isEqualTo(1);
+
+        // 복구 후 첫 조회에서 epoch 를 올리므로 이전 값(e0)을 쓰지 않음
+        redis.down = false;
+        assertThat(readDetail(cache).getTitle()).isEqualTo("v2");
+        assertThat(redis.data).containsEntry("contract-cache:ver:epoch", "1")
+                .containsKey("contract-cache:detail:7:e1:v0");
+        assertThat(detailLoads).hasValue(2);
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        properties.setEnabled(false);
+
+        readDetail(cache);
+        readDetail(cache);
+
+        assertThat(detailLoads).hasValue(2);
+        assertThat(redis.calls).hasValue(0);
+    }
+
+    private ContractReadCache newInstance(ContractCacheProperties cacheProperties, SimpleMeterRegistry registry) {
+        return new ContractReadCache(redis.template, contractRepository, contractPartyRepository,
+                cacheProperties, registry, objectMapper, mock(PlatformTransactionManager.class));
+    }
+
+    private ContractDetailDTO readDetail(ContractReadCache target) {
+        return target.getDetail(CONTRACT_ID, () -> CONTRACT_ID, contractId -> {
+            detailLoads.incrementAndGet();
+            return detail();
+        });
+    }
+
+    private void readCursorPage(String userUuid, AtomicInteger loads) {
+        cache.getCursorPage(userUuid, null, 20, false, () -> userUuid, user -> {
+            loads.incrementAndGet();
+            return new ContractCursorPageDTO(List.of(listItem(CONTRACT_ID)), 20, false, null, null);
+        });
+    }
+
+    private double requests(String cacheName, String result) {
+        return meterRegistry.counter("contract.cache.requests", "cache", cacheName, "result", result).count();
+    }
+
+    private ContractDetailDTO detail() {
+        ContractDetailDTO detail = new ContractDetailDTO();
+        detail.setId(CONTRACT_ID);
+        detail.setTitle(title);
+        detail.setStatus(ContractStatus.OPEN);
+        detail.setCreatedAt(LocalDateTime.of(2025, 3, 1, 12, 0));
+        return detail;
+    }
+
+    private static ContractListDTO listItem(Long id) {
+        return new ContractListDTO(id, "계약서", ContractStatus.OPEN, LocalDateTime.of(2025, 3, 1, 12, 0), 1);
+    }
+
+    /**
+     * 메모리 맵 기반 Redis (down 이면 모든 호출이 연결 오류)
+     */
+    @SuppressWarnings("unchecked")
+    private static final class FakeRedis {
+        final Map<String, String> data = new ConcurrentHashMap<>();
+        final AtomicInteger calls = new AtomicInteger();
+        final StringRedisTemplate template = mock(StringRedisTemplate.class);
+        volatile boolean down;
+
+        FakeRedis() {
+            ValueOperations<String, String> values = mock(ValueOperations.class);
+            when(template.opsForValue()).thenReturn(values);
+
+            when(values.multiGet(anyList())).thenAnswer(invocation -> {
+                call();
+                return invocation.<List<String>>getArgument(0).stream().map(data::get).toList();
+            });
+            when(values.get(anyString())).thenAnswer(invocation -> {
+                call();
+                return data.get(invocation.<String>getArgument(0));
+            });
+            when(values.increment(anyString())).thenAnswer(invocation -> {
+                call();
+                return increment(invocation.getArgument(0));
+            });
+            doAnswer(invocation -> {
+                call();
+                data.put(invocation.getArgument(0), invocation.getArgument(1));
+                return null;
+            }).when(values).set(anyString(), anyString(), any(Duration.class));
+
+            StringRedisConnection connection = mock(StringRedisConnection.class);
+            when(connection.incr(anyString())).thenAnswer(invocation -> increment(invocation.getArgument(0)));
+            when(connection.expire(anyString(), anyLong())).thenReturn(true);
+            when(template.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+                call();
+                invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection);
+                return List.of();
+            });
+        }
+
+        private void call() {
+            calls.incrementAndGet();
+            if (down) {
+                throw new RedisConnectionFailureException("connection refused");
+            }
+        }
+
+        private Long increment(String key) {
+            return Long.valueOf(data.merge(key, "1", (current, one) -> String.valueOf(Long.parseLong(current) + 1)));
+        }
+    }
+}
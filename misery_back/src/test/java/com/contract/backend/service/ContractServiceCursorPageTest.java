@@ -0,0 +1,201 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractEntity;
+import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.Entity.enumm.MembershipRole;
+import com.contract.backend.common.dto.ContractCursorPageDTO;
+import com.contract.backend.common.dto.ContractListDTO;
+import com.contract.backend.common.exception.CustomException;
+import com.contract.backend.common.exception.CustomExceptionEnum;
+import com.contract.backend.common.util.cursor.KeysetCursor;
+import com.contract.backend.support.JpaSliceTest;
+import com.contract.backend.support.TestEntities;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+/**
+ * 커서 기반 목록 조회 검증 ((createdAt, id) 내림차순, 같은 createdAt 은 id 로 구분, size + 1 조회로 hasNext 판단)
+ * 멤버십 백필 전 (작성 / 참여 병합) 과 백필 후 (멤버십 인덱스) 경로가 같은 결과를 내야 함
+ */
+@JpaSliceTest
+@Import(ContractService.class)
+class ContractServiceCursorPageTest {
+
+    private static final LocalDateTime SAME_INSTANT = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Autowired
+    private ContractService contractService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private StorageRouter storageRouter;
+
+    @MockitoBean
+    private UploadSpoolService uploadSpoolService;
+
+    @MockitoBean(name = "blockchainService")
+    private BlockchainService blockchainService;
+
+    @MockitoBean
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private ContractMembershipService contractMembershipService;
+
+    @MockitoBean
+    private ContractReadCache contractReadCache;
+
+    private TestEntities entities;
+    private UserEntity user;
+    private List<Long> expectedOrder;
+
+    @BeforeEach
+    void seed() {
+        // 캐시는 거치지 않고 DB 조회 결과만 검증
+        when(contractReadCache.getCursorPage(any(), any(), anyInt(), anyBoolean(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Function<Object, ContractCursorPageDTO>>getArgument(5)
+                        .apply(invocation.<Supplier<Object>>getArgument(4).get()));
+
+        entities = new TestEntities(entityManager);
+        user = entities.user("reader");
+        UserEntity other = entities.user("other");
+
+        // 작성 3건 + 참여 3건 모두 같은 createdAt (id 로만 순서 결정), 그 이전 시각 작성 1건
+        List<ContractEntity> visible = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            visible.add(persistContract(user, SAME_INSTANT));
+            ContractEntity participating = persistContract(other, SAME_INSTANT);
+            entities.party(participating, user);
+            entities.membership(user, participating, MembershipRole.COUNTERPARTY);
+            visible.add(participating);
+        }
+        visible.add(persistContract(user, SAME_INSTANT.minusDays(1)));
+
+        // 보이면 안 되는 계약서: 다른 사용자만의 계약서, 삭제된 계약서
+        persistContract(other, SAME_INSTANT);
+        ContractEntity deleted = entities.contract(user, ContractStatus.OPEN, SAME_INSTANT);
+        deleted.setDeletedAt(SAME_INSTANT.plusHours(1));
+        entities.membership(user, deleted, MembershipRole.CREATOR);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        expectedOrder = new ArrayList<>();
+        visible.stream()
+                .sorted((a, b) -> a.getCreatedAt().equals(b.getCreatedAt())
+                        ? Long.compare(b.getId(), a.getId())
+                        : b.getCreatedAt().compareTo(a.getCreatedAt()))
+                .forEach(contract -> expectedOrder.add(contract.getId()));
+    }
+
+    @Test
+    void walksAllPagesBeforeBackfill() {
+        when(contractMembershipService.isBackfilled()).thenReturn(false);
+
+        assertThat(walk(3)).containsExactlyElementsOf(expectedOrder);
+        assertThat(walk(2)).containsExactlyElementsOf(expectedOrder);
+    }
+
+    @Test
+    void walksAllPagesAfterBackfill() {
+        when(contractMembershipService.isBackfilled()).thenReturn(true);
+
+        assertThat(walk(3)).containsExactlyElementsOf(expectedOrder);
+        assertThat(walk(2)).containsExactlyElementsOf(expectedOrder);
+    }
+
+    @Test
+    void hasNextIsFalseWhenLastPageIsExactlyFull() {
+        when(contractMembershipService.isBackfilled()).thenReturn(true);
+
+        // 7건을 7건 페이지로: size + 1 조회 결과가 7건이므로 다음 페이지 없음
+        ContractCursorPageDTO exact = contractService.getContractsForUserByCursor(user.getUuid(), null, 7, false);
+        assertThat(exact.getContent()).hasSize(7);
+        assertThat(exact.isHasNext()).isFalse();
+        assertThat(exact.getNextCursor()).isNull();
+
+        // 6건 페이지면 1건이 남음
+        ContractCursorPageDTO partial = contractService.getContractsForUserByCursor(user.getUuid(), null, 6, false);
+        assertThat(partial.getContent()).hasSize(6);
+        assertThat(partial.isHasNext()).isTrue();
+        KeysetCursor next = KeysetCursor.decode(partial.getNextCursor());
+        assertThat(next.getId()).isEqualTo(expectedOrder.get(5));
+        assertThat(next.getCreatedAt()).isEqualTo(SAME_INSTANT);
+    }
+
+    @Test
+    void totalIsComputedOnlyWhenRequested() {
+        when(contractMembershipService.isBackfilled()).thenReturn(false);
+        assertThat(contractService.getContractsForUserByCursor(user.getUuid(), null, 2, true).getTotalElements())
+                .isEqualTo(7L);
+        assertThat(contractService.getContractsForUserByCursor(user.getUuid(), null, 2, false).getTotalElements())
+                .isNull();
+
+        when(contractMembershipService.isBackfilled()).thenReturn(true);
+        assertThat(contractService.getContractsForUserByCursor(user.getUuid(), null, 2, true).getTotalElements())
+                .isEqualTo(7L);
+    }
+
+    @Test
+    void blankCursorStartsFromFirstPage() {
+        when(contractMembershipService.isBackfilled()).thenReturn(true);
+
+        ContractCursorPageDTO page = contractService.getContractsForUserByCursor(user.getUuid(), " ", 2, false);
+
+        assertThat(page.getContent()).extracting(ContractListDTO::getId)
+                .containsExactlyElementsOf(expectedOrder.subList(0, 2));
+    }
+
+    @Test
+    void garbageCursorIsRejected() {
+        assertInvalidCursor("not-a-cursor!");
+        assertInvalidCursor("Zm9v");
+        assertInvalidCursor(new KeysetCursor(SAME_INSTANT, 1L).encode() + "*");
+    }
+
+    private List<Long> walk(int pageSize) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            ContractCursorPageDTO page = contractService.getContractsForUserByCursor(user.getUuid(), cursor, pageSize, false);
+            assertThat(page.getContent()).hasSizeLessThanOrEqualTo(pageSize);
+            assertThat(page.isHasNext()).isEqualTo(page.getNextCursor() != null);
+            page.getContent().forEach(contract -> ids.add(contract.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private void assertInvalidCursor(String cursor) {
+        assertThatThrownBy(() -> contractService.getContractsForUserByCursor(user.getUuid(), cursor, 2, false))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(CustomExceptionEnum.INVALID_PAGE_CURSOR.getMessage());
+    }
+
+    private ContractEntity persistContract(UserEntity creator, LocalDateTime createdAt) {
+        ContractEntity contract = entities.contract(creator, ContractStatus.OPEN, createdAt);
+        entities.membership(creator, contract, MembershipRole.CREATOR);
+        return contract;
+    }
+}
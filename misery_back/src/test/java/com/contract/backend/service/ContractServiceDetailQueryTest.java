@@ -0,0 +1,153 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractEntity;
+import com.contract.backend.common.Entity.ContractVersionEntity;
+import com.contract.backend.common.Entity.SignatureEntity;
+import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.Entity.enumm.VersionStatus;
+import com.contract.backend.common.dto.ContractDetailDTO;
+import com.contract.backend.support.JpaSliceTest;
+import com.contract.backend.support.TestEntities;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * 계약서 상세 조회 쿼리 수 검증 (버전 / 서명 / 참여자 수와 무관하게 일정해야 함)
+ */
+@JpaSliceTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(ContractService.class)
+class ContractServiceDetailQueryTest {
+
+    // 사용자 / 계약서 / 참여자 / 버전 목록 / 서명 목록
+    private static final long EXPECTED_QUERIES = 5;
+
+    @Autowired
+    private ContractService contractService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private StorageRouter storageRouter;
+
+    @MockitoBean
+    private UploadSpoolService uploadSpoolService;
+
+    @MockitoBean(name = "blockchainService")
+    private BlockchainService blockchainService;
+
+    @MockitoBean
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private ContractMembershipService contractMembershipService;
+
+    @MockitoBean
+    private ContractReadCache contractReadCache;
+
+    private TestEntities entities;
+
+    @BeforeEach
+    void bypassCache() {
+        entities = new TestEntities(entityManager);
+        // 권한 확인은 멤버십 서비스 목에서 통과시키고, 캐시는 거치지 않고 DB 조회 쿼리만 측정
+        when(contractMembershipService.isMember(any(), any())).thenReturn(true);
+        when(contractReadCache.getDetail(anyLong(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Function<Object, ContractDetailDTO>>getArgument(2)
+                        .apply(invocation.<Supplier<Object>>getArgument(1).get()));
+    }
+
+    @Test
+    void detailQueryCountDoesNotGrowWithVersionsAndSigners() {
+        UserEntity creator = entities.user("creator");
+        ContractEntity small = persistContract(creator, 1, 1);
+        ContractEntity large = persistContract(creator, 20, 10);
+        entityManager.flush();
+        entityManager.clear();
+
+        long smallQueries = countQueries(() -> {
+            ContractDetailDTO detail = contractService.getContractDetails(small.getId(), creator.getUuid());
+            assertThat(detail.getVersionHistory()).hasSize(1);
+        });
+        long largeQueries = countQueries(() -> {
+            ContractDetailDTO detail = contractService.getContractDetails(large.getId(), creator.getUuid());
+            assertThat(detail.getParticipants()).hasSize(10);
+            assertThat(detail.getVersionHistory()).hasSize(20);
+            assertThat(detail.getVersionHistory()).allSatisfy(v -> assertThat(v.getSignatures()).hasSize(10));
+            assertThat(detail.getCurrentVersion().getVersionNumber()).isEqualTo(20);
+            assertThat(detail.getCreatedBy().getUsername()).isEqualTo("creator");
+        });
+
+        assertThat(smallQueries).isEqualTo(EXPECTED_QUERIES);
+        assertThat(largeQueries).isEqualTo(EXPECTED_QUERIES);
+    }
+
+    @Test
+    void participantCanReadDetailWithSameQueryCount() {
+        UserEntity creator = entities.user("owner");
+        ContractEntity contract = persistContract(creator, 3, 4);
+        UserEntity participant = entityManager
+                .createQuery("SELECT cp.party FROM ContractPartyEntity cp WHERE cp.contract = :c", UserEntity.class)
+                .setParameter("c", contract)
+                .setMaxResults(1)
+                .getSingleResult();
+        entityManager.flush();
+        entityManager.clear();
+
+        long queries = countQueries(() -> {
+            ContractDetailDTO detail = contractService.getContractDetails(contract.getId(), participant.getUuid());
+            assertThat(detail.getVersionHistory()).hasSize(3);
+        });
+
+        assertThat(queries).isEqualTo(EXPECTED_QUERIES);
+    }
+
+    private long countQueries(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private ContractEntity persistContract(UserEntity creator, int versionCount, int signerCount) {
+        ContractEntity contract = entities.contract(creator);
+
+        List<UserEntity> signers = new ArrayList<>();
+        for (int i = 0; i < signerCount; i++) {
+            UserEntity signer = entities.user("signer-" + versionCount + "-" + i);
+            entities.party(contract, signer);
+            signers.add(signer);
+        }
+
+        ContractVersionEntity version = null;
+        for (int v = 1; v <= versionCount; v++) {
+            version = entities.version(contract, v, VersionStatus.SIGNED);
+            for (UserEntity signer : signers) {
+                entityManager.persist(new SignatureEntity(version, signer, "sig-" + v + "-" + signer.getUserName()));
+            }
+        }
+        contract.setCurrentVersion(version);
+        return contract;
+    }
+}
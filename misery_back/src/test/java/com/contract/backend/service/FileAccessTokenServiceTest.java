@@ -0,0 +1,190 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractEntity;
+import com.contract.backend.common.Entity.ContractVersionEntity;
+import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.Entity.enumm.VersionStatus;
+import com.contract.backend.common.config.FileAccessTokenProperties;
+import com.contract.backend.common.event.ContractAccessRevokedEvent;
+import com.contract.backend.common.exception.CustomException;
+import com.contract.backend.common.exception.CustomExceptionEnum;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 파일 접근 토큰 서명 / 만료 / 사용자 / 철회 검증
+ */
+class FileAccessTokenServiceTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret";
+    private static final String USER = "user-uuid";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private FileAccessTokenService service;
+    private ContractVersionEntity version;
+
+    @BeforeEach
+    void setUp() {
+        service = new FileAccessTokenService(properties(SECRET, Duration.ofMinutes(10)), objectMapper);
+
+        ContractEntity contract = new ContractEntity("계약서", "설명",
+                new UserEntity("owner", "owner@example.com", "password"), ContractStatus.OPEN);
+        contract.setId(7L);
+        version = new ContractVersionEntity(contract, 1, "contracts/7/1.pdf", "hash-1", VersionStatus.PENDING_SIGNATURE);
+        version.setId(70L);
+        version.setStorageProvider("minio");
+        version.setBucketName("contracts");
+    }
+
+    @Test
+    void issuedTokenVerifiesWithStoredLocation() {
+        String token = issue(service);
+
+        FileAccessTokenService.Claims claims = service.verify(token, USER);
+
+        assertThat(claims.getContractId()).isEqualTo(7L);
+        assertThat(claims.getVersionId()).isEqualTo(70L);
+        assertThat(claims.originalFile().getFilePath()).isEqualTo("contracts/7/1.pdf");
+        assertThat(claims.hasServingCopy()).isFalse();
+    }
+
+    @Test
+    void servingCopyIsUsedForPreview() {
+        StoredFileRef servingCopy = new StoredFileRef("minio", "contracts", "contracts/7/1.linear.pdf", "hash-1");
+        String token = service.issue(USER, version, servingCopy, "계약서_v1.pdf").getToken();
+
+        FileAccessTokenService.Claims claims = service.verify(token, USER);
+
+        assertThat(claims.hasServingCopy()).isTrue();
+        assertThat(claims.previewFile().getFilePath()).isEqualTo("contracts/7/1.linear.pdf");
+        assertThat(claims.originalFile().getFilePath()).isEqualTo("contracts/7/1.pdf");
+    }
+
+    @Test
+    void tamperedPayloadIsRejected() throws Exception {
+        String token = issue(service);
+        String signature = token.substring(token.indexOf('.') + 1);
+
+        FileAccessTokenService.Claims claims = service.verify(token, USER);
+        claims.setVersionId(71L);
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(objectMapper.writeValueAsBytes(claims));
+
+        assertInvalid(() -> service.verify(forgedPayload + "." + signature, USER));
+    }
+
+    @Test
+    void tamperedSignatureIsRejected() {
+        String token = issue(service);
+        char last = token.charAt(token.length() - 1);
+        String forged = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+
+        assertInvalid(() -> service.verify(forged, USER));
+    }
+
+    @Test
+    void malformedTokensAreRejected() {
+        assertInvalid(() -> service.verify(null, USER));
+        assertInvalid(() -> service.verify("no-separator", USER));
+        assertInvalid(() -> service.verify(".signature-only", USER));
+
+        String garbage = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("not json".getBytes(StandardCharsets.UTF_8));
+        assertInvalid(() -> service.verify(garbage + ".x", USER));
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        FileAccessTokenService expiring =
+                new FileAccessTokenService(properties(SECRET, Duration.ofMillis(-1)), objectMapper);
+
+        assertInvalid(() -> expiring.verify(issue(expiring), USER));
+    }
+
+    @Test
+    void tokenIsBoundToIssuingUser() {
+        String token = issue(service);
+
+        assertInvalid(() -> service.verify(token, "other-user"));
+    }
+
+    @Test
+    void contractRevocationRejectsEarlierTokens() throws Exception {
+        String before = issue(service);
+        service.onAccessRevoked(new ContractAccessRevokedEvent(7L, null));
+
+        assertInvalid(() -> service.verify(before, USER));
+
+        // 철회 이후 발급된 토큰은 유효
+        Thread.sleep(2);
+        assertThat(service.verify(issue(service), USER).getContractId()).isEqualTo(7L);
+    }
+
+    @Test
+    void participantRevocationOnlyAffectsThatUser() {
+        String token = issue(service);
+        String otherUsersToken = service.issue("other-user", version, StoredFileRef.of(version), "계약서_v1.pdf").getToken();
+
+        service.onAccessRevoked(new ContractAccessRevokedEvent(7L, USER));
+
+        assertInvalid(() -> service.verify(token, USER));
+        assertThat(service.verify(otherUsersToken, "other-user").getVersionId()).isEqualTo(70L);
+    }
+
+    @Test
+    void revocationOfAnotherContractDoesNotApply() {
+        String token = issue(service);
+
+        service.onAccessRevoked(new ContractAccessRevokedEvent(8L, null));
+        service.onAccessRevoked(new ContractAccessRevokedEvent(8L, USER));
+
+        assertThat(service.verify(token, USER).getContractId()).isEqualTo(7L);
+    }
+
+    @Test
+    void sharedSecretIsAcceptedAcrossInstances() {
+        FileAccessTokenService otherInstance =
+                new FileAccessTokenService(properties(SECRET, Duration.ofMinutes(10)), objectMapper);
+
+        assertThat(otherInstance.verify(issue(service), USER).getVersionId()).isEqualTo(70L);
+    }
+
+    @Test
+    void randomKeyFallbackIsLocalToInstance() {
+        FileAccessTokenService first = new FileAccessTokenService(properties(null, Duration.ofMinutes(10)), objectMapper);
+        FileAccessTokenService second = new FileAccessTokenService(properties("", Duration.ofMinutes(10)), objectMapper);
+
+        String token = issue(first);
+
+        assertThat(first.verify(token, USER).getVersionId()).isEqualTo(70L);
+        assertInvalid(() -> second.verify(token, USER));
+        assertInvalid(() -> service.verify(token, USER));
+    }
+
+    private String issue(FileAccessTokenService tokenService) {
+        return tokenService.issue(USER, version, StoredFileRef.of(version), "계약서_v1.pdf").getToken();
+    }
+
+    private static void assertInvalid(Runnable verification) {
+        assertThatThrownBy(verification::run)
+                .isInstanceOf(CustomException.class)
+                .hasMessage(CustomExceptionEnum.FILE_ACCESS_TOKEN_INVALID.getMessage());
+    }
+
+    private static FileAccessTokenProperties properties(String secret, Duration ttl) {
+        FileAccessTokenProperties properties = new FileAccessTokenProperties();
+        properties.setSecret(secret);
+        properties.setTtl(ttl);
+        return properties;
+    }
+}
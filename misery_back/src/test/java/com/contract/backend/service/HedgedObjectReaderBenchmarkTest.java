@@ -0,0 +1,165 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.config.StorageReadProperties;
+import com.contract.backend.common.metrics.StorageMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * hedged read 효과 측정: 첫 바이트 지연 p50 / p99 와 hedge 비율 (hedge 켬 vs 끔)
+ *
+ * getObject 는 대부분 base 지연 안에 응답하고, tail-rate 비율로 tail 만큼 늦게 응답하는 가짜 요청으로 대신한다.
+ * 각 요청(첫 요청 / 중복 요청)의 지연은 독립적으로 정하므로 중복 요청은 대부분 빠른 쪽에 걸린다.
+ * hedge 지연이 표본으로 자리 잡도록 먼저 warmup 요청을 보낸 뒤 측정한다.
+ * ./gradlew benchmark 로 실행 (-Dbenchmark.tailRate=0.05 -Dbenchmark.tailMs=2000 등으로 조정)
+ */
+@Tag("benchmark")
+class HedgedObjectReaderBenchmarkTest {
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 2000);
+    private static final int WARMUP = Integer.getInteger("benchmark.warmup", 200);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 32);
+    private static final long BASE_MS = Long.getLong("benchmark.baseMs", 15);
+    private static final long JITTER_MS = Long.getLong("benchmark.jitterMs", 20);
+    private static final long TAIL_MS = Long.getLong("benchmark.tailMs", 1000);
+    private static final double TAIL_RATE = Double.parseDouble(System.getProperty("benchmark.tailRate", "0.02"));
+
+    @Test
+    void hedgingCutsTailLatencyForFewExtraRequests() throws Exception {
+        Result off = run(false);
+        Result on = run(true);
+
+        System.out.printf("%n가짜 getObject: %d~%dms, %.1f%% 는 %dms 지연 / 요청 %d개, 동시 %d%n",
+                BASE_MS, BASE_MS + JITTER_MS, TAIL_RATE * 100, TAIL_MS, REQUESTS, CONCURRENCY);
+        System.out.printf("%-8s %10s %10s %12s %16s%n", "hedge", "p50(ms)", "p99(ms)", "hedgeRate", "backendRequests");
+        off.print("off");
+        on.print("on");
+
+        // 중복 요청은 tail 비율 근처만 보내고, p99 는 tail 이 아니라 hedge 지연 + base 수준
+        assertThat(on.p99Ms).isLessThan(off.p99Ms / 2);
+        assertThat(on.hedgeRate).isLessThan(Math.max(0.1, TAIL_RATE * 3));
+        assertThat(on.p50Ms).isLessThanOrEqualTo(off.p50Ms + JITTER_MS);
+    }
+
+    private Result run(boolean hedgeEnabled) throws Exception {
+        StorageReadProperties properties = new StorageReadProperties();
+        properties.setHedgeEnabled(hedgeEnabled);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        HedgedObjectReader reader = new HedgedObjectReader(properties, new StorageMetrics(meterRegistry), "bench-get-");
+        FakeGetObject getObject = new FakeGetObject(42);
+
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            measure(reader, getObject, callers, WARMUP);
+            meterRegistry.clear();
+            getObject.calls.set(0);
+
+            long[] latencies = measure(reader, getObject, callers, REQUESTS);
+            Arrays.sort(latencies);
+            double hedged = meterRegistry.find("storage.read.hedge").counters().stream()
+                    .filter(counter -> !"not_needed".equals(counter.getId().getTag("outcome")))
+                    .mapToDouble(counter -> counter.count())
+                    .sum();
+            return new Result(percentileMs(latencies, 0.5), percentileMs(latencies, 0.99),
+                    hedged / REQUESTS, getObject.calls.get());
+        } finally {
+            callers.shutdownNow();
+            reader.shutdown();
+        }
+    }
+
+    private static long[] measure(HedgedObjectReader reader, FakeGetObject getObject,
+                                  ExecutorService callers, int requests) throws Exception {
+        List<Future<Long>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            futures.add(callers.submit(() -> {
+                long startedAt = System.nanoTime();
+                try (ResponseInputStream<GetObjectResponse> stream = reader.read(getObject::get)) {
+                    stream.readAllBytes();
+                }
+                return System.nanoTime() - startedAt;
+            }));
+        }
+        long[] latencies = new long[requests];
+        for (int i = 0; i < requests; i++) {
+            latencies[i] = futures.get(i).get();
+        }
+        return latencies;
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * percentile) - 1);
+        return sorted[index] / 1_000_000.0;
+    }
+
+    /**
+     * 지연을 요청마다 독립적으로 정하는 getObject (본문은 작은 고정 바이트)
+     */
+    private static final class FakeGetObject {
+
+        private static final byte[] BODY = new byte[1024];
+
+        private final Random random;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        FakeGetObject(long seed) {
+            this.random = new Random(seed);
+        }
+
+        ResponseInputStream<GetObjectResponse> get() {
+            calls.incrementAndGet();
+            long delayMs;
+            synchronized (random) {
+                delayMs = random.nextDouble() < TAIL_RATE
+                        ? TAIL_MS
+                        : BASE_MS + (JITTER_MS > 0 ? random.nextLong(JITTER_MS) : 0);
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UncheckedIOException(new IOException("요청 중단"));
+            }
+            return new ResponseInputStream<>(GetObjectResponse.builder().contentLength((long) BODY.length).build(),
+                    AbortableInputStream.create(new ByteArrayInputStream(BODY)));
+        }
+    }
+
+    private static final class Result {
+
+        private final double p50Ms;
+        private final double p99Ms;
+        private final double hedgeRate;
+        private final int backendRequests;
+
+        Result(double p50Ms, double p99Ms, double hedgeRate, int backendRequests) {
+            this.p50Ms = p50Ms;
+            this.p99Ms = p99Ms;
+            this.hedgeRate = hedgeRate;
+            this.backendRequests = backendRequests;
+        }
+
+        void print(String mode) {
+            System.out.printf("%-8s %10.1f %10.1f %11.1f%% %16d%n", mode, p50Ms, p99Ms, hedgeRate * 100, backendRequests);
+        }
+    }
+}
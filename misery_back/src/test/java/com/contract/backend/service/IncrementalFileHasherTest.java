@@ -0,0 +1,188 @@
+package com.contract.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 점진적 전체 파일 해시 검증 (순서가 바뀐 파트의 임시 보관 / 재전송 / 임시 파일 한도)
+ */
+class IncrementalFileHasherTest {
+
+    private static final int PART_SIZE = 1024;
+    private static final int PARTS = 4;
+
+    @TempDir
+    Path tempDir;
+
+    private final byte[][] parts = randomParts(PARTS);
+
+    @Test
+    void inOrderPartsAreHashedWithoutStaging() throws IOException {
+        IncrementalFileHasher.StagingBudget budget = new IncrementalFileHasher.StagingBudget(0);
+        IncrementalFileHasher hasher = newHasher(budget);
+
+        for (int i = 1; i <= PARTS; i++) {
+            upload(hasher, i, parts[i - 1]);
+        }
+
+        assertThat(hasher.fileHashIfComplete(PARTS)).isEqualTo(sha256(parts));
+    }
+
+    @Test
+    void outOfOrderPartsAreStagedAndDrainedWhenTheGapFills() throws IOException {
+        IncrementalFileHasher.StagingBudget budget = new IncrementalFileHasher.StagingBudget(PART_SIZE * 8L);
+        IncrementalFileHasher hasher = newHasher(budget);
+
+        upload(hasher, 3, parts[2]);
+        upload(hasher, 4, parts[3]);
+        upload(hasher, 2, parts[1]);
+        assertThat(budget.usedBytes()).isEqualTo(PART_SIZE * 3L);
+        assertThat(hasher.fileHashIfComplete(PARTS)).isNull();
+
+        upload(hasher, 1, parts[0]);
+
+        assertThat(hasher.fileHashIfComplete(PARTS)).isEqualTo(sha256(parts));
+        assertThat(budget.usedBytes()).isZero();
+        assertThat(stagedFiles()).isZero();
+    }
+
+    @Test
+    void resendOfHashedPartIsAcceptedOnlyWithSameContent() throws IOException {
+        IncrementalFileHasher hasher = newHasher(new IncrementalFileHasher.StagingBudget(PART_SIZE * 8L));
+        upload(hasher, 1, parts[0]);
+        upload(hasher, 2, parts[1]);
+
+        upload(hasher, 1, parts[0]);
+        upload(hasher, 3, parts[2]);
+        upload(hasher, 4, parts[3]);
+        assertThat(hasher.fileHashIfComplete(PARTS)).isEqualTo(sha256(parts));
+
+        // 이미 반영한 파트가 다른 내용으로 다시 올라오면 점진적 해시를 쓸 수 없음
+        upload(hasher, 2, parts[0]);
+        assertThat(hasher.fileHashIfComplete(PARTS)).isNull();
+    }
+
+    @Test
+    void resendOfStagedPartReplacesEarlierCopy() throws IOException {
+        IncrementalFileHasher.StagingBudget budget = new IncrementalFileHasher.StagingBudget(PART_SIZE * 8L);
+        IncrementalFileHasher hasher = newHasher(budget);
+
+        upload(hasher, 2, parts[3]);
+        upload(hasher, 2, parts[1]);
+        assertThat(budget.usedBytes()).isEqualTo(PART_SIZE);
+        assertThat(stagedFiles()).isEqualTo(1);
+
+        for (int i = 1; i <= PARTS; i++) {
+            if (i != 2) {
+                upload(hasher, i, parts[i - 1]);
+            }
+        }
+        assertThat(hasher.fileHashIfComplete(PARTS)).isEqualTo(sha256(parts));
+        assertThat(budget.usedBytes()).isZero();
+    }
+
+    @Test
+    void stagedCopyOfPartHashedMeanwhileIsComparedAndDropped() throws IOException {
+        IncrementalFileHasher.StagingBudget budget = new IncrementalFileHasher.StagingBudget(PART_SIZE * 8L);
+        IncrementalFileHasher hasher = newHasher(budget);
+
+        // 같은 파트 1 이 동시에 두 번 올라옴: 먼저 시작한 쪽이 바로 반영, 나중 쪽은 임시 파일
+        IncrementalFileHasher.PartSink frontier = hasher.begin(1, PART_SIZE);
+        IncrementalFileHasher.PartSink duplicate = hasher.begin(1, PART_SIZE);
+        write(hasher, frontier, parts[0]);
+        write(hasher, duplicate, parts[0]);
+        assertThat(budget.usedBytes()).isZero();
+
+        IncrementalFileHasher.PartSink conflicting = hasher.begin(2, PART_SIZE);
+        IncrementalFileHasher.PartSink late = hasher.begin(2, PART_SIZE);
+        write(hasher, conflicting, parts[1]);
+        write(hasher, late, parts[2]);
+
+        assertThat(hasher.fileHashIfComplete(2)).isNull();
+        assertThat(budget.usedBytes()).isZero();
+        assertThat(stagedFiles()).isZero();
+    }
+
+    @Test
+    void abortedFrontierPartLetsRetryDrainStagedParts() throws IOException {
+        IncrementalFileHasher hasher = newHasher(new IncrementalFileHasher.StagingBudget(PART_SIZE * 8L));
+
+        IncrementalFileHasher.PartSink failed = hasher.begin(1, PART_SIZE);
+        upload(hasher, 2, parts[1]);
+        hasher.abort(failed);
+        upload(hasher, 1, parts[0]);
+        upload(hasher, 3, parts[2]);
+        upload(hasher, 4, parts[3]);
+
+        assertThat(hasher.fileHashIfComplete(PARTS)).isEqualTo(sha256(parts));
+    }
+
+    @Test
+    void exceedingStagingBudgetFallsBackToRehash() throws IOException {
+        IncrementalFileHasher.StagingBudget budget = new IncrementalFileHasher.StagingBudget(PART_SIZE * 3L);
+        IncrementalFileHasher hasher = newHasher(budget);
+        // 다른 세션과 한도를 나눠 씀
+        IncrementalFileHasher other = newHasher(budget);
+        upload(other, 2, parts[1]);
+
+        upload(hasher, 4, parts[3]);
+        upload(hasher, 3, parts[2]);
+        assertThat(budget.usedBytes()).isEqualTo(PART_SIZE * 3L);
+
+        // 한도 초과: 이 세션은 invalid, 보관 중이던 임시 파일도 정리
+        upload(hasher, 2, parts[1]);
+        assertThat(budget.usedBytes()).isEqualTo(PART_SIZE);
+        upload(hasher, 1, parts[0]);
+        assertThat(hasher.fileHashIfComplete(PARTS)).isNull();
+
+        other.close();
+        assertThat(budget.usedBytes()).isZero();
+        assertThat(stagedFiles()).isZero();
+    }
+
+    private IncrementalFileHasher newHasher(IncrementalFileHasher.StagingBudget budget) throws IOException {
+        return new IncrementalFileHasher(Files.createTempDirectory(tempDir, "session-"), budget, false);
+    }
+
+    private static void upload(IncrementalFileHasher hasher, int partNumber, byte[] data) throws IOException {
+        write(hasher, hasher.begin(partNumber, data.length), data);
+    }
+
+    private static void write(IncrementalFileHasher hasher, IncrementalFileHasher.PartSink sink, byte[] data) throws IOException {
+        sink.out().write(data);
+        hasher.commit(sink, sha256(data));
+    }
+
+    private long stagedFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    private static byte[][] randomParts(int count) {
+        Random random = new Random(7);
+        byte[][] result = new byte[count][PART_SIZE];
+        for (byte[] part : result) {
+            random.nextBytes(part);
+        }
+        return result;
+    }
+
+    private static String sha256(byte[]... chunks) {
+        MessageDigest digest = IncrementalFileHasher.newSha256();
+        for (byte[] chunk : chunks) {
+            digest.update(chunk);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
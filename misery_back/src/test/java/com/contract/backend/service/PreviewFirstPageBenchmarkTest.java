@@ -0,0 +1,333 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.config.LinearizationProperties;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSDocument;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.cos.COSObjectKey;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 미리보기 첫 페이지 표시 시간 측정: 원본 PDF vs 선형화 사본 (PdfLinearizationService 와 같은 qpdf --linearize)
+ *
+ * 뷰어(PDF.js 등)는 미리보기를 64KB 단위 Range 요청으로 읽는다.
+ * - 원본: 첫 청크 -> 파일 끝(startxref / trailer) -> xref -> 카탈로그 -> 페이지 트리 -> 첫 페이지 -> 내용 / 리소스 순으로
+ *   앞 단계 객체를 읽어야 다음 위치를 알 수 있으므로 단계마다 왕복이 생긴다.
+ * - 선형화: 첫 청크의 선형화 사전에서 첫 페이지 끝(/E)을 알 수 있으므로 [0, E) 만 읽으면 된다.
+ * 첫 페이지를 그리기 전까지의 왕복 수와 바이트 수를 세고, 네트워크 조건별 예상 시간(왕복 x RTT + 바이트 / 대역폭)을 기록한다.
+ * qpdf 가 없으면 원본만 측정한다. ./gradlew benchmark 로 실행 (-Dbenchmark.pages=100 등으로 조정)
+ */
+@Tag("benchmark")
+class PreviewFirstPageBenchmarkTest {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int PAGES = Integer.getInteger("benchmark.pages", 40);
+
+    private static final Pattern LINEARIZED = Pattern.compile("/Linearized\\s");
+    private static final Pattern FIRST_PAGE_END = Pattern.compile("/E\\s+(\\d+)");
+
+    private static final List<NetworkProfile> PROFILES = List.of(
+            new NetworkProfile("LTE", 60, 20_000_000),
+            new NetworkProfile("3G", 200, 1_600_000));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void linearizedPreviewNeedsFewerRoundTripsToFirstPage() throws Exception {
+        Path original = tempDir.resolve("contract.pdf");
+        writeContractPdf(original, PAGES);
+
+        FirstPageCost before = originalCost(Files.readAllBytes(original));
+        FirstPageCost after = null;
+
+        Path linearized = tempDir.resolve("contract.linearized.pdf");
+        if (linearize(original, linearized)) {
+            after = linearizedCost(Files.readAllBytes(linearized));
+        }
+
+        System.out.printf("%n미리보기 첫 페이지 (%d쪽, 청크 %dKB)%n", PAGES, CHUNK_SIZE / 1024);
+        System.out.printf("%-11s %12s %11s %18s", "mode", "fileBytes", "roundTrips", "bytesBeforePaint");
+        PROFILES.forEach(profile -> System.out.printf(" %12s", profile.name + "(ms)"));
+        System.out.println();
+        before.print("original");
+        if (after != null) {
+            after.print("linearized");
+        } else {
+            System.out.println("linearized  (qpdf 없음 - 측정 생략)");
+        }
+
+        // 원본은 최소 첫 청크, 파일 끝, 첫 페이지 객체를 따로 읽어야 함
+        assertThat(before.roundTrips).isGreaterThanOrEqualTo(3);
+        if (after != null) {
+            assertThat(after.roundTrips).isLessThan(before.roundTrips);
+            for (NetworkProfile profile : PROFILES) {
+                assertThat(after.estimateMs(profile)).isLessThan(before.estimateMs(profile));
+            }
+        }
+    }
+
+    /**
+     * 선형화 사본: 첫 청크에서 /E 를 읽고, 부족하면 [청크 끝, E) 를 한 번 더 요청
+     */
+    private static FirstPageCost linearizedCost(byte[] pdf) {
+        String head = new String(pdf, 0, Math.min(pdf.length, 1024), StandardCharsets.ISO_8859_1);
+        assertThat(LINEARIZED.matcher(head).find()).as("선형화 사전").isTrue();
+        Matcher firstPageEnd = FIRST_PAGE_END.matcher(head);
+        assertThat(firstPageEnd.find()).as("/E").isTrue();
+        long end = Long.parseLong(firstPageEnd.group(1));
+
+        FirstPageCost cost = new FirstPageCost(pdf.length);
+        cost.fetch(0, Math.min(CHUNK_SIZE, pdf.length));
+        cost.fetch(0, end);
+        return cost;
+    }
+
+    /**
+     * 원본: 첫 청크 -> 마지막 청크 -> xref -> 첫 페이지까지의 객체 단계별로 읽음
+     */
+    private static FirstPageCost originalCost(byte[] pdf) throws IOException {
+        FirstPageCost cost = new FirstPageCost(pdf.length);
+        cost.fetch(0, Math.min(CHUNK_SIZE, pdf.length));
+        cost.fetch(Math.max(0, pdf.length - CHUNK_SIZE), pdf.length);
+
+        try (PDDocument document = Loader.loadPDF(pdf)) {
+            COSDocument cos = document.getDocument();
+            long startXref = cos.getStartXref();
+            cost.fetch(startXref, pdf.length);
+
+            ObjectRanges ranges = new ObjectRanges(cos.getXrefTable(), startXref, pdf.length);
+            Set<COSObjectKey> visited = new HashSet<>();
+            List<COSObject> level = List.of((COSObject) cos.getTrailer().getItem(COSName.ROOT));
+            while (!level.isEmpty()) {
+                List<long[]> needed = new ArrayList<>();
+                List<COSObject> next = new ArrayList<>();
+                for (COSObject object : level) {
+                    if (!visited.add(object.getKey())) {
+                        continue;
+                    }
+                    needed.add(ranges.of(object.getKey()));
+                    collectReferences(object.getObject(), next);
+                }
+                cost.fetchAll(needed);
+                level = next;
+            }
+        }
+        return cost;
+    }
+
+    /**
+     * 첫 페이지를 그리는 데 필요한 간접 참조만 따라감
+     * (카탈로그는 /Pages 만, 페이지 트리는 첫 번째 자식만, /Parent 는 제외)
+     */
+    private static void collectReferences(COSBase base, List<COSObject> out) {
+        if (base instanceof COSDictionary dictionary) {
+            if (COSName.CATALOG.equals(dictionary.getCOSName(COSName.TYPE))) {
+                addReference(dictionary.getItem(COSName.PAGES), out);
+                return;
+            }
+            if (COSName.PAGES.equals(dictionary.getCOSName(COSName.TYPE))) {
+                COSArray kids = dictionary.getCOSArray(COSName.KIDS);
+                if (kids != null && kids.size() > 0) {
+                    addReference(kids.get(0), out);
+                }
+                return;
+            }
+            for (Map.Entry<COSName, COSBase> entry : dictionary.entrySet()) {
+                if (!COSName.PARENT.equals(entry.getKey())) {
+                    addReference(entry.getValue(), out);
+                }
+            }
+        } else if (base instanceof COSArray array) {
+            for (int i = 0; i < array.size(); i++) {
+                addReference(array.get(i), out);
+            }
+        }
+    }
+
+    private static void addReference(COSBase item, List<COSObject> out) {
+        if (item instanceof COSObject object) {
+            out.add(object);
+        } else if (item != null) {
+            collectReferences(item, out);
+        }
+    }
+
+    private static boolean linearize(Path input, Path output) {
+        String qpdf = new LinearizationProperties().getQpdfPath();
+        try {
+            Process process = new ProcessBuilder(qpdf, "--linearize", input.toString(), output.toString())
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (!process.waitFor(60, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return false;
+            }
+            // 0 성공, 3 경고와 함께 성공
+            return process.exitValue() == 0 || process.exitValue() == 3;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 계약서 형태의 PDF: 쪽마다 본문 텍스트와 압축되지 않는 서명 / 도장 이미지
+     */
+    private static void writeContractPdf(Path path, int pages) throws IOException {
+        Random random = new Random(42);
+        try (PDDocument document = new PDDocument()) {
+            PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            for (int i = 0; i < pages; i++) {
+                PDPage page = new PDPage(PDRectangle.A4);
+                document.addPage(page);
+                PDImageXObject stamp = LosslessFactory.createFromImage(document, noise(random, 256, 256));
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(font, 11);
+                    content.newLineAtOffset(56, 780);
+                    for (int line = 0; line < 50; line++) {
+                        content.showText("Article " + (i + 1) + "." + (line + 1)
+                                + " The parties agree to the terms set out in this contract.");
+                        content.newLineAtOffset(0, -14);
+                    }
+                    content.endText();
+                    content.drawImage(stamp, 400, 40, 128, 128);
+                }
+            }
+            document.save(path.toFile());
+        }
+    }
+
+    private static BufferedImage noise(Random random, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, random.nextInt(0x1000000));
+            }
+        }
+        return image;
+    }
+
+    /**
+     * 객체 번호 -> 파일 내 바이트 범위 (객체 스트림에 든 객체는 그 객체 스트림의 범위)
+     */
+    private static final class ObjectRanges {
+        private final Map<COSObjectKey, Long> xref;
+        private final TreeSet<Long> offsets = new TreeSet<>();
+        private final long fileLength;
+
+        ObjectRanges(Map<COSObjectKey, Long> xref, long startXref, long fileLength) {
+            this.xref = xref;
+            this.fileLength = fileLength;
+            xref.values().stream().filter(offset -> offset > 0).forEach(offsets::add);
+            offsets.add(startXref);
+        }
+
+        long[] of(COSObjectKey key) {
+            long offset = xref.get(key);
+            if (offset < 0) {
+                return of(new COSObjectKey(-offset, 0));
+            }
+            Long end = offsets.higher(offset);
+            return new long[]{offset, end != null ? end : fileLength};
+        }
+    }
+
+    /**
+     * 첫 페이지까지 읽은 청크와 왕복 수
+     */
+    private static final class FirstPageCost {
+        private final long fileBytes;
+        private final Set<Long> chunks = new HashSet<>();
+        private int roundTrips;
+
+        FirstPageCost(long fileBytes) {
+            this.fileBytes = fileBytes;
+        }
+
+        void fetch(long start, long end) {
+            List<long[]> ranges = new ArrayList<>();
+            ranges.add(new long[]{start, end});
+            fetchAll(ranges);
+        }
+
+        // 한 단계에서 필요한 범위는 병렬로 요청하므로 새 청크가 있으면 왕복 1회
+        void fetchAll(List<long[]> ranges) {
+            boolean added = false;
+            for (long[] range : ranges) {
+                for (long chunk = range[0] / CHUNK_SIZE; chunk * CHUNK_SIZE < range[1]; chunk++) {
+                    added |= chunks.add(chunk);
+                }
+            }
+            if (added) {
+                roundTrips++;
+            }
+        }
+
+        long bytes() {
+            long bytes = 0;
+            for (long chunk : chunks) {
+                bytes += Math.min(CHUNK_SIZE, fileBytes - chunk * CHUNK_SIZE);
+            }
+            return bytes;
+        }
+
+        long estimateMs(NetworkProfile profile) {
+            return roundTrips * profile.rttMs + bytes() * 8 * 1000 / profile.bitsPerSecond;
+        }
+
+        void print(String mode) {
+            System.out.printf("%-11s %12d %11d %18d", mode, fileBytes, roundTrips, bytes());
+            PROFILES.forEach(profile -> System.out.printf(" %12d", estimateMs(profile)));
+            System.out.println();
+        }
+    }
+
+    private static final class NetworkProfile {
+        private final String name;
+        private final long rttMs;
+        private final long bitsPerSecond;
+
+        NetworkProfile(String name, long rttMs, long bitsPerSecond) {
+            this.name = name;
+            this.rttMs = rttMs;
+            this.bitsPerSecond = bitsPerSecond;
+        }
+    }
+}
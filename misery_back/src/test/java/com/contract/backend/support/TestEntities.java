@@ -0,0 +1,68 @@
+package com.contract.backend.support;
+
+import com.contract.backend.common.Entity.ContractEntity;
+import com.contract.backend.common.Entity.ContractPartyEntity;
+import com.contract.backend.common.Entity.ContractVersionEntity;
+import com.contract.backend.common.Entity.UserContractMembershipEntity;
+import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.Entity.enumm.MembershipRole;
+import com.contract.backend.common.Entity.enumm.PartyRole;
+import com.contract.backend.common.Entity.enumm.VersionStatus;
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테스트 데이터 저장 (persist 만 하고 flush / clear 는 호출자가 결정)
+ */
+public final class TestEntities {
+
+    private final EntityManager entityManager;
+
+    public TestEntities(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public UserEntity user(String name) {
+        UserEntity user = new UserEntity(name, name + "@example.com", "password");
+        entityManager.persist(user);
+        return user;
+    }
+
+    public ContractEntity contract(UserEntity creator) {
+        return contract(creator, ContractStatus.OPEN, null);
+    }
+
+    /**
+     * @param createdAt null 이면 엔티티 기본값(현재 시각)
+     */
+    public ContractEntity contract(UserEntity creator, ContractStatus status, LocalDateTime createdAt) {
+        ContractEntity contract = new ContractEntity("계약서", "설명", creator, status);
+        if (createdAt != null) {
+            contract.setCreatedAt(createdAt);
+        }
+        entityManager.persist(contract);
+        return contract;
+    }
+
+    public ContractPartyEntity party(ContractEntity contract, UserEntity party) {
+        ContractPartyEntity entity = new ContractPartyEntity(contract, party, PartyRole.COUNTERPARTY);
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    public UserContractMembershipEntity membership(UserEntity user, ContractEntity contract, MembershipRole role) {
+        UserContractMembershipEntity membership = new UserContractMembershipEntity(user, contract, role);
+        entityManager.persist(membership);
+        return membership;
+    }
+
+    public ContractVersionEntity version(ContractEntity contract, int versionNumber, VersionStatus status) {
+        ContractVersionEntity version = new ContractVersionEntity(contract, versionNumber,
+                "contracts/" + contract.getId() + "/" + versionNumber + ".pdf",
+                "hash-" + contract.getId() + "-" + versionNumber, status);
+        entityManager.persist(version);
+        return version;
+    }
+}